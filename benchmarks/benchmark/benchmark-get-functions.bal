@@ -1,6 +1,7 @@
 import benchmarksprintf;
 import benchmarktypes;
 import benchmarkio;
+import benchmarkconcurrency;
 import ballerina/io;
 
 map<function()> functions;
@@ -17,6 +18,10 @@ function addFunctions() {
     addSprintfFunctions();
     addIoFunctions();
     addStringFunctions();
+    addConcurrencyFunctions();
+    addMapFunctions();
+    addTypeTestFunctions();
+    addArrayFunctions();
 }
 
 function addJSONFunctions() {
@@ -113,6 +118,9 @@ function addIoFunctions() {
     functions["benchmarkInitFileChannelAppendMode"] = benchmarkio:benchmarkInitFileChannelAppendMode;
     functions["benchmarkReadBytes"] = benchmarkio:benchmarkReadBytes;
     functions["benchmarkWriteBytes"] = benchmarkio:benchmarkWriteBytes;
+    functions["benchmarkReadCsvRecords"] = benchmarkio:benchmarkReadCsvRecords;
+    functions["benchmarkReadCsvRecordStream"] = benchmarkio:benchmarkReadCsvRecordStream;
+    functions["benchmarkWriteCsvRecords"] = benchmarkio:benchmarkWriteCsvRecords;
 }
 
 function addStringFunctions() {
@@ -140,3 +148,33 @@ function addStringFunctions() {
     functions["benchmarkStringSplit"] = benchmarktypes:benchmarkStringSplit;
     functions["benchmarkStringUnescape"] = benchmarktypes:benchmarkStringUnescape;
 }
+
+function addConcurrencyFunctions() {
+    functions["benchmarkStrandSpawnAndWait"] = benchmarkconcurrency:benchmarkStrandSpawnAndWait;
+    functions["benchmarkWorkerFanOut"] = benchmarkconcurrency:benchmarkWorkerFanOut;
+    functions["benchmarkSpawnAndJoinMillionStrands"] = benchmarkconcurrency:benchmarkSpawnAndJoinMillionStrands;
+    functions["benchmarkCacheGetFromStrands"] = benchmarkconcurrency:benchmarkCacheGetFromStrands;
+    functions["benchmarkTinyLfuCacheGetFromStrands"] = benchmarkconcurrency:benchmarkTinyLfuCacheGetFromStrands;
+    functions["benchmarkCustomCacheGetFromStrands"] = benchmarkconcurrency:benchmarkCustomCacheGetFromStrands;
+}
+
+function addMapFunctions() {
+    functions["benchmarkParseLargeJson"] = benchmarktypes:benchmarkParseLargeJson;
+    functions["benchmarkCreateRecords"] = benchmarktypes:benchmarkCreateRecords;
+    functions["benchmarkCreateSmallMaps"] = benchmarktypes:benchmarkCreateSmallMaps;
+}
+
+function addTypeTestFunctions() {
+    functions["benchmarkIsCheckDeepUnion"] = benchmarktypes:benchmarkIsCheckDeepUnion;
+    functions["benchmarkIsCheckRecordShape"] = benchmarktypes:benchmarkIsCheckRecordShape;
+    functions["benchmarkIsCheckJsonShape"] = benchmarktypes:benchmarkIsCheckJsonShape;
+}
+
+function addArrayFunctions() {
+    functions["benchmarkSortIntArray"] = benchmarktypes:benchmarkSortIntArray;
+    functions["benchmarkSortFloatArray"] = benchmarktypes:benchmarkSortFloatArray;
+    functions["benchmarkSortStringArray"] = benchmarktypes:benchmarkSortStringArray;
+    functions["benchmarkSortSortedIntArray"] = benchmarktypes:benchmarkSortSortedIntArray;
+    functions["benchmarkArrayMapFilterReduce"] = benchmarktypes:benchmarkArrayMapFilterReduce;
+    functions["benchmarkMapForEach"] = benchmarktypes:benchmarkMapForEach;
+}
@@ -0,0 +1,51 @@
+import ballerina/cache;
+
+const int CACHE_KEYS = 1000;
+
+cache:Cache lruCache = new({ capacity: CACHE_KEYS });
+cache:Cache tinyLfuCache = new({ capacity: CACHE_KEYS, evictionPolicy: cache:W_TINY_LFU });
+cache:Cache customPolicyCache = new({ capacity: CACHE_KEYS, evictionPolicy: new cache:LruEvictionPolicy() });
+
+public function benchmarkCacheGetFromStrands() {
+    getFromStrands(lruCache);
+}
+
+public function benchmarkTinyLfuCacheGetFromStrands() {
+    getFromStrands(tinyLfuCache);
+}
+
+public function benchmarkCustomCacheGetFromStrands() {
+    getFromStrands(customPolicyCache);
+}
+
+function getFromStrands(cache:Cache cache) {
+    if (cache.size() == 0) {
+        int i = 0;
+        while (i < CACHE_KEYS) {
+            checkpanic cache.put(i.toString(), i);
+            i = i + 1;
+        }
+    }
+    future<int>[] futures = [];
+    int i = 0;
+    while (i < 16) {
+        futures[i] = start getKeys(cache, i);
+        i = i + 1;
+    }
+    foreach var f in futures {
+        int hits = wait f;
+    }
+}
+
+function getKeys(cache:Cache cache, int offset) returns int {
+    int hits = 0;
+    int i = 0;
+    while (i < CACHE_KEYS) {
+        any|cache:Error value = cache.get(((i + offset) % CACHE_KEYS).toString());
+        if (value is int) {
+            hits = hits + 1;
+        }
+        i = i + 1;
+    }
+    return hits;
+}
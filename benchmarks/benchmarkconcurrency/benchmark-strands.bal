@@ -0,0 +1,48 @@
+public function benchmarkStrandSpawnAndWait() {
+    future<int>[] futures = [];
+    int i = 0;
+    while (i < 100) {
+        futures[i] = start square(i);
+        i = i + 1;
+    }
+    int sum = 0;
+    foreach var f in futures {
+        sum = sum + wait f;
+    }
+}
+
+public function benchmarkWorkerFanOut() {
+    worker w1 returns int {
+        return square(10);
+    }
+    worker w2 returns int {
+        return square(20);
+    }
+    worker w3 returns int {
+        return square(30);
+    }
+    worker w4 returns int {
+        return square(40);
+    }
+    record {int w1; int w2; int w3; int w4;} result = wait {w1, w2, w3, w4};
+}
+
+public function benchmarkSpawnAndJoinMillionStrands() {
+    int i = 0;
+    while (i < 1000) {
+        future<int>[] futures = [];
+        int j = 0;
+        while (j < 1000) {
+            futures[j] = start square(j);
+            j = j + 1;
+        }
+        foreach var f in futures {
+            int result = wait f;
+        }
+        i = i + 1;
+    }
+}
+
+function square(int value) returns int {
+    return value * value;
+}
@@ -0,0 +1,67 @@
+import ballerina/io;
+
+const string CSV_RECORDS_PATH = "benchmarkio/resources/records.csv";
+const int CSV_RECORD_COUNT = 1000;
+
+string[] departments = ["Engineering", "Marketing", "Sales", "Finance", "Support"];
+boolean csvRecordsGenerated = false;
+
+type EmployeeRecord record {
+    int id;
+    string name;
+    string department;
+    float salary;
+};
+
+public function benchmarkReadCsvRecords() {
+    io:ReadableCSVChannel csvChannel = openCsvRecords();
+    while (csvChannel.hasNext()) {
+        var result = csvChannel.getNext();
+    }
+    var result = csvChannel.close();
+}
+
+public function benchmarkReadCsvRecordStream() {
+    io:ReadableCSVChannel csvChannel = openCsvRecords();
+    stream<record {}, io:Error> employees = checkpanic csvChannel.getStream(EmployeeRecord);
+    var employee = employees.next();
+    while (employee is record {| record {} value; |}) {
+        employee = employees.next();
+    }
+    var result = csvChannel.close();
+}
+
+public function benchmarkWriteCsvRecords() {
+    io:WritableByteChannel byteChannel = checkpanic io:openWritableFile("benchmarkio/resources/records-out.csv");
+    io:WritableCharacterChannel charChannel = new io:WritableCharacterChannel(byteChannel, "UTF-8");
+    io:WritableCSVChannel csvChannel = new io:WritableCSVChannel(charChannel);
+    foreach int i in 1 ... 1000 {
+        var result = csvChannel.write([i.toString(), "Employee, \"Jr.\"", "Engineering", "1000.50"]);
+    }
+    var result = csvChannel.close();
+}
+
+function openCsvRecords() returns io:ReadableCSVChannel {
+    // the records are generated by the first (warm-up) iteration rather than being kept in the source tree
+    if (!csvRecordsGenerated) {
+        generateCsvRecords();
+        csvRecordsGenerated = true;
+    }
+    io:ReadableByteChannel byteChannel = checkpanic io:openReadableFile(CSV_RECORDS_PATH);
+    io:ReadableCharacterChannel charChannel = new io:ReadableCharacterChannel(byteChannel, "UTF-8");
+    return new io:ReadableCSVChannel(charChannel, io:COMMA, 1);
+}
+
+function generateCsvRecords() {
+    io:WritableByteChannel byteChannel = checkpanic io:openWritableFile(CSV_RECORDS_PATH);
+    io:WritableCharacterChannel charChannel = new io:WritableCharacterChannel(byteChannel, "UTF-8");
+    io:WritableCSVChannel csvChannel = new io:WritableCSVChannel(charChannel);
+    checkpanic csvChannel.write(["id", "name", "department", "salary"]);
+    foreach int i in 1 ... CSV_RECORD_COUNT {
+        // every tenth name contains a separator, so that quoted fields are read as well
+        string name = i % 10 == 0 ? "Employee " + i.toString() + ", Jr." : "Employee " + i.toString();
+        string salary = (1000 + (i * 7919) % 9000).toString() + "." + (10 + i % 90).toString();
+        checkpanic csvChannel.write([i.toString(), name, departments[i % 5], salary]);
+    }
+    checkpanic csvChannel.close();
+}
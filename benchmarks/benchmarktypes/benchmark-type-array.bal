@@ -0,0 +1,78 @@
+const int SORT_ARRAY_SIZE = 10000;
+
+public function benchmarkSortIntArray() {
+    int[] values = [];
+    int i = 0;
+    while (i < SORT_ARRAY_SIZE) {
+        values[i] = (i * 7919) % SORT_ARRAY_SIZE;
+        i = i + 1;
+    }
+    int[] sorted = values.sort(function (int x, int y) returns int {
+        return x - y;
+    });
+}
+
+public function benchmarkSortFloatArray() {
+    float[] values = [];
+    int i = 0;
+    while (i < SORT_ARRAY_SIZE) {
+        values[i] = <float>((i * 7919) % SORT_ARRAY_SIZE) / 3.0;
+        i = i + 1;
+    }
+    float[] sorted = values.sort(function (float x, float y) returns int {
+        return x > y ? 1 : (x < y ? -1 : 0);
+    });
+}
+
+public function benchmarkSortStringArray() {
+    string[] values = [];
+    int i = 0;
+    while (i < SORT_ARRAY_SIZE) {
+        values[i] = "key" + ((i * 7919) % SORT_ARRAY_SIZE).toString();
+        i = i + 1;
+    }
+    string[] sorted = values.sort(function (string x, string y) returns int {
+        return x.codePointCompare(y);
+    });
+}
+
+public function benchmarkSortSortedIntArray() {
+    int[] values = [];
+    int i = 0;
+    while (i < SORT_ARRAY_SIZE) {
+        values[i] = i;
+        i = i + 1;
+    }
+    int[] sorted = values.sort(function (int x, int y) returns int {
+        return x - y;
+    });
+}
+
+public function benchmarkArrayMapFilterReduce() {
+    int[] values = [];
+    int i = 0;
+    while (i < 1000) {
+        values[i] = i;
+        i = i + 1;
+    }
+    int sum = values.map(function (int x) returns int {
+        return x * 3;
+    }).filter(function (int x) returns boolean {
+        return x % 2 == 0;
+    }).reduce(function (int accum, int x) returns int {
+        return accum + x;
+    }, 0);
+}
+
+public function benchmarkMapForEach() {
+    map<int> values = {};
+    int i = 0;
+    while (i < 1000) {
+        values["key" + i.toString()] = i;
+        i = i + 1;
+    }
+    int sum = 0;
+    values.forEach(function (int x) {
+        sum = sum + x;
+    });
+}
@@ -0,0 +1,39 @@
+type StaffMember record {
+    string name;
+    int age;
+    string department;
+    float salary;
+};
+
+final string LARGE_JSON_PAYLOAD = "{\"id\":1001,\"name\":\"John Doe\",\"active\":true,\"score\":98.5,"
+        + "\"address\":{\"street\":\"Main Street\",\"city\":\"Colombo\",\"zip\":\"00300\"},"
+        + "\"tags\":[\"alpha\",\"beta\",\"gamma\",\"delta\"],"
+        + "\"contacts\":[{\"type\":\"email\",\"value\":\"john@example.com\"},"
+        + "{\"type\":\"phone\",\"value\":\"+94112345678\"}],"
+        + "\"meta\":{\"created\":\"2020-01-01\",\"updated\":\"2020-02-01\",\"version\":3}}";
+
+public function benchmarkParseLargeJson() {
+    int i = 0;
+    while (i < 100) {
+        json|error j = LARGE_JSON_PAYLOAD.fromJsonString();
+        i = i + 1;
+    }
+}
+
+public function benchmarkCreateRecords() {
+    StaffMember[] staffMembers = [];
+    int i = 0;
+    while (i < 1000) {
+        staffMembers[i] = { name: "John Doe", age: i, department: "Engineering", salary: 1000.0 };
+        i = i + 1;
+    }
+}
+
+public function benchmarkCreateSmallMaps() {
+    int i = 0;
+    while (i < 1000) {
+        map<int> m = { a: i, b: i + 1, c: i + 2 };
+        int? a = m["a"];
+        i = i + 1;
+    }
+}
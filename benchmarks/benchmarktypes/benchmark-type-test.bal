@@ -0,0 +1,64 @@
+type PartyAddress record {
+    string street;
+    string city;
+    string country;
+};
+
+type Customer record {
+    string name;
+    int age;
+    PartyAddress address;
+};
+
+type Supplier record {
+    string name;
+    string company;
+    PartyAddress address;
+};
+
+type Party Customer|Supplier|map<string>|int[]|[string, int]|string|int|float|boolean|();
+
+public function benchmarkIsCheckDeepUnion() {
+    anydata[] values = [10, "text", 2.5, true, (), [1, 2, 3], ["x", 1],
+        <Customer>{ name: "John", age: 30, address: { street: "Main", city: "Colombo", country: "LK" } }];
+    int count = 0;
+    int i = 0;
+    while (i < 1000) {
+        anydata value = values[i % values.length()];
+        if (value is Party) {
+            count = count + 1;
+        }
+        i = i + 1;
+    }
+}
+
+public function benchmarkIsCheckRecordShape() {
+    Customer customer = { name: "John", age: 30, address: { street: "Main", city: "Colombo", country: "LK" } };
+    any value = customer;
+    int count = 0;
+    int i = 0;
+    while (i < 1000) {
+        if (value is Supplier) {
+            count = count - 1;
+        } else if (value is Customer) {
+            count = count + 1;
+        }
+        i = i + 1;
+    }
+}
+
+public function benchmarkIsCheckJsonShape() {
+    json payload = { name: "John", age: 30, address: { street: "Main", city: "Colombo", country: "LK" },
+        tags: ["a", "b", "c"] };
+    int count = 0;
+    int i = 0;
+    while (i < 1000) {
+        if (payload is map<json>) {
+            count = count + 1;
+        }
+        if (payload is json[]) {
+            count = count - 1;
+        }
+        i = i + 1;
+    }
+}
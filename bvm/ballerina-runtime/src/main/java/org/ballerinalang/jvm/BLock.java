@@ -29,22 +29,45 @@ import java.util.ArrayDeque;
  */
 public class BLock {
 
+    private final String name;
+
     private ArrayDeque<Strand> current;
 
     private ArrayDeque<Strand> waitingForLock;
 
+    // contention statistics, only written while holding the monitor of this lock
+    private long lockedTime;
+    private volatile long acquiredCount;
+    private volatile long contendedCount;
+    private volatile long waitTimeNanos;
+    private volatile long holdTimeNanos;
+
     public BLock() {
+        this(null);
+    }
+
+    public BLock(String name) {
+        this.name = name;
         this.current = new ArrayDeque<>();
         this.waitingForLock = new ArrayDeque<>();
     }
 
     public synchronized boolean lock(Strand strand) {
         if (isLockFree() || lockedBySameContext(strand)) {
+            if (this.current.isEmpty()) {
+                acquired(strand);
+            }
             this.current.offerLast(strand);
+            strand.acquiredLockCount++;
             return true;
         }
 
         this.waitingForLock.offerLast(strand);
+        if (strand.lockWaitStartTime == 0) {
+            // a strand may lose the lock again after being woken up, keep the time it started waiting first
+            strand.lockWaitStartTime = System.nanoTime();
+            contendedCount++;
+        }
 
         // Strand state change
         strand.setState(State.BLOCK_AND_YIELD);
@@ -54,7 +77,11 @@ public class BLock {
 
     public synchronized void unlock() {
         //current cannot be empty as unlock cannot be called without lock being called first.
-        this.current.removeLast();
+        Strand owner = this.current.removeLast();
+        owner.acquiredLockCount--;
+        if (this.current.isEmpty()) {
+            holdTimeNanos += System.nanoTime() - lockedTime;
+        }
         if (!waitingForLock.isEmpty()) {
             Strand strand = this.waitingForLock.removeFirst();
             strand.scheduler.unblockStrand(strand);
@@ -68,4 +95,45 @@ public class BLock {
     public boolean lockedBySameContext(Strand ctx) {
         return this.current.getLast() == ctx;
     }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return number of times the lock was acquired, not counting reentrant acquisitions
+     */
+    public long getAcquiredCount() {
+        return acquiredCount;
+    }
+
+    /**
+     * @return number of acquisitions which had to wait for another strand to release the lock
+     */
+    public long getContendedCount() {
+        return contendedCount;
+    }
+
+    /**
+     * @return total time strands spent waiting for the lock, in nanoseconds
+     */
+    public long getWaitTimeNanos() {
+        return waitTimeNanos;
+    }
+
+    /**
+     * @return total time the lock was held, in nanoseconds
+     */
+    public long getHoldTimeNanos() {
+        return holdTimeNanos;
+    }
+
+    private void acquired(Strand strand) {
+        lockedTime = System.nanoTime();
+        acquiredCount++;
+        if (strand.lockWaitStartTime != 0) {
+            waitTimeNanos += lockedTime - strand.lockWaitStartTime;
+            strand.lockWaitStartTime = 0;
+        }
+    }
 }
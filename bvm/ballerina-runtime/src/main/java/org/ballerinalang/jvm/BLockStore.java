@@ -23,6 +23,7 @@ import org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 
 /**
  *
@@ -30,26 +31,53 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class BLockStore {
 
+    /**
+     * Notified for each lock that gets created, used to register lock contention metrics.
+     */
+    private static volatile BiConsumer<String, BLock> lockListener;
+
+    /**
+     * Name of the module this store belongs to.
+     */
+    private final String moduleName;
+
     /**
      * The map of locks inferred.
      */
     private  Map<String, BLock> globalLockMap;
 
     public BLockStore() {
+        this(null);
+    }
+
+    public BLockStore(String moduleName) {
+        this.moduleName = moduleName;
         globalLockMap = new ConcurrentHashMap<>();
     }
 
+    public static void setLockListener(BiConsumer<String, BLock> listener) {
+        lockListener = listener;
+    }
+
     public void addLockToMap(String lockName) {
-        globalLockMap.put(lockName, new BLock());
+        globalLockMap.put(lockName, createLock(lockName));
     }
 
     public BLock getLockFromMap(String lockName) {
-        return globalLockMap.computeIfAbsent(lockName, (k) -> {
-            return new BLock();
-        });
+        BLock lock = globalLockMap.get(lockName);
+        if (lock != null) {
+            return lock;
+        }
+        return globalLockMap.computeIfAbsent(lockName, this::createLock);
     }
 
     public void panicIfInLock(String lockName, Strand strand) {
+        // a strand keeps count of the locks it holds in any module, so the locks of this module only need to be
+        // checked if it holds some lock
+        if (strand.acquiredLockCount == 0) {
+            return;
+        }
+
         for (BLock lock : globalLockMap.values()) {
             if (lock.isLockFree()) {
                 continue;
@@ -59,4 +87,13 @@ public class BLockStore {
             }
         }
     }
+
+    private BLock createLock(String lockName) {
+        BLock lock = new BLock(lockName);
+        BiConsumer<String, BLock> listener = lockListener;
+        if (listener != null) {
+            listener.accept(moduleName, lock);
+        }
+        return lock;
+    }
 }
@@ -121,10 +121,14 @@ public class BRuntime {
      *
      * @param func                 Function Pointer to be invoked.
      * @param noOfIterations Number of iterations need to call the function pointer.
-     * @param argsSupplier Suppiler provides dyanamic arguments to function pointer execution in each iteration.
+     * @param argsSupplier Supplier provides dynamic arguments to function pointer execution in each iteration.
+     *                     It is called for an iteration only after the previous iteration has completed, even if
+     *                     that iteration yielded, so it may refill and return the same array every time.
      * @param futureResultConsumer Consumer used to process the future value received after execution of function.
      *                             Future value result will have the return object of the function pointer.
      * @param returnValueSupplier Suppiler used to set the final return value for the parent function invocation.
+     *                            This is used only if the strand is blocked, otherwise the return value of the
+     *                            parent function is used as is.
      */
     public void invokeFunctionPointerAsyncIteratively(FPValue<?, ?> func, int noOfIterations,
                                                       Supplier<Object[]> argsSupplier,
@@ -134,10 +138,34 @@ public class BRuntime {
             return;
         }
         Strand strand = Scheduler.getStrand();
-        blockStrand(strand);
-        AtomicInteger callCount = new AtomicInteger(0);
-        scheduleNextFunction(func, strand, noOfIterations, callCount, argsSupplier,
-                             futureResultConsumer, returnValueSupplier);
+
+        // Function pointers are first invoked inline on the current thread, as most of them run to completion without
+        // yielding. The remaining iterations are scheduled asynchronously only once a function actually yields.
+        FutureValue future = scheduler.createInlineFuture(func, strand, ((BFunctionType) func.getType()).retType);
+        for (int i = 0; i < noOfIterations; i++) {
+            Object result;
+            try {
+                result = scheduler.runInline(future, argsSupplier.get());
+            } catch (Throwable e) {
+                // a panic of an inline function propagates to the caller, as it would for a direct call
+                scheduler.completeInline(future);
+                throw e;
+            }
+
+            if (future.strand.isYielded()) {
+                blockStrand(strand);
+                AsyncFunctionCallback callback = createIterationCallback(func, strand, noOfIterations,
+                                                                         new AtomicInteger(i), argsSupplier,
+                                                                         futureResultConsumer, returnValueSupplier);
+                future.callback = callback;
+                callback.setFuture(future);
+                callback.setStrand(strand);
+                scheduler.resumeInline(future);
+                return;
+            }
+            futureResultConsumer.accept(result);
+        }
+        scheduler.completeInline(future);
     }
 
     /**
@@ -264,7 +292,17 @@ public class BRuntime {
                                       AtomicInteger callCount, Supplier<Object[]> argsSupplier,
                                       Consumer<Object> futureResultConsumer,
                                       Supplier<Object> returnValueSupplier) {
-        AsyncFunctionCallback callback = new AsyncFunctionCallback() {
+        AsyncFunctionCallback callback = createIterationCallback(func, strand, noOfIterations, callCount,
+                                                                 argsSupplier, futureResultConsumer,
+                                                                 returnValueSupplier);
+        invokeFunctionPointerAsync(func, strand, argsSupplier.get(), callback);
+    }
+
+    private AsyncFunctionCallback createIterationCallback(FPValue<?, ?> func, Strand strand, int noOfIterations,
+                                                          AtomicInteger callCount, Supplier<Object[]> argsSupplier,
+                                                          Consumer<Object> futureResultConsumer,
+                                                          Supplier<Object> returnValueSupplier) {
+        return new AsyncFunctionCallback() {
             @Override
             public void notifySuccess() {
                 futureResultConsumer.accept(getFutureResult());
@@ -281,7 +319,6 @@ public class BRuntime {
                 handleRuntimeErrors(error);
             }
         };
-        invokeFunctionPointerAsync(func, strand, argsSupplier.get(), callback);
     }
 
     private FutureValue invokeFunctionPointerAsync(FPValue<?, ?> func, Strand strand,
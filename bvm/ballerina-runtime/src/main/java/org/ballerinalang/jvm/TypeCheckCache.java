@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.types.BType;
+
+/**
+ * A bounded cache of type test results, keyed by the identities of the source and the target types.
+ * <p>
+ * The cache is a direct mapped table: each pair of types maps to a single slot, and a newer result replaces whatever
+ * was in that slot. Slots hold immutable entries, so the cache can be read and updated concurrently without locking.
+ * A lost update only results in the type test being computed again.
+ *
+ * @since 2.0.0
+ */
+final class TypeCheckCache {
+
+    private static final int DEFAULT_CAPACITY = 4096;
+
+    private final Entry[] entries;
+    private final int mask;
+
+    TypeCheckCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    TypeCheckCache(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.entries = new Entry[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Get the cached result of testing the source type against the target type.
+     *
+     * @param sourceType source type
+     * @param targetType target type
+     * @return the cached result, or null if the result is not in the cache
+     */
+    Boolean get(BType sourceType, BType targetType) {
+        long sourceId = sourceType.getTypeId();
+        long targetId = targetType.getTypeId();
+        Entry entry = entries[indexOf(sourceId, targetId)];
+        if (entry != null && entry.sourceId == sourceId && entry.targetId == targetId) {
+            return entry.result;
+        }
+        return null;
+    }
+
+    void put(BType sourceType, BType targetType, boolean result) {
+        long sourceId = sourceType.getTypeId();
+        long targetId = targetType.getTypeId();
+        entries[indexOf(sourceId, targetId)] = new Entry(sourceId, targetId, result);
+    }
+
+    private int indexOf(long sourceId, long targetId) {
+        long hash = sourceId * 0x9E3779B97F4A7C15L + targetId;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static final class Entry {
+
+        private final long sourceId;
+        private final long targetId;
+        private final boolean result;
+
+        private Entry(long sourceId, long targetId, boolean result) {
+            this.sourceId = sourceId;
+            this.targetId = targetId;
+            this.result = result;
+        }
+    }
+}
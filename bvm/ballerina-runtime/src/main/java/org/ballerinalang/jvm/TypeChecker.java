@@ -92,6 +92,7 @@ public class TypeChecker {
 
     public static final String IS_STRING_VALUE_PROP = "ballerina.bstring";
     public static final boolean USE_BSTRING = System.getProperty(IS_STRING_VALUE_PROP) != null;
+    private static final TypeCheckCache TYPE_CHECK_CACHE = new TypeCheckCache();
 
     public static Object checkCast(Object sourceVal, BType targetType) {
 
@@ -605,13 +606,28 @@ public class TypeChecker {
             case TypeTags.READONLY_TAG:
                 return isReadonlyType(sourceType);
             default:
-                return checkIsRecursiveType(sourceType, targetType,
-                        unresolvedTypes == null ? new ArrayList<>() : unresolvedTypes);
+                if (unresolvedTypes == null) {
+                    return checkIsRecursiveTypeWithCache(sourceType, targetType);
+                }
+                return checkIsRecursiveType(sourceType, targetType, unresolvedTypes);
         }
     }
 
     // Private methods
 
+    private static boolean checkIsRecursiveTypeWithCache(BType sourceType, BType targetType) {
+        // Only the results of top level checks are cached. Results of nested checks may depend on the type pairs
+        // that are assumed to match while resolving recursive types.
+        Boolean cachedResult = TYPE_CHECK_CACHE.get(sourceType, targetType);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+
+        boolean result = checkIsRecursiveType(sourceType, targetType, new ArrayList<>());
+        TYPE_CHECK_CACHE.put(sourceType, targetType, result);
+        return result;
+    }
+
     private static boolean checkTypeDescType(BType sourceType, BTypedescType targetType,
             List<TypePair> unresolvedTypes) {
         if (sourceType.getTag() != TypeTags.TYPEDESC_TAG) {
@@ -18,6 +18,8 @@
 package org.ballerinalang.jvm.observability.metrics;
 
 import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.jvm.BLock;
+import org.ballerinalang.jvm.BLockStore;
 import org.ballerinalang.jvm.launch.LaunchListener;
 import org.ballerinalang.jvm.observability.ObserveUtils;
 import org.ballerinalang.jvm.observability.metrics.noop.NoOpMetricProvider;
@@ -25,12 +27,16 @@ import org.ballerinalang.jvm.observability.metrics.noop.NoOpMetricReporter;
 import org.ballerinalang.jvm.observability.metrics.spi.MetricProvider;
 import org.ballerinalang.jvm.observability.metrics.spi.MetricReporter;
 import org.ballerinalang.jvm.observability.tracer.InvalidConfigurationException;
+import org.ballerinalang.jvm.scheduling.SchedulerStats;
 
 import java.io.PrintStream;
 import java.lang.management.ManagementFactory;
 import java.lang.management.RuntimeMXBean;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.ballerinalang.jvm.observability.ObservabilityConstants.CONFIG_METRICS_ENABLED;
 import static org.ballerinalang.jvm.observability.ObservabilityConstants.CONFIG_TABLE_METRICS;
@@ -112,20 +118,52 @@ public class MetricsLaunchListener implements LaunchListener {
     }
 
     private void registerBallerinaMetrics() {
-//        final BLangScheduler.SchedulerStats schedulerStats = BLangScheduler.getStats();
-//        final String prefix = "ballerina_scheduler_";
-//        PolledGauge.builder(prefix + "ready_worker_count", schedulerStats,
-//                BLangScheduler.SchedulerStats::getReadyWorkerCount).register();
-//        PolledGauge.builder(prefix + "running_worker_count", schedulerStats,
-//                BLangScheduler.SchedulerStats::getRunningWorkerCount).register();
-//        PolledGauge.builder(prefix + "excepted_worker_count", schedulerStats,
-//                BLangScheduler.SchedulerStats::getExceptedWorkerCount).register();
-//        PolledGauge.builder(prefix + "paused_worker_count", schedulerStats,
-//                BLangScheduler.SchedulerStats::getPausedWorkerCount).register();
-//        PolledGauge.builder(prefix + "waiting_for_response_worker_count", schedulerStats,
-//                BLangScheduler.SchedulerStats::getWaitingForResponseWorkerCount).register();
-//        PolledGauge.builder(prefix + "waiting_for_lock_worker_count", schedulerStats,
-//                BLangScheduler.SchedulerStats::getWaitingForLockWorkerCount).register();
+        final SchedulerStats schedulerStats = SchedulerStats.getStats();
+        final String prefix = "ballerina_scheduler_";
+        PolledGauge.builder(prefix + "runnable_group_count", schedulerStats,
+                SchedulerStats::getRunnableGroupCount).description("Strand groups waiting for a worker").register();
+        PolledGauge.builder(prefix + "strand_count", schedulerStats,
+                SchedulerStats::getTotalStrandCount).description("Strands which are not completed").register();
+        PolledGauge.builder(prefix + "runnable_strand_count", schedulerStats,
+                SchedulerStats::getRunnableStrandCount).register();
+        PolledGauge.builder(prefix + "yielded_strand_count", schedulerStats,
+                SchedulerStats::getYieldedStrandCount).register();
+        PolledGauge.builder(prefix + "blocked_strand_count", schedulerStats,
+                SchedulerStats::getBlockedStrandCount).register();
+        PolledGauge.builder(prefix + "waiting_strand_count", schedulerStats,
+                SchedulerStats::getBlockedOnStrandCount).register();
+        PolledGauge.builder(prefix + "completed_strand_count", schedulerStats,
+                SchedulerStats::getCompletedStrandCount).register();
+        PolledGauge.builder(prefix + "queued_time_milliseconds", schedulerStats,
+                SchedulerStats::getAverageQueuedTimeMillis)
+                .description("Average time strand groups waited in the runnable list").register();
+        Map<SchedulerStats.WorkerStats, PolledGauge> workerGauges = new ConcurrentHashMap<>();
+        schedulerStats.setWorkerListener(
+                worker -> workerGauges.put(worker, PolledGauge.builder(prefix + "worker_busy_ratio", worker,
+                        SchedulerStats.WorkerStats::getBusyRatio).tag("worker", worker.getName()).register()),
+                worker -> {
+                    PolledGauge gauge = workerGauges.remove(worker);
+                    if (gauge != null) {
+                        gauge.unregister();
+                    }
+                });
+
+        final String lockPrefix = "ballerina_lock_";
+        BLockStore.setLockListener((moduleName, lock) -> {
+            Map<String, String> tags = new HashMap<>();
+            tags.put("module", moduleName == null ? "" : moduleName);
+            tags.put("lock", lock.getName());
+            PolledGauge.builder(lockPrefix + "acquired_count", lock, BLock::getAcquiredCount).tags(tags)
+                    .register();
+            PolledGauge.builder(lockPrefix + "contended_count", lock, BLock::getContendedCount).tags(tags)
+                    .description("Lock acquisitions which had to wait for another strand").register();
+            PolledGauge.builder(lockPrefix + "wait_time_milliseconds", lock,
+                    l -> l.getWaitTimeNanos() / 1_000_000.0).tags(tags)
+                    .description("Total time strands waited for the lock").register();
+            PolledGauge.builder(lockPrefix + "hold_time_milliseconds", lock,
+                    l -> l.getHoldTimeNanos() / 1_000_000.0).tags(tags)
+                    .description("Total time the lock was held").register();
+        });
     }
 
     @Override
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+/**
+ * Queue of {@link ItemGroup}s that are ready to be picked up by the strand worker threads of a {@link Scheduler}.
+ *
+ * @since 2.0.0
+ */
+interface RunQueue {
+
+    /**
+     * Binds the calling thread to the given worker slot. Called once by each worker thread before it starts taking
+     * groups from the queue.
+     *
+     * @param workerId index of the worker, in the range [0, number of workers)
+     */
+    void bindWorker(int workerId);
+
+    /**
+     * Adds a group that is ready to be executed. Can be called from any thread.
+     *
+     * @param group group to be executed
+     */
+    void add(ItemGroup group);
+
+    /**
+     * Retrieves the next group to be executed, waiting if necessary until one becomes available.
+     *
+     * @return next group to be executed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    ItemGroup take() throws InterruptedException;
+
+    /**
+     * Returns the approximate number of groups waiting to be executed.
+     *
+     * @return number of queued groups
+     */
+    int size();
+}
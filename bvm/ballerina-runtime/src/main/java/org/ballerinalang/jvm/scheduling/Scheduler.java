@@ -32,11 +32,11 @@ import java.io.PrintStream;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -58,14 +58,27 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunQueue runnableList;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
 
     private AtomicInteger totalStrands = new AtomicInteger();
 
+    private static final SchedulerStats stats = SchedulerStats.getStats();
+
     private static String poolSizeConf = System.getenv(BLangConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    private static String policyConf = System.getenv(BLangConstants.BALLERINA_SCHEDULER_POLICY_ENV_VAR);
+
+    private static final String WORK_STEALING_POLICY = "work-stealing";
+
+    private static final String VIRTUAL_THREAD_POLICY = "virtual";
+
+    /**
+     * Creates the threads that execute strand groups when the virtual thread policy is in effect, null otherwise.
+     */
+    private final ThreadFactory virtualThreadFactory;
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
@@ -88,11 +101,50 @@ public class Scheduler {
         }
         this.numThreads = poolSize;
         this.immortal = immortal;
+        this.virtualThreadFactory = createVirtualThreadFactory();
+        this.runnableList = createRunQueue(numThreads);
     }
 
     public Scheduler(int numThreads, boolean immortal) {
         this.numThreads = numThreads;
         this.immortal = immortal;
+        this.virtualThreadFactory = createVirtualThreadFactory();
+        this.runnableList = createRunQueue(numThreads);
+    }
+
+    /**
+     * Creates the run queue according to the BALLERINA_SCHEDULER_POLICY system variable. All workers share a single
+     * queue by default, setting the variable to `work-stealing` gives each worker its own queue.
+     */
+    private RunQueue createRunQueue(int numWorkers) {
+        if (policyConf == null || policyConf.isEmpty() || virtualThreadFactory != null) {
+            return new SharedRunQueue();
+        }
+        if (WORK_STEALING_POLICY.equalsIgnoreCase(policyConf.trim())) {
+            return new WorkStealingRunQueue(numWorkers);
+        }
+        if (!VIRTUAL_THREAD_POLICY.equalsIgnoreCase(policyConf.trim())) {
+            err.println("ballerina: unknown scheduler policy in system variable:" +
+                    BLangConstants.BALLERINA_SCHEDULER_POLICY_ENV_VAR + ", " + policyConf);
+        }
+        return new SharedRunQueue();
+    }
+
+    /**
+     * Setting the BALLERINA_SCHEDULER_POLICY system variable to `virtual` runs each strand group on its own virtual
+     * thread, so that blocking interop calls do not hold on to one of the few pool threads. Falls back to the thread
+     * pool if the JVM does not support virtual threads.
+     */
+    private ThreadFactory createVirtualThreadFactory() {
+        if (policyConf == null || !VIRTUAL_THREAD_POLICY.equalsIgnoreCase(policyConf.trim())) {
+            return null;
+        }
+        ThreadFactory factory = VirtualThreads.createFactory("jbal-strand-vexec-");
+        if (factory == null) {
+            err.println("ballerina: virtual threads are not supported by the current JVM, scheduler policy in " +
+                    "system variable:" + BLangConstants.BALLERINA_SCHEDULER_POLICY_ENV_VAR + " is ignored");
+        }
+        return factory;
     }
 
     public static Strand getStrand() {
@@ -135,14 +187,77 @@ public class Scheduler {
         SchedulerItem item = new SchedulerItem(fp.getFunction(), params, future);
         future.strand.schedulerItem = item;
         totalStrands.incrementAndGet();
+        stats.strandStarted();
         future.strand.strandGroup = parent.strandGroup;
         parent.strandGroup.add(item);
         if (parent.strandGroup.scheduled.compareAndSet(false, true)) {
-            runnableList.add(future.strand.strandGroup);
+            enqueue(future.strand.strandGroup);
         }
         return future;
     }
 
+    /**
+     * Creates a strand in the caller's strand group to run function pointers inline, on the current thread, using
+     * {@link #runInline}. The strand is handed over to the scheduler only if a function yields.
+     *
+     * @param fp         function pointer to be executed.
+     * @param parent     parent of the new Strand that get created here.
+     * @param returnType return type of the function.
+     * @return {@link FutureValue} of the new strand.
+     */
+    public FutureValue createInlineFuture(FPValue<?, ?> fp, Strand parent, BType returnType) {
+        FutureValue future = createFuture(parent, null, null, returnType);
+        // the item is created upfront, as a yielding function may register it to be unblocked before it returns
+        future.strand.schedulerItem = new SchedulerItem(fp.getFunction(), null, future);
+        future.strand.strandGroup = parent.strandGroup;
+        stats.strandStarted();
+        return future;
+    }
+
+    /**
+     * Runs the function of an inline strand on the current thread. The strand is the current strand while the
+     * function runs. If the strand is yielded when this returns, it has to be handed over to the scheduler using
+     * {@link #resumeInline}, otherwise the result is the return value of the function.
+     *
+     * @param future future created with {@link #createInlineFuture}.
+     * @param params parameters to the function, the first of which is set to the strand.
+     * @return return value of the function.
+     */
+    public Object runInline(FutureValue future, Object[] params) {
+        params[0] = future.strand;
+        SchedulerItem item = future.strand.schedulerItem;
+        item.setParams(params);
+        StrandHolder holder = strandHolder.get();
+        Strand previous = holder.strand;
+        holder.strand = future.strand;
+        try {
+            return item.execute();
+        } finally {
+            holder.strand = previous;
+        }
+    }
+
+    /**
+     * Hands an inline strand which yielded over to the scheduler, which resumes it like any other strand. The
+     * callback of the future is notified once the function completes.
+     *
+     * @param future future created with {@link #createInlineFuture}.
+     */
+    public void resumeInline(FutureValue future) {
+        totalStrands.incrementAndGet();
+        postProcess(future.strand.schedulerItem, null, null);
+    }
+
+    /**
+     * Completes an inline strand, none of the functions run on which yielded.
+     *
+     * @param future future created with {@link #createInlineFuture}.
+     */
+    public void completeInline(FutureValue future) {
+        future.strand.setState(State.DONE);
+        cleanUp(future.strand);
+    }
+
     @Deprecated
     public FutureValue scheduleConsumer(Object[] params, FPValue<?, ?> fp, Strand parent) {
         return schedule(params, fp.getFunction(), parent, (CallableUnitCallback) null);
@@ -184,10 +299,11 @@ public class Scheduler {
         SchedulerItem item = new SchedulerItem(function, params, future);
         future.strand.schedulerItem = item;
         totalStrands.incrementAndGet();
+        stats.strandStarted();
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
         group.scheduled.set(true);
-        runnableList.add(group);
+        enqueue(group);
         return future;
     }
 
@@ -207,19 +323,25 @@ public class Scheduler {
         SchedulerItem item = new SchedulerItem(consumer, params, future);
         future.strand.schedulerItem = item;
         totalStrands.incrementAndGet();
+        stats.strandStarted();
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
         group.scheduled.set(true);
-        runnableList.add(group);
+        enqueue(group);
         return future;
     }
 
     public void start() {
+        if (virtualThreadFactory != null) {
+            dispatchSafely();
+            return;
+        }
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
         for (int i = 0; i < numThreads - 1; i++) {
-            new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
+            int workerId = i;
+            new Thread(() -> runSafely(workerId), "jbal-strand-exec-" + i).start();
         }
-        this.runSafely();
+        this.runSafely(numThreads - 1);
         try {
             this.mainBlockSem.acquire();
         } catch (InterruptedException e) {
@@ -230,9 +352,46 @@ public class Scheduler {
     /**
      * Defensive programming to prevent unforeseen errors.
      */
-    private void runSafely() {
+    private void runSafely(int workerId) {
+        SchedulerStats.WorkerStats worker = stats.registerWorker(Thread.currentThread().getName());
+        try {
+            runnableList.bindWorker(workerId);
+            run(worker);
+        } catch (Throwable t) {
+            RuntimeUtils.printCrashLog(t);
+        } finally {
+            stats.unregisterWorker(worker);
+        }
+    }
+
+    /**
+     * Hands over each group submitted to the Scheduler to a new virtual thread.
+     */
+    private void dispatchSafely() {
         try {
-            run();
+            while (true) {
+                ItemGroup group;
+                try {
+                    group = runnableList.take();
+                } catch (InterruptedException ignored) {
+                    continue;
+                }
+
+                if (group == POISON_PILL) {
+                    break;
+                }
+
+                stats.groupDequeued(group);
+                virtualThreadFactory.newThread(() -> runGroupSafely(group)).start();
+            }
+        } catch (Throwable t) {
+            RuntimeUtils.printCrashLog(t);
+        }
+    }
+
+    private void runGroupSafely(ItemGroup group) {
+        try {
+            runGroup(group);
         } catch (Throwable t) {
             RuntimeUtils.printCrashLog(t);
         }
@@ -241,9 +400,8 @@ public class Scheduler {
     /**
      * Executes tasks that are submitted to the Scheduler.
      */
-    private void run() {
+    private void run(SchedulerStats.WorkerStats worker) {
         while (true) {
-            SchedulerItem item;
             ItemGroup group;
             try {
                 group = runnableList.take();
@@ -256,35 +414,46 @@ public class Scheduler {
                 break;
             }
 
-            while (!group.items.empty()) {
-                Object result = null;
-                Throwable panic = null;
+            stats.groupDequeued(group);
+            long startTime = System.nanoTime();
+            runGroup(group);
+            worker.addBusyTime(System.nanoTime() - startTime);
+        }
+    }
 
-                item = group.get();
+    /**
+     * Executes the items of the given group one after the other on the current thread.
+     */
+    private void runGroup(ItemGroup group) {
+        SchedulerItem item;
+        while (!group.items.empty()) {
+            Object result = null;
+            Throwable panic = null;
 
-                try {
-                    strandHolder.get().strand = item.future.strand;
-                    result = item.execute();
-                } catch (Throwable e) {
-                    panic = createError(e);
-                    notifyChannels(item, panic);
-
-                    if (!(panic instanceof ErrorValue)) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                    // Please refer #18763.
-                    // This logs cases where errors have occurred while strand is blocked.
-                    if (item.isYielded()) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                } finally {
-                    strandHolder.get().strand = null;
-                }
+            item = group.get();
 
-                postProcess(item, result, panic);
+            try {
+                strandHolder.get().strand = item.future.strand;
+                result = item.execute();
+            } catch (Throwable e) {
+                panic = createError(e);
+                notifyChannels(item, panic);
+
+                if (!(panic instanceof ErrorValue)) {
+                    RuntimeUtils.printCrashLog(panic);
+                }
+                // Please refer #18763.
+                // This logs cases where errors have occurred while strand is blocked.
+                if (item.isYielded()) {
+                    RuntimeUtils.printCrashLog(panic);
+                }
+            } finally {
+                strandHolder.get().strand = null;
             }
-            group.scheduled.set(false);
+
+            postProcess(item, result, panic);
         }
+        group.scheduled.set(false);
     }
 
     /**
@@ -293,15 +462,12 @@ public class Scheduler {
     private void postProcess(SchedulerItem item, Object result, Throwable panic) {
         switch (item.getState()) {
             case BLOCK_AND_YIELD:
-                item.future.strand.lock();
-                // need to recheck due to concurrency, unblockStrand() may have changed state
-                if (item.getState().getStatus() == State.YIELD.getStatus()) {
+                item.park();
+                // need to recheck due to concurrency, unblockStrand() may have changed state. Whichever of this and
+                // unblockStrand() unparks the item reschedules it.
+                if (item.getState() == State.YIELD && item.unpark()) {
                     reschedule(item);
-                    item.future.strand.unlock();
-                    break;
                 }
-                item.parked = true;
-                item.future.strand.unlock();
                 break;
             case BLOCK_ON_AND_YIELD:
                 WaitContext waitContext = item.future.strand.waitContext;
@@ -335,22 +501,26 @@ public class Scheduler {
                 Strand justCompleted = item.future.strand;
                 assert !justCompleted.getState().equals(State.DONE) : "Can't be completed twice";
 
+                // waiters check whether the strand is done and register themselves while holding the strand lock
+                justCompleted.lock();
                 justCompleted.setState(State.DONE);
-
-
-                for (WaitContext ctx : justCompleted.waitingContexts) {
-                    ctx.lock();
-                    if (!ctx.completed) {
-                        if ((item.future.panic != null && ctx.handlePanic()) || ctx.waitCompleted(result)) {
-                            if (ctx.intermediate) {
-                                ctx.runnable = true;
-                            } else {
-                                ctx.completed = true;
-                                reschedule(ctx.schedulerItem);
+                justCompleted.unlock();
+
+                if (justCompleted.waitingContexts != null) {
+                    for (WaitContext ctx : justCompleted.waitingContexts) {
+                        ctx.lock();
+                        if (!ctx.completed) {
+                            if ((item.future.panic != null && ctx.handlePanic()) || ctx.waitCompleted(result)) {
+                                if (ctx.intermediate) {
+                                    ctx.runnable = true;
+                                } else {
+                                    ctx.completed = true;
+                                    reschedule(ctx.schedulerItem);
+                                }
                             }
                         }
+                        ctx.unLock();
                     }
-                    ctx.unLock();
                 }
 
                 cleanUp(justCompleted);
@@ -382,16 +552,12 @@ public class Scheduler {
     }
 
     public void unblockStrand(Strand strand) {
-        strand.lock();
-        if (strand.schedulerItem.parked) {
-            strand.schedulerItem.parked = false;
+        // if the item is not returned to scheduler yet, scheduler will simply reschedule since this is already
+        // unblocked. Otherwise the item is parked and has to be rescheduled from here.
+        strand.setState(State.YIELD);
+        if (strand.schedulerItem.unpark()) {
             reschedule(strand.schedulerItem);
-        } else {
-            // item not returned to scheduler, yet.
-            // scheduler will simply reschedule since this is already unlocked.
-            strand.setState(State.YIELD);
         }
-        strand.unlock();
     }
 
     private void cleanUp(Strand justCompleted) {
@@ -432,11 +598,16 @@ public class Scheduler {
             //  2) All others have finished
             // In this case we need to put it back in the runnable list.
             if (group.scheduled.compareAndSet(false, true)) {
-                runnableList.add(group);
+                enqueue(group);
             }
         }
     }
 
+    private void enqueue(ItemGroup group) {
+        stats.groupQueued(group);
+        runnableList.add(group);
+    }
+
     public FutureValue createFuture(Strand parent, CallableUnitCallback callback, Map<String, Object> properties,
                                      BType constraint) {
         Strand newStrand = new Strand(this, parent, properties);
@@ -464,7 +635,14 @@ class SchedulerItem {
     private Function function;
     private Object[] params;
     final FutureValue future;
-    boolean parked;
+
+    /**
+     * Indicates the item is blocked and returned to the scheduler, waiting for {@link Scheduler#unblockStrand}.
+     */
+    private volatile int parked;
+
+    private static final AtomicIntegerFieldUpdater<SchedulerItem> PARKED_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(SchedulerItem.class, "parked");
 
     public SchedulerItem(Function function, Object[] params, FutureValue future) {
         this.future = future;
@@ -486,10 +664,27 @@ class SchedulerItem {
         return this.function.apply(this.params);
     }
 
+    void setParams(Object[] params) {
+        this.params = params;
+    }
+
     public boolean isYielded() {
         return this.future.strand.isYielded();
     }
 
+    void park() {
+        this.parked = 1;
+    }
+
+    /**
+     * Clears the parked flag.
+     *
+     * @return true if the item was parked and this call is the one which unparked it
+     */
+    boolean unpark() {
+        return PARKED_UPDATER.compareAndSet(this, 1, 0);
+    }
+
     public State getState() {
         return this.future.strand.getState();
     }
@@ -520,6 +715,11 @@ class ItemGroup {
      */
     AtomicBoolean scheduled = new AtomicBoolean(false);
 
+    /**
+     * Time at which this group was last added to the runnable list, used for scheduler statistics.
+     */
+    long queuedTime;
+
     public static final ItemGroup POISON_PILL = new ItemGroup();
 
     public ItemGroup(SchedulerItem item) {
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Live statistics of the strand schedulers, exposed as metrics when observability is enabled.
+ * <p>
+ * Counters are striped {@link LongAdder}s which are only summed up when a metric is polled, so that collecting the
+ * statistics does not add contention or allocations to the scheduling hot path.
+ *
+ * @since 2.0.0
+ */
+public class SchedulerStats {
+
+    private static final SchedulerStats INSTANCE = new SchedulerStats();
+
+    private final LongAdder queuedGroups = new LongAdder();
+    private final LongAdder liveStrands = new LongAdder();
+    private final LongAdder runnableStrands = new LongAdder();
+    private final LongAdder yieldedStrands = new LongAdder();
+    private final LongAdder blockedStrands = new LongAdder();
+    private final LongAdder blockedOnStrands = new LongAdder();
+    private final LongAdder completedStrands = new LongAdder();
+    private final LongAdder queuedTimeNanos = new LongAdder();
+    private final LongAdder dequeuedGroups = new LongAdder();
+
+    private final List<WorkerStats> workers = new CopyOnWriteArrayList<>();
+    private Consumer<WorkerStats> workerStartListener;
+    private Consumer<WorkerStats> workerStopListener;
+
+    private long lastQueuedTimeNanos;
+    private long lastDequeuedGroups;
+
+    private SchedulerStats() {
+    }
+
+    public static SchedulerStats getStats() {
+        return INSTANCE;
+    }
+
+    public long getRunnableGroupCount() {
+        return queuedGroups.sum();
+    }
+
+    public long getTotalStrandCount() {
+        return liveStrands.sum();
+    }
+
+    public long getRunnableStrandCount() {
+        return runnableStrands.sum();
+    }
+
+    public long getYieldedStrandCount() {
+        return yieldedStrands.sum();
+    }
+
+    public long getBlockedStrandCount() {
+        return blockedStrands.sum();
+    }
+
+    public long getBlockedOnStrandCount() {
+        return blockedOnStrands.sum();
+    }
+
+    public long getCompletedStrandCount() {
+        return completedStrands.sum();
+    }
+
+    /**
+     * Returns the average time strand groups spent in the runnable list before being picked up for execution, since
+     * the last call to this method.
+     *
+     * @return average queued time in milliseconds
+     */
+    public synchronized double getAverageQueuedTimeMillis() {
+        long queuedTime = queuedTimeNanos.sum();
+        long dequeued = dequeuedGroups.sum();
+        long count = dequeued - lastDequeuedGroups;
+        double average = count == 0 ? 0 : (queuedTime - lastQueuedTimeNanos) / (count * 1_000_000.0);
+        lastQueuedTimeNanos = queuedTime;
+        lastDequeuedGroups = dequeued;
+        return average;
+    }
+
+    public List<WorkerStats> getWorkers() {
+        return workers;
+    }
+
+    /**
+     * Sets listeners which are notified for every worker thread that is started, including the ones that are already
+     * running, and for every worker thread that is stopped. Anything registered for a worker when it is started,
+     * such as a metric, should be released when it is stopped, since the name of the worker thread can be reused.
+     *
+     * @param startListener listener notified when a worker is started
+     * @param stopListener  listener notified when a worker is stopped
+     */
+    public synchronized void setWorkerListener(Consumer<WorkerStats> startListener,
+                                               Consumer<WorkerStats> stopListener) {
+        this.workerStartListener = startListener;
+        this.workerStopListener = stopListener;
+        workers.forEach(startListener);
+    }
+
+    // workers are started and stopped rarely, hence listeners are notified while holding the lock, so that a worker
+    // is never reported as started after it is reported as stopped
+    synchronized WorkerStats registerWorker(String name) {
+        WorkerStats worker = new WorkerStats(name);
+        workers.add(worker);
+        if (workerStartListener != null) {
+            workerStartListener.accept(worker);
+        }
+        return worker;
+    }
+
+    synchronized void unregisterWorker(WorkerStats worker) {
+        workers.remove(worker);
+        if (workerStopListener != null) {
+            workerStopListener.accept(worker);
+        }
+    }
+
+    void groupQueued(ItemGroup group) {
+        group.queuedTime = System.nanoTime();
+        queuedGroups.increment();
+    }
+
+    void groupDequeued(ItemGroup group) {
+        queuedGroups.decrement();
+        dequeuedGroups.increment();
+        queuedTimeNanos.add(System.nanoTime() - group.queuedTime);
+    }
+
+    void strandStarted() {
+        liveStrands.increment();
+        runnableStrands.increment();
+    }
+
+    void stateChanged(State from, State to) {
+        counterOf(from).decrement();
+        counterOf(to).increment();
+        if (to == State.DONE) {
+            liveStrands.decrement();
+        }
+    }
+
+    private LongAdder counterOf(State state) {
+        switch (state) {
+            case YIELD:
+                return yieldedStrands;
+            case BLOCK_AND_YIELD:
+                return blockedStrands;
+            case BLOCK_ON_AND_YIELD:
+                return blockedOnStrands;
+            case DONE:
+                return completedStrands;
+            default:
+                return runnableStrands;
+        }
+    }
+
+    /**
+     * Busy time bookkeeping of a single scheduler worker thread. Only the owning worker updates it.
+     *
+     * @since 2.0.0
+     */
+    public static class WorkerStats {
+
+        private final String name;
+        private volatile long busyNanos;
+        private long lastBusyNanos;
+        private long lastPollTime = System.nanoTime();
+
+        WorkerStats(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        void addBusyTime(long nanos) {
+            // single writer, hence no atomic update is required
+            busyNanos = busyNanos + nanos;
+        }
+
+        /**
+         * Returns the fraction of time this worker spent executing strands since the last call to this method.
+         *
+         * @return busy ratio between 0 and 1
+         */
+        public synchronized double getBusyRatio() {
+            long now = System.nanoTime();
+            long busy = busyNanos;
+            long elapsed = now - lastPollTime;
+            double ratio = elapsed <= 0 ? 0 : Math.min(1.0, (double) (busy - lastBusyNanos) / elapsed);
+            lastBusyNanos = busy;
+            lastPollTime = now;
+            return ratio;
+        }
+    }
+}
@@ -28,11 +28,14 @@ import org.ballerinalang.jvm.values.FutureValue;
 import org.ballerinalang.jvm.values.MapValue;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -58,11 +61,20 @@ public class Strand {
     public FlushDetail flushDetail;
     public boolean blockedOnExtern;
     public Set<ChannelDetails> channelDetails;
-    public Set<SchedulerItem> dependants;
     public ObserverContext observerContext;
     public boolean cancel;
     public int threadId;
 
+    /**
+     * Number of `lock` statement locks currently held by this strand, including reentrant acquisitions.
+     */
+    public int acquiredLockCount;
+
+    /**
+     * Time at which this strand started waiting for a `lock` statement lock, zero if it is not waiting.
+     */
+    public long lockWaitStartTime;
+
     SchedulerItem schedulerItem;
     List<WaitContext> waitingContexts;
     WaitContext waitContext;
@@ -70,27 +82,33 @@ public class Strand {
 
     private Map<String, Object> globalProps;
     public TransactionLocalContext transactionLocalContext;
-    private State state;
-    private final ReentrantLock strandLock;
+
+    /**
+     * State and lock words are updated with CAS, so that a strand does not need to carry a lock object of its own.
+     */
+    private volatile State state;
+    private volatile int locked;
+
+    private static final AtomicReferenceFieldUpdater<Strand, State> STATE_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(Strand.class, State.class, "state");
+    private static final AtomicIntegerFieldUpdater<Strand> LOCK_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(Strand.class, "locked");
 
     public static final String IS_STRING_VALUE_PROP = "ballerina.bstring";
     public static final boolean USE_BSTRING = System.getProperty(IS_STRING_VALUE_PROP) != null;
 
     public Strand(Scheduler scheduler) {
-        this.scheduler = scheduler;
-        this.wdChannels = new WDChannels();
-        this.channelDetails = new HashSet<>();
-        this.globalProps = new HashMap<>();
-        this.state = RUNNABLE;
-        this.dependants = new HashSet<>();
-        this.strandLock = new ReentrantLock();
-        this.waitingContexts = new ArrayList<>();
+        this(scheduler, null, null);
     }
 
     public Strand(Scheduler scheduler, Strand parent, Map<String, Object> properties) {
-        this(scheduler);
+        this.scheduler = scheduler;
         this.parent = parent;
-        this.globalProps = properties != null ? properties : new HashMap<>();
+        this.wdChannels = new WDChannels();
+        // channel details, properties and waiting contexts are created on first use, most strands never need them
+        this.channelDetails = Collections.emptySet();
+        this.globalProps = properties;
+        this.state = RUNNABLE;
     }
 
     public void handleChannelError(ChannelDetails[] channels, ErrorValue error) {
@@ -111,10 +129,16 @@ public class Strand {
     }
 
     public Object getProperty(String key) {
+        if (this.globalProps == null) {
+            return null;
+        }
         return this.globalProps.get(key);
     }
 
     public void setProperty(String key, Object value) {
+        if (this.globalProps == null) {
+            this.globalProps = new HashMap<>();
+        }
         this.globalProps.put(key, value);
     }
 
@@ -200,7 +224,7 @@ public class Strand {
                 target.put(key, future.result);
             } else {
                 this.setState(BLOCK_ON_AND_YIELD);
-                entry.getValue().strand.waitingContexts.add(ctx);
+                entry.getValue().strand.addWaitingContext(ctx);
             }
             future.strand.unlock();
         }
@@ -240,7 +264,7 @@ public class Strand {
                     waitResult = new WaitResult(true, future.result);
                     break;
                 } else {
-                    future.strand.waitingContexts.add(ctx);
+                    future.strand.addWaitingContext(ctx);
                 }
             } finally {
                 future.strand.unlock();
@@ -263,6 +287,9 @@ public class Strand {
     }
 
     public void updateChannelDetails(ChannelDetails[] channels) {
+        if (this.channelDetails == Collections.<ChannelDetails>emptySet()) {
+            this.channelDetails = new HashSet<>();
+        }
         for (ChannelDetails channel: channels) {
             this.channelDetails.add(channel);
         }
@@ -279,9 +306,11 @@ public class Strand {
     }
 
     public void setState(State state) {
-        this.lock();
-        this.state = state;
-        this.unlock();
+        State previous = STATE_UPDATER.getAndSet(this, state);
+        if (this.schedulerItem != null && previous != state) {
+            // only strands that are managed by the scheduler are accounted
+            SchedulerStats.getStats().stateChanged(previous, state);
+        }
     }
 
     public State getState() {
@@ -304,12 +333,28 @@ public class Strand {
         return blockedOnExtern;
     }
 
+    /**
+     * Acquires the strand lock, which guards the completion of the strand against concurrent waiters. Critical
+     * sections are a handful of field accesses, hence a non-reentrant spin lock is used instead of a lock object.
+     */
     public void lock() {
-        this.strandLock.lock();
+        while (!LOCK_UPDATER.compareAndSet(this, 0, 1)) {
+            Thread.yield();
+        }
     }
 
     public void unlock() {
-        this.strandLock.unlock();
+        this.locked = 0;
+    }
+
+    /**
+     * Registers a context waiting on this strand. Must be called while holding the strand lock.
+     */
+    void addWaitingContext(WaitContext ctx) {
+        if (this.waitingContexts == null) {
+            this.waitingContexts = new ArrayList<>();
+        }
+        this.waitingContexts.add(ctx);
     }
 
     /**
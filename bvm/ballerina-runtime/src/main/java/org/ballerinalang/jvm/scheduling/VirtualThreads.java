@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Looks up the JDK virtual thread builder reflectively, so that the runtime can use virtual threads when it runs on a
+ * JVM that supports them while still being compiled for Java 8.
+ *
+ * @since 2.0.0
+ */
+class VirtualThreads {
+
+    private static final String THREAD_BUILDER_CLASS = "java.lang.Thread$Builder";
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Creates a factory for virtual threads named with the given prefix.
+     *
+     * @param namePrefix prefix of the thread names, followed by a sequence number
+     * @return virtual thread factory or null if virtual threads are not available in this JVM
+     */
+    static ThreadFactory createFactory(String namePrefix) {
+        try {
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            Class<?> builderClass = Class.forName(THREAD_BUILDER_CLASS);
+            Object builder = ofVirtual.invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            // older JVMs, or preview features not enabled
+            return null;
+        }
+    }
+}
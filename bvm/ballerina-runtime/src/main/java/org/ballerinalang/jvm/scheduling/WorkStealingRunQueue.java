@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.ballerinalang.jvm.scheduling.ItemGroup.POISON_PILL;
+
+/**
+ * {@link RunQueue} which gives each worker thread its own local deque.
+ * <p>
+ * Groups added from a worker thread go to that worker's deque, groups added from any other thread (eg: transport
+ * threads unblocking a strand) go to a shared injection queue. A worker serves its own deque first, then the
+ * injection queue and finally steals from the other workers before parking.
+ *
+ * @since 2.0.0
+ */
+class WorkStealingRunQueue implements RunQueue {
+
+    private final ConcurrentLinkedDeque<ItemGroup>[] localQueues;
+    private final ConcurrentLinkedQueue<ItemGroup> injectionQueue = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<ConcurrentLinkedDeque<ItemGroup>> currentQueue = new ThreadLocal<>();
+    private final AtomicInteger parkedWorkers = new AtomicInteger();
+    private final Semaphore wakeUps = new Semaphore(0);
+
+    @SuppressWarnings("unchecked")
+    WorkStealingRunQueue(int numWorkers) {
+        this.localQueues = new ConcurrentLinkedDeque[numWorkers];
+        for (int i = 0; i < numWorkers; i++) {
+            localQueues[i] = new ConcurrentLinkedDeque<>();
+        }
+    }
+
+    @Override
+    public void bindWorker(int workerId) {
+        currentQueue.set(localQueues[workerId]);
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        ConcurrentLinkedDeque<ItemGroup> local = currentQueue.get();
+        if (local == null || group == POISON_PILL) {
+            // poison pills must be visible to every worker, not only to the one that added them
+            injectionQueue.add(group);
+        } else {
+            local.addLast(group);
+        }
+        signalWork();
+    }
+
+    @Override
+    public ItemGroup take() throws InterruptedException {
+        ConcurrentLinkedDeque<ItemGroup> local = currentQueue.get();
+        while (true) {
+            ItemGroup group = poll(local);
+            if (group != null) {
+                return group;
+            }
+
+            // Announce that we are about to park before the final check, so that a concurrent add either sees the
+            // parked worker and releases a permit, or its group is found by the check below.
+            parkedWorkers.incrementAndGet();
+            try {
+                group = poll(local);
+                if (group != null) {
+                    return group;
+                }
+                wakeUps.acquire();
+            } finally {
+                parkedWorkers.decrementAndGet();
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = injectionQueue.size();
+        for (ConcurrentLinkedDeque<ItemGroup> queue : localQueues) {
+            size += queue.size();
+        }
+        return size;
+    }
+
+    private ItemGroup poll(ConcurrentLinkedDeque<ItemGroup> local) {
+        ItemGroup group;
+        if (local != null && (group = local.pollFirst()) != null) {
+            return group;
+        }
+        if ((group = injectionQueue.poll()) != null) {
+            return group;
+        }
+        return steal(local);
+    }
+
+    private ItemGroup steal(ConcurrentLinkedDeque<ItemGroup> local) {
+        int numQueues = localQueues.length;
+        int start = ThreadLocalRandom.current().nextInt(numQueues);
+        for (int i = 0; i < numQueues; i++) {
+            ConcurrentLinkedDeque<ItemGroup> victim = localQueues[(start + i) % numQueues];
+            if (victim == local) {
+                continue;
+            }
+            // owner consumes from the head, thieves take from the tail to keep contention off the owner's end
+            ItemGroup group = victim.pollLast();
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private void signalWork() {
+        int parked = parkedWorkers.get();
+        // avoid piling up permits when parked workers are already going to wake up
+        if (parked > 0 && wakeUps.availablePermits() < parked) {
+            wakeUps.release();
+        }
+    }
+}
@@ -18,6 +18,8 @@
 package org.ballerinalang.jvm.types;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 
 /**
  * {@code BType} represents a type in Ballerina.
@@ -30,10 +32,16 @@ import java.util.Objects;
  * @since 0.995.0
  */
 public abstract class BType {
+
+    private static final AtomicLong TYPE_ID_SEQUENCE = new AtomicLong();
+    private static final AtomicLongFieldUpdater<BType> TYPE_ID_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(BType.class, "typeId");
+
     protected String typeName;
     protected BPackage pkg;
     protected Class<? extends Object> valueClass;
     private int hashCode;
+    private volatile long typeId;
 
     protected BType(String typeName, BPackage pkg, Class<? extends Object> valueClass) {
         this.typeName = typeName;
@@ -113,6 +121,23 @@ public abstract class BType {
         return hashCode;
     }
 
+    /**
+     * Get the identity of this type instance. Unlike {@link #hashCode()}, which is derived from the type name, the
+     * identity is unique for each type instance and does not change during the lifetime of the type. It is assigned
+     * on first use.
+     *
+     * @return identity of the type
+     */
+    public long getTypeId() {
+        long id = typeId;
+        if (id != 0) {
+            return id;
+        }
+
+        TYPE_ID_UPDATER.compareAndSet(this, 0, TYPE_ID_SEQUENCE.incrementAndGet());
+        return typeId;
+    }
+
     public String getName() {
         return typeName;
     }
@@ -0,0 +1,620 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.values;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * <p>
+ * Insertion ordered hash map which does not allocate a node object per entry.
+ * </p>
+ * <p>
+ * Keys, values and key hashes are kept in parallel arrays in insertion order. Lookups go through an open addressing
+ * (linear probing) index table which holds positions in those arrays. Removed entries leave a gap in the ordered
+ * arrays, which are compacted when they run out of space.
+ * </p>
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ * </p>
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ * @since 2.0.0
+ */
+public class CompactLinkedMap<K, V> extends AbstractMap<K, V> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Object REMOVED = new Object();
+    private static final int DEFAULT_CAPACITY = 4;
+
+    // ordered storage, allocated on first insertion
+    private transient Object[] keys;
+    private transient Object[] values;
+    private transient int[] hashes;
+
+    // index table holding (position + 1) of the entries, 0 marks an empty slot
+    private transient int[] index;
+
+    // number of used positions of the ordered storage, including removed ones
+    private transient int end;
+    private transient int size;
+    private transient int modCount;
+
+    private transient Set<Map.Entry<K, V>> entrySet;
+    private transient Set<K> keySet;
+    private transient Collection<V> valueCollection;
+
+    public CompactLinkedMap() {
+    }
+
+    public CompactLinkedMap(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        if (initialCapacity > 0) {
+            allocate(initialCapacity);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int slot = findSlot(key, hash(key));
+        return slot < 0 ? null : (V) values[index[slot] - 1];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return findSlot(key, hash(key)) >= 0;
+    }
+
+    /**
+     * Returns the position of a key in the ordered storage, or -1 if the map does not contain the key. Positions
+     * follow the insertion order, but are not contiguous and change when the storage is compacted.
+     *
+     * @param key the key
+     * @return the position of the key
+     */
+    int positionOf(Object key) {
+        int slot = findSlot(key, hash(key));
+        return slot < 0 ? -1 : index[slot] - 1;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (int i = 0; i < end; i++) {
+            if (keys[i] != REMOVED && Objects.equals(values[i], value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        int hash = hash(key);
+        int slot = findSlot(key, hash);
+        if (slot >= 0) {
+            // replacing the value of an existing key is not a structural modification
+            int position = index[slot] - 1;
+            V oldValue = (V) values[position];
+            values[position] = value;
+            return oldValue;
+        }
+
+        ensureCapacity();
+        int position = end++;
+        keys[position] = key;
+        values[position] = value;
+        hashes[position] = hash;
+        insertIntoIndex(position);
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public V remove(Object key) {
+        int slot = findSlot(key, hash(key));
+        if (slot < 0) {
+            return null;
+        }
+        return removeAt(slot);
+    }
+
+    @Override
+    public void clear() {
+        if (keys == null) {
+            return;
+        }
+        Arrays.fill(keys, 0, end, null);
+        Arrays.fill(values, 0, end, null);
+        Arrays.fill(index, 0);
+        end = 0;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        for (int i = 0; i < end; i++) {
+            if (keys[i] != REMOVED) {
+                action.accept((K) keys[i], (V) values[i]);
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        Set<Map.Entry<K, V>> entries = entrySet;
+        if (entries == null) {
+            entries = new EntrySet();
+            entrySet = entries;
+        }
+        return entries;
+    }
+
+    @Override
+    public Set<K> keySet() {
+        Set<K> keys = keySet;
+        if (keys == null) {
+            keys = new KeySet();
+            keySet = keys;
+        }
+        return keys;
+    }
+
+    @Override
+    public Collection<V> values() {
+        Collection<V> vals = valueCollection;
+        if (vals == null) {
+            vals = new Values();
+            valueCollection = vals;
+        }
+        return vals;
+    }
+
+    private static int hash(Object key) {
+        int h = key == null ? 0 : key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        index = new int[indexCapacityFor(capacity)];
+    }
+
+    /**
+     * Returns a power of two index table capacity which keeps the load factor at or below one half.
+     */
+    private static int indexCapacityFor(int entries) {
+        int capacity = Integer.highestOneBit(Math.max(entries, 2) * 2 - 1) << 1;
+        return Math.max(capacity, DEFAULT_CAPACITY * 2);
+    }
+
+    private int findSlot(Object key, int hash) {
+        if (index == null) {
+            return -1;
+        }
+        int mask = index.length - 1;
+        int slot = hash & mask;
+        int entry;
+        while ((entry = index[slot]) != 0) {
+            int position = entry - 1;
+            if (hashes[position] == hash && Objects.equals(keys[position], key)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insertIntoIndex(int position) {
+        int mask = index.length - 1;
+        int slot = hashes[position] & mask;
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = position + 1;
+    }
+
+    /**
+     * Makes room for one more entry at the end of the ordered storage, either by dropping the gaps left by removed
+     * entries or by growing the storage.
+     */
+    private void ensureCapacity() {
+        if (keys == null) {
+            allocate(DEFAULT_CAPACITY);
+            return;
+        }
+        if (end < keys.length) {
+            return;
+        }
+        int capacity = keys.length;
+        if (size >= capacity - (capacity >> 2)) {
+            capacity = capacity << 1;
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+        }
+        compact();
+    }
+
+    private void compact() {
+        int live = 0;
+        for (int i = 0; i < end; i++) {
+            if (keys[i] == REMOVED) {
+                continue;
+            }
+            if (live != i) {
+                keys[live] = keys[i];
+                values[live] = values[i];
+                hashes[live] = hashes[i];
+            }
+            live++;
+        }
+        Arrays.fill(keys, live, end, null);
+        Arrays.fill(values, live, end, null);
+        end = live;
+
+        int indexCapacity = indexCapacityFor(keys.length);
+        if (index.length == indexCapacity) {
+            Arrays.fill(index, 0);
+        } else {
+            index = new int[indexCapacity];
+        }
+        for (int i = 0; i < end; i++) {
+            insertIntoIndex(i);
+        }
+        modCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V removeAt(int slot) {
+        int position = index[slot] - 1;
+        V oldValue = (V) values[position];
+        keys[position] = REMOVED;
+        values[position] = null;
+        size--;
+        modCount++;
+        deleteFromIndex(slot);
+        // trailing gaps can simply be reused
+        while (end > 0 && keys[end - 1] == REMOVED) {
+            keys[--end] = null;
+        }
+        return oldValue;
+    }
+
+    /**
+     * Removes the given slot from the index table, shifting back the following entries of the probe sequence so that
+     * no tombstones are needed.
+     */
+    private void deleteFromIndex(int slot) {
+        int mask = index.length - 1;
+        int gap = slot;
+        int current = slot;
+        while (true) {
+            current = (current + 1) & mask;
+            int entry = index[current];
+            if (entry == 0) {
+                break;
+            }
+            int home = hashes[entry - 1] & mask;
+            // the entry can fill the gap if its home slot is not cyclically within (gap, current]
+            boolean movable = gap <= current ? (home <= gap || home > current) : (home <= gap && home > current);
+            if (movable) {
+                index[gap] = entry;
+                gap = current;
+            }
+        }
+        index[gap] = 0;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int i = 0; i < end; i++) {
+            if (keys[i] != REMOVED) {
+                out.writeObject(keys[i]);
+                out.writeObject(values[i]);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int entries = in.readInt();
+        if (entries > 0) {
+            allocate(entries);
+        }
+        for (int i = 0; i < entries; i++) {
+            K key = (K) in.readObject();
+            V value = (V) in.readObject();
+            put(key, value);
+        }
+    }
+
+    /**
+     * Iterates over the live positions of the ordered storage.
+     */
+    private abstract class PositionIterator<T> implements Iterator<T> {
+
+        private int next = nextLivePosition(0);
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        private int nextLivePosition(int from) {
+            while (from < end && keys[from] == REMOVED) {
+                from++;
+            }
+            return from;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < end;
+        }
+
+        int nextPosition() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= end) {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            next = nextLivePosition(next + 1);
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(findSlot(keys[last], hashes[last]));
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private class EntryIterator extends PositionIterator<Map.Entry<K, V>> {
+
+        @Override
+        public Map.Entry<K, V> next() {
+            return new Entry(nextPosition());
+        }
+    }
+
+    private class KeyIterator extends PositionIterator<K> {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public K next() {
+            return (K) keys[nextPosition()];
+        }
+    }
+
+    private class ValueIterator extends PositionIterator<V> {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V next() {
+            return (V) values[nextPosition()];
+        }
+    }
+
+    /**
+     * Entry of a position. Reads and writes go through to the map as long as the position still holds the same key,
+     * the entry keeps the last known value once the key is removed or moved by a compaction, like the nodes of the
+     * JDK maps do.
+     */
+    private class Entry implements Map.Entry<K, V> {
+
+        private final int position;
+        private final K key;
+        private V value;
+
+        @SuppressWarnings("unchecked")
+        Entry(int position) {
+            this.position = position;
+            this.key = (K) keys[position];
+            this.value = (V) values[position];
+        }
+
+        private boolean isAttached() {
+            return position < end && keys[position] == key;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getValue() {
+            if (isAttached()) {
+                value = (V) values[position];
+            }
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            V oldValue = getValue();
+            if (isAttached()) {
+                values[position] = value;
+            }
+            this.value = value;
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            return Objects.equals(key, entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+
+    private class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            int slot = findSlot(entry.getKey(), hash(entry.getKey()));
+            return slot >= 0 && Objects.equals(values[index[slot] - 1], entry.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!contains(o)) {
+                return false;
+            }
+            Object key = ((Map.Entry<?, ?>) o).getKey();
+            removeAt(findSlot(key, hash(key)));
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            CompactLinkedMap.this.clear();
+        }
+    }
+
+    private class KeySet extends AbstractSet<K> {
+
+        @Override
+        public Iterator<K> iterator() {
+            return new KeyIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            int slot = findSlot(o, hash(o));
+            if (slot < 0) {
+                return false;
+            }
+            removeAt(slot);
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            CompactLinkedMap.this.clear();
+        }
+    }
+
+    private class Values extends AbstractCollection<V> {
+
+        @Override
+        public Iterator<V> iterator() {
+            return new ValueIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return containsValue(o);
+        }
+
+        @Override
+        public void clear() {
+            CompactLinkedMap.this.clear();
+        }
+    }
+}
@@ -45,7 +45,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -74,13 +73,18 @@ import static org.ballerinalang.jvm.values.freeze.FreezeUtils.handleInvalidUpdat
  *
  * @since 0.995.0
  */
-public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue, CollectionValue, MapValue<K, V>,
+public class MapValueImpl<K, V> extends CompactLinkedMap<K, V> implements RefValue, CollectionValue, MapValue<K, V>,
         BMap<K, V> {
 
     private static final long serialVersionUID = 1L;
     private BType type;
-    private volatile Status freezeStatus = new Status(State.UNFROZEN);
-    private final Map<String, Object> nativeData = new HashMap<>();
+    /**
+     * Shared by all the maps which were never frozen, replaced with a status of their own when a map is frozen.
+     */
+    private static final Status UNFROZEN_STATUS = new Status(State.UNFROZEN);
+
+    private volatile Status freezeStatus = UNFROZEN_STATUS;
+    private Map<String, Object> nativeData;
     private BType iteratorNextReturnType;
 
     public MapValueImpl(BType type) {
@@ -436,7 +440,11 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
         if (isFrozen()) {
             return;
         }
-        this.freezeStatus.setFrozen();
+        if (this.freezeStatus == UNFROZEN_STATUS) {
+            this.freezeStatus = new Status(State.FROZEN);
+        } else {
+            this.freezeStatus.setFrozen();
+        }
         this.values().forEach(val -> {
             if (val instanceof RefValue) {
                 ((RefValue) val).freezeDirect();
@@ -511,7 +519,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @param data value to be added.
      */
     public void addNativeData(String key, Object data) {
-        nativeData.put(key, data);
+        getNativeDataMap().put(key, data);
     }
 
     /**
@@ -520,6 +528,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return value for the given key.
      */
     public Object getNativeData(String key) {
+        if (nativeData == null) {
+            return null;
+        }
         return nativeData.get(key);
     }
 
@@ -529,6 +540,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return nativeData map
      */
     public Map<String, Object> getNativeDataMap() {
+        if (this.nativeData == null) {
+            this.nativeData = new HashMap<>();
+        }
         return this.nativeData;
     }
 
@@ -29,6 +29,7 @@ import org.ballerinalang.jvm.types.BTableType;
 import org.ballerinalang.jvm.types.BTupleType;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.util.Flags;
 import org.ballerinalang.jvm.util.exceptions.BLangFreezeException;
 import org.ballerinalang.jvm.values.api.BIterator;
 import org.ballerinalang.jvm.values.api.BValueCreator;
@@ -36,19 +37,21 @@ import org.ballerinalang.jvm.values.freeze.FreezeUtils;
 import org.ballerinalang.jvm.values.freeze.State;
 import org.ballerinalang.jvm.values.freeze.Status;
 
+import java.util.AbstractCollection;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.UUID;
 
 import static org.ballerinalang.jvm.util.BLangConstants.TABLE_LANG_LIB;
 import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.OPERATION_NOT_SUPPORTED_IDENTIFIER;
@@ -58,6 +61,11 @@ import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.VALUE_
 
 /**
  * The runtime representation of table.
+ * <p>
+ * Rows are kept once, in insertion order, in a {@link CompactLinkedMap}. For tables with a key sequence the rows are
+ * indexed by the key value, and for key-less tables by a running row number. Secondary indexes can be added on
+ * readonly fields of the constraint type, to look up rows by the value of a field without scanning the table. Rows and
+ * secondary indexes are updated together while holding the lock of the table.
  *
  * @param <K> the type of keys maintained by this map
  * @param <V> the type of mapped values
@@ -69,9 +77,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     private BTableType type;
     private volatile Status freezeStatus = new Status(State.UNFROZEN);
     private BType iteratorNextReturnType;
-    private LinkedHashMap<Integer, Map.Entry<K, V>> entries;
-    private LinkedHashMap<Integer, V> values;
-    private LinkedHashMap<Integer, K> keys;
+    private CompactLinkedMap<Object, V> rows;
+    private Map<String, Map<TableKey, Set<Object>>> secondaryIndexes;
     private String[] fieldNames;
     private ValueHolder valueHolder;
     private int maxIntKey = 0;
@@ -81,9 +88,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     public TableValueImpl(BTableType type) {
         this.type = type;
-        this.entries = new LinkedHashMap<>();
-        this.keys = new LinkedHashMap<>();
-        this.values = new LinkedHashMap<>();
+        this.rows = new CompactLinkedMap<>();
         this.fieldNames = type.getFieldNames();
         if (type.getFieldNames() != null) {
             this.valueHolder = new KeyHashValueHolder();
@@ -111,7 +116,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public IteratorValue getIterator() {
-        return new TableIterator<K, V>(entries.values().iterator());
+        return new TableIterator<K, V>(new RowEntryIterator());
     }
 
     @Override
@@ -201,20 +206,28 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
-        return new LinkedHashSet<>(entries.values());
+        Set<Map.Entry<K, V>> entrySet = new LinkedHashSet<>(rows.size());
+        Iterator<Map.Entry<K, V>> itr = new RowEntryIterator();
+        while (itr.hasNext()) {
+            entrySet.add(itr.next());
+        }
+        return entrySet;
     }
 
     @Override
     public Collection<V> values() {
-        return values.values();
+        return new RowValues();
     }
 
     @Override
     public void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        keys.clear();
-        values.clear();
+        synchronized (this) {
+            rows.clear();
+            if (secondaryIndexes != null) {
+                secondaryIndexes.values().forEach(Map::clear);
+            }
+        }
     }
 
     @Override
@@ -239,7 +252,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                     "Defined key sequence is not supported with nextKey(). "
                             + "The key sequence should only have an Integer field.");
         }
-        return keys.size() == 0 ? 0 : (this.maxIntKey + 1);
+        return rows.isEmpty() ? 0 : (this.maxIntKey + 1);
     }
 
     public BType getKeyType() {
@@ -266,17 +279,139 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        return (K[]) keys.values().toArray(new Object[]{});
+        if (!(valueHolder instanceof KeyHashValueHolder)) {
+            return (K[]) new Object[0];
+        }
+
+        Object[] keys = new Object[rows.size()];
+        int i = 0;
+        for (Object rowKey : rows.keySet()) {
+            keys[i++] = ((TableKey) rowKey).key;
+        }
+        return (K[]) keys;
     }
 
     @Override
     public int size() {
-        return entries.size();
+        return rows.size();
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return rows.isEmpty();
+    }
+
+    /**
+     * Adds a secondary index on the given field of the table constraint. Only readonly fields of a record constraint,
+     * or any field of a frozen table can be indexed, since the rows are not notified of field updates.
+     *
+     * @param fieldName name of the field to be indexed
+     */
+    public void addIndex(String fieldName) {
+        if (!isFrozen() && !isReadonlyField(fieldName)) {
+            throw BallerinaErrors.createError(OPERATION_NOT_SUPPORTED_IDENTIFIER,
+                    "cannot index field '" + fieldName + "': only readonly fields can be indexed");
+        }
+
+        synchronized (this) {
+            if (secondaryIndexes == null) {
+                secondaryIndexes = new HashMap<>();
+            } else if (secondaryIndexes.containsKey(fieldName)) {
+                return;
+            }
+
+            Map<TableKey, Set<Object>> index = new HashMap<>();
+            for (Map.Entry<Object, V> row : rows.entrySet()) {
+                addToIndex(index, fieldName, row.getKey(), row.getValue());
+            }
+            secondaryIndexes.put(fieldName, index);
+        }
+    }
+
+    public synchronized boolean hasIndex(String fieldName) {
+        return secondaryIndexes != null && secondaryIndexes.containsKey(fieldName);
+    }
+
+    /**
+     * Returns the rows of which the given field is equal to the given value, in the order of the table. A secondary
+     * index is used if one was added for the field, and the rows are scanned otherwise.
+     *
+     * @param fieldName  name of the field
+     * @param fieldValue value of the field
+     * @return the matching rows
+     */
+    public List<V> getRowsByField(String fieldName, Object fieldValue) {
+        List<V> result = new ArrayList<>();
+        synchronized (this) {
+            Map<TableKey, Set<Object>> index = secondaryIndexes == null ? null : secondaryIndexes.get(fieldName);
+            if (index != null) {
+                Set<Object> rowKeys = index.get(new TableKey(fieldValue));
+                if (rowKeys != null) {
+                    List<Object> orderedRowKeys = new ArrayList<>(rowKeys);
+                    orderedRowKeys.sort(Comparator.comparingInt(rows::positionOf));
+                    orderedRowKeys.forEach(rowKey -> result.add(rows.get(rowKey)));
+                }
+                return result;
+            }
+
+            for (V value : rows.values()) {
+                if (TypeChecker.isEqual(((MapValue) value).get(fieldName), fieldValue)) {
+                    result.add(value);
+                }
+            }
+        }
+        return result;
+    }
+
+    private boolean isReadonlyField(String fieldName) {
+        BType constraintType = type.getConstrainedType();
+        if (constraintType.getTag() != TypeTags.RECORD_TYPE_TAG) {
+            return false;
+        }
+
+        BField field = ((BRecordType) constraintType).getFields().get(fieldName);
+        return field != null && Flags.isFlagOn(field.flags, Flags.READONLY);
+    }
+
+    private void addToIndex(Map<TableKey, Set<Object>> index, String fieldName, Object rowKey, V value) {
+        TableKey fieldKey = new TableKey(((MapValue) value).get(fieldName));
+        index.computeIfAbsent(fieldKey, k -> new HashSet<>()).add(rowKey);
+    }
+
+    private void removeFromIndex(Map<TableKey, Set<Object>> index, String fieldName, Object rowKey, V value) {
+        TableKey fieldKey = new TableKey(((MapValue) value).get(fieldName));
+        Set<Object> rowKeys = index.get(fieldKey);
+        if (rowKeys != null) {
+            rowKeys.remove(rowKey);
+            if (rowKeys.isEmpty()) {
+                index.remove(fieldKey);
+            }
+        }
+    }
+
+    private V putRow(Object rowKey, V value) {
+        synchronized (this) {
+            V oldValue = rows.put(rowKey, value);
+            if (secondaryIndexes != null) {
+                for (Map.Entry<String, Map<TableKey, Set<Object>>> index : secondaryIndexes.entrySet()) {
+                    if (oldValue != null) {
+                        removeFromIndex(index.getValue(), index.getKey(), rowKey, oldValue);
+                    }
+                    addToIndex(index.getValue(), index.getKey(), rowKey, value);
+                }
+            }
+            return oldValue;
+        }
+    }
+
+    private V removeRow(Object rowKey) {
+        synchronized (this) {
+            V value = rows.remove(rowKey);
+            if (value != null && secondaryIndexes != null) {
+                secondaryIndexes.forEach((fieldName, index) -> removeFromIndex(index, fieldName, rowKey, value));
+            }
+            return value;
+        }
     }
 
     @Override
@@ -308,15 +443,13 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     public String stringValue() {
-        Iterator<Map.Entry<Integer, Map.Entry<K, V>>> itr = entries.entrySet().iterator();
-        return createStringValueDataEntry(itr);
+        return createStringValueDataEntry(rows.values().iterator());
     }
 
-    private String createStringValueDataEntry(Iterator<Map.Entry<Integer, Map.Entry<K, V>>> itr) {
+    private String createStringValueDataEntry(Iterator<V> itr) {
         StringJoiner sj = new StringJoiner("\n");
         while (itr.hasNext()) {
-            Map.Entry<Integer, Map.Entry<K, V>> struct = itr.next();
-            sj.add(struct.getValue().getValue().toString());
+            sj.add(itr.next().toString());
         }
         return sj.toString();
     }
@@ -375,13 +508,78 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
     }
 
+    /**
+     * Key of a row in a table with a key sequence. Keys are hashed by the hash of the key value, and compared using
+     * the equality of the key values.
+     */
+    private static final class TableKey {
+
+        private final Object key;
+        private final int hash;
+
+        TableKey(Object key) {
+            this.key = key;
+            this.hash = TableUtils.hash(key, null);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+
+            if (!(obj instanceof TableKey)) {
+                return false;
+            }
+
+            TableKey other = (TableKey) obj;
+            return hash == other.hash && TypeChecker.isEqual(key, other.key);
+        }
+    }
+
+    private class RowEntryIterator implements Iterator<Map.Entry<K, V>> {
+
+        private final Iterator<Map.Entry<Object, V>> rowIterator = rows.entrySet().iterator();
+
+        @Override
+        public boolean hasNext() {
+            return rowIterator.hasNext();
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            Map.Entry<Object, V> row = rowIterator.next();
+            V value = row.getValue();
+            Object rowKey = row.getKey();
+            K key = rowKey instanceof TableKey ? (K) ((TableKey) rowKey).key : (K) value;
+            return new AbstractMap.SimpleEntry<>(key, value);
+        }
+    }
+
+    private class RowValues extends AbstractCollection<V> {
+
+        @Override
+        public Iterator<V> iterator() {
+            return rows.values().iterator();
+        }
+
+        @Override
+        public int size() {
+            return rows.size();
+        }
+    }
+
     private class ValueHolder {
 
+        private long nextRowNumber = 0;
+
         public void addData(V data) {
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
-            UUID uuid = UUID.randomUUID();
-            entries.put(uuid.hashCode(), entry);
-            values.put(uuid.hashCode(), data);
+            putRow(nextRowNumber++, data);
         }
 
         public V getData(K key) {
@@ -432,56 +630,51 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                         key + "'");
             }
 
-            if (nextKeySupported && (keys.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
-                maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
-            }
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-            Integer hash = TableUtils.hash(key, null);
-            keys.put(hash, (K) key);
-            values.put(hash, (V) data);
-            entries.put(hash, entry);
+            updateMaxIntKey(key);
+            putRow(new TableKey(key), data);
         }
 
         public V getData(K key) {
-            return values.get(TableUtils.hash(key, null));
+            return rows.get(new TableKey(key));
         }
 
         public V putData(K key, V data) {
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
+            TableKey rowKey = new TableKey(key);
             Object actualKey = this.keyWrapper.wrapKey((MapValue) data);
-            Integer actualHash = TableUtils.hash(actualKey, null);
-            Integer hash = TableUtils.hash(key, null);
 
-            if (!hash.equals(actualHash)) {
+            if (!rowKey.equals(new TableKey(actualKey))) {
                 throw BallerinaErrors.createError(TABLE_KEY_NOT_FOUND_ERROR, "The key '" +
                         key + "' not found in value " + data.toString());
             }
 
-            entries.put(hash, entry);
-            keys.put(hash, key);
-            return values.put(hash, data);
+            return putKeyedRow(rowKey, data, key);
         }
 
         public V putData(V data) {
             MapValue dataMap = (MapValue) data;
             Object key = this.keyWrapper.wrapKey(dataMap);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>((K) key, data);
-            Integer hash = TableUtils.hash(key, null);
-            entries.put(hash, entry);
-            keys.put(hash, (K) key);
-            return values.put(hash, data);
+            return putKeyedRow(new TableKey(key), data, key);
+        }
+
+        private V putKeyedRow(TableKey rowKey, V data, Object key) {
+            if (!rows.containsKey(rowKey)) {
+                updateMaxIntKey(key);
+            }
+            return putRow(rowKey, data);
+        }
+
+        private void updateMaxIntKey(Object key) {
+            if (nextKeySupported && (rows.isEmpty() || maxIntKey < TypeChecker.anyToInt(key))) {
+                maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
+            }
         }
 
         public V remove(K key) {
-            Integer hash = TableUtils.hash(key, null);
-            entries.remove(hash);
-            keys.remove(hash);
-            return values.remove(hash);
+            return removeRow(new TableKey(key));
         }
 
         public boolean containsKey(K key) {
-            return keys.containsKey(TableUtils.hash(key, null));
+            return rows.containsKey(new TableKey(key));
         }
 
         public BType getKeyType() {
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.util.Flags;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for {@link TypeCheckCache} and the cached type tests of {@link TypeChecker}.
+ */
+public class TypeCheckCacheTests {
+
+    private static final BPackage PKG = new BPackage("test", "cache", "1.0.0");
+
+    @Test
+    void testCollidingPairsDoNotShareResults() {
+        // A cache of two slots, so that most of the pairs map to the same slot as some other pair.
+        TypeCheckCache cache = new TypeCheckCache(2);
+        List<BType> types = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            types.add(new BArrayType(BTypes.typeInt));
+        }
+
+        int evicted = 0;
+        for (BType sourceType : types) {
+            for (BType targetType : types) {
+                if (sourceType == targetType) {
+                    continue;
+                }
+                // A pair and its reverse get different results, so that a lookup of one never sees the other.
+                boolean result = sourceType.getTypeId() < targetType.getTypeId();
+                cache.put(sourceType, targetType, result);
+                Assert.assertEquals(cache.get(sourceType, targetType), Boolean.valueOf(result));
+
+                cache.put(targetType, sourceType, !result);
+                Boolean cachedResult = cache.get(sourceType, targetType);
+                if (cachedResult == null) {
+                    evicted++;
+                } else {
+                    Assert.assertEquals(cachedResult, Boolean.valueOf(result));
+                }
+                Assert.assertEquals(cache.get(targetType, sourceType), Boolean.valueOf(!result));
+            }
+        }
+        Assert.assertTrue(evicted > 0);
+    }
+
+    @Test
+    void testCachedResultsOfRecursiveTypes() {
+        // type Node record {| int value; Node? next; |};
+        BRecordType node = createLinkedRecord("Node", BTypes.typeInt);
+        // type Node2 record {| int value; Node2? next; |};
+        BRecordType node2 = createLinkedRecord("Node2", BTypes.typeInt);
+        // type StringNode record {| string value; StringNode? next; |};
+        BRecordType stringNode = createLinkedRecord("StringNode", BTypes.typeString);
+        BUnionType anyNode = new BUnionType(Arrays.asList(node, stringNode));
+        // type Pair record {| Node|StringNode left; Pair? right; |};
+        BRecordType pair = createPairRecord("Pair", anyNode);
+        // type Pair2 record {| Node2 left; Pair2? right; |};
+        BRecordType pair2 = createPairRecord("Pair2", node2);
+        // type StringPair record {| StringNode left; StringPair? right; |};
+        BRecordType stringPair = createPairRecord("StringPair", stringNode);
+        BUnionType pairOrNode = new BUnionType(Arrays.asList(pair, node));
+        BUnionType pair2OrInt = new BUnionType(Arrays.asList(pair2, BTypes.typeInt));
+
+        List<BType> types = Arrays.asList(node, node2, stringNode, anyNode, pair, pair2, stringPair,
+                                          pairOrNode, pair2OrInt);
+        Map<String, Boolean> uncachedResults = new LinkedHashMap<>();
+        for (BType sourceType : types) {
+            for (BType targetType : types) {
+                uncachedResults.put(key(sourceType, targetType),
+                                    TypeChecker.checkIsType(sourceType, targetType, new ArrayList<>()));
+            }
+        }
+        Assert.assertTrue(uncachedResults.get(key(node2, node)));
+        Assert.assertFalse(uncachedResults.get(key(stringNode, node)));
+        Assert.assertTrue(uncachedResults.get(key(pair2, pair)));
+        Assert.assertTrue(uncachedResults.get(key(stringPair, pair)));
+        Assert.assertFalse(uncachedResults.get(key(pair, pair2)));
+
+        // Test the pairs in the reverse order as well, so that the pairs which were tested as nested pairs of a
+        // recursive type are tested at the top level before the enclosing pairs, and the other way around.
+        List<BType> reversedTypes = new ArrayList<>(types);
+        Collections.reverse(reversedTypes);
+        for (List<BType> order : Arrays.asList(reversedTypes, types)) {
+            for (BType sourceType : order) {
+                for (BType targetType : order) {
+                    Boolean uncachedResult = uncachedResults.get(key(sourceType, targetType));
+                    // The first test caches the result, the second one reads it from the cache.
+                    Assert.assertEquals(TypeChecker.checkIsType(sourceType, targetType), (boolean) uncachedResult);
+                    Assert.assertEquals(TypeChecker.checkIsType(sourceType, targetType), (boolean) uncachedResult);
+                }
+            }
+        }
+    }
+
+    private static String key(BType sourceType, BType targetType) {
+        return sourceType + " -> " + targetType;
+    }
+
+    private static BRecordType createLinkedRecord(String name, BType valueType) {
+        BRecordType recordType = new BRecordType(name, PKG, Flags.PUBLIC, true, 0);
+        Map<String, BField> fields = new LinkedHashMap<>();
+        fields.put("value", new BField(valueType, "value", Flags.REQUIRED));
+        fields.put("next", new BField(new BUnionType(Arrays.asList(recordType, BTypes.typeNull)), "next",
+                                      Flags.REQUIRED));
+        recordType.setFields(fields);
+        return recordType;
+    }
+
+    private static BRecordType createPairRecord(String name, BType leftType) {
+        BRecordType recordType = new BRecordType(name, PKG, Flags.PUBLIC, true, 0);
+        Map<String, BField> fields = new LinkedHashMap<>();
+        fields.put("left", new BField(leftType, "left", Flags.REQUIRED));
+        fields.put("right", new BField(new BUnionType(Arrays.asList(recordType, BTypes.typeNull)), "right",
+                                       Flags.REQUIRED));
+        recordType.setFields(fields);
+        return recordType;
+    }
+}
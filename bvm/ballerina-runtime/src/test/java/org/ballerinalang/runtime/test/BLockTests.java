@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.BLock;
+import org.ballerinalang.jvm.BLockStore;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.State;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test cases for {@link BLock} and {@link BLockStore}.
+ */
+public class BLockTests {
+
+    @Test
+    void testAcquiredLockCountWithReentrantLock() {
+        BLockStore lockStore = new BLockStore("a");
+        BLock lockA = lockStore.getLockFromMap("x");
+        BLock lockB = lockStore.getLockFromMap("y");
+        Strand strand = new Strand(null);
+
+        Assert.assertTrue(lockA.lock(strand));
+        Assert.assertTrue(lockA.lock(strand));
+        Assert.assertTrue(lockB.lock(strand));
+        Assert.assertEquals(strand.acquiredLockCount, 3);
+
+        lockB.unlock();
+        lockA.unlock();
+        Assert.assertEquals(strand.acquiredLockCount, 1);
+        Assert.assertFalse(lockA.isLockFree());
+        lockA.unlock();
+        Assert.assertEquals(strand.acquiredLockCount, 0);
+        Assert.assertTrue(lockA.isLockFree());
+
+        // reentrant acquisitions are not counted
+        Assert.assertEquals(lockA.getAcquiredCount(), 1);
+        Assert.assertEquals(lockB.getAcquiredCount(), 1);
+        Assert.assertEquals(lockA.getContendedCount(), 0);
+    }
+
+    @Test
+    void testPanicIfInLockChecksOnlyLocksOfTheModule() {
+        BLockStore moduleA = new BLockStore("a");
+        BLockStore moduleB = new BLockStore("b");
+        moduleB.getLockFromMap("y");
+        BLock lock = moduleA.getLockFromMap("x");
+        Strand strand = new Strand(null);
+        Strand otherStrand = new Strand(null);
+
+        moduleA.panicIfInLock("x", strand);
+        Assert.assertTrue(lock.lock(strand));
+
+        // a lock held in another module, or by another strand, does not prevent an async call
+        moduleB.panicIfInLock("y", strand);
+        moduleA.panicIfInLock("x", otherStrand);
+        try {
+            moduleA.panicIfInLock("x", strand);
+            Assert.fail("async call inside a lock of the module did not panic");
+        } catch (ErrorValue e) {
+            Assert.assertEquals(e.getReason(), BallerinaErrorReasons.ASYNC_CALL_INSIDE_LOCK);
+        }
+
+        lock.unlock();
+        moduleA.panicIfInLock("x", strand);
+    }
+
+    @Test
+    void testContendedLockCounters() throws InterruptedException {
+        List<Strand> unblockedStrands = Collections.synchronizedList(new ArrayList<>());
+        Scheduler scheduler = new Scheduler(1, false) {
+            @Override
+            public void unblockStrand(Strand strand) {
+                unblockedStrands.add(strand);
+            }
+        };
+        BLock lock = new BLockStore("a").getLockFromMap("x");
+        Strand owner = new Strand(scheduler);
+        Strand waiter = new Strand(scheduler);
+
+        Assert.assertTrue(lock.lock(owner));
+        Assert.assertFalse(lock.lock(waiter));
+        Assert.assertEquals(waiter.getState(), State.BLOCK_AND_YIELD);
+        Assert.assertEquals(waiter.acquiredLockCount, 0);
+        Assert.assertNotEquals(waiter.lockWaitStartTime, 0L);
+        Assert.assertEquals(lock.getContendedCount(), 1);
+        Assert.assertEquals(lock.getWaitTimeNanos(), 0);
+
+        Thread.sleep(1);
+        lock.unlock();
+        Assert.assertEquals(unblockedStrands, Collections.singletonList(waiter));
+        Assert.assertTrue(lock.getHoldTimeNanos() > 0);
+
+        Assert.assertTrue(lock.lock(waiter));
+        Assert.assertEquals(waiter.acquiredLockCount, 1);
+        Assert.assertEquals(waiter.lockWaitStartTime, 0L);
+        Assert.assertEquals(lock.getAcquiredCount(), 2);
+        Assert.assertEquals(lock.getContendedCount(), 1);
+        Assert.assertTrue(lock.getWaitTimeNanos() > 0);
+        lock.unlock();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.values.CompactLinkedMap;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Test cases for {@link CompactLinkedMap}.
+ */
+public class CompactLinkedMapTests {
+
+    @Test
+    void testInsertionOrder() {
+        CompactLinkedMap<String, Object> map = new CompactLinkedMap<>();
+        map.put("c", 1L);
+        map.put("a", null);
+        map.put("b", "x");
+        map.put("a", 2L);
+        Assert.assertEquals(new ArrayList<>(map.keySet()), Arrays.asList("c", "a", "b"));
+        Assert.assertEquals(new ArrayList<>(map.values()), Arrays.asList(1L, 2L, "x"));
+    }
+
+    @Test
+    void testNullValues() {
+        CompactLinkedMap<String, Object> map = new CompactLinkedMap<>();
+        map.put("a", null);
+        Assert.assertTrue(map.containsKey("a"));
+        Assert.assertNull(map.get("a"));
+        Assert.assertFalse(map.containsKey("b"));
+    }
+
+    @Test
+    void testRemoveKeepsOrderOfRemainingKeys() {
+        CompactLinkedMap<String, Object> map = new CompactLinkedMap<>();
+        for (int i = 0; i < 100; i++) {
+            map.put("k" + i, i);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            Assert.assertEquals(map.remove("k" + i), i);
+        }
+        // force compaction of the removed positions
+        for (int i = 100; i < 200; i++) {
+            map.put("k" + i, i);
+        }
+        Iterator<String> keys = map.keySet().iterator();
+        for (int i = 1; i < 100; i += 2) {
+            Assert.assertEquals(keys.next(), "k" + i);
+        }
+        for (int i = 100; i < 200; i++) {
+            Assert.assertEquals(keys.next(), "k" + i);
+        }
+        Assert.assertFalse(keys.hasNext());
+        Assert.assertEquals(map.size(), 150);
+    }
+
+    @Test
+    void testIteratorRemove() {
+        CompactLinkedMap<String, Object> map = new CompactLinkedMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+        Iterator<Map.Entry<String, Object>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getKey().equals("b")) {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(new ArrayList<>(map.keySet()), Arrays.asList("a", "c"));
+        Assert.assertNull(map.get("b"));
+    }
+
+    @Test
+    void testAgainstLinkedHashMap() {
+        Random random = new Random(7);
+        CompactLinkedMap<String, Integer> map = new CompactLinkedMap<>();
+        Map<String, Integer> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 20000; i++) {
+            String key = "k" + random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                Assert.assertEquals(map.remove(key), expected.remove(key));
+            } else {
+                Assert.assertEquals(map.put(key, i), expected.put(key, i));
+            }
+        }
+        Assert.assertEquals(map, expected);
+        Assert.assertEquals(new ArrayList<>(map.entrySet()), new ArrayList<>(expected.entrySet()));
+    }
+}
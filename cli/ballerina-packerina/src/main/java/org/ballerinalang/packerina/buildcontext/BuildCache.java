@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.packerina.buildcontext;
+
+import org.ballerinalang.compiler.BLangCompilerException;
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.packerina.utils.FileUtils;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BLANG_COMPILED_JAR_EXT;
+
+/**
+ * Content addressed cache of the thin jars of the modules of a project.
+ * <p>
+ * A cache entry is keyed by a hash of the module sources and BIR, the BIR of all the modules it depends on, the
+ * platform libraries it is generated against, the options that change the generated byte code and the compiler
+ * version. Entries live in '&lt;target&gt;/caches/build_cache' and
+ * survive a clean of the target directory, so a module that did not change since a previous build reuses its jar
+ * instead of running the code generator again.
+ *
+ * @since 2.0.0
+ */
+public class BuildCache {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String TESTABLE_SUFFIX = "-testable";
+    private static final String BSTRING_PROP = "ballerina.bstring";
+    private static final String JAVA_VERSION_PROP = "java.version";
+    private static final String NATIVE_MAP_ENV = "BALLERINA_NATIVE_MAP";
+
+    // number of entries kept per module, older entries are removed when a new entry is added
+    private static final int MAX_ENTRIES_PER_MODULE = 4;
+
+    private final Path cacheDir;
+    private final Path sourceRoot;
+
+    public BuildCache(Path cacheDir, Path sourceRoot) {
+        this.cacheDir = cacheDir;
+        this.sourceRoot = sourceRoot;
+    }
+
+    public Path getCacheDir() {
+        return cacheDir;
+    }
+
+    /**
+     * Compute the cache key of the jar of a module.
+     *
+     * @param moduleSymbol package symbol of the compiled module
+     * @param libs         platform libraries the jar is generated against
+     * @param testable     whether the key is for the testable jar of the module
+     * @return cache key, or empty if the module sources are not part of the project
+     */
+    public Optional<String> getModuleKey(BPackageSymbol moduleSymbol, Collection<Path> libs, boolean testable) {
+        PackageID id = moduleSymbol.pkgID;
+        Path moduleSourceDir = sourceRoot.resolve(ProjectDirConstants.SOURCE_DIR_NAME).resolve(id.name.value);
+        if (!Files.isDirectory(moduleSourceDir)) {
+            return Optional.empty();
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+            update(digest, RepoUtils.getBallerinaVersion());
+            update(digest, id.toString() + (testable ? TESTABLE_SUFFIX : ""));
+            updateCodeGenOptions(digest);
+
+            // the manifest decides the versions of the dependencies
+            Path manifest = sourceRoot.resolve(ProjectDirConstants.MANIFEST_FILE_NAME);
+            if (Files.exists(manifest)) {
+                digest.update(Files.readAllBytes(manifest));
+            }
+
+            try (Stream<Path> sources = Files.walk(moduleSourceDir)) {
+                List<Path> sourceFiles = sources.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+                for (Path sourceFile : sourceFiles) {
+                    update(digest, moduleSourceDir.relativize(sourceFile).toString().replace('\\', '/'));
+                    digest.update(Files.readAllBytes(sourceFile));
+                }
+            }
+
+            // the BIR of the module itself reflects the compiler options used to compile it, such as experimental
+            // features and locking
+            if (moduleSymbol.birPackageFile != null) {
+                digest.update(moduleSymbol.birPackageFile.pkgBirBinaryContent);
+            }
+
+            // the BIR of each dependency, including transitive ones, in a stable order
+            TreeMap<String, byte[]> dependencyBirs = new TreeMap<>();
+            collectDependencyBirs(moduleSymbol.imports, dependencyBirs, new HashSet<>());
+            for (Map.Entry<String, byte[]> dependency : dependencyBirs.entrySet()) {
+                update(digest, dependency.getKey());
+                if (dependency.getValue() != null) {
+                    digest.update(dependency.getValue());
+                }
+            }
+
+            List<Path> sortedLibs = libs.stream().filter(lib -> lib != null && Files.exists(lib))
+                    .sorted(Comparator.comparing(Path::toString)).collect(Collectors.toList());
+            for (Path lib : sortedLibs) {
+                update(digest, lib.toString());
+                update(digest, Files.size(lib) + ":" + Files.getLastModifiedTime(lib).toMillis());
+            }
+
+            return Optional.of(toHex(digest.digest()));
+        } catch (NoSuchAlgorithmException e) {
+            throw new BLangCompilerException("unable to compute the build cache key of module '" + id + "'", e);
+        } catch (IOException e) {
+            // a module whose sources can not be read is not cached
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Copy the jar cached against the given key to the given location.
+     *
+     * @param moduleID  module of the jar
+     * @param key       cache key of the jar
+     * @param jarOutput location to copy the jar to
+     * @return true if the jar was found in the cache
+     */
+    public boolean restoreJar(PackageID moduleID, String key, Path jarOutput) {
+        Path cachedJar = getEntryDir(moduleID, key).resolve(getJarName(moduleID));
+        if (!Files.exists(cachedJar)) {
+            return false;
+        }
+
+        try {
+            Files.copy(cachedJar, jarOutput, StandardCopyOption.REPLACE_EXISTING);
+            // mark the entry as recently used
+            Files.setLastModifiedTime(cachedJar.getParent(), FileTime.fromMillis(System.currentTimeMillis()));
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Add a generated jar to the cache.
+     *
+     * @param moduleID module of the jar
+     * @param key      cache key of the jar
+     * @param jar      generated jar
+     */
+    public void storeJar(PackageID moduleID, String key, Path jar) {
+        if (!Files.exists(jar)) {
+            return;
+        }
+
+        Path entryDir = getEntryDir(moduleID, key);
+        try {
+            Files.createDirectories(entryDir);
+            // copy to a temporary file first so that a concurrent or interrupted build never sees a partial jar
+            Path tempJar = Files.createTempFile(entryDir, getJarName(moduleID), ".tmp");
+            Files.copy(jar, tempJar, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tempJar, entryDir.resolve(getJarName(moduleID)), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            evictOldEntries(entryDir.getParent());
+        } catch (IOException e) {
+            // the cache is only an optimization, a failure to write it should not fail the build
+        }
+    }
+
+    /**
+     * Add the options read by the code generator outside of the BIR to the digest, so that a jar generated with
+     * different options is not reused.
+     */
+    private static void updateCodeGenOptions(MessageDigest digest) throws IOException {
+        // strings are generated as BString values when the property is set to any non empty value
+        update(digest, BSTRING_PROP + "=" + !getProperty(BSTRING_PROP).isEmpty());
+        // the java version is embedded in the module init for the compatibility check
+        update(digest, JAVA_VERSION_PROP + "=" + getProperty(JAVA_VERSION_PROP));
+
+        // the native map decides the interop targets of the generated calls
+        String nativeMap = System.getenv(NATIVE_MAP_ENV);
+        update(digest, NATIVE_MAP_ENV + "=" + (nativeMap == null ? "" : nativeMap));
+        if (nativeMap != null) {
+            Path nativeMapFile = Paths.get(nativeMap);
+            if (Files.isRegularFile(nativeMapFile)) {
+                digest.update(Files.readAllBytes(nativeMapFile));
+            }
+        }
+    }
+
+    private static String getProperty(String name) {
+        String value = System.getProperty(name);
+        return value == null ? "" : value;
+    }
+
+    private void collectDependencyBirs(List<BPackageSymbol> imports, TreeMap<String, byte[]> dependencyBirs,
+                                       Set<PackageID> visited) {
+        for (BPackageSymbol importSymbol : imports) {
+            if (importSymbol == null || !visited.add(importSymbol.pkgID)) {
+                continue;
+            }
+            byte[] bir = importSymbol.birPackageFile == null ? null : importSymbol.birPackageFile.pkgBirBinaryContent;
+            dependencyBirs.put(importSymbol.pkgID.toString(), bir);
+            collectDependencyBirs(importSymbol.imports, dependencyBirs, visited);
+        }
+    }
+
+    private void evictOldEntries(Path moduleCacheDir) throws IOException {
+        List<Path> entries;
+        try (Stream<Path> stream = Files.list(moduleCacheDir)) {
+            entries = stream.filter(Files::isDirectory).collect(Collectors.toList());
+        }
+        if (entries.size() <= MAX_ENTRIES_PER_MODULE) {
+            return;
+        }
+
+        entries.sort(Comparator.comparing(entry -> entry.toFile().lastModified()));
+        for (Path entry : entries.subList(0, entries.size() - MAX_ENTRIES_PER_MODULE)) {
+            FileUtils.deleteDirectory(entry);
+        }
+    }
+
+    private Path getEntryDir(PackageID moduleID, String key) {
+        return cacheDir.resolve(moduleID.orgName.value).resolve(moduleID.name.value).resolve(key);
+    }
+
+    private static String getJarName(PackageID moduleID) {
+        return moduleID.name.value + BLANG_COMPILED_JAR_EXT;
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(bytes);
+        // separate the values so that different splits of the same bytes do not produce the same hash
+        digest.update((byte) 0);
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
@@ -72,6 +72,7 @@ public class BuildContext extends HashMap<BuildContextField, Object> {
     private transient Path targetBirCacheDir;
     private transient Path targetTestJsonCacheDir;
     private transient Path baloCacheDir;
+    private transient BuildCache buildCache;
     private SourceType srcType;
     private transient PrintStream out;
     private transient PrintStream err;
@@ -125,6 +126,11 @@ public class BuildContext extends HashMap<BuildContextField, Object> {
                         .resolve(ProjectDirConstants.CACHES_DIR_NAME)
                         .resolve(ProjectDirConstants.JSON_CACHE_DIR_NAME);
                 
+                // save '<target>/cache/build_cache' dir for the jars of unchanged modules
+                this.buildCache = new BuildCache(targetPath
+                        .resolve(ProjectDirConstants.CACHES_DIR_NAME)
+                        .resolve(ProjectDirConstants.BUILD_CACHE_DIR_NAME), sourceRootPath);
+                
                 // save '<target>/bin' dir for executables
                 this.executableDir = targetPath.resolve(ProjectDirConstants.BIN_DIR_NAME);
             } else {
@@ -274,6 +280,19 @@ public class BuildContext extends HashMap<BuildContextField, Object> {
         this.executableDir = executablesDir;
     }
     
+    /**
+     * Get the build cache of the project. The cache is not used for single bal files as their target is a temporary
+     * directory.
+     *
+     * @return build cache of the project if the source is a project.
+     */
+    public Optional<BuildCache> getBuildCache() {
+        if (this.getSourceType() == SourceType.SINGLE_BAL_FILE) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(this.buildCache);
+    }
+    
     public Path getSystemRepoBirCache() {
         return Paths.get(System.getProperty(BALLERINA_INSTALL_DIR_PROP)).resolve(DIST_BIR_CACHE_DIR_NAME);
     }
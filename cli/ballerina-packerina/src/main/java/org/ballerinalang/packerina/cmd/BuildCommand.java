@@ -54,7 +54,9 @@ import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.List;
 
+import static org.ballerinalang.compiler.CompilerOptionName.CODEGEN_PARALLELISM;
 import static org.ballerinalang.compiler.CompilerOptionName.COMPILER_PHASE;
+import static org.ballerinalang.compiler.CompilerOptionName.DUMP_CODEGEN_TIMINGS;
 import static org.ballerinalang.compiler.CompilerOptionName.EXPERIMENTAL_FEATURES_ENABLED;
 import static org.ballerinalang.compiler.CompilerOptionName.LOCK_ENABLED;
 import static org.ballerinalang.compiler.CompilerOptionName.OFFLINE;
@@ -150,6 +152,13 @@ public class BuildCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--no-optimize-llvm", hidden = true)
     private boolean noOptimizeLlvm;
 
+    @CommandLine.Option(names = "--codegen-parallelism", hidden = true,
+                        description = "Maximum number of classes generated in parallel.")
+    private Integer codegenParallelism;
+
+    @CommandLine.Option(names = "--dump-codegen-timings", hidden = true)
+    private boolean dumpCodegenTimings;
+
     @CommandLine.Option(names = {"--help", "-h"}, hidden = true)
     private boolean helpFlag;
 
@@ -381,6 +390,10 @@ public class BuildCommand implements BLauncherCmd {
         options.put(TEST_ENABLED, Boolean.toString(!this.skipTests));
         options.put(EXPERIMENTAL_FEATURES_ENABLED, Boolean.toString(this.experimentalFlag));
         options.put(PRESERVE_WHITESPACE, "true");
+        options.put(DUMP_CODEGEN_TIMINGS, Boolean.toString(this.dumpCodegenTimings));
+        if (this.codegenParallelism != null) {
+            options.put(CODEGEN_PARALLELISM, this.codegenParallelism.toString());
+        }
         // create builder context
         BuildContext buildContext = new BuildContext(this.sourceRootPath, targetPath, sourcePath, compilerContext);
         buildContext.setOut(outStream);
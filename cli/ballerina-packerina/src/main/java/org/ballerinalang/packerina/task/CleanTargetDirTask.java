@@ -19,6 +19,7 @@
 package org.ballerinalang.packerina.task;
 
 import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.packerina.buildcontext.BuildCache;
 import org.ballerinalang.packerina.buildcontext.BuildContext;
 import org.ballerinalang.packerina.buildcontext.BuildContextField;
 import org.ballerinalang.packerina.buildcontext.sourcecontext.SingleModuleContext;
@@ -26,7 +27,11 @@ import org.ballerinalang.packerina.buildcontext.sourcecontext.SourceType;
 import org.wso2.ballerinalang.compiler.SourceDirectoryManager;
 
 import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
 
 import static org.ballerinalang.packerina.utils.FileUtils.deleteDirectory;
 import static org.ballerinalang.tool.LauncherUtils.createLauncherException;
@@ -51,6 +56,9 @@ public class CleanTargetDirTask implements Task {
                 deleteResource(buildContext.getTestBirPathFromTargetCache(packageID));
                 deleteResource(buildContext.getJarPathFromTargetCache(packageID));
                 deleteResource(buildContext.getTestJarPathFromTargetCache(packageID));
+            } else if (buildContext.getBuildCache().isPresent()) {
+                // keep the build cache so that unchanged modules are not generated again
+                deleteTargetExcept(targetDir, buildContext.getBuildCache().map(BuildCache::getCacheDir).get());
             } else {
                 deleteResource(targetDir);
             }
@@ -59,6 +67,33 @@ public class CleanTargetDirTask implements Task {
         }
     }
 
+    private void deleteTargetExcept(Path targetDir, Path buildCacheDir) throws IOException {
+        if (!targetDir.toFile().exists()) {
+            return;
+        }
+        Files.walkFileTree(targetDir, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                return dir.equals(buildCacheDir) ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.delete(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+                // parents of the build cache are kept
+                if (!buildCacheDir.startsWith(dir)) {
+                    Files.delete(dir);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
     private void deleteResource(Path path) throws IOException {
         if (path != null && path.toFile().exists()) {
             deleteDirectory(path);
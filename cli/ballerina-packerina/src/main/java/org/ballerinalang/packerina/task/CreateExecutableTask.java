@@ -19,7 +19,7 @@
 package org.ballerinalang.packerina.task;
 
 import org.apache.commons.compress.archivers.jar.JarArchiveEntry;
-import org.apache.commons.compress.archivers.zip.ZipArchiveEntryPredicate;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 import org.apache.commons.compress.archivers.zip.ZipFile;
 import org.ballerinalang.packerina.buildcontext.BuildContext;
@@ -29,16 +29,27 @@ import org.ballerinalang.packerina.buildcontext.sourcecontext.SingleModuleContex
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.util.Lists;
 
-import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
 
 import static org.ballerinalang.tool.LauncherUtils.createLauncherException;
 
@@ -48,6 +59,7 @@ import static org.ballerinalang.tool.LauncherUtils.createLauncherException;
 public class CreateExecutableTask implements Task {
 
     private static HashSet<String> excludeExtensions = new HashSet<>(Lists.of("DSA", "SF"));
+    private static final int BUFFER_SIZE = 8192;
 
     @Override
     public void execute(BuildContext buildContext) {
@@ -92,19 +104,38 @@ public class CreateExecutableTask implements Task {
 
     private void assembleExecutable(Path jarFromCachePath, HashSet<Path> dependencySet,
                                     ZipArchiveOutputStream outStream) {
+        // Copy executable thin jar and the dependency jars.
+        // Executable is created at given location.
+        // If no entry point is found, we do nothing.
+        List<Path> jars = new ArrayList<>();
+        jars.add(jarFromCachePath);
+        jars.addAll(dependencySet);
+
+        List<ScannedJar> scannedJars = new ArrayList<>();
         try {
+            scanJars(jars, scannedJars);
+
             // Used to prevent adding duplicated entries during the final jar creation.
             HashSet<String> entries = new HashSet<>();
             // Used to process SPI related metadata entries separately. The reason is unlike the other entry types,
             // service loader related information should be merged together in the final executable jar creation.
-            HashMap<String, StringBuilder> serviceEntries = new HashMap<>();
-            // Copy executable thin jar and the dependency jars.
-            // Executable is created at given location.
-            // If no entry point is found, we do nothing.
-            copyJarToJar(outStream, jarFromCachePath.toString(), entries, serviceEntries);
-            for (Path path : dependencySet) {
-                copyJarToJar(outStream, path.toString(), entries, serviceEntries);
+            Map<String, StringBuilder> serviceEntries = new TreeMap<>();
+            for (ScannedJar scannedJar : scannedJars) {
+                for (Map.Entry<String, String> service : scannedJar.services.entrySet()) {
+                    serviceEntries.computeIfAbsent(service.getKey(), k -> new StringBuilder())
+                            .append(service.getValue());
+                }
+                // Skip already copied files.
+                scannedJar.entryNames.removeIf(entryName -> !entries.add(entryName));
+            }
+
+            // Transfers selected entries to the output stream, while preserving their compression and all the other
+            // original attributes, so the entries are not inflated and deflated again. A name is removed once its
+            // entry is copied, so that a jar with duplicated entries does not write the same name twice.
+            for (ScannedJar scannedJar : scannedJars) {
+                scannedJar.zipFile.copyRawEntries(outStream, entry -> scannedJar.entryNames.remove(entry.getName()));
             }
+
             // Copy merged spi services.
             for (Map.Entry<String, StringBuilder> entry : serviceEntries.entrySet()) {
                 String s = entry.getKey();
@@ -114,79 +145,115 @@ public class CreateExecutableTask implements Task {
                 outStream.write(service.toString().getBytes(StandardCharsets.UTF_8));
                 outStream.closeArchiveEntry();
             }
+        } catch (UncheckedIOException e) {
+            throw createLauncherException("unable to create the executable: " + e.getCause().getMessage());
         } catch (IOException | NullPointerException e) {
             throw createLauncherException("unable to create the executable: " + e.getMessage());
+        } finally {
+            for (ScannedJar scannedJar : scannedJars) {
+                closeZipFile(scannedJar.zipFile);
+            }
         }
     }
 
     /**
-     * Copies a given jar file into the executable fat jar.
+     * Scans the jars in parallel, as reading the central directories and the SPI entries of the jars is independent of
+     * each other. Scanned jars are added in the order of the jars, so that the first jar which contains an entry wins
+     * as before. Every scan is waited for, even if one of them fails, so that all the opened jars are in the given
+     * list to be closed.
      *
-     * @param outStream     Output stream of the final uber jar.
-     * @param sourceJarFile Path of the source jar file.
-     * @param entries       Entries set will be used to ignore duplicate files.
-     * @param services      Services will be used to temporary hold merged spi files.
-     * @throws IOException If jar file copying is failed.
+     * @param jars        Paths of the jar files.
+     * @param scannedJars List to add the scanned jars to.
      */
-    private void copyJarToJar(ZipArchiveOutputStream outStream, String sourceJarFile, HashSet<String> entries,
-                              HashMap<String, StringBuilder> services) throws IOException {
-
-        ZipFile zipFile = new ZipFile(sourceJarFile);
-        ZipArchiveEntryPredicate predicate = entry -> {
-
-            String entryName = entry.getName();
-            if (entryName.startsWith("META-INF/services")) {
-                StringBuilder s = services.get(entryName);
-                if (s == null) {
-                    s = new StringBuilder();
-                    services.put(entryName, s);
+    private void scanJars(List<Path> jars, List<ScannedJar> scannedJars) {
+        List<CompletableFuture<ScannedJar>> scans = jars.stream()
+                .map(jar -> CompletableFuture.supplyAsync(() -> scanJar(jar)))
+                .collect(Collectors.toList());
+        RuntimeException failure = null;
+        for (CompletableFuture<ScannedJar> scan : scans) {
+            try {
+                scannedJars.add(scan.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
                 }
-                char c = '\n';
-                BufferedInputStream inStream = null;
-                try {
-                    int len;
-                    inStream = new BufferedInputStream(zipFile.getInputStream(entry));
-                    while ((len = inStream.read()) != -1) {
-                        c = (char) len;
-                        s.append(c);
-                    }
-                    if (c != '\n') {
-                        s.append('\n');
-                    }
-                } catch (IOException e) {
-                    throw createLauncherException(
-                            "Error occurred while creating final executable jar due to: " + e.getMessage());
-                } finally {
-                    if (inStream != null) {
-                        closeStream(inStream);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Reads the entries of a jar file which needs to be copied into the executable fat jar. SPI entries are read
+     * here, as they are merged together instead of being copied.
+     *
+     * @param sourceJarFile Path of the source jar file.
+     * @return scanned jar, the zip file of which is left open to copy the entries from.
+     */
+    private ScannedJar scanJar(Path sourceJarFile) {
+        ZipFile zipFile = null;
+        try {
+            zipFile = new ZipFile(sourceJarFile.toFile());
+            ScannedJar scannedJar = new ScannedJar(zipFile);
+            Enumeration<ZipArchiveEntry> zipEntries = zipFile.getEntries();
+            while (zipEntries.hasMoreElements()) {
+                ZipArchiveEntry entry = zipEntries.nextElement();
+                String entryName = entry.getName();
+                if (entryName.startsWith("META-INF/services")) {
+                    if (!entry.isDirectory()) {
+                        scannedJar.services.put(entryName, readService(zipFile, entry));
                     }
+                    continue;
+                }
+                // Skip excluded extensions.
+                if (excludeExtensions.contains(entryName.substring(entryName.lastIndexOf(".") + 1))) {
+                    continue;
                 }
-                // Its not required to copy SPI entries in here as we'll be adding merged SPI related entries
-                // separately. Therefore the predicate should be set as false.
-                return false;
+                scannedJar.entryNames.add(entryName);
             }
-            // Skip already copied files or excluded extensions.
-            if (entries.contains(entryName) ||
-                    excludeExtensions.contains(entryName.substring(entryName.lastIndexOf(".") + 1))) {
-                return false;
+            return scannedJar;
+        } catch (IOException e) {
+            closeZipFile(zipFile);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String readService(ZipFile zipFile, ZipArchiveEntry entry) throws IOException {
+        try (InputStream inStream = zipFile.getInputStream(entry)) {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int len;
+            while ((len = inStream.read(buffer)) != -1) {
+                content.write(buffer, 0, len);
             }
-            // SPIs will be merged first and then put into jar separately.
-            entries.add(entryName);
-            return true;
-        };
-
-        // Transfers selected entries from this zip file to the output stream, while preserving its compression and
-        // all the other original attributes.
-        zipFile.copyRawEntries(outStream, predicate);
-        zipFile.close();
+            String service = new String(content.toByteArray(), StandardCharsets.UTF_8);
+            return service.isEmpty() || service.endsWith("\n") ? service : service + "\n";
+        }
     }
 
-    private void closeStream(BufferedInputStream stream) {
+    private void closeZipFile(ZipFile zipFile) {
+        if (zipFile == null) {
+            return;
+        }
         try {
-            stream.close();
+            zipFile.close();
         } catch (IOException e) {
-            throw createLauncherException("error: Failed to close input stream while creating the final " +
+            throw createLauncherException("error: Failed to close jar file while creating the final " +
                     "executable jar.\n" + e.getMessage());
         }
     }
+
+    /**
+     * Entries of a dependency jar selected to be copied into the executable fat jar.
+     */
+    private static class ScannedJar {
+        private final ZipFile zipFile;
+        private final Set<String> entryNames = new LinkedHashSet<>();
+        private final Map<String, String> services = new LinkedHashMap<>();
+
+        private ScannedJar(ZipFile zipFile) {
+            this.zipFile = zipFile;
+        }
+    }
 }
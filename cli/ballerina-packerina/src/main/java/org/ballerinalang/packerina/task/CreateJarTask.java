@@ -20,6 +20,7 @@ package org.ballerinalang.packerina.task;
 
 import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.packerina.buildcontext.BuildCache;
 import org.ballerinalang.packerina.buildcontext.BuildContext;
 import org.ballerinalang.packerina.buildcontext.BuildContextField;
 import org.wso2.ballerinalang.compiler.PackageCache;
@@ -28,6 +29,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.ProjectDirs;
+import org.wso2.ballerinalang.compiler.util.diagnotic.BLangDiagnosticLogHelper;
 import org.wso2.ballerinalang.util.RepoUtils;
 
 import java.nio.file.Files;
@@ -35,6 +37,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BLANG_COMPILED_JAR_EXT;
@@ -96,7 +99,7 @@ public class CreateJarTask implements Task {
             // get the jar path of the module.
             Path jarOutput = buildContext.getJarPathFromTargetCache(module.packageID);
             if (!Files.exists(jarOutput)) {
-                backendDriver.execute(bLangPackage.symbol.bir, dumpBir, jarOutput, moduleDependencies);
+                generateJar(backendDriver, buildContext, bLangPackage.symbol, jarOutput, moduleDependencies, false);
                 alreadyImportedModuleSet.add(module.packageID);
             }
 
@@ -110,7 +113,8 @@ public class CreateJarTask implements Task {
                     // get the jar path of the module.
                     Path testJarOutput = buildContext.getTestJarPathFromTargetCache(testPkg.packageID);
                     if (!Files.exists(testJarOutput)) {
-                        backendDriver.execute(testPkg.symbol.bir, dumpBir, testJarOutput, moduleDependencies);
+                        generateJar(backendDriver, buildContext, testPkg.symbol, testJarOutput, moduleDependencies,
+                                    true);
                         alreadyImportedModuleSet.add(testPkg.packageID);
                     }
                 }
@@ -152,11 +156,35 @@ public class CreateJarTask implements Task {
                 if (!skipCopyLibsFromDist) {
                     moduleDependencySet.add(runtimeJar);
                 }
-                backendDriver.execute(bimport.bir, dumpBir, jarFilePath, moduleDependencySet);
+                generateJar(backendDriver, buildContext, bimport, jarFilePath, moduleDependencySet, false);
             }
         }
     }
 
+    /**
+     * Generate the jar of a module, reusing the jar of a previous build from the build cache when the module and its
+     * dependencies did not change.
+     */
+    private void generateJar(BackendDriver backendDriver, BuildContext buildContext, BPackageSymbol moduleSymbol,
+                             Path jarOutput, HashSet<Path> moduleDependencies, boolean testable) {
+        Optional<BuildCache> buildCache = buildContext.getBuildCache();
+        // the jar is not cached when the bir is dumped, as the bir is dumped while generating the jar
+        Optional<String> cacheKey = buildCache.isPresent() && !dumpBir ?
+                buildCache.get().getModuleKey(moduleSymbol, moduleDependencies, testable) : Optional.empty();
+        if (cacheKey.isPresent() && buildCache.get().restoreJar(moduleSymbol.pkgID, cacheKey.get(), jarOutput)) {
+            return;
+        }
+
+        BLangDiagnosticLogHelper dlog = BLangDiagnosticLogHelper.getInstance(
+                buildContext.get(BuildContextField.COMPILER_CONTEXT));
+        int errorCount = dlog.getErrorCount();
+        backendDriver.execute(moduleSymbol.bir, dumpBir, jarOutput, moduleDependencies);
+        // a jar generated with errors is never reused
+        if (dlog.getErrorCount() == errorCount) {
+            cacheKey.ifPresent(key -> buildCache.get().storeJar(moduleSymbol.pkgID, key, jarOutput));
+        }
+    }
+
     private Path getRuntimeAllJar(BuildContext buildContext) {
 
         if (skipCopyLibsFromDist) {
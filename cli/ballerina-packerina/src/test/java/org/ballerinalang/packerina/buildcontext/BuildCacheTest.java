@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.packerina.buildcontext;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.packerina.utils.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
+import org.wso2.ballerinalang.programfile.CompiledBinaryFile.BIRPackageFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+/**
+ * Test cases for the keys and entries of the build cache.
+ *
+ * @since 2.0.0
+ */
+public class BuildCacheTest {
+
+    private static final String BSTRING_PROP = "ballerina.bstring";
+
+    private Path tmpDir;
+    private Path sourceRoot;
+    private BuildCache buildCache;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        tmpDir = Files.createTempDirectory("build-cache-test-");
+        sourceRoot = tmpDir.resolve("project");
+        Path moduleDir = sourceRoot.resolve(ProjectDirConstants.SOURCE_DIR_NAME).resolve("mymodule");
+        Files.createDirectories(moduleDir);
+        Files.write(moduleDir.resolve("main.bal"), "public function main() {\n}\n".getBytes(StandardCharsets.UTF_8));
+        Files.write(sourceRoot.resolve(ProjectDirConstants.MANIFEST_FILE_NAME),
+                "[project]\norg-name = \"testorg\"\nversion = \"0.1.0\"\n".getBytes(StandardCharsets.UTF_8));
+        buildCache = new BuildCache(tmpDir.resolve("build_cache"), sourceRoot);
+    }
+
+    @AfterClass
+    public void cleanup() throws IOException {
+        FileUtils.deleteDirectory(tmpDir);
+    }
+
+    @Test(description = "Test that an unchanged module gets the same key")
+    public void testSameKeyForUnchangedModule() {
+        BPackageSymbol moduleSymbol = createModuleSymbol("mymodule", new byte[]{1, 2, 3});
+        Assert.assertEquals(getKey(moduleSymbol, false), getKey(moduleSymbol, false));
+        Assert.assertNotEquals(getKey(moduleSymbol, false), getKey(moduleSymbol, true));
+    }
+
+    @Test(description = "Test that a module outside the project is not cached")
+    public void testNoKeyForModuleOutsideProject() {
+        BPackageSymbol moduleSymbol = createModuleSymbol("othermodule", new byte[]{1, 2, 3});
+        Assert.assertFalse(buildCache.getModuleKey(moduleSymbol, Collections.emptyList(), false).isPresent());
+    }
+
+    @Test(description = "Test that changing the bstring code generation option misses the cache")
+    public void testBStringOptionChangesKey() {
+        BPackageSymbol moduleSymbol = createModuleSymbol("mymodule", new byte[]{1, 2, 3});
+        String bStringProp = System.getProperty(BSTRING_PROP);
+        try {
+            System.clearProperty(BSTRING_PROP);
+            String key = getKey(moduleSymbol, false);
+            System.setProperty(BSTRING_PROP, "true");
+            String bStringKey = getKey(moduleSymbol, false);
+            Assert.assertNotEquals(bStringKey, key);
+
+            Path jar = writeJar("bstring");
+            buildCache.storeJar(moduleSymbol.pkgID, bStringKey, jar);
+            System.clearProperty(BSTRING_PROP);
+            Assert.assertFalse(buildCache.restoreJar(moduleSymbol.pkgID, getKey(moduleSymbol, false),
+                    tmpDir.resolve("restored.jar")));
+        } finally {
+            if (bStringProp == null) {
+                System.clearProperty(BSTRING_PROP);
+            } else {
+                System.setProperty(BSTRING_PROP, bStringProp);
+            }
+        }
+    }
+
+    @Test(description = "Test that a module compiled with different compiler options misses the cache")
+    public void testModuleBirChangesKey() {
+        String key = getKey(createModuleSymbol("mymodule", new byte[]{1, 2, 3}), false);
+        Assert.assertNotEquals(getKey(createModuleSymbol("mymodule", new byte[]{1, 2, 4}), false), key);
+    }
+
+    @Test(description = "Test that a stored jar is restored against the same key")
+    public void testStoreAndRestoreJar() throws IOException {
+        BPackageSymbol moduleSymbol = createModuleSymbol("mymodule", new byte[]{5, 6, 7});
+        String key = getKey(moduleSymbol, false);
+        buildCache.storeJar(moduleSymbol.pkgID, key, writeJar("cached"));
+
+        Path restored = tmpDir.resolve("restored-cached.jar");
+        Assert.assertTrue(buildCache.restoreJar(moduleSymbol.pkgID, key, restored));
+        Assert.assertEquals(new String(Files.readAllBytes(restored), StandardCharsets.UTF_8), "cached");
+    }
+
+    private String getKey(BPackageSymbol moduleSymbol, boolean testable) {
+        return buildCache.getModuleKey(moduleSymbol, Collections.emptyList(), testable)
+                .orElseThrow(() -> new AssertionError("no cache key for module '" + moduleSymbol.pkgID + "'"));
+    }
+
+    private Path writeJar(String content) {
+        try {
+            Path jar = Files.createTempFile(tmpDir, "mymodule", ProjectDirConstants.BLANG_COMPILED_JAR_EXT);
+            return Files.write(jar, content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new AssertionError("unable to write the jar", e);
+        }
+    }
+
+    private static BPackageSymbol createModuleSymbol(String name, byte[] bir) {
+        PackageID id = new PackageID(new Name("testorg"), new Name(name), new Name("0.1.0"));
+        BPackageSymbol moduleSymbol = new BPackageSymbol(id, null);
+        moduleSymbol.birPackageFile = new BIRPackageFile(bir);
+        return moduleSymbol;
+    }
+}
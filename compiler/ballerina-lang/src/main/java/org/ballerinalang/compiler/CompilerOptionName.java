@@ -50,7 +50,11 @@ public enum CompilerOptionName {
 
     EXPERIMENTAL_FEATURES_ENABLED("experimentalFeaturesEnabled"),
 
-    TOOLING_COMPILATION("toolingCompilation");
+    TOOLING_COMPILATION("toolingCompilation"),
+
+    CODEGEN_PARALLELISM("codegenParallelism"),
+
+    DUMP_CODEGEN_TIMINGS("dumpCodegenTimings");
 
     public final String name;
 
@@ -18,11 +18,14 @@
 package org.wso2.ballerinalang.compiler.bir.codegen;
 
 import org.ballerinalang.compiler.BLangCompilerException;
+import org.ballerinalang.compiler.CompilerOptionName;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.JarFile;
+import org.wso2.ballerinalang.compiler.bir.codegen.internal.PhaseTimings;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.InteropValidator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 
 import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
@@ -30,6 +33,7 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.PrintStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
@@ -39,6 +43,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.jar.Attributes;
 import java.util.jar.JarEntry;
 import java.util.jar.JarOutputStream;
@@ -53,17 +58,27 @@ public class CodeGenerator {
 
     private static final CompilerContext.Key<CodeGenerator> CODE_GEN = new CompilerContext.Key<>();
 
+    // Fixed modification time of the jar entries, so that the same module always produces the same jar file.
+    // 1980-02-01 00:00:00 UTC, the earliest time representable by a zip entry in any time zone.
+    private static final long JAR_ENTRY_TIME = 315532800000L + 31L * 24 * 60 * 60 * 1000;
+
+    private static PrintStream outStream = System.out;
+
     private SymbolTable symbolTable;
 
     private Map<String, BIRNode.BIRPackage> compiledPkgCache = new HashMap<>();
 
     private JvmPackageGen jvmPackageGen;
 
+    private boolean dumpTimings;
+
     private CodeGenerator(CompilerContext context) {
 
         context.put(CODE_GEN, this);
         symbolTable = SymbolTable.getInstance(context);
         jvmPackageGen = JvmPackageGen.getInstance(context);
+        dumpTimings = Boolean.parseBoolean(CompilerOptions.getInstance(context)
+                .get(CompilerOptionName.DUMP_CODEGEN_TIMINGS));
     }
 
     public static CodeGenerator getInstance(CompilerContext context) {
@@ -88,8 +103,16 @@ public class CodeGenerator {
 
         ClassLoader classLoader = makeClassLoader(moduleDependencies);
         InteropValidator interopValidator = new InteropValidator(classLoader, symbolTable);
-        JarFile jarFile = jvmPackageGen.generate(entryMod, interopValidator, true);
+        PhaseTimings timings = new PhaseTimings();
+        JarFile jarFile = jvmPackageGen.generate(entryMod, interopValidator, true, timings);
+
+        long startTime = System.nanoTime();
         writeJarFile(jarFile, target);
+        timings.record("jar write", startTime);
+
+        if (dumpTimings) {
+            timings.print(outStream, entryMod.org.value + "/" + entryMod.name.value);
+        }
     }
 
     private ClassLoader makeClassLoader(Set<Path> moduleDependencies) {
@@ -143,12 +166,21 @@ public class CodeGenerator {
         jarFile.getMainClassName().ifPresent(mainClassName ->
                 mainAttributes.put(Attributes.Name.MAIN_CLASS, mainClassName));
 
+        // Entries are written in name order with a fixed time stamp, so that the jar does not depend on the order
+        // in which the classes were generated.
         try (JarOutputStream target = new JarOutputStream(new BufferedOutputStream(
-                new FileOutputStream(targetPath.toString())), manifest)) {
-            Map<String, byte[]> jarEntries = jarFile.getJarEntries();
+                new FileOutputStream(targetPath.toString())))) {
+            JarEntry manifestEntry = new JarEntry(java.util.jar.JarFile.MANIFEST_NAME);
+            manifestEntry.setTime(JAR_ENTRY_TIME);
+            target.putNextEntry(manifestEntry);
+            manifest.write(target);
+            target.closeEntry();
+
+            Map<String, byte[]> jarEntries = new TreeMap<>(jarFile.getJarEntries());
             for (Map.Entry<String, byte[]> keyVal : jarEntries.entrySet()) {
                 byte[] entryContent = keyVal.getValue();
                 JarEntry entry = new JarEntry(keyVal.getKey());
+                entry.setTime(JAR_ENTRY_TIME);
                 target.putNextEntry(entry);
                 target.write(entryContent);
                 target.closeEntry();
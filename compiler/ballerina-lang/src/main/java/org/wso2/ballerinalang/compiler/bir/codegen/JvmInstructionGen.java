@@ -31,6 +31,7 @@ import org.wso2.ballerinalang.compiler.bir.codegen.interop.JInsKind;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.JInstruction;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.JType;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.JTypeTags;
+import org.wso2.ballerinalang.compiler.bir.model.BIRInstruction;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
@@ -39,8 +40,10 @@ import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SchedulerPolicy;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BJSONType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BObjectType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BServiceType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
@@ -67,6 +70,7 @@ import static org.objectweb.asm.Opcodes.DSUB;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.FLOAD;
 import static org.objectweb.asm.Opcodes.FSTORE;
+import static org.objectweb.asm.Opcodes.GETFIELD;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.I2B;
@@ -91,6 +95,7 @@ import static org.objectweb.asm.Opcodes.IF_ICMPLT;
 import static org.objectweb.asm.Opcodes.IF_ICMPNE;
 import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INEG;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
@@ -129,6 +134,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ANNOTATIO
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_VALUE_IMPL;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BAL_OPTIONAL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BTYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BXML_QNAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BYTE_VALUE;
@@ -1221,12 +1227,18 @@ public class JvmInstructionGen {
         }
     }
 
-    void generateMapLoadIns(BIRNonTerminator.FieldAccess mapLoadIns) {
+    void generateMapLoadIns(BIRNonTerminator.FieldAccess mapLoadIns, BIRInstruction previousIns) {
         // visit map_ref
         this.loadVar(mapLoadIns.rhsOp.variableDcl);
         BType varRefType = mapLoadIns.rhsOp.variableDcl.type;
         addUnboxInsn(this.mv, varRefType);
 
+        BField recordField = this.getClosedRecordField(mapLoadIns, previousIns);
+        if (recordField != null) {
+            this.generateRecordFieldLoadIns(mapLoadIns, (BRecordType) varRefType, recordField);
+            return;
+        }
+
         // visit key_expr
         this.loadVar(mapLoadIns.keyOp.variableDcl);
 
@@ -1259,6 +1271,78 @@ public class JvmInstructionGen {
         this.storeToVar(mapLoadIns.lhsOp.variableDcl);
     }
 
+    /**
+     * Returns the field of a closed record type, defined in the current module, that is read using a constant key
+     * loaded by the previous instruction. Such a field can be read directly from the generated record value class.
+     *
+     * @param mapLoadIns  map load instruction
+     * @param previousIns instruction generated right before the map load
+     * @return the record field, or null if the load has to go through the map lookup
+     */
+    private BField getClosedRecordField(BIRNonTerminator.FieldAccess mapLoadIns, BIRInstruction previousIns) {
+
+        BType varRefType = mapLoadIns.rhsOp.variableDcl.type;
+        if (varRefType.tag != TypeTags.RECORD || mapLoadIns.fillingRead || mapLoadIns.optionalFieldAccess ||
+                !(previousIns instanceof BIRNonTerminator.ConstantLoad)) {
+            return null;
+        }
+
+        BRecordType recordType = (BRecordType) varRefType;
+        BIRNonTerminator.ConstantLoad keyLoadIns = (BIRNonTerminator.ConstantLoad) previousIns;
+        PackageID pkgID = recordType.tsymbol.pkgID;
+        if (!recordType.sealed || keyLoadIns.lhsOp.variableDcl != mapLoadIns.keyOp.variableDcl ||
+                !TypeTags.isStringTypeTag(keyLoadIns.type.tag) ||
+                !pkgID.orgName.value.equals(this.currentPackage.org.value) ||
+                !pkgID.name.value.equals(this.currentPackage.name.value)) {
+            return null;
+        }
+
+        String fieldName = String.valueOf(keyLoadIns.value);
+        for (BField field : recordType.fields) {
+            if (field != null && field.name.value.equals(fieldName)) {
+                return (field.symbol.flags & BAL_OPTIONAL) == BAL_OPTIONAL ? null : field;
+            }
+        }
+        return null;
+    }
+
+    private void generateRecordFieldLoadIns(BIRNonTerminator.FieldAccess mapLoadIns, BRecordType recordType,
+                                            BField field) {
+
+        String className = getTypeValueClassName(recordType.tsymbol.pkgID, toNameString(recordType));
+        String fieldDesc = getTypeDesc(field.type);
+        BType targetType = mapLoadIns.lhsOp.variableDcl.type;
+        Label mapLoadLabel = new Label();
+        Label unboxLabel = new Label();
+        Label storeLabel = new Label();
+
+        // read the JVM field directly, if the value is an instance of the record value class
+        this.mv.visitInsn(DUP);
+        this.mv.visitTypeInsn(INSTANCEOF, className);
+        this.mv.visitJumpInsn(IFEQ, mapLoadLabel);
+        this.mv.visitTypeInsn(CHECKCAST, className);
+        this.mv.visitFieldInsn(GETFIELD, className, field.name.value, fieldDesc);
+        if (fieldDesc.equals(getTypeDesc(targetType))) {
+            this.mv.visitJumpInsn(GOTO, storeLabel);
+        } else {
+            addBoxInsn(this.mv, field.type);
+            this.mv.visitJumpInsn(GOTO, unboxLabel);
+        }
+
+        // otherwise, fall back to the map lookup
+        this.mv.visitLabel(mapLoadLabel);
+        this.loadVar(mapLoadIns.keyOp.variableDcl);
+        this.mv.visitMethodInsn(INVOKEINTERFACE, MAP_VALUE, "get", String.format("(L%s;)L%s;", OBJECT, OBJECT),
+                true);
+
+        this.mv.visitLabel(unboxLabel);
+        addUnboxInsn(this.mv, targetType);
+
+        // store in the target reg
+        this.mv.visitLabel(storeLabel);
+        this.storeToVar(mapLoadIns.lhsOp.variableDcl);
+    }
+
     void generateObjectLoadIns(BIRNonTerminator.FieldAccess objectLoadIns) {
         // visit object_ref
         this.loadVar(objectLoadIns.rhsOp.variableDcl);
@@ -1814,7 +1814,8 @@ public class JvmMethodGen {
                             instGen.generateArrayStoreIns((FieldAccess) inst);
                             break;
                         case MAP_LOAD:
-                            instGen.generateMapLoadIns((FieldAccess) inst);
+                            instGen.generateMapLoadIns((FieldAccess) inst,
+                                    m > 0 ? bb.instructions.get(m - 1) : null);
                             break;
                         case ARRAY_LOAD:
                             instGen.generateArrayValueLoad((FieldAccess) inst);
@@ -2651,7 +2652,7 @@ public class JvmMethodGen {
             generateFrameClassForFunction(pkg, func, pkgEntries, null);
         });
 
-        for (BIRTypeDefinition typeDef : pkg.typeDefs) {
+        pkg.typeDefs.parallelStream().forEach(typeDef -> {
             List<BIRFunction> attachedFuncs = typeDef.attachedFuncs;
             if (attachedFuncs != null) {
                 BType attachedType;
@@ -2666,7 +2667,7 @@ public class JvmMethodGen {
                     generateFrameClassForFunction(pkg, func, pkgEntries, attachedType);
                 });
             }
-        }
+        });
     }
 
     private void generateFrameClassForFunction(BIRPackage pkg, BIRFunction func,
@@ -18,6 +18,7 @@
 package org.wso2.ballerinalang.compiler.bir.codegen;
 
 import org.ballerinalang.compiler.BLangCompilerException;
+import org.ballerinalang.compiler.CompilerOptionName;
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.util.diagnostic.DiagnosticCode;
 import org.objectweb.asm.ClassTooLargeException;
@@ -29,6 +30,7 @@ import org.wso2.ballerinalang.compiler.PackageCache;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.JarFile;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.JavaClass;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.LambdaMetadata;
+import org.wso2.ballerinalang.compiler.bir.codegen.internal.PhaseTimings;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.BIRFunctionWrapper;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.ExternalMethodGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.InteropValidator;
@@ -54,6 +56,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.types.BObjectType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BServiceType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
@@ -70,6 +73,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
@@ -94,6 +98,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_STOR
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_INIT_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_STOP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRING_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.VALUE_CREATOR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmDesugarPhase.addDefaultableBooleanVarsToSignature;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmDesugarPhase.rewriteRecordInits;
@@ -141,6 +146,7 @@ public class JvmPackageGen {
     private Map<String, String> globalVarClassMap;
     private Map<String, PackageID> dependentModules;
     private BLangDiagnosticLogHelper dlog;
+    private final int codeGenParallelism;
 
     private JvmPackageGen(CompilerContext compilerContext) {
 
@@ -154,6 +160,7 @@ public class JvmPackageGen {
         packageCache = PackageCache.getInstance(compilerContext);
         dlog = BLangDiagnosticLogHelper.getInstance(compilerContext);
         jvmMethodGen = new JvmMethodGen(this);
+        codeGenParallelism = getCodeGenParallelism(CompilerOptions.getInstance(compilerContext));
 
         JvmCastGen.symbolTable = symbolTable;
         JvmInstructionGen.anyType = symbolTable.anyType;
@@ -169,6 +176,39 @@ public class JvmPackageGen {
         return jvmPackageGen;
     }
 
+    private static int getCodeGenParallelism(CompilerOptions options) {
+
+        String parallelism = options.get(CompilerOptionName.CODEGEN_PARALLELISM);
+        if (parallelism == null || parallelism.isEmpty()) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+
+        try {
+            int value = Integer.parseInt(parallelism);
+            if (value > 0) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // handled below
+        }
+        throw new BLangCompilerException("invalid code generation parallelism '" + parallelism +
+                "': expected a positive integer");
+    }
+
+    /**
+     * Runs the given code generation task in the code generation pool. Parallel streams used by the task are executed
+     * by the workers of the pool, so the number of classes generated at a time is bounded by the configured
+     * parallelism. Tasks are run in the pool even with a parallelism of one, as the parallel streams would otherwise
+     * run in the common pool.
+     *
+     * @param codeGenPool code generation pool
+     * @param task        code generation task
+     */
+    private static void runInCodeGenPool(ForkJoinPool codeGenPool, Runnable task) {
+
+        codeGenPool.submit(task).join();
+    }
+
     private static String getBvmAlias(String orgName, String moduleName) {
 
         if (Names.ANON_ORG.value.equals(orgName)) {
@@ -270,7 +310,7 @@ public class JvmPackageGen {
         fv.visitEnd();
     }
 
-    private static void generateStaticInitializer(ClassWriter cw, String className,
+    private static void generateStaticInitializer(ClassWriter cw, String className, BIRPackage module,
                                                   boolean serviceEPAvailable) {
 
         MethodVisitor mv = cw.visitMethod(ACC_STATIC, "<clinit>", "()V", null, null);
@@ -278,7 +318,8 @@ public class JvmPackageGen {
         String lockStoreClass = "L" + LOCK_STORE + ";";
         mv.visitTypeInsn(NEW, LOCK_STORE);
         mv.visitInsn(DUP);
-        mv.visitMethodInsn(INVOKESPECIAL, LOCK_STORE, "<init>", "()V", false);
+        mv.visitLdcInsn(module.org.value + "/" + module.name.value);
+        mv.visitMethodInsn(INVOKESPECIAL, LOCK_STORE, "<init>", String.format("(L%s;)V", STRING_VALUE), false);
         mv.visitFieldInsn(PUTSTATIC, className, "LOCK_STORE", lockStoreClass);
 
         setServiceEPAvailableField(cw, mv, serviceEPAvailable, className);
@@ -441,8 +482,10 @@ public class JvmPackageGen {
         throw new IllegalStateException("cannot find function: '" + funcName + "'");
     }
 
-    JarFile generate(BIRNode.BIRPackage module, InteropValidator interopValidator, boolean isEntry) {
+    JarFile generate(BIRNode.BIRPackage module, InteropValidator interopValidator, boolean isEntry,
+                     PhaseTimings timings) {
 
+        long startTime = System.nanoTime();
         String orgName = module.org.value;
         String moduleName = module.name.value;
         String pkgName = getPackageName(orgName, moduleName);
@@ -459,10 +502,13 @@ public class JvmPackageGen {
                 return new JarFile(Collections.emptyMap());
             }
         }
+        timings.record("dependencies", startTime);
 
+        startTime = System.nanoTime();
         String moduleInitClass = getModuleLevelClassName(orgName, moduleName, MODULE_INIT_CLASS_NAME);
         Map<String, JavaClass> jvmClassMapping = generateClassNameMapping(module, pkgName, moduleInitClass,
                 interopValidator, isEntry);
+        timings.record("class name mapping", startTime);
         if (!isEntry || dlog.getErrorCount() > 0) {
             return new JarFile(Collections.emptyMap());
         }
@@ -471,6 +517,7 @@ public class JvmPackageGen {
         final Map<String, byte[]> jarEntries = new ConcurrentHashMap<>();
 
         // desugar parameter initialization
+        startTime = System.nanoTime();
         injectDefaultParamInits(module, jvmMethodGen, this);
         injectDefaultParamInitsToAttachedFuncs(module, jvmMethodGen, this);
 
@@ -485,16 +532,31 @@ public class JvmPackageGen {
 
         // desugar the record init function
         rewriteRecordInits(module.typeDefs);
+        timings.record("desugar", startTime);
 
-        // generate object/record value classes
-        JvmValueGen valueGen = new JvmValueGen(module, this, jvmMethodGen);
-        valueGen.generateValueClasses(jarEntries);
-
-        // generate frame classes
-        jvmMethodGen.generateFrameClasses(module, jarEntries);
-
-        // generate module classes
-        generateModuleClasses(module, jarEntries, moduleInitClass, jvmClassMapping, flattenedModuleImports);
+        // the pool is shut down once the module is generated, so that its workers do not outlive the compilation
+        // in long running compiler hosts such as the language server
+        ForkJoinPool codeGenPool = new ForkJoinPool(codeGenParallelism);
+        try {
+            // generate object/record value classes
+            startTime = System.nanoTime();
+            JvmValueGen valueGen = new JvmValueGen(module, this, jvmMethodGen);
+            runInCodeGenPool(codeGenPool, () -> valueGen.generateValueClasses(jarEntries));
+            timings.record("value classes", startTime);
+
+            // generate frame classes
+            startTime = System.nanoTime();
+            runInCodeGenPool(codeGenPool, () -> jvmMethodGen.generateFrameClasses(module, jarEntries));
+            timings.record("frame classes", startTime);
+
+            // generate module classes
+            startTime = System.nanoTime();
+            runInCodeGenPool(codeGenPool, () -> generateModuleClasses(module, jarEntries, moduleInitClass,
+                    jvmClassMapping, flattenedModuleImports));
+            timings.record("module classes", startTime);
+        } finally {
+            codeGenPool.shutdown();
+        }
 
         // clear class name mappings
         clearPackageGenInfo();
@@ -539,7 +601,7 @@ public class JvmPackageGen {
                 jvmMethodGen.generateLambdaForPackageInits(cw, module, mainClass, moduleClass, moduleImports);
 
                 generateLockForVariable(cw);
-                generateStaticInitializer(cw, moduleClass, serviceEPAvailable);
+                generateStaticInitializer(cw, moduleClass, module, serviceEPAvailable);
                 generateCreateTypesMethod(cw, module.typeDefs, moduleInitClass, symbolTable);
                 jvmMethodGen.generateModuleInitializer(cw, module, moduleInitClass);
                 jvmMethodGen.generateExecutionStopMethod(cw, moduleInitClass, module, moduleImports,
@@ -825,7 +887,8 @@ public class JvmPackageGen {
     private void generateDependencyList(BPackageSymbol packageSymbol, InteropValidator interopValidator) {
 
         if (packageSymbol.bir != null) {
-            generate(packageSymbol.bir, interopValidator, false);
+            // time spent on dependencies is accounted to the 'dependencies' phase of the entry module
+            generate(packageSymbol.bir, interopValidator, false, new PhaseTimings());
         } else {
             for (BPackageSymbol importPkgSymbol : packageSymbol.imports) {
                 if (importPkgSymbol == null) {
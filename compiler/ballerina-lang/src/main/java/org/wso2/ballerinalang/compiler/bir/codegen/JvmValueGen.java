@@ -91,7 +91,6 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BLANG_RUN
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BTYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_STRING_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.COLLECTION;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LINKED_HASH_MAP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LINKED_HASH_SET;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LIST;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_VALUE;
@@ -1005,7 +1004,7 @@ class JvmValueGen {
         // Add all from super.enrtySet() to the current entry set.
         mv.visitVarInsn(ALOAD, entrySetVarIndex);
         mv.visitVarInsn(ALOAD, 0);
-        mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_MAP, "entrySet", String.format("()L%s;", SET), false);
+        mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "entrySet", String.format("()L%s;", SET), false);
         mv.visitMethodInsn(INVOKEINTERFACE, SET, "addAll", String.format("(L%s;)Z", COLLECTION), true);
         mv.visitInsn(POP);
 
@@ -1295,7 +1294,7 @@ class JvmValueGen {
 
         mv.visitVarInsn(ALOAD, keysVarIndex);
         mv.visitVarInsn(ALOAD, 0); // this
-        mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_MAP, "keySet", String.format("()L%s;", SET), false);
+        mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "keySet", String.format("()L%s;", SET), false);
         mv.visitMethodInsn(INVOKEINTERFACE, SET, "addAll", String.format("(L%s;)Z", COLLECTION), true);
         mv.visitInsn(POP);
 
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.codegen.internal;
+
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps track of the time spent in each phase of the JVM code generation of a module.
+ *
+ * @since 2.0.0
+ */
+public class PhaseTimings {
+
+    private Map<String, Long> timings;
+
+    public PhaseTimings() {
+
+        timings = new LinkedHashMap<>();
+    }
+
+    /**
+     * Record the time elapsed since the given start time against the given phase.
+     *
+     * @param phase     name of the phase
+     * @param startTime start time of the phase, as returned by {@link System#nanoTime()}
+     */
+    public void record(String phase, long startTime) {
+
+        timings.merge(phase, System.nanoTime() - startTime, Long::sum);
+    }
+
+    public Map<String, Long> getTimings() {
+
+        return timings;
+    }
+
+    public void print(PrintStream out, String moduleName) {
+
+        long total = 0;
+        out.println("code generation timings for '" + moduleName + "':");
+        for (Map.Entry<String, Long> timing : timings.entrySet()) {
+            out.println(String.format("  %-20s %8d ms", timing.getKey(), toMillis(timing.getValue())));
+            total += timing.getValue();
+        }
+        out.println(String.format("  %-20s %8d ms", "total", toMillis(total)));
+    }
+
+    private static long toMillis(long nanos) {
+
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
@@ -49,10 +49,13 @@ public class Filter {
         int size = arr.size();
         AtomicInteger newArraySize = new AtomicInteger(-1);
         AtomicInteger index = new AtomicInteger(-1);
+        Object[] args = new Object[]{strand, null, true};
         BRuntime.getCurrentRuntime()
                 .invokeFunctionPointerAsyncIteratively(func, size,
-                                                       () -> new Object[]{strand, arr.get(index.incrementAndGet()),
-                                                               true},
+                                                       () -> {
+                                                           args[1] = arr.get(index.incrementAndGet());
+                                                           return args;
+                                                       },
                                                        result -> {
                                                            if ((Boolean) result) {
                                                                newArr.add(newArraySize.incrementAndGet(),
@@ -49,10 +49,13 @@ public class ForEach {
         BType arrType = arr.getType();
         GetFunction getFn = getElementAccessFunction(arrType, "forEach()");
         AtomicInteger index = new AtomicInteger(-1);
+        Object[] args = new Object[]{strand, null, true};
         BRuntime.getCurrentRuntime()
                 .invokeFunctionPointerAsyncIteratively(func, size,
-                                                       () -> new Object[]{strand,
-                                                               getFn.get(arr, index.incrementAndGet()), true},
+                                                       () -> {
+                                                           args[1] = getFn.get(arr, index.incrementAndGet());
+                                                           return args;
+                                                       },
                                                        result -> {
                                                        }, () -> null);
     }
@@ -69,10 +69,13 @@ public class Map {
                 throw createOpNotSupportedError(arrType, "map()");
         }
         AtomicInteger index = new AtomicInteger(-1);
+        Object[] args = new Object[]{strand, null, true};
         BRuntime.getCurrentRuntime()
                 .invokeFunctionPointerAsyncIteratively(func, size,
-                                                       () -> new Object[]{strand,
-                                                               getFn.get(arr, index.incrementAndGet()), true},
+                                                       () -> {
+                                                           args[1] = getFn.get(arr, index.incrementAndGet());
+                                                           return args;
+                                                       },
                                                        result -> retArr.add(index.get(), result),
                                                        () -> retArr);
 
@@ -54,13 +54,15 @@ public class Reduce {
         GetFunction getFn = getElementAccessFunction(arrType, "reduce()");
         AtomicReference<Object> accum = new AtomicReference<>(initial);
         AtomicInteger index = new AtomicInteger(-1);
+        Object[] args = new Object[]{strand, null, true, null, true};
         BRuntime.getCurrentRuntime()
                 .invokeFunctionPointerAsyncIteratively(func, size,
-                                                       () -> new Object[]{strand, accum.get(), true,
-                                                               getFn.get(arr, index.incrementAndGet()), true},
+                                                       () -> {
+                                                           args[1] = accum.get();
+                                                           args[3] = getFn.get(arr, index.incrementAndGet());
+                                                           return args;
+                                                       },
                                                        accum::set, accum::get);
         return accum.get();
-
-        
     }
 }
@@ -19,9 +19,7 @@
 package org.ballerinalang.langlib.array;
 
 import org.ballerinalang.jvm.scheduling.Strand;
-import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.values.ArrayValue;
-import org.ballerinalang.jvm.values.ArrayValueImpl;
 import org.ballerinalang.jvm.values.FPValue;
 import org.ballerinalang.model.types.TypeKind;
 import org.ballerinalang.natives.annotations.Argument;
@@ -43,47 +41,96 @@ import static org.ballerinalang.jvm.values.utils.ArrayUtils.checkIsArrayOnlyOper
 )
 public class Sort {
 
+    // runs of at most this many elements are sorted with an insertion sort
+    private static final int INSERTION_SORT_THRESHOLD = 7;
+
     public static ArrayValue sort(Strand strand, ArrayValue arr, FPValue<Object, Long> func) {
         checkIsArrayOnlyOperation(arr.getType(), "sort()");
-        ArrayValue aux = new ArrayValueImpl((BArrayType) arr.getType());
-        mergesort(arr, aux, 0, arr.size() - 1, strand, func);
+        int size = arr.size();
+        if (size < 2) {
+            return arr;
+        }
+
+        // Sort a snapshot of the members, so that each member is read and boxed once instead of on every comparison,
+        // and write the members back in their sorted order.
+        Object[] values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = arr.get(i);
+        }
+        Object[] aux = values.clone();
+        mergesort(aux, values, 0, size - 1, new Comparator(strand, func));
+        for (int i = 0; i < size; i++) {
+            arr.add(i, values[i]);
+        }
         return arr;
     }
 
-    // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
-    private static void mergesort(ArrayValue input, ArrayValue aux, int lo, int hi, Strand strand,
-                                  FPValue<Object, Long> comparator) {
-        if (hi <= lo) {
+    // Adapted from https://algs4.cs.princeton.edu/22mergesort/MergeX.java.html
+    // Sorts src[lo..hi] into dst[lo..hi], swapping the roles of the two arrays at each level to avoid copying the
+    // members to the auxiliary array before every merge. Both arrays must hold the same members when called.
+    private static void mergesort(Object[] src, Object[] dst, int lo, int hi, Comparator comparator) {
+        if (hi <= lo + INSERTION_SORT_THRESHOLD) {
+            insertionSort(dst, lo, hi, comparator);
             return;
         }
 
         int mid = lo + (hi - lo) / 2;
 
-        mergesort(input, aux, lo, mid, strand, comparator);
-        mergesort(input, aux, mid + 1, hi, strand, comparator);
+        mergesort(dst, src, lo, mid, comparator);
+        mergesort(dst, src, mid + 1, hi, comparator);
 
-        merge(input, aux, lo, mid, hi, strand, comparator);
-    }
-
-    private static void merge(ArrayValue input, ArrayValue aux, int lo, int mid, int hi, Strand strand,
-                              FPValue<Object, Long> comparator) {
-        int elemTypeTag = input.getElementType().getTag();
-
-        for (int i = lo; i <= hi; i++) {
-            aux.add(i, input.get(i));
+        // the two halves are already in order, no need to merge them
+        if (comparator.compare(src[mid + 1], src[mid]) >= 0) {
+            System.arraycopy(src, lo, dst, lo, hi - lo + 1);
+            return;
         }
 
+        merge(src, dst, lo, mid, hi, comparator);
+    }
+
+    private static void merge(Object[] src, Object[] dst, int lo, int mid, int hi, Comparator comparator) {
         for (int i = lo, j = mid + 1, k = lo; k <= hi; k++) {
             if (i > mid) {
-                input.add(k, aux.get(j++));
+                dst[k] = src[j++];
             } else if (j > hi) {
-                input.add(k, aux.get(i++));
-            } else if (comparator.call(new Object[]{strand, aux.get(j), true, aux.get(i), true}) < 0) {
-                input.add(k, aux.get(j++));
+                dst[k] = src[i++];
+            } else if (comparator.compare(src[j], src[i]) < 0) {
+                dst[k] = src[j++];
             } else {
-                input.add(k, aux.get(i++));
+                dst[k] = src[i++];
             }
         }
     }
 
+    private static void insertionSort(Object[] values, int lo, int hi, Comparator comparator) {
+        for (int i = lo + 1; i <= hi; i++) {
+            Object value = values[i];
+            int j = i;
+            while (j > lo && comparator.compare(value, values[j - 1]) < 0) {
+                values[j] = values[j - 1];
+                j--;
+            }
+            values[j] = value;
+        }
+    }
+
+    /**
+     * Calls the Ballerina comparator function, reusing the same argument array for each call.
+     */
+    private static class Comparator {
+
+        private final FPValue<Object, Long> func;
+        private final Object[] args;
+
+        Comparator(Strand strand, FPValue<Object, Long> func) {
+            this.func = func;
+            this.args = new Object[]{strand, null, true, null, true};
+        }
+
+        long compare(Object val1, Object val2) {
+            args[1] = val1;
+            args[3] = val2;
+            return func.call(args);
+        }
+    }
 }
@@ -66,14 +66,18 @@ public class Filter {
         }
         MapValue<Object, Object> newMap = new MapValueImpl<>(newMapType);
         int size = m.size();
+        Object[] keys = m.getKeys();
         AtomicInteger index = new AtomicInteger(-1);
+        Object[] args = new Object[]{strand, null, true};
         BRuntime.getCurrentRuntime()
                 .invokeFunctionPointerAsyncIteratively(func, size,
-                                                       () -> new Object[]{strand,
-                                                               m.get(m.getKeys()[index.incrementAndGet()]), true},
+                                                       () -> {
+                                                           args[1] = m.get(keys[index.incrementAndGet()]);
+                                                           return args;
+                                                       },
                                                        result -> {
                                                            if ((Boolean) result) {
-                                                               Object key = m.getKeys()[index.get()];
+                                                               Object key = keys[index.get()];
                                                                Object value = m.get(key);
                                                                newMap.put(key, value);
                                                            }
@@ -42,11 +42,15 @@ public class ForEach {
 
     public static void forEach(Strand strand, MapValue<?, ?> m, FPValue<Object, Object> func) {
         int size = m.size();
+        Object[] keys = m.getKeys();
         AtomicInteger index = new AtomicInteger(-1);
+        Object[] args = new Object[]{strand, null, true};
         BRuntime.getCurrentRuntime()
                 .invokeFunctionPointerAsyncIteratively(func, size,
-                                                       () -> new Object[]{strand,
-                                                               m.get(m.getKeys()[index.incrementAndGet()]), true},
+                                                       () -> {
+                                                           args[1] = m.get(keys[index.incrementAndGet()]);
+                                                           return args;
+                                                       },
                                                        result -> {
                                                        }, () -> null);
     }
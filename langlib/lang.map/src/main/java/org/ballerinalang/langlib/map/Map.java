@@ -49,13 +49,16 @@ public class Map {
         BMapType newMapType = new BMapType(((BFunctionType) func.getType()).retType);
         MapValue<Object, Object> newMap = new MapValueImpl<>(newMapType);
         int size = m.size();
+        Object[] keys = m.getKeys();
         AtomicInteger index = new AtomicInteger(-1);
+        Object[] args = new Object[]{strand, null, true};
         BRuntime.getCurrentRuntime()
                 .invokeFunctionPointerAsyncIteratively(func, size,
-                                                       () -> new Object[]{strand,
-                                                               m.get(m.getKeys()[index.incrementAndGet()]), true},
-                                                       result -> newMap
-                                                               .put(m.getKeys()[index.get()], result),
+                                                       () -> {
+                                                           args[1] = m.get(keys[index.incrementAndGet()]);
+                                                           return args;
+                                                       },
+                                                       result -> newMap.put(keys[index.get()], result),
                                                        () -> newMap);
         return newMap;
     }
@@ -47,11 +47,16 @@ public class Reduce {
     public static Object reduce(Strand strand, MapValue<?, ?> m, FPValue<Object, Object> func, Object initial) {
         int size = m.values().size();
         AtomicReference<Object> accum = new AtomicReference<>(initial);
+        Object[] keys = m.getKeys();
         AtomicInteger index = new AtomicInteger(-1);
+        Object[] args = new Object[]{strand, null, true, null, true};
         BRuntime.getCurrentRuntime()
                 .invokeFunctionPointerAsyncIteratively(func, size,
-                                                       () -> new Object[]{strand, accum.get(), true,
-                                                               m.get(m.getKeys()[index.incrementAndGet()]), true},
+                                                       () -> {
+                                                           args[1] = accum.get();
+                                                           args[3] = m.get(keys[index.incrementAndGet()]);
+                                                           return args;
+                                                       },
                                                        accum::set, accum::get);
         return accum.get();
     }
@@ -109,6 +109,25 @@ public function forEach(table<Type> t, function(Type val) returns () func) retur
 public function filter(table<Type> key<KeyType> t, function(Type val) returns boolean func)
    returns table<Type> key<KeyType> = external;
 
+# Selects the members from a table of which a field is equal to a value.
+# An index added with `addIndex` on the field is used to find the members,
+# otherwise each member of the table is tested.
+#
+# + t - the table
+# + fieldName - name of the field to compare
+# + value - value the field should be equal to
+# + return - new table containing the members of which the field is equal to `value`, in the order of `t`
+public function filterByField(table<Type> key<KeyType> t, string fieldName, anydata value)
+   returns table<Type> key<KeyType> = external;
+
+# Adds an index on a field of the members of a table, which is used by `filterByField`.
+# The index is kept up to date as members are added, replaced and removed.
+# It panics if the field is not a readonly field, unless the table is immutable.
+#
+# + t - the table
+# + fieldName - name of the field to index
+public function addIndex(table<Type> t, string fieldName) = external;
+
 # Combines the members of a table using a combining function.
 # The combining function takes the combined value so far and a member of the table,
 # and returns a new combined value.
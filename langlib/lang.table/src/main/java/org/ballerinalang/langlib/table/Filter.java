@@ -47,18 +47,16 @@ public class Filter {
     public static TableValueImpl filter(Strand strand, TableValueImpl tbl, FPValue<Object, Boolean> func) {
         BType newTableType = tbl.getType();
         TableValueImpl newTable = new TableValueImpl((BTableType) newTableType);
-        int size = tbl.size();
+        Object[] values = tbl.values().toArray();
+        int size = values.length;
         AtomicInteger index = new AtomicInteger(-1);
 
         BRuntime.getCurrentRuntime()
                 .invokeFunctionPointerAsyncIteratively(func, size,
-                        () -> new Object[]{strand,
-                                tbl.get(tbl.getKeys()[index.incrementAndGet()]), true},
+                        () -> new Object[]{strand, values[index.incrementAndGet()], true},
                         result -> {
                             if ((Boolean) result) {
-                                Object key = tbl.getKeys()[index.get()];
-                                Object value = tbl.get(key);
-                                newTable.put(key, value);
+                                newTable.add(values[index.get()]);
                             }
                         }, () -> newTable);
         return newTable;
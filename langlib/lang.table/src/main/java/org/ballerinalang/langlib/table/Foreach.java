@@ -40,12 +40,12 @@ import java.util.concurrent.atomic.AtomicInteger;
 )
 public class Foreach {
     public static void forEach(Strand strand, TableValueImpl tbl, FPValue<Object, Object> func) {
-        int size = tbl.size();
+        Object[] values = tbl.values().toArray();
+        int size = values.length;
         AtomicInteger index = new AtomicInteger(-1);
         BRuntime.getCurrentRuntime()
                 .invokeFunctionPointerAsyncIteratively(func, size,
-                        () -> new Object[]{strand,
-                                tbl.get(tbl.getKeys()[index.incrementAndGet()]), true},
+                        () -> new Object[]{strand, values[index.incrementAndGet()], true},
                         result -> {
                         }, () -> null);
     }
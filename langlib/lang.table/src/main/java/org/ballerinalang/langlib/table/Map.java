@@ -51,15 +51,20 @@ public class Map {
         BTableType newTableType = new BTableType(newConstraintType, ((BTableType) tbl.getType()).getFieldNames());
 
         TableValueImpl newTable = new TableValueImpl(newTableType);
-        int size = tbl.size();
+        Object[] keys = tbl.getKeys();
+        Object[] values = tbl.values().toArray();
+        int size = values.length;
         AtomicInteger index = new AtomicInteger(-1);
         BRuntime.getCurrentRuntime()
                 .invokeFunctionPointerAsyncIteratively(func, size,
-                        () -> new Object[]{strand,
-                                tbl.get(tbl.getKeys()[index.incrementAndGet()]), true},
-                        result -> newTable
-                                .put(tbl.getKeys()[index.get()], result),
-                        () -> newTable);
+                        () -> new Object[]{strand, values[index.incrementAndGet()], true},
+                        result -> {
+                            if (keys.length == 0) {
+                                newTable.add(result);
+                            } else {
+                                newTable.put(keys[index.get()], result);
+                            }
+                        }, () -> newTable);
         return newTable;
     }
 
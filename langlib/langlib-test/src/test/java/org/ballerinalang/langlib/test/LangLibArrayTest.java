@@ -22,6 +22,7 @@ import org.ballerinalang.model.types.TypeTags;
 import org.ballerinalang.model.values.BBoolean;
 import org.ballerinalang.model.values.BFloat;
 import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.model.values.BValueArray;
 import org.ballerinalang.test.util.BAssertUtil;
@@ -227,6 +228,79 @@ public class LangLibArrayTest {
         }
     }
 
+    @Test
+    public void testSortStability() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testSortStability");
+
+        BValueArray cards = (BValueArray) returns[0];
+        assertEquals(cards.size(), 50);
+        for (int i = 1; i < cards.size(); i++) {
+            BMap<String, BValue> prev = (BMap<String, BValue>) cards.getRefValue(i - 1);
+            BMap<String, BValue> current = (BMap<String, BValue>) cards.getRefValue(i);
+            double prevScore = ((BFloat) prev.get("score")).floatValue();
+            double score = ((BFloat) current.get("score")).floatValue();
+            assertTrue(prevScore <= score);
+            // members with equal scores keep their original order
+            if (prevScore == score) {
+                int prevIndex = Integer.parseInt(prev.get("name").stringValue().substring(1));
+                int index = Integer.parseInt(current.get("name").stringValue().substring(1));
+                assertTrue(prevIndex < index);
+            }
+        }
+
+        BValueArray scores = (BValueArray) returns[1];
+        assertEquals(scores.size(), 50);
+        for (int i = 1; i < scores.size(); i++) {
+            assertTrue(scores.getFloat(i - 1) >= scores.getFloat(i));
+        }
+
+        BValueArray names = (BValueArray) returns[2];
+        assertEquals(names.size(), 50);
+        for (int i = 1; i < names.size(); i++) {
+            assertTrue(names.getString(i - 1).compareTo(names.getString(i)) < 0);
+        }
+    }
+
+    @Test
+    public void testMapAndReduceWithYieldingFunction() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testMapAndReduceWithYieldingFunction");
+
+        BValueArray mapped = (BValueArray) returns[0];
+        assertEquals(mapped.size(), 10);
+        for (int i = 0; i < mapped.size(); i++) {
+            assertEquals(mapped.getInt(i), (i + 1) * 2);
+        }
+        assertEquals(((BInteger) returns[1]).intValue(), 110);
+    }
+
+    @Test
+    public void testFilterAndForEachWithYieldingFunction() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testFilterAndForEachWithYieldingFunction");
+
+        BValueArray evens = (BValueArray) returns[0];
+        BValueArray visited = (BValueArray) returns[1];
+        assertEquals(evens.size(), 4);
+        assertEquals(visited.size(), 4);
+        for (int i = 0; i < evens.size(); i++) {
+            assertEquals(evens.getInt(i), (i + 1) * 2);
+            assertEquals(visited.getInt(i), (i + 1) * 4);
+        }
+    }
+
+    @Test(expectedExceptions = BLangRuntimeException.class,
+            expectedExceptionsMessageRegExp = "error: IterationPanic message=panicked at element 3.*")
+    public void testMapWithPanickingFunction() {
+        BRunUtil.invoke(compileResult, "testMapWithPanickingFunction");
+        Assert.fail();
+    }
+
+    @Test(expectedExceptions = BLangRuntimeException.class,
+            expectedExceptionsMessageRegExp = "error: IterationPanic message=panicked after sum 3.*")
+    public void testForEachWithPanickingFunctionAfterYield() {
+        BRunUtil.invoke(compileResult, "testForEachWithPanickingFunctionAfterYield");
+        Assert.fail();
+    }
+
     @Test
     public void testReduce() {
         BValue[] returns = BRunUtil.invoke(compileResult, "testReduce");
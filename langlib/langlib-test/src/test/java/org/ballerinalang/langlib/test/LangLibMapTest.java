@@ -220,6 +220,35 @@ public class LangLibMapTest {
         assertEquals(((BInteger) ((BMap) results[1]).get("c")).intValue(), 78);
     }
 
+    @Test
+    public void testFilterAndForEachWithYieldingFunction() {
+        BValue[] results = BRunUtil.invoke(compileResult, "testFilterAndForEachWithYieldingFunction");
+
+        BMap passMarks = (BMap) results[0];
+        assertEquals(passMarks.size(), 2);
+        assertEquals(((BInteger) passMarks.get("c")).intValue(), 76);
+        assertEquals(((BInteger) passMarks.get("d")).intValue(), 45);
+
+        BValueArray visited = (BValueArray) results[1];
+        long[] expected = {12, 36, 78, 47, 21};
+        assertEquals(visited.size(), expected.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(visited.getInt(i), expected[i]);
+        }
+    }
+
+    @Test(expectedExceptions = BLangRuntimeException.class,
+          expectedExceptionsMessageRegExp = ".*error: IterationPanic message=panicked at mark 76.*")
+    public void testMapWithPanickingFunction() {
+        BRunUtil.invoke(compileResult, "testMapWithPanickingFunction");
+    }
+
+    @Test(expectedExceptions = BLangRuntimeException.class,
+          expectedExceptionsMessageRegExp = ".*error: IterationPanic message=panicked after sum 50.*")
+    public void testReduceWithPanickingFunctionAfterYield() {
+        BRunUtil.invoke(compileResult, "testReduceWithPanickingFunctionAfterYield");
+    }
+
     @DataProvider(name = "mapKeyProvider")
     public Object[][] getMapKeys() {
         return new Object[][]{
@@ -219,4 +219,43 @@ public class LangLibTableTest {
         BValue[] returns = BRunUtil.invoke(compileResult, "testAddWithKeyLessTbl");
         Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
     }
+
+    @Test
+    public void testFilterWithKeyLessTbl() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testFilterWithKeyLessTbl");
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @Test
+    public void testCollidingStringKeys() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testCollidingStringKeys");
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @Test
+    public void testCollidingIntKeys() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testCollidingIntKeys");
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @Test
+    public void testFilterByIndexedField() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testFilterByIndexedField");
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @Test
+    public void testFilterByNonIndexedField() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testFilterByNonIndexedField");
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @Test(expectedExceptions = BLangRuntimeException.class,
+            expectedExceptionsMessageRegExp =
+                    "error: OperationNotSupported message=cannot index field 'name': " +
+                            "only readonly fields can be indexed.*")
+    public void testAddIndexOnMutableField() {
+        BRunUtil.invoke(compileResult, "testAddIndexOnMutableField");
+        Assert.fail();
+    }
 }
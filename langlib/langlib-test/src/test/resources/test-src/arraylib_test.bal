@@ -375,6 +375,105 @@ function testSort2() returns int[] {
     return sorted;
 }
 
+type ScoreCard record {|
+    string name;
+    float score;
+|};
+
+function testSortStability() returns [ScoreCard[], float[], string[]] {
+    ScoreCard[] cards = [];
+    float[] scores = [];
+    string[] names = [];
+    int i = 0;
+    while (i < 50) {
+        float score = <float>((i * 7) % 5);
+        string name = "s" + i.toString();
+        cards[i] = { name: name, score: score };
+        scores[i] = score + 0.5;
+        names[i] = name;
+        i = i + 1;
+    }
+
+    ScoreCard[] sortedScoreCards = cards.sort(function (ScoreCard x, ScoreCard y) returns int {
+        return x.score > y.score ? 1 : (x.score < y.score ? -1 : 0);
+    });
+    float[] sortedScores = scores.sort(function (float x, float y) returns int {
+        return x > y ? -1 : (x < y ? 1 : 0);
+    });
+    string[] sortedNames = names.sort(function (string x, string y) returns int {
+        return x.codePointCompare(y);
+    });
+    return [sortedScoreCards, sortedScores, sortedNames];
+}
+
+function doubleValue(int x) returns int {
+    return x * 2;
+}
+
+function testMapAndReduceWithYieldingFunction() returns [int[], int] {
+    int[] arr = [1, 2, 3, 4, 5, 6, 7, 8, 9, 10];
+    int[] mapped = arr.map(function (int x) returns int {
+        if (x < 5) {
+            return x * 2;
+        }
+        // waiting on a future yields the strand
+        future<int> f = start doubleValue(x);
+        return wait f;
+    });
+    int sum = mapped.reduce(function (int accum, int x) returns int {
+        future<int> f = start doubleValue(x);
+        int doubled = wait f;
+        return accum + doubled / 2;
+    }, 0);
+    return [mapped, sum];
+}
+
+function testFilterAndForEachWithYieldingFunction() returns [int[], int[]] {
+    int[] arr = [1, 2, 3, 4, 5, 6, 7, 8];
+    int[] evens = arr.filter(function (int x) returns boolean {
+        if (x < 4) {
+            return x % 2 == 0;
+        }
+        future<int> f = start doubleValue(x);
+        int doubled = wait f;
+        return doubled % 4 == 0;
+    });
+    int[] visited = [];
+    evens.forEach(function (int x) {
+        if (x < 4) {
+            visited.push(x * 2);
+            return;
+        }
+        future<int> f = start doubleValue(x);
+        int doubled = wait f;
+        visited.push(doubled);
+    });
+    return [evens, visited];
+}
+
+function testMapWithPanickingFunction() {
+    int[] arr = [1, 2, 3, 4, 5];
+    int[] mapped = arr.map(function (int x) returns int {
+        if (x == 3) {
+            panic error("IterationPanic", message = "panicked at element " + x.toString());
+        }
+        return x * 2;
+    });
+}
+
+function testForEachWithPanickingFunctionAfterYield() {
+    int[] arr = [1, 2, 3, 4, 5];
+    int sum = 0;
+    arr.forEach(function (int x) {
+        future<int> f = start doubleValue(x);
+        int doubled = wait f;
+        if (doubled == 6) {
+            panic error("IterationPanic", message = "panicked after sum " + sum.toString());
+        }
+        sum = sum + doubled / 2;
+    });
+}
+
 function testPush() {
     testBooleanPush();
     testBytePush();
@@ -298,3 +298,48 @@ function testAsyncFpArgsWithMaps() returns [int, map<int>] {
 function getRandomNumber(int i) returns int {
     return i + 2;
 }
+
+function testFilterAndForEachWithYieldingFunction() returns [map<int>, int[]] {
+    map<int> marks = {a: 12, b: 34, c: 76, d: 45, e: 21};
+    map<int> passMarks = marks.filter(function (int mark) returns boolean {
+        if (mark < 30) {
+            return false;
+        }
+        future<int> f = start getRandomNumber(mark);
+        int n = wait f;
+        return n > 40;
+    });
+    int[] visited = [];
+    marks.forEach(function (int mark) {
+        if (mark < 30) {
+            visited.push(mark);
+            return;
+        }
+        future<int> f = start getRandomNumber(mark);
+        int n = wait f;
+        visited.push(n);
+    });
+    return [passMarks, visited];
+}
+
+function testMapWithPanickingFunction() {
+    map<int> marks = {a: 12, b: 34, c: 76, d: 45};
+    map<int> newMarks = marks.map(function (int mark) returns int {
+        if (mark == 76) {
+            panic error("IterationPanic", message = "panicked at mark " + mark.toString());
+        }
+        return mark + 2;
+    });
+}
+
+function testReduceWithPanickingFunctionAfterYield() {
+    map<int> marks = {a: 12, b: 34, c: 76, d: 45};
+    int total = marks.reduce(function (int sum, int mark) returns int {
+        future<int> f = start getRandomNumber(mark);
+        int n = wait f;
+        if (n == 78) {
+            panic error("IterationPanic", message = "panicked after sum " + sum.toString());
+        }
+        return sum + n;
+    }, 0);
+}
@@ -34,6 +34,12 @@ type Employee record {|
   string department;
 |};
 
+type Student record {|
+  readonly int id;
+  readonly string grade;
+  string name;
+|};
+
 type PersonalTable table<Person> key(name);
 
 type EmployeeTable table<Employee> key(name);
@@ -304,3 +310,85 @@ function testAddWithKeyLessTbl() returns boolean {
     testPassed = testPassed && tableToList[2] == customer;
     return testPassed;
 }
+
+function testFilterWithKeyLessTbl() returns boolean {
+    table<Customer> custTbl = table [
+      { id: 1, firstName: "Sanjiva", lastName: "Weerawarana" },
+      { id: 5, firstName: "Gimantha", lastName: "Bandara" },
+      { id: 13, firstName: "Chiran", lastName: "Fernando" }
+    ];
+    table<Customer> filteredTbl = custTbl.filter(function (Customer customer) returns boolean {
+                                                  return customer.id > 1;
+                                              });
+    Customer[] tableToList = filteredTbl.toArray();
+    return tableToList.length() == 2 && tableToList[0].id == 5 && tableToList[1].id == 13;
+}
+
+function testCollidingStringKeys() returns boolean {
+    // "Aa" and "BB" have the same hash code
+    PersonalTable tbl = table key(name) [{ name: "Aa", age: 33 }, { name: "BB", age: 37 }];
+    boolean testPassed = tbl.length() == 2 && tbl.hasKey("Aa") && tbl.hasKey("BB");
+
+    Person person = { name: "BB", age: 40 };
+    tbl.put(person);
+    testPassed = testPassed && tbl.length() == 2 && tbl.toArray()[1] == person;
+
+    Person removedPerson = tbl.remove("Aa");
+    testPassed = testPassed && removedPerson.age == 33 && !tbl.hasKey("Aa") && tbl.hasKey("BB");
+    return testPassed && tbl.length() == 1 && tbl.keys()[0] == "BB";
+}
+
+function testCollidingIntKeys() returns boolean {
+    // 1 and 4294967296 have the same hash code
+    CustomerTable custTbl = table key(id) [
+      { id: 1, firstName: "Sanjiva", lastName: "Weerawarana" },
+      { id: 4294967296, firstName: "James", lastName: "Clark" }
+    ];
+    boolean testPassed = custTbl.length() == 2 && custTbl.hasKey(1) && custTbl.hasKey(4294967296);
+
+    Customer removedCustomer = custTbl.remove(4294967296);
+    testPassed = testPassed && removedCustomer.firstName == "James";
+    return testPassed && custTbl.length() == 1 && custTbl.hasKey(1) && !custTbl.hasKey(4294967296);
+}
+
+function testFilterByIndexedField() returns boolean {
+    table<Student> key(id) students = table key(id) [
+      { id: 1, grade: "A", name: "Chiran" },
+      { id: 2, grade: "B", name: "Mohan" },
+      { id: 3, grade: "A", name: "Gima" },
+      { id: 4, grade: "C", name: "Granier" }
+    ];
+    students.addIndex("grade");
+    boolean testPassed = isFilteredByGrade(students, "A", 2) && isFilteredByGrade(students, "D", 0);
+
+    students.put({ id: 2, grade: "A", name: "Mohan" });
+    students.add({ id: 5, grade: "A", name: "Sanjiva" });
+    Student removedStudent = students.remove(1);
+    testPassed = testPassed && isFilteredByGrade(students, "A", 3) && isFilteredByGrade(students, "B", 0);
+
+    students.removeAll();
+    return testPassed && isFilteredByGrade(students, "A", 0);
+}
+
+function isFilteredByGrade(table<Student> key(id) students, string grade, int count) returns boolean {
+    table<Student> key(id) indexed = students.filterByField("grade", grade);
+    table<Student> key(id) scanned = students.filter(function (Student student) returns boolean {
+        return student.grade == grade;
+    });
+    return indexed.length() == count && indexed.toArray() == scanned.toArray();
+}
+
+function testFilterByNonIndexedField() returns boolean {
+    table<Student> key(id) students = table key(id) [
+      { id: 1, grade: "A", name: "Chiran" },
+      { id: 2, grade: "B", name: "Mohan" },
+      { id: 3, grade: "A", name: "Chiran" }
+    ];
+    Student[] filtered = students.filterByField("name", "Chiran").toArray();
+    return filtered.length() == 2 && filtered[0].id == 1 && filtered[1].id == 3;
+}
+
+function testAddIndexOnMutableField() {
+    table<Student> key(id) students = table key(id) [{ id: 1, grade: "A", name: "Chiran" }];
+    students.addIndex("name");
+}
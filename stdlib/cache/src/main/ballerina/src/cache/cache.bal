@@ -14,13 +14,27 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/java;
 import ballerina/task;
 import ballerina/time;
 
+# Represents the built-in eviction policy, which evicts the least recently used entries. Once the cache is full, the
+# number of entries defined by the `evictionFactor` are evicted.
+public const LRU = "LRU";
+
+# Represents the built-in eviction policy, which is based on the Window TinyLFU algorithm. New entries are admitted to
+# the cache only if they are estimated to be accessed more frequently than the entries they would replace.
+public const W_TINY_LFU = "W_TINY_LFU";
+
+# Represents the eviction policies, which are built into the native cache engine of the `cache:Cache` object.
+public type EvictionPolicy LRU|W_TINY_LFU;
+
 # Represents configurations for the `cache:Cache` object.
 #
 # + capacity - Maximum number of entries allowed in the cache
-# + evictionPolicy - The policy, which defines the cache eviction algorithm
+# + evictionPolicy - The policy, which defines the cache eviction algorithm. The built-in policies are run by a
+#                    concurrent native cache engine. A `cache:AbstractEvictionPolicy` object can be given to use a
+#                    custom eviction algorithm
 # + evictionFactor - The factor by which the entries will be evicted once the cache is full
 # + defaultMaxAgeInSeconds - The default value in seconds which all the cache entries are valid.
 #                            '-1' means, the entries are valid forever. This will be overwritten by the the
@@ -28,7 +42,7 @@ import ballerina/time;
 # + cleanupIntervalInSeconds - Interval of the timer task, which will clean up the cache
 public type CacheConfig record {|
     int capacity = 100;
-    AbstractEvictionPolicy evictionPolicy = new LruEvictionPolicy();
+    EvictionPolicy|AbstractEvictionPolicy evictionPolicy = LRU;
     float evictionFactor = 0.25;
     int defaultMaxAgeInSeconds = -1;
     int cleanupIntervalInSeconds?;
@@ -57,14 +71,24 @@ service cleanupService = service {
     }
 };
 
+// Cleanup service which advances the timer wheels of the native cache engine periodically, so that the cost of a
+// cleanup is proportional to the number of expired entries rather than the size of the cache.
+service nativeCleanupService = service {
+    resource function onTrigger(Cache cache) {
+        externCleanUp(cache);
+    }
+};
+
 # The `cache:Cache` object, which is used for all the cache-related operations. It is not recommended to insert `()`
-# as the value of the cache since it doesn't make any sense to cache a nil.
+# as the value of the cache since it doesn't make any sense to cache a nil. With the built-in eviction policies, the
+# entries are kept in a native cache engine, where cache hits do not block each other.
 public type Cache object {
 
     *AbstractCache;
 
     private int capacity;
-    private AbstractEvictionPolicy evictionPolicy;
+    // The custom eviction policy or `()` if the entries are kept in the native cache engine.
+    private AbstractEvictionPolicy? evictionPolicy = ();
     private float evictionFactor;
     private int defaultMaxAgeInSeconds;
     private map<Node> entries = {};
@@ -75,7 +99,6 @@ public type Cache object {
     # + cacheConfig - Configurations for the `cache:Cache` object
     public function __init(CacheConfig cacheConfig = {}) {
         self.capacity = cacheConfig.capacity;
-        self.evictionPolicy = cacheConfig.evictionPolicy;
         self.evictionFactor = cacheConfig.evictionFactor;
         self.defaultMaxAgeInSeconds = cacheConfig.defaultMaxAgeInSeconds;
 
@@ -97,6 +120,12 @@ public type Cache object {
             head: (),
             tail: ()
         };
+        EvictionPolicy|AbstractEvictionPolicy evictionPolicy = cacheConfig.evictionPolicy;
+        if (evictionPolicy is AbstractEvictionPolicy) {
+            self.evictionPolicy = evictionPolicy;
+        } else {
+            externInit(self, self.capacity, java:fromString(evictionPolicy), self.evictionFactor);
+        }
         int? cleanupIntervalInSeconds = cacheConfig?.cleanupIntervalInSeconds;
         if (cleanupIntervalInSeconds is int) {
             task:TimerConfiguration timerConfiguration = {
@@ -104,8 +133,12 @@ public type Cache object {
                 initialDelayInMillis: cleanupIntervalInSeconds
             };
             task:Scheduler cleanupScheduler = new(timerConfiguration);
-            task:SchedulerError? result = cleanupScheduler.attach(cleanupService, self.entries, self.list,
-                                                                  self.evictionPolicy);
+            task:SchedulerError? result;
+            if (evictionPolicy is AbstractEvictionPolicy) {
+                result = cleanupScheduler.attach(cleanupService, self.entries, self.list, evictionPolicy);
+            } else {
+                result = cleanupScheduler.attach(nativeCleanupService, self);
+            }
             if (result is task:SchedulerError) {
                 panic prepareError("Failed to create the cache cleanup task.", result);
             }
@@ -125,40 +158,46 @@ public type Cache object {
     #                     valid forever.
     # + return - `()` if successfully added to the cache or `Error` if a `()` value is inserted to the cache.
     public function put(string key, any value, int maxAgeInSeconds = -1) returns Error? {
-        lock {
-            if (value is ()) {
-                return prepareErrorWithDebugLog("Unsupported cache value '()' for the key: " + key + ".");
-            }
-            // If the current cache is full (i.e. size = capacity), evict cache.
-            if (self.size() == self.capacity) {
-                evict(self.entries, self.list, self.evictionPolicy, self.capacity, self.evictionFactor);
-            }
+        if (value is ()) {
+            return prepareErrorWithDebugLog("Unsupported cache value '()' for the key: " + key + ".");
+        }
+        AbstractEvictionPolicy? evictionPolicy = self.evictionPolicy;
+        if (evictionPolicy is AbstractEvictionPolicy) {
+            lock {
+                // If the current cache is full (i.e. size = capacity), evict cache.
+                if (self.size() == self.capacity) {
+                    evict(self.entries, self.list, evictionPolicy, self.capacity, self.evictionFactor);
+                }
 
-            // Calculate the `expTime` of the cache entry based on the `maxAgeInSeconds` property and
-            // `defaultMaxAgeInSeconds` property.
-            int calculatedExpTime = -1;
-            if (maxAgeInSeconds != -1 && maxAgeInSeconds > 0) {
-                calculatedExpTime = time:nanoTime() + (maxAgeInSeconds * 1000 * 1000 * 1000);
-            } else {
-                if (self.defaultMaxAgeInSeconds != -1) {
-                    calculatedExpTime = time:nanoTime() + (self.defaultMaxAgeInSeconds * 1000 * 1000 * 1000);
+                // Calculate the `expTime` of the cache entry based on the `maxAgeInSeconds` property and
+                // `defaultMaxAgeInSeconds` property.
+                int calculatedExpTime = -1;
+                if (maxAgeInSeconds != -1 && maxAgeInSeconds > 0) {
+                    calculatedExpTime = time:nanoTime() + (maxAgeInSeconds * 1000 * 1000 * 1000);
+                } else {
+                    if (self.defaultMaxAgeInSeconds != -1) {
+                        calculatedExpTime = time:nanoTime() + (self.defaultMaxAgeInSeconds * 1000 * 1000 * 1000);
+                    }
                 }
-            }
 
-            CacheEntry entry = {
-                key: key,
-                data: value,
-                expTime: calculatedExpTime
-            };
-            Node newNode = { value: entry };
+                CacheEntry entry = {
+                    key: key,
+                    data: value,
+                    expTime: calculatedExpTime
+                };
+                Node newNode = { value: entry };
 
-            if (self.hasKey(key)) {
-                Node oldNode = self.entries.get(key);
-                self.evictionPolicy.replace(self.list, newNode, oldNode);
-            } else {
-                self.evictionPolicy.put(self.list, newNode);
+                if (self.hasKey(key)) {
+                    Node oldNode = self.entries.get(key);
+                    evictionPolicy.replace(self.list, newNode, oldNode);
+                } else {
+                    evictionPolicy.put(self.list, newNode);
+                }
+                self.entries[key] = newNode;
             }
-            self.entries[key] = newNode;
+        } else {
+            int maxAge = maxAgeInSeconds > 0 ? maxAgeInSeconds : self.defaultMaxAgeInSeconds;
+            externPut(self, java:fromString(key), value, maxAge);
         }
     }
 
@@ -168,24 +207,30 @@ public type Cache object {
     # + return - The cached value associated with the provided key or an `Error` if the provided cache key is not
     #            exisiting in the cache or any error occurred while retrieving the value from the cache.
     public function get(string key) returns any|Error {
-        lock {
-            if (!self.hasKey(key)) {
-                return prepareErrorWithDebugLog("Cache entry from the given key: " + key + ", is not available.");
-            }
+        AbstractEvictionPolicy? evictionPolicy = self.evictionPolicy;
+        if (evictionPolicy is AbstractEvictionPolicy) {
+            lock {
+                if (!self.hasKey(key)) {
+                    return prepareErrorWithDebugLog("Cache entry from the given key: " + key + ", is not available.");
+                }
 
-            Node node = self.entries.get(key);
-            CacheEntry entry = <CacheEntry>node.value;
+                Node node = self.entries.get(key);
+                CacheEntry entry = <CacheEntry>node.value;
 
-            // Check whether the cache entry is already expired. Even though the cache cleaning task is configured
-            // and runs in predefined intervals, sometimes the cache entry might not have been removed at this point
-            // even though it is expired. So this check guarantees that the expired cache entries will not be returned.
-            if (entry.expTime != -1 && entry.expTime < time:nanoTime()) {
-                self.evictionPolicy.remove(self.list, node);
-                return removeEntry(self.entries, key);
-            }
+                // Check whether the cache entry is already expired. Even though the cache cleaning task is
+                // configured and runs in predefined intervals, sometimes the cache entry might not have been removed
+                // at this point even though it is expired. So this check guarantees that the expired cache entries
+                // will not be returned.
+                if (entry.expTime != -1 && entry.expTime < time:nanoTime()) {
+                    evictionPolicy.remove(self.list, node);
+                    return removeEntry(self.entries, key);
+                }
 
-            self.evictionPolicy.get(self.list, node);
-            return entry.data;
+                evictionPolicy.get(self.list, node);
+                return entry.data;
+            }
+        } else {
+            return externGet(self, java:fromString(key));
         }
     }
 
@@ -195,14 +240,19 @@ public type Cache object {
     # + return - `()` if successfully discarded the value or an `Error` if the provided cache key is not present in the
     #            cache or if any error occurred while discarding the value from the cache.
     public function invalidate(string key) returns Error? {
-        lock {
-            if (!self.hasKey(key)) {
-                return prepareErrorWithDebugLog("Cache entry from the given key: " + key + ", is not available.");
-            }
+        AbstractEvictionPolicy? evictionPolicy = self.evictionPolicy;
+        if (evictionPolicy is AbstractEvictionPolicy) {
+            lock {
+                if (!self.hasKey(key)) {
+                    return prepareErrorWithDebugLog("Cache entry from the given key: " + key + ", is not available.");
+                }
 
-            Node node = self.entries.get(key);
-            self.evictionPolicy.remove(self.list, node);
-            return removeEntry(self.entries, key);
+                Node node = self.entries.get(key);
+                evictionPolicy.remove(self.list, node);
+                return removeEntry(self.entries, key);
+            }
+        } else {
+            return externInvalidate(self, java:fromString(key));
         }
     }
 
@@ -211,9 +261,14 @@ public type Cache object {
     # + return - `()` if successfully discarded all the values from the cache or an `Error` if any error occurred while
     # discarding all the values from the cache.
     public function invalidateAll() returns Error? {
-        lock {
-            self.evictionPolicy.clear(self.list);
-            return removeAllEntries(self.entries);
+        AbstractEvictionPolicy? evictionPolicy = self.evictionPolicy;
+        if (evictionPolicy is AbstractEvictionPolicy) {
+            lock {
+                evictionPolicy.clear(self.list);
+                return removeAllEntries(self.entries);
+            }
+        } else {
+            externInvalidateAll(self);
         }
     }
 
@@ -223,6 +278,9 @@ public type Cache object {
     # + return - `true` if a cached value is available for the provided key or `false` if there is no cached value
     #            associated for the given key
     public function hasKey(string key) returns boolean {
+        if (self.evictionPolicy is ()) {
+            return externHasKey(self, java:fromString(key));
+        }
         return self.entries.hasKey(key);
     }
 
@@ -230,6 +288,9 @@ public type Cache object {
     #
     # + return - Array of all the keys from the cache
     public function keys() returns string[] {
+        if (self.evictionPolicy is ()) {
+            return externKeys(self);
+        }
         return self.entries.keys();
     }
 
@@ -237,6 +298,9 @@ public type Cache object {
     #
     # + return - The size of the cache
     public function size() returns int {
+        if (self.evictionPolicy is ()) {
+            return externSize(self);
+        }
         return self.entries.length();
     }
 
@@ -293,3 +357,48 @@ function removeAllEntries(map<Node> entries) returns Error? {
         return prepareErrorWithDebugLog("Error while removing all the entries from the map.", result);
     }
 }
+
+function externInit(Cache cache, int capacity, handle evictionPolicy, float evictionFactor) = @java:Method {
+    name: "init",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
+
+function externPut(Cache cache, handle key, any value, int maxAgeInSeconds) = @java:Method {
+    name: "put",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
+
+function externGet(Cache cache, handle key) returns any|Error = @java:Method {
+    name: "get",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
+
+function externInvalidate(Cache cache, handle key) returns Error? = @java:Method {
+    name: "invalidate",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
+
+function externInvalidateAll(Cache cache) = @java:Method {
+    name: "invalidateAll",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
+
+function externCleanUp(Cache cache) = @java:Method {
+    name: "cleanUp",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
+
+function externHasKey(Cache cache, handle key) returns boolean = @java:Method {
+    name: "hasKey",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
+
+function externKeys(Cache cache) returns string[] = @java:Method {
+    name: "keys",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
+
+function externSize(Cache cache) returns int = @java:Method {
+    name: "size",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.engine;
+
+/**
+ * Doubly linked list of cache nodes in access order. The most recently used node is at the head of the list.
+ * <p>
+ * The links are kept in the nodes, so moving a node within the list does not allocate. A node belongs to at most one
+ * list at a time.
+ *
+ * @since 2.0.0
+ */
+final class AccessOrderList {
+
+    private CacheNode head;
+    private CacheNode tail;
+    private int size;
+
+    void addFirst(CacheNode node) {
+        node.prev = null;
+        node.next = head;
+        if (head == null) {
+            tail = node;
+        } else {
+            head.prev = node;
+        }
+        head = node;
+        size++;
+    }
+
+    void remove(CacheNode node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+        size--;
+    }
+
+    void moveToFront(CacheNode node) {
+        if (node != head) {
+            remove(node);
+            addFirst(node);
+        }
+    }
+
+    CacheNode peekLast() {
+        return tail;
+    }
+
+    CacheNode removeLast() {
+        CacheNode node = tail;
+        if (node != null) {
+            remove(node);
+        }
+        return node;
+    }
+
+    void clear() {
+        CacheNode node = head;
+        while (node != null) {
+            CacheNode next = node.next;
+            node.prev = null;
+            node.next = null;
+            node.queue = CacheNode.QUEUE_NONE;
+            node = next;
+        }
+        head = null;
+        tail = null;
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.engine;
+
+/**
+ * An entry of the {@link ConcurrentCache}.
+ * <p>
+ * The key, value and expiry time are read without locking by the cache lookups. The access order links and the queue
+ * of the node belong to the eviction policy of the segment, and the timer links belong to the timer wheel of the
+ * segment. They are only accessed while holding the segment lock.
+ *
+ * @since 2.0.0
+ */
+final class CacheNode {
+
+    static final int QUEUE_NONE = 0;
+    static final int QUEUE_WINDOW = 1;
+    static final int QUEUE_PROBATION = 2;
+    static final int QUEUE_PROTECTED = 3;
+
+    static final long NO_EXPIRY = -1;
+
+    final String key;
+    final long sequence;
+    volatile Object value;
+    volatile long expTime;
+
+    int queue = QUEUE_NONE;
+    CacheNode prev;
+    CacheNode next;
+    CacheNode timerPrev;
+    CacheNode timerNext;
+
+    CacheNode(String key, Object value, long expTime, long sequence) {
+        this.key = key;
+        this.value = value;
+        this.expTime = expTime;
+        this.sequence = sequence;
+    }
+
+    boolean isExpired(long now) {
+        long expiry = expTime;
+        return expiry != NO_EXPIRY && expiry - now < 0;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A segment of the {@link ConcurrentCache}, which owns a share of the keys and of the capacity.
+ * <p>
+ * Lookups read the map without locking and record the read in the read buffer. Writes take the segment lock, replay
+ * the buffered reads on the eviction policy, expire the entries which are due on the timer wheel and then update the
+ * map, the policy and the timer wheel together. A lookup never waits for the lock: the buffered reads and the
+ * expired entries are only processed on the lookup path if the lock is free.
+ *
+ * @since 2.0.0
+ */
+final class CacheSegment {
+
+    private final ConcurrentHashMap<String, CacheNode> data;
+    private final EvictionPolicy policy;
+    private final ReadBuffer readBuffer = new ReadBuffer();
+    private final TimerWheel timerWheel = new TimerWheel(System.nanoTime());
+    private final ReentrantLock lock = new ReentrantLock();
+
+    CacheSegment(int capacity, EvictionPolicy policy) {
+        this.data = new ConcurrentHashMap<>(Math.min(capacity, 1024));
+        this.policy = policy;
+    }
+
+    Object get(String key, long now) {
+        CacheNode node = data.get(key);
+        if (node == null) {
+            return ConcurrentCache.MISSING;
+        }
+        if (node.isExpired(now)) {
+            tryRemoveExpired(node, now);
+            return null;
+        }
+        if (readBuffer.offer(node)) {
+            tryMaintenance(now);
+        }
+        return node.value;
+    }
+
+    boolean containsKey(String key) {
+        return data.containsKey(key);
+    }
+
+    void put(String key, Object value, long expTime, long sequence, long now) {
+        lock.lock();
+        try {
+            maintenance(now);
+            CacheNode node = data.get(key);
+            if (node != null) {
+                node.value = value;
+                node.expTime = expTime;
+                timerWheel.reschedule(node);
+                policy.recordAccess(node);
+                return;
+            }
+            node = new CacheNode(key, value, expTime, sequence);
+            data.put(key, node);
+            if (expTime != CacheNode.NO_EXPIRY) {
+                timerWheel.schedule(node);
+            }
+            List<CacheNode> evicted = new ArrayList<>(1);
+            policy.add(node, evicted);
+            for (CacheNode victim : evicted) {
+                data.remove(victim.key, victim);
+                timerWheel.deschedule(victim);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean invalidate(String key) {
+        lock.lock();
+        try {
+            CacheNode node = data.remove(key);
+            if (node == null) {
+                return false;
+            }
+            policy.remove(node);
+            timerWheel.deschedule(node);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void invalidateAll() {
+        lock.lock();
+        try {
+            readBuffer.drainTo(policy);
+            data.clear();
+            policy.clear();
+            timerWheel.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void removeExpired(long now) {
+        lock.lock();
+        try {
+            maintenance(now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void collectNodes(List<CacheNode> nodes) {
+        nodes.addAll(data.values());
+    }
+
+    int size() {
+        return data.size();
+    }
+
+    private void maintenance(long now) {
+        readBuffer.drainTo(policy);
+        timerWheel.advance(now, this::evictExpired);
+    }
+
+    private boolean evictExpired(CacheNode node) {
+        data.remove(node.key, node);
+        policy.remove(node);
+        return true;
+    }
+
+    private void tryRemoveExpired(CacheNode node, long now) {
+        if (lock.tryLock()) {
+            try {
+                maintenance(now);
+                // The timer wheel expires the entries with a granularity of about a second. The node may also have
+                // been updated with a new expiry time since it was read.
+                if (node.isExpired(now) && data.remove(node.key, node)) {
+                    policy.remove(node);
+                    timerWheel.deschedule(node);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void tryMaintenance(long now) {
+        if (lock.tryLock()) {
+            try {
+                maintenance(now);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.engine;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, concurrent in-memory cache which backs the Ballerina `cache:Cache` object.
+ * <p>
+ * The keys are spread over lock-striped segments, each of which owns a share of the capacity and evicts with its own
+ * policy. Cache hits do not take a lock: a hit reads the segment map and records the read in a lossy buffer, which is
+ * replayed on the eviction policy when the segment lock is next acquired. Small caches use a single segment, so their
+ * eviction order is exact. Entries with a maximum age are also kept in a timer wheel per segment, which is advanced
+ * whenever the segment lock is held, so that the expired entries are removed without scanning the segment.
+ * <p>
+ * The capacity is split evenly over the segments, and a segment evicts once its own share is full. Since the keys are
+ * spread over the segments by their hash, a segmented cache may start evicting before it holds as many entries as
+ * its capacity, but it never holds more.
+ *
+ * @since 2.0.0
+ */
+public class ConcurrentCache {
+
+    private static final int MIN_SEGMENT_CAPACITY = 64;
+    private static final int MAX_SEGMENTS = 64;
+
+    /**
+     * Returned by {@link #get(String)} when there is no entry for the key.
+     */
+    public static final Object MISSING = new Object();
+
+    /**
+     * Eviction policies of the cache.
+     */
+    public enum Eviction {
+        /**
+         * Evicts the given fraction of the least recently used entries once a segment is full.
+         */
+        LRU,
+        /**
+         * Admits entries to the main space of a segment based on their estimated access frequency.
+         */
+        W_TINY_LFU
+    }
+
+    private final CacheSegment[] segments;
+    private final int segmentMask;
+    private final int capacity;
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Creates a cache.
+     *
+     * @param capacity       maximum number of entries of the cache
+     * @param eviction       eviction policy of the cache
+     * @param evictionFactor fraction of the entries of a full segment, which is evicted at once by the LRU policy
+     */
+    public ConcurrentCache(int capacity, Eviction eviction, double evictionFactor) {
+        this.capacity = capacity;
+        int segmentCount = 1;
+        int maxSegments = Math.min(MAX_SEGMENTS, Runtime.getRuntime().availableProcessors() * 2);
+        while (segmentCount * 2 <= maxSegments && capacity / (segmentCount * 2) >= MIN_SEGMENT_CAPACITY) {
+            segmentCount <<= 1;
+        }
+        this.segments = new CacheSegment[segmentCount];
+        this.segmentMask = segmentCount - 1;
+        for (int i = 0; i < segmentCount; i++) {
+            int segmentCapacity = capacity / segmentCount + (i < capacity % segmentCount ? 1 : 0);
+            EvictionPolicy policy = eviction == Eviction.W_TINY_LFU ? new TinyLfuPolicy(segmentCapacity) :
+                    new LruPolicy(segmentCapacity, evictionFactor);
+            segments[i] = new CacheSegment(segmentCapacity, policy);
+        }
+    }
+
+    /**
+     * Returns the value of the key. An expired entry is removed.
+     *
+     * @param key key of the entry
+     * @return value of the entry, null if the entry has expired, or {@link #MISSING} if there is no entry
+     */
+    public Object get(String key) {
+        return segmentFor(key).get(key, System.nanoTime());
+    }
+
+    /**
+     * Adds the entry to the cache, replacing the existing value of the key.
+     *
+     * @param key             key of the entry
+     * @param value           value of the entry
+     * @param maxAgeInSeconds time in seconds for which the entry is valid, or -1 if the entry is valid forever
+     */
+    public void put(String key, Object value, long maxAgeInSeconds) {
+        long now = System.nanoTime();
+        long expTime = maxAgeInSeconds > 0 ? now + TimeUnit.SECONDS.toNanos(maxAgeInSeconds) : CacheNode.NO_EXPIRY;
+        segmentFor(key).put(key, value, expTime, sequence.getAndIncrement(), now);
+    }
+
+    /**
+     * Removes the entry of the key.
+     *
+     * @param key key of the entry
+     * @return true if there was an entry for the key
+     */
+    public boolean invalidate(String key) {
+        return segmentFor(key).invalidate(key);
+    }
+
+    /**
+     * Removes all the entries of the cache.
+     */
+    public void invalidateAll() {
+        for (CacheSegment segment : segments) {
+            segment.invalidateAll();
+        }
+    }
+
+    /**
+     * Removes the expired entries of the cache. The expired entries are found through the timer wheels of the
+     * segments, so the cost is proportional to the number of expired entries rather than to the size of the cache.
+     */
+    public void cleanUp() {
+        long now = System.nanoTime();
+        for (CacheSegment segment : segments) {
+            segment.removeExpired(now);
+        }
+    }
+
+    public boolean containsKey(String key) {
+        return segmentFor(key).containsKey(key);
+    }
+
+    /**
+     * Returns the keys of the cache in the order they were first added.
+     *
+     * @return keys of the cache
+     */
+    public String[] keys() {
+        List<CacheNode> nodes = new ArrayList<>(size());
+        for (CacheSegment segment : segments) {
+            segment.collectNodes(nodes);
+        }
+        nodes.sort(Comparator.comparingLong(node -> node.sequence));
+        String[] keys = new String[nodes.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = nodes.get(i).key;
+        }
+        return keys;
+    }
+
+    public int size() {
+        int size = 0;
+        for (CacheSegment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    int segmentCount() {
+        return segments.length;
+    }
+
+    private CacheSegment segmentFor(String key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        return segments[hash & segmentMask];
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.engine;
+
+import java.util.List;
+
+/**
+ * Orders the nodes of a cache segment for eviction. All the methods are called while holding the segment lock.
+ *
+ * @since 2.0.0
+ */
+interface EvictionPolicy {
+
+    /**
+     * Records that the node has been read or updated.
+     *
+     * @param node accessed node
+     */
+    void recordAccess(CacheNode node);
+
+    /**
+     * Adds a node, which has been newly inserted to the segment.
+     *
+     * @param node    inserted node
+     * @param evicted nodes which must be removed from the segment to keep it within its capacity. This may include
+     *                the inserted node if the policy does not admit it
+     */
+    void add(CacheNode node, List<CacheNode> evicted);
+
+    /**
+     * Removes a node, which has been invalidated or expired.
+     *
+     * @param node removed node
+     */
+    void remove(CacheNode node);
+
+    /**
+     * Removes all the nodes.
+     */
+    void clear();
+}
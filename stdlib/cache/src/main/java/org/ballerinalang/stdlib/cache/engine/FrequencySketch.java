@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.engine;
+
+/**
+ * Approximates the access frequency of the keys with a count-min sketch of 4-bit counters.
+ * <p>
+ * Each key is counted in four of the sixteen counters packed into a table slot. Once the number of recorded accesses
+ * reaches the sample size, all the counters are halved so that the sketch follows changes in the access pattern.
+ *
+ * @since 2.0.0
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+    private static final int MAX_FREQUENCY = 15;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int size;
+
+    FrequencySketch(int capacity) {
+        int tableSize = ceilingPowerOfTwo(Math.max(capacity, 8));
+        this.table = new long[tableSize];
+        this.tableMask = tableSize - 1;
+        this.sampleSize = 10 * Math.max(capacity, 8);
+    }
+
+    /**
+     * Returns the estimated number of accesses of the key, up to a maximum of 15.
+     *
+     * @param key key of the node
+     * @return estimated access frequency
+     */
+    int frequency(String key) {
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+        int frequency = MAX_FREQUENCY;
+        for (int i = 0; i < 4; i++) {
+            int index = indexOf(hash, i);
+            int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Records an access of the key.
+     *
+     * @param key key of the node
+     */
+    void increment(String key) {
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+        if (added && ++size == sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        int offset = counter << 2;
+        long mask = 0xfL << offset;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    private void reset() {
+        int odd = 0;
+        for (int i = 0; i < table.length; i++) {
+            odd += Long.bitCount(table[i] & ONE_MASK);
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size = (size >>> 1) - (odd >>> 2);
+    }
+
+    private int indexOf(int hash, int i) {
+        long index = (hash + SEEDS[i]) * SEEDS[i];
+        index += index >>> 32;
+        return ((int) index) & tableMask;
+    }
+
+    private static int spread(int hash) {
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        return (hash >>> 16) ^ hash;
+    }
+
+    private static int ceilingPowerOfTwo(int value) {
+        return 1 << -Integer.numberOfLeadingZeros(value - 1);
+    }
+}
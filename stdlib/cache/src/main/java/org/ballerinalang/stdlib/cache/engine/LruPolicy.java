@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.engine;
+
+import java.util.List;
+
+/**
+ * Least recently used eviction. Once the segment is full, the given fraction of the least recently used nodes are
+ * evicted before a new node is added.
+ *
+ * @since 2.0.0
+ */
+final class LruPolicy implements EvictionPolicy {
+
+    private final AccessOrderList list = new AccessOrderList();
+    private final int capacity;
+    private final int evictionCount;
+
+    LruPolicy(int capacity, double evictionFactor) {
+        this.capacity = capacity;
+        this.evictionCount = Math.max(1, (int) (capacity * evictionFactor));
+    }
+
+    @Override
+    public void recordAccess(CacheNode node) {
+        if (node.queue == CacheNode.QUEUE_WINDOW) {
+            list.moveToFront(node);
+        }
+    }
+
+    @Override
+    public void add(CacheNode node, List<CacheNode> evicted) {
+        if (list.size() >= capacity) {
+            for (int i = 0; i < evictionCount && !list.isEmpty(); i++) {
+                CacheNode victim = list.removeLast();
+                victim.queue = CacheNode.QUEUE_NONE;
+                evicted.add(victim);
+            }
+        }
+        node.queue = CacheNode.QUEUE_WINDOW;
+        list.addFirst(node);
+    }
+
+    @Override
+    public void remove(CacheNode node) {
+        if (node.queue == CacheNode.QUEUE_WINDOW) {
+            list.remove(node);
+            node.queue = CacheNode.QUEUE_NONE;
+        }
+    }
+
+    @Override
+    public void clear() {
+        list.clear();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.engine;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded buffer of the reads of a cache segment, which are replayed on the eviction policy in batches.
+ * <p>
+ * Recording a read neither blocks nor takes the segment lock. Reads are dropped when the buffer is full or when the
+ * recording thread loses a race with another reader, which only makes the eviction order slightly less precise. The
+ * buffer is drained by the thread holding the segment lock.
+ *
+ * @since 2.0.0
+ */
+final class ReadBuffer {
+
+    static final int SIZE = 16;
+    private static final int MASK = SIZE - 1;
+    private static final int DRAIN_THRESHOLD = SIZE / 2;
+
+    private final AtomicReferenceArray<CacheNode> buffer = new AtomicReferenceArray<>(SIZE);
+    private final AtomicLong writeCounter = new AtomicLong();
+    // Only advanced by the thread holding the segment lock.
+    private volatile long readCounter;
+
+    /**
+     * Records a read of the node.
+     *
+     * @param node node which has been read
+     * @return true if the buffer should be drained
+     */
+    boolean offer(CacheNode node) {
+        long head = readCounter;
+        long tail = writeCounter.get();
+        long pending = tail - head;
+        if (pending >= SIZE) {
+            return true;
+        }
+        if (writeCounter.compareAndSet(tail, tail + 1)) {
+            buffer.lazySet((int) (tail & MASK), node);
+            return pending + 1 >= DRAIN_THRESHOLD;
+        }
+        return false;
+    }
+
+    /**
+     * Replays the recorded reads on the eviction policy. Must be called while holding the segment lock.
+     *
+     * @param policy eviction policy of the segment
+     */
+    void drainTo(EvictionPolicy policy) {
+        long head = readCounter;
+        long tail = writeCounter.get();
+        while (head < tail) {
+            int index = (int) (head & MASK);
+            CacheNode node = buffer.get(index);
+            if (node == null) {
+                // The reader which claimed the slot has not published the node yet.
+                break;
+            }
+            buffer.lazySet(index, null);
+            policy.recordAccess(node);
+            head++;
+        }
+        readCounter = head;
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.engine;
+
+import java.util.function.Predicate;
+
+/**
+ * Hierarchical timer wheel, which orders the cache nodes of a segment by their expiry time.
+ * <p>
+ * A node is placed in a bucket of the coarsest wheel whose span covers its remaining time to live. As time advances,
+ * only the buckets which the clock has passed are visited: their nodes are either expired or cascaded down to a finer
+ * wheel. So the cost of expiring the entries is proportional to the number of entries which are due, rather than to
+ * the size of the cache. All the methods are called while holding the segment lock.
+ *
+ * @since 2.0.0
+ */
+final class TimerWheel {
+
+    // Number of buckets of each wheel and the time in nanoseconds covered by a bucket of the wheel, which are
+    // approximately 1.07 seconds, 1.14 minutes, 1.22 hours, 1.63 days and 6.5 days.
+    private static final int[] BUCKETS = {64, 64, 32, 4, 1};
+    private static final long[] SPANS = {
+            1L << 30, 1L << 36, 1L << 42, 1L << 47, 1L << 49, 1L << 49
+    };
+    private static final int[] SHIFTS = {30, 36, 42, 47, 49};
+
+    private final CacheNode[][] wheels = new CacheNode[BUCKETS.length][];
+    private long nanos;
+
+    TimerWheel(long now) {
+        this.nanos = now;
+        for (int i = 0; i < wheels.length; i++) {
+            wheels[i] = new CacheNode[BUCKETS[i]];
+            for (int j = 0; j < BUCKETS[i]; j++) {
+                wheels[i][j] = newSentinel();
+            }
+        }
+    }
+
+    /**
+     * Adds a node, which has an expiry time, to the wheel.
+     *
+     * @param node node to be expired
+     */
+    void schedule(CacheNode node) {
+        long duration = node.expTime - nanos;
+        int level = 0;
+        while (level < wheels.length - 1 && duration >= SPANS[level + 1]) {
+            level++;
+        }
+        CacheNode[] wheel = wheels[level];
+        CacheNode sentinel = wheel[(int) ((node.expTime >>> SHIFTS[level]) & (wheel.length - 1))];
+        link(sentinel, node);
+    }
+
+    /**
+     * Moves a node to the bucket of its current expiry time.
+     *
+     * @param node node of which the expiry time has been changed
+     */
+    void reschedule(CacheNode node) {
+        deschedule(node);
+        if (node.expTime != CacheNode.NO_EXPIRY) {
+            schedule(node);
+        }
+    }
+
+    /**
+     * Removes a node from the wheel, if it is scheduled.
+     *
+     * @param node node which is no longer in the cache
+     */
+    void deschedule(CacheNode node) {
+        if (node.timerNext != null) {
+            node.timerPrev.timerNext = node.timerNext;
+            node.timerNext.timerPrev = node.timerPrev;
+            node.timerNext = null;
+            node.timerPrev = null;
+        }
+    }
+
+    /**
+     * Advances the clock of the wheel and expires the nodes which are due.
+     *
+     * @param now    current time in nanoseconds
+     * @param expiry removes an expired node from the cache, or returns false if the node should be kept
+     */
+    void advance(long now, Predicate<CacheNode> expiry) {
+        long previous = nanos;
+        if (now - previous <= 0) {
+            return;
+        }
+        nanos = now;
+        for (int level = 0; level < wheels.length; level++) {
+            long previousTicks = previous >>> SHIFTS[level];
+            long currentTicks = now >>> SHIFTS[level];
+            if (currentTicks - previousTicks <= 0) {
+                break;
+            }
+            expire(level, previousTicks, currentTicks - previousTicks, expiry);
+        }
+    }
+
+    /**
+     * Removes all the nodes from the wheel.
+     */
+    void clear() {
+        for (CacheNode[] wheel : wheels) {
+            for (CacheNode sentinel : wheel) {
+                CacheNode node = sentinel.timerNext;
+                while (node != sentinel) {
+                    CacheNode next = node.timerNext;
+                    node.timerPrev = null;
+                    node.timerNext = null;
+                    node = next;
+                }
+                sentinel.timerPrev = sentinel;
+                sentinel.timerNext = sentinel;
+            }
+        }
+    }
+
+    private void expire(int level, long previousTicks, long delta, Predicate<CacheNode> expiry) {
+        CacheNode[] wheel = wheels[level];
+        int mask = wheel.length - 1;
+        int steps = (int) Math.min(delta + 1, wheel.length);
+        int start = (int) (previousTicks & mask);
+        for (int i = start; i < start + steps; i++) {
+            CacheNode sentinel = wheel[i & mask];
+            CacheNode node = sentinel.timerNext;
+            sentinel.timerPrev = sentinel;
+            sentinel.timerNext = sentinel;
+            while (node != sentinel) {
+                CacheNode next = node.timerNext;
+                node.timerPrev = null;
+                node.timerNext = null;
+                if (node.expTime - nanos > 0 || !expiry.test(node)) {
+                    schedule(node);
+                }
+                node = next;
+            }
+        }
+    }
+
+    private static void link(CacheNode sentinel, CacheNode node) {
+        node.timerPrev = sentinel.timerPrev;
+        node.timerNext = sentinel;
+        sentinel.timerPrev.timerNext = node;
+        sentinel.timerPrev = node;
+    }
+
+    private static CacheNode newSentinel() {
+        CacheNode sentinel = new CacheNode(null, null, CacheNode.NO_EXPIRY, -1);
+        sentinel.timerPrev = sentinel;
+        sentinel.timerNext = sentinel;
+        return sentinel;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.engine;
+
+import java.util.List;
+
+/**
+ * Window TinyLFU eviction.
+ * <p>
+ * New nodes enter a small LRU window. Nodes leaving the window compete with the least recently used node of the main
+ * space, and the one with the lower estimated access frequency is evicted. The main space is a segmented LRU, where a
+ * node is promoted from the probation queue to the protected queue when it is accessed again.
+ *
+ * @since 2.0.0
+ */
+final class TinyLfuPolicy implements EvictionPolicy {
+
+    private static final double WINDOW_RATIO = 0.01;
+    private static final double PROTECTED_RATIO = 0.8;
+
+    private final FrequencySketch sketch;
+    private final AccessOrderList window = new AccessOrderList();
+    private final AccessOrderList probation = new AccessOrderList();
+    private final AccessOrderList protectedQueue = new AccessOrderList();
+    private final int maxWindow;
+    private final int maxMain;
+    private final int maxProtected;
+
+    TinyLfuPolicy(int capacity) {
+        this.sketch = new FrequencySketch(capacity);
+        this.maxWindow = Math.max(1, (int) (capacity * WINDOW_RATIO));
+        this.maxMain = capacity - maxWindow;
+        this.maxProtected = (int) (maxMain * PROTECTED_RATIO);
+    }
+
+    @Override
+    public void recordAccess(CacheNode node) {
+        if (node.queue == CacheNode.QUEUE_NONE) {
+            return;
+        }
+        sketch.increment(node.key);
+        switch (node.queue) {
+            case CacheNode.QUEUE_WINDOW:
+                window.moveToFront(node);
+                break;
+            case CacheNode.QUEUE_PROBATION:
+                probation.remove(node);
+                node.queue = CacheNode.QUEUE_PROTECTED;
+                protectedQueue.addFirst(node);
+                demoteProtected();
+                break;
+            default:
+                protectedQueue.moveToFront(node);
+                break;
+        }
+    }
+
+    @Override
+    public void add(CacheNode node, List<CacheNode> evicted) {
+        sketch.increment(node.key);
+        node.queue = CacheNode.QUEUE_WINDOW;
+        window.addFirst(node);
+        while (window.size() > maxWindow) {
+            CacheNode candidate = window.removeLast();
+            if (probation.size() + protectedQueue.size() < maxMain) {
+                candidate.queue = CacheNode.QUEUE_PROBATION;
+                probation.addFirst(candidate);
+                continue;
+            }
+            CacheNode victim = probation.isEmpty() ? protectedQueue.peekLast() : probation.peekLast();
+            if (victim != null && sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                remove(victim);
+                evicted.add(victim);
+                candidate.queue = CacheNode.QUEUE_PROBATION;
+                probation.addFirst(candidate);
+            } else {
+                candidate.queue = CacheNode.QUEUE_NONE;
+                evicted.add(candidate);
+            }
+        }
+    }
+
+    @Override
+    public void remove(CacheNode node) {
+        switch (node.queue) {
+            case CacheNode.QUEUE_WINDOW:
+                window.remove(node);
+                break;
+            case CacheNode.QUEUE_PROBATION:
+                probation.remove(node);
+                break;
+            case CacheNode.QUEUE_PROTECTED:
+                protectedQueue.remove(node);
+                break;
+            default:
+                return;
+        }
+        node.queue = CacheNode.QUEUE_NONE;
+    }
+
+    @Override
+    public void clear() {
+        window.clear();
+        probation.clear();
+        protectedQueue.clear();
+    }
+
+    private void demoteProtected() {
+        while (protectedQueue.size() > maxProtected) {
+            CacheNode node = protectedQueue.removeLast();
+            node.queue = CacheNode.QUEUE_PROBATION;
+            probation.addFirst(node);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import org.ballerinalang.jvm.BallerinaErrors;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.stdlib.cache.engine.ConcurrentCache;
+
+/**
+ * Extern methods used in Ballerina Cache library to access the native cache engine.
+ *
+ * @since 2.0.0
+ */
+public class ExternMethods {
+
+    private static final String CACHE_ERROR = "{ballerina/cache}Error";
+    private static final String CACHE_ENGINE = "CACHE_ENGINE";
+
+    private ExternMethods() {}
+
+    public static void init(ObjectValue cache, long capacity, String evictionPolicy, double evictionFactor) {
+        ConcurrentCache engine = new ConcurrentCache((int) capacity, ConcurrentCache.Eviction.valueOf(evictionPolicy),
+                                                     evictionFactor);
+        cache.addNativeData(CACHE_ENGINE, engine);
+    }
+
+    public static void put(ObjectValue cache, String key, Object value, long maxAgeInSeconds) {
+        getEngine(cache).put(key, value, maxAgeInSeconds);
+    }
+
+    public static Object get(ObjectValue cache, String key) {
+        Object value = getEngine(cache).get(key);
+        if (value == ConcurrentCache.MISSING) {
+            return createEntryNotAvailableError(key);
+        }
+        // An expired entry is removed and `()` is returned.
+        return value;
+    }
+
+    public static Object invalidate(ObjectValue cache, String key) {
+        if (!getEngine(cache).invalidate(key)) {
+            return createEntryNotAvailableError(key);
+        }
+        return null;
+    }
+
+    public static void invalidateAll(ObjectValue cache) {
+        getEngine(cache).invalidateAll();
+    }
+
+    public static void cleanUp(ObjectValue cache) {
+        getEngine(cache).cleanUp();
+    }
+
+    public static boolean hasKey(ObjectValue cache, String key) {
+        return getEngine(cache).containsKey(key);
+    }
+
+    public static ArrayValue keys(ObjectValue cache) {
+        return new ArrayValueImpl(getEngine(cache).keys());
+    }
+
+    public static long size(ObjectValue cache) {
+        return getEngine(cache).size();
+    }
+
+    private static ConcurrentCache getEngine(ObjectValue cache) {
+        return (ConcurrentCache) cache.getNativeData(CACHE_ENGINE);
+    }
+
+    private static Object createEntryNotAvailableError(String key) {
+        return BallerinaErrors.createError(CACHE_ERROR, "Cache entry from the given key: " + key +
+                ", is not available.");
+    }
+}
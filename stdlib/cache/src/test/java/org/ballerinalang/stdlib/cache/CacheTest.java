@@ -226,6 +226,27 @@ public class CacheTest {
         Assert.assertEquals(((BInteger) returns[1]).intValue(), expected.length);
     }
 
+    @Test
+    public void testCacheEvictionWithCustomEvictionPolicy() {
+        BValue[] args = new BValue[0];
+        BValue[] returns = BRunUtil.invoke(compileResult, "testCacheEvictionWithCustomEvictionPolicy", args);
+        Assert.assertTrue(returns[0] instanceof BValueArray);
+        Assert.assertTrue(returns[1] instanceof BInteger);
+        String[] expected = new String[]{"A", "D", "E", "F", "G", "H", "I", "J", "K"};
+        String[] actual = removeEmptyValues(((BValueArray) returns[0]).getStringArray());
+        Assert.assertTrue(Arrays.equals(actual, expected));
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), expected.length);
+    }
+
+    @Test
+    public void testCacheEvictionWithTinyLfu() {
+        BValue[] args = new BValue[0];
+        BValue[] returns = BRunUtil.invoke(compileResult, "testCacheEvictionWithTinyLfu", args);
+        Assert.assertTrue(returns[0] instanceof BBoolean);
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 10);
+    }
+
     @Test(enabled = false)
     public void testCacheEvictionWithTimer1() {
         BValue[] args = new BValue[0];
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.engine;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class for the native cache engine.
+ */
+public class ConcurrentCacheTest {
+
+    @Test
+    public void testLruEvictsLeastRecentlyUsedEntries() {
+        ConcurrentCache cache = new ConcurrentCache(10, ConcurrentCache.Eviction.LRU, 0.2);
+        for (int i = 0; i < 10; i++) {
+            cache.put("key" + i, i, -1);
+        }
+        // Reads are buffered and applied to the eviction order before the next write.
+        Assert.assertEquals(cache.get("key0"), 0);
+        cache.put("key10", 10, -1);
+        Assert.assertEquals(cache.size(), 9);
+        Assert.assertTrue(cache.containsKey("key0"));
+        Assert.assertFalse(cache.containsKey("key1"));
+        Assert.assertFalse(cache.containsKey("key2"));
+        Assert.assertTrue(cache.containsKey("key10"));
+    }
+
+    @Test
+    public void testReplaceKeepsInsertionOrderOfKeys() {
+        ConcurrentCache cache = new ConcurrentCache(10, ConcurrentCache.Eviction.LRU, 0.2);
+        cache.put("A", "1", -1);
+        cache.put("B", "2", -1);
+        cache.put("A", "3", -1);
+        Assert.assertEquals(cache.keys(), new String[]{"A", "B"});
+        Assert.assertEquals(cache.get("A"), "3");
+        Assert.assertEquals(cache.size(), 2);
+    }
+
+    @Test
+    public void testInvalidate() {
+        ConcurrentCache cache = new ConcurrentCache(10, ConcurrentCache.Eviction.W_TINY_LFU, 0.2);
+        cache.put("A", "1", -1);
+        cache.put("B", "2", -1);
+        Assert.assertTrue(cache.invalidate("A"));
+        Assert.assertFalse(cache.invalidate("A"));
+        Assert.assertSame(cache.get("A"), ConcurrentCache.MISSING);
+        cache.invalidateAll();
+        Assert.assertEquals(cache.size(), 0);
+        Assert.assertEquals(cache.keys().length, 0);
+    }
+
+    @Test
+    public void testExpiredEntriesAreRemoved() throws InterruptedException {
+        ConcurrentCache cache = new ConcurrentCache(100000, ConcurrentCache.Eviction.LRU, 0.2);
+        for (int i = 0; i < 5000; i++) {
+            cache.put("expiring" + i, i, 1);
+            cache.put("forever" + i, i, -1);
+        }
+        cache.put("A", "1", 1);
+        // The timer wheels expire the entries with a granularity of about a second.
+        Thread.sleep(2200);
+        Assert.assertNull(cache.get("A"));
+        Assert.assertFalse(cache.containsKey("A"));
+        cache.cleanUp();
+        Assert.assertEquals(cache.size(), 5000);
+        Assert.assertFalse(cache.containsKey("expiring0"));
+        Assert.assertEquals(cache.get("forever0"), 0);
+    }
+
+    @Test
+    public void testMissingAndExpiredEntriesAreDistinguished() throws InterruptedException {
+        ConcurrentCache cache = new ConcurrentCache(10, ConcurrentCache.Eviction.LRU, 0.2);
+        cache.put("nil", null, -1);
+        cache.put("expiring", "1", 1);
+        Assert.assertSame(cache.get("missing"), ConcurrentCache.MISSING);
+        Assert.assertNull(cache.get("nil"));
+        Thread.sleep(1100);
+        // The entry is expired but not yet removed, since there was no write in between.
+        Assert.assertNull(cache.get("expiring"));
+        Assert.assertSame(cache.get("expiring"), ConcurrentCache.MISSING);
+    }
+
+    @Test
+    public void testSmallCacheEvictsOnlyWhenFull() {
+        ConcurrentCache cache = new ConcurrentCache(127, ConcurrentCache.Eviction.LRU, 0.25);
+        Assert.assertEquals(cache.segmentCount(), 1);
+        for (int i = 0; i < 127; i++) {
+            cache.put("key" + i, i, -1);
+        }
+        Assert.assertEquals(cache.size(), 127);
+        cache.put("key127", 127, -1);
+        Assert.assertTrue(cache.size() < 127);
+    }
+
+    @Test
+    public void testSegmentsEvictWithinTheirShareOfTheCapacity() {
+        int capacity = 1024;
+        ConcurrentCache cache = new ConcurrentCache(capacity, ConcurrentCache.Eviction.W_TINY_LFU, 0.25);
+        Assert.assertTrue(cache.segmentCount() > 1);
+        int size;
+        int i = 0;
+        // A segment evicts once its share of the capacity is full, which may happen before the cache is full.
+        do {
+            size = cache.size();
+            cache.put("key" + i, i, -1);
+            i++;
+        } while (cache.size() > size);
+        Assert.assertTrue(size <= capacity, "The cache holds " + size + " entries");
+        // Once all the segments are full, the cache holds as many entries as its capacity.
+        for (int j = 0; j < capacity * 4; j++) {
+            cache.put("other" + j, j, -1);
+            Assert.assertTrue(cache.size() <= capacity);
+        }
+        Assert.assertEquals(cache.size(), capacity);
+    }
+
+    @Test
+    public void testTinyLfuRetainsFrequentlyUsedEntries() {
+        ConcurrentCache cache = new ConcurrentCache(100, ConcurrentCache.Eviction.W_TINY_LFU, 0.25);
+        for (int i = 0; i < 100; i++) {
+            cache.put("hot" + i, i, -1);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 100; i++) {
+                Assert.assertEquals(cache.get("hot" + i), i);
+            }
+        }
+        // A scan of keys, which are used only once, should not flush the frequently used keys.
+        for (int i = 0; i < 1000; i++) {
+            cache.put("cold" + i, i, -1);
+        }
+        int retained = 0;
+        for (int i = 0; i < 100; i++) {
+            if (cache.containsKey("hot" + i)) {
+                retained++;
+            }
+        }
+        Assert.assertTrue(retained >= 90, "Only " + retained + " frequently used entries are retained");
+        Assert.assertTrue(cache.size() <= 100);
+    }
+
+    @Test
+    public void testLruIsFlushedByScan() {
+        ConcurrentCache cache = new ConcurrentCache(100, ConcurrentCache.Eviction.LRU, 0.25);
+        for (int i = 0; i < 100; i++) {
+            cache.put("hot" + i, i, -1);
+            cache.get("hot" + i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            cache.put("cold" + i, i, -1);
+        }
+        for (int i = 0; i < 100; i++) {
+            Assert.assertFalse(cache.containsKey("hot" + i));
+        }
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        int capacity = 4096;
+        ConcurrentCache cache = new ConcurrentCache(capacity, ConcurrentCache.Eviction.W_TINY_LFU, 0.25);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 100000; i++) {
+                        String key = "key" + random.nextInt(capacity * 2);
+                        Object value = cache.get(key);
+                        if (value == ConcurrentCache.MISSING) {
+                            cache.put(key, key, -1);
+                        } else {
+                            Assert.assertEquals(value, key);
+                        }
+                        if (i % 1000 == 0) {
+                            cache.invalidate(key);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertTrue(cache.size() <= capacity);
+        Assert.assertEquals(cache.keys().length, cache.size());
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.engine;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class for the timer wheel of the native cache engine.
+ */
+public class TimerWheelTest {
+
+    private static final long START = 1000L;
+
+    @Test
+    public void testNodesExpireWhenDue() {
+        long[] durations = {
+                TimeUnit.MILLISECONDS.toNanos(500), TimeUnit.SECONDS.toNanos(3), TimeUnit.MINUTES.toNanos(2),
+                TimeUnit.HOURS.toNanos(3), TimeUnit.DAYS.toNanos(2), TimeUnit.DAYS.toNanos(10)
+        };
+        TimerWheel timerWheel = new TimerWheel(START);
+        List<CacheNode> nodes = new ArrayList<>();
+        for (int i = 0; i < durations.length; i++) {
+            CacheNode node = new CacheNode("key" + i, i, START + durations[i], i);
+            timerWheel.schedule(node);
+            nodes.add(node);
+        }
+        List<CacheNode> expired = new ArrayList<>();
+        long tick = TimeUnit.MILLISECONDS.toNanos(100);
+        long end = START + TimeUnit.DAYS.toNanos(11);
+        for (long now = START; now < end; now += now < START + TimeUnit.MINUTES.toNanos(5) ? tick : 1000 * tick) {
+            long time = now;
+            timerWheel.advance(now, node -> {
+                // A node is never expired early, and is expired within a couple of ticks of the wheel.
+                Assert.assertTrue(node.expTime <= time, node.key + " expired early");
+                Assert.assertTrue(time - node.expTime < TimeUnit.SECONDS.toNanos(3) + 1000 * tick,
+                                  node.key + " expired late");
+                expired.add(node);
+                return true;
+            });
+        }
+        Assert.assertEquals(expired, nodes);
+    }
+
+    @Test
+    public void testDescheduledNodesDoNotExpire() {
+        TimerWheel timerWheel = new TimerWheel(START);
+        CacheNode removed = new CacheNode("removed", 1, START + TimeUnit.SECONDS.toNanos(1), 0);
+        CacheNode updated = new CacheNode("updated", 2, START + TimeUnit.SECONDS.toNanos(1), 1);
+        timerWheel.schedule(removed);
+        timerWheel.schedule(updated);
+        timerWheel.deschedule(removed);
+        updated.expTime = START + TimeUnit.MINUTES.toNanos(10);
+        timerWheel.reschedule(updated);
+
+        List<CacheNode> expired = new ArrayList<>();
+        timerWheel.advance(START + TimeUnit.SECONDS.toNanos(5), node -> expired.add(node));
+        Assert.assertTrue(expired.isEmpty());
+        timerWheel.advance(START + TimeUnit.MINUTES.toNanos(12), node -> expired.add(node));
+        Assert.assertEquals(expired.size(), 1);
+        Assert.assertSame(expired.get(0), updated);
+    }
+}
@@ -204,6 +204,52 @@ function testCacheEvictionWithCapacity2() returns [string[], int] {
     return [cache.keys(), cache.size()];
 }
 
+function testCacheEvictionWithCustomEvictionPolicy() returns [string[], int] {
+    cache:CacheConfig config = {
+        capacity: 10,
+        evictionPolicy: new cache:LruEvictionPolicy(),
+        evictionFactor: 0.2
+    };
+    cache:Cache cache = new(config);
+    checkpanic cache.put("A", "1");
+    checkpanic cache.put("B", "2");
+    checkpanic cache.put("C", "3");
+    checkpanic cache.put("D", "4");
+    checkpanic cache.put("E", "5");
+    checkpanic cache.put("F", "6");
+    checkpanic cache.put("G", "7");
+    checkpanic cache.put("H", "8");
+    checkpanic cache.put("I", "9");
+    checkpanic cache.put("J", "10");
+    any|cache:Error x = cache.get("A");
+    checkpanic cache.put("K", "11");
+    return [cache.keys(), cache.size()];
+}
+
+function testCacheEvictionWithTinyLfu() returns [boolean, int] {
+    cache:CacheConfig config = {
+        capacity: 10,
+        evictionPolicy: cache:W_TINY_LFU
+    };
+    cache:Cache cache = new(config);
+    int i = 0;
+    while (i < 10) {
+        checkpanic cache.put(i.toString(), i);
+        i = i + 1;
+    }
+    i = 0;
+    while (i < 3) {
+        any|cache:Error x = cache.get("0");
+        i = i + 1;
+    }
+    // Entries which are used only once should not replace the frequently used entry.
+    while (i < 20) {
+        checkpanic cache.put("once-" + i.toString(), i);
+        i = i + 1;
+    }
+    return [cache.hasKey("0"), cache.size()];
+}
+
 function testCacheEvictionWithTimer1() returns [string[], int] {
     int cleanupIntervalInSeconds = 2;
     cache:CacheConfig config = {
@@ -50,8 +50,10 @@ public type Client client object {
     #              params to be passed in
     # + rowType - The `typedesc` of the record that should be returned as a result. If this is not provided the default
     #             column names of the query result set be used for the record attributes
+    # + options - The `sql:QueryOptions` which control how the rows are fetched from the database
     # + return - Stream of records in the type of `rowType`
-    public remote function query(@untainted string|sql:ParameterizedString sqlQuery, typedesc<record {}>? rowType = ())
+    public remote function query(@untainted string|sql:ParameterizedString sqlQuery, typedesc<record {}>? rowType = (),
+                                 sql:QueryOptions options = {})
     returns @tainted stream<record{}, sql:Error> {
         if (self.clientActive) {
             sql:ParameterizedString sqlParamString;
@@ -63,7 +65,7 @@ public type Client client object {
             } else {
                 sqlParamString = sqlQuery;
             }
-            return nativeQuery(self, sqlParamString, rowType);
+            return nativeQuery(self, sqlParamString, rowType, options);
         } else {
             return sql:generateApplicationErrorStream("JDBC Client is already closed, hence "
                 + "further operations are not allowed");
@@ -94,6 +96,23 @@ public type Client client object {
         }
     }
 
+    # Executes a batch of parameterized DDL or DML sql queries provided by the user, and returns the summary of the
+    # execution. The queries are sent to the database in a single batch.
+    #
+    # + sqlQueries - The DDL or DML queries such as INSERT, DELETE, UPDATE, etc as `ParameterizedString` with the
+    #                same sql text and different params
+    # + return - Summary of each executed sql query as `ExecuteResult[]` in the order of the given queries, or
+    #            returns `Error` if any error occured when executing the queries
+    public remote function batchExecute(@untainted sql:ParameterizedString[] sqlQueries)
+    returns sql:ExecuteResult[]|sql:Error {
+        if (self.clientActive) {
+            return nativeBatchExecute(self, sqlQueries);
+        } else {
+            return sql:ApplicationError( message = "JDBC Client is already closed,"
+                + " hence further operations are not allowed");
+        }
+    }
+
     # Close the JDBC client.
     #
     # + return - Possible error during closing the client
@@ -131,7 +150,8 @@ function createClient(Client jdbcClient, ClientConfiguration clientConf,
     class: "org.ballerinalang.jdbc.NativeImpl"
 } external;
 
-function nativeQuery(Client sqlClient, sql:ParameterizedString sqlQuery, typedesc<record {}>? rowtype)
+function nativeQuery(Client sqlClient, sql:ParameterizedString sqlQuery, typedesc<record {}>? rowtype,
+    sql:QueryOptions options)
 returns stream<record{}, sql:Error> = @java:Method {
     class: "org.ballerinalang.sql.utils.QueryUtils"
 } external;
@@ -141,6 +161,11 @@ returns sql:ExecuteResult|sql:Error? = @java:Method {
     class: "org.ballerinalang.sql.utils.ExecuteUtils"
 } external;
 
+function nativeBatchExecute(Client sqlClient, sql:ParameterizedString[] sqlQueries)
+returns sql:ExecuteResult[]|sql:Error = @java:Method {
+    class: "org.ballerinalang.sql.utils.ExecuteUtils"
+} external;
+
 function close(Client jdbcClient) returns sql:Error? = @java:Method {
     class: "org.ballerinalang.jdbc.NativeImpl"
 } external;
@@ -26,8 +26,10 @@ public type Client abstract client object {
     #              params to be passed in
     # + rowType - The `typedesc` of the record that should be returned as a result. If this is not provided the default
     #             column names of the query result set be used for the record attributes
+    # + options - The `QueryOptions` which control how the rows are fetched from the database
     # + return - Stream of records in the type of `rowType`
-    public remote function query(@untainted string|ParameterizedString sqlQuery, typedesc<record {}>? rowType = ())
+    public remote function query(@untainted string|ParameterizedString sqlQuery, typedesc<record {}>? rowType = (),
+                                 QueryOptions options = {})
     returns @tainted stream<record{}, Error>;
 
     # Executes the DDL or DML sql queries provided by the user, and returns summary of the execution.
@@ -38,6 +40,15 @@ public type Client abstract client object {
     #           if any error occured when executing the query
     public remote function execute(@untainted string|ParameterizedString sqlQuery) returns ExecuteResult|Error?;
 
+    # Executes a batch of parameterized DDL or DML sql queries provided by the user, and returns the summary of the
+    # execution. The queries are sent to the database in a single batch.
+    #
+    # + sqlQueries - The DDL or DML queries such as INSERT, DELETE, UPDATE, etc as `ParameterizedString` with the
+    #                same sql text and different params
+    # + return - Summary of each executed sql query as `ExecuteResult[]` in the order of the given queries, or
+    #            returns `Error` if any error occured when executing the queries
+    public remote function batchExecute(@untainted ParameterizedString[] sqlQueries) returns ExecuteResult[]|Error;
+
     # Close the SQL client.
     #
     # + return - Possible error during closing the client
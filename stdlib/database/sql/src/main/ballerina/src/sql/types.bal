@@ -119,6 +119,18 @@ public type ExecuteResult record {
     string|int? lastInsertId;
 };
 
+# Options which control how the rows of a query result are fetched from the database.
+#
+# + fetchSize - Number of rows that should be fetched from the database when more rows are needed. The rows are
+#               also converted to records in batches of this size. If this is `0` the database driver decides
+#               the number of rows to be fetched
+# + forwardOnly - If `true`, the result can only be iterated forward, which lets the database driver stream the rows
+#                 instead of keeping the whole result in memory
+public type QueryOptions record {|
+    int fetchSize = 0;
+    boolean forwardOnly = true;
+|};
+
 # The result iterator object that is used to iterate through the results in the event stream.
 #
 type ResultIterator object {
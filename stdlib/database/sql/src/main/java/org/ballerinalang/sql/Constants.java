@@ -45,8 +45,7 @@ public final class Constants {
     public static final String RESULT_SET_NATIVE_DATA_FIELD = "ResultSet";
     public static final String CONNECTION_NATIVE_DATA_FIELD = "Connection";
     public static final String STATEMENT_NATIVE_DATA_FIELD = "Statement";
-    public static final String COLUMN_DEFINITIONS_DATA_FIELD = "ColumnDefinition";
-    public static final String RECORD_TYPE_DATA_FIELD = "recordType";
+    public static final String RECORD_MATERIALIZER_DATA_FIELD = "RecordMaterializer";
 
     public static final String TIMEZONE_UTC = "UTC";
 
@@ -66,6 +65,14 @@ public final class Constants {
         public static final String MIN_IDLE_CONNECTIONS = "minIdleConnections";
     }
 
+    /**
+     * Constants related to query options.
+     */
+    public static final class QueryOptions {
+        public static final String FETCH_SIZE = "fetchSize";
+        public static final String FORWARD_ONLY = "forwardOnly";
+    }
+
     /**
      * Constants related to database options.
      */
@@ -18,6 +18,10 @@
 package org.ballerinalang.sql.utils;
 
 import org.ballerinalang.jvm.BallerinaValues;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
 import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.sql.Constants;
@@ -32,8 +36,10 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
@@ -85,6 +91,74 @@ public class ExecuteUtils {
         }
     }
 
+    public static Object nativeBatchExecute(ObjectValue client, ArrayValue paramSQLStrings) {
+        Object dbClient = client.getNativeData(Constants.DATABASE_CLIENT);
+        if (dbClient != null) {
+            SQLDatasource sqlDatasource = (SQLDatasource) dbClient;
+            Connection connection = null;
+            PreparedStatement statement = null;
+            ResultSet resultSet = null;
+            String sqlQuery = null;
+            try {
+                int paramSQLStringsCount = paramSQLStrings.size();
+                if (paramSQLStringsCount == 0) {
+                    throw new ApplicationError("Parameter array is empty");
+                }
+                List<MapValue<String, Object>> parameters = new ArrayList<>(paramSQLStringsCount);
+                for (int i = 0; i < paramSQLStringsCount; i++) {
+                    MapValue<String, Object> paramSQLString =
+                            (MapValue<String, Object>) paramSQLStrings.getRefValue(i);
+                    String paramSQLQuery = Utils.getSqlQuery(paramSQLString);
+                    if (sqlQuery == null) {
+                        sqlQuery = paramSQLQuery;
+                    } else if (!sqlQuery.equals(paramSQLQuery)) {
+                        throw new ApplicationError("Batch execute cannot execute different queries. " +
+                                "Expected: " + sqlQuery + ", found: " + paramSQLQuery);
+                    }
+                    parameters.add(paramSQLString);
+                }
+                connection = sqlDatasource.getSQLConnection();
+                statement = connection.prepareStatement(sqlQuery, Statement.RETURN_GENERATED_KEYS);
+                for (MapValue<String, Object> param : parameters) {
+                    Utils.setParams(connection, statement, param);
+                    statement.addBatch();
+                }
+                int[] counts = statement.executeBatch();
+                boolean ddlStatement = isDdlStatement(sqlQuery);
+                if (!ddlStatement) {
+                    resultSet = statement.getGeneratedKeys();
+                }
+                Object[] executeResults = new Object[counts.length];
+                for (int i = 0; i < counts.length; i++) {
+                    Object lastInsertedId = null;
+                    if (resultSet != null && resultSet.next()) {
+                        lastInsertedId = getGeneratedKeys(resultSet);
+                    }
+                    Map<String, Object> resultFields = new HashMap<>();
+                    resultFields.put(Constants.AFFECTED_ROW_COUNT_FIELD,
+                            counts[i] == Statement.SUCCESS_NO_INFO ? null : counts[i]);
+                    resultFields.put(Constants.LAST_INSERTED_ID_FIELD, lastInsertedId);
+                    executeResults[i] = BallerinaValues.createRecordValue(Constants.SQL_PACKAGE_ID,
+                            Constants.EXCUTE_RESULT_RECORD, resultFields);
+                }
+                BType executeResultType = BallerinaValues.createRecordValue(Constants.SQL_PACKAGE_ID,
+                        Constants.EXCUTE_RESULT_RECORD).getType();
+                return new ArrayValueImpl(executeResults, new BArrayType(executeResultType));
+            } catch (SQLException e) {
+                return ErrorGenerator.getSQLDatabaseError(e,
+                        "Error while executing batch command starting with: '" + sqlQuery + "'. ");
+            } catch (ApplicationError | IOException e) {
+                return ErrorGenerator.getSQLApplicationError("Error while executing batch command starting with: '"
+                        + sqlQuery + "'. " + e.getMessage());
+            } finally {
+                Utils.closeResources(resultSet, statement, connection);
+            }
+        } else {
+            return ErrorGenerator.getSQLApplicationError(
+                    "Client is not properly initialized!");
+        }
+    }
+
     private static Object getGeneratedKeys(ResultSet rs) throws SQLException {
         ResultSetMetaData metaData = rs.getMetaData();
         int columnCount = metaData.getColumnCount();
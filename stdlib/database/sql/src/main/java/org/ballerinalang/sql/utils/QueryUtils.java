@@ -60,7 +60,7 @@ import java.util.Set;
 public class QueryUtils {
 
     public static StreamValue nativeQuery(ObjectValue client, MapValue<String, Object> paramSQLString,
-                                          Object recordType) {
+                                          Object recordType, MapValue<String, Object> options) {
         Object dbClient = client.getNativeData(Constants.DATABASE_CLIENT);
         if (dbClient != null) {
             SQLDatasource sqlDatasource = (SQLDatasource) dbClient;
@@ -71,7 +71,7 @@ public class QueryUtils {
             try {
                 sqlQuery = Utils.getSqlQuery(paramSQLString);
                 connection = sqlDatasource.getSQLConnection();
-                statement = connection.prepareStatement(sqlQuery);
+                statement = prepareStatement(connection, sqlQuery, options);
                 Utils.setParams(connection, statement, paramSQLString);
                 resultSet = statement.executeQuery();
                 List<ColumnDefinition> columnDefinitions;
@@ -96,8 +96,10 @@ public class QueryUtils {
                     streamConstraint = (BStructureType) ((TypedescValue) recordType).getDescribingType();
                     columnDefinitions = getColumnDefinitions(resultSet, streamConstraint);
                 }
+                RecordMaterializer materializer = new RecordMaterializer(resultSet, columnDefinitions,
+                        streamConstraint, statement.getFetchSize());
                 return new StreamValue(new BStreamType(streamConstraint), createRecordIterator(resultSet,
-                        statement, connection, columnDefinitions, streamConstraint));
+                        statement, connection, materializer));
             } catch (SQLException e) {
                 Utils.closeResources(resultSet, statement, connection);
                 ErrorValue errorValue = ErrorGenerator.getSQLDatabaseError(e,
@@ -124,6 +126,24 @@ public class QueryUtils {
         }
     }
 
+    private static PreparedStatement prepareStatement(Connection connection, String sqlQuery,
+                                                      MapValue<String, Object> options)
+            throws SQLException, ApplicationError {
+        int resultSetType = options.getBooleanValue(Constants.QueryOptions.FORWARD_ONLY) ?
+                ResultSet.TYPE_FORWARD_ONLY : ResultSet.TYPE_SCROLL_INSENSITIVE;
+        PreparedStatement statement = connection.prepareStatement(sqlQuery, resultSetType,
+                ResultSet.CONCUR_READ_ONLY);
+        long fetchSize = options.getIntValue(Constants.QueryOptions.FETCH_SIZE);
+        if (fetchSize < 0 || fetchSize > Integer.MAX_VALUE) {
+            statement.close();
+            throw new ApplicationError("Invalid fetch size " + fetchSize + ", it should be a non negative integer");
+        }
+        if (fetchSize > 0) {
+            statement.setFetchSize((int) fetchSize);
+        }
+        return statement;
+    }
+
     private static StreamValue getErrorStream(Object recordType, ErrorValue errorValue) {
         if (recordType == null) {
             return new StreamValue(new BStreamType(getDefaultStreamConstraint()), createRecordIterator(errorValue));
@@ -196,15 +216,13 @@ public class QueryUtils {
 
     private static ObjectValue createRecordIterator(ResultSet resultSet,
                                                     Statement statement,
-                                                    Connection connection, List<ColumnDefinition> columnDefinitions,
-                                                    BStructureType streamConstraint) {
+                                                    Connection connection, RecordMaterializer materializer) {
         ObjectValue resultIterator = BallerinaValues.createObjectValue(Constants.SQL_PACKAGE_ID,
                 Constants.RESULT_ITERATOR_OBJECT, new Object[1]);
         resultIterator.addNativeData(Constants.RESULT_SET_NATIVE_DATA_FIELD, resultSet);
         resultIterator.addNativeData(Constants.STATEMENT_NATIVE_DATA_FIELD, statement);
         resultIterator.addNativeData(Constants.CONNECTION_NATIVE_DATA_FIELD, connection);
-        resultIterator.addNativeData(Constants.COLUMN_DEFINITIONS_DATA_FIELD, columnDefinitions);
-        resultIterator.addNativeData(Constants.RECORD_TYPE_DATA_FIELD, streamConstraint);
+        resultIterator.addNativeData(Constants.RECORD_MATERIALIZER_DATA_FIELD, materializer);
         return resultIterator;
     }
 
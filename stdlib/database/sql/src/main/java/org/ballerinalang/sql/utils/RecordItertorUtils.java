@@ -20,12 +20,10 @@ package org.ballerinalang.sql.utils;
 
 import org.ballerinalang.jvm.JSONParser;
 import org.ballerinalang.jvm.types.BArrayType;
-import org.ballerinalang.jvm.types.BStructureType;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.util.exceptions.BallerinaException;
-import org.ballerinalang.jvm.values.MapValue;
-import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.ErrorValue;
 import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.sql.Constants;
 import org.ballerinalang.sql.exception.ApplicationError;
@@ -47,7 +45,6 @@ import java.sql.Types;
 import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.util.Calendar;
-import java.util.List;
 import java.util.TimeZone;
 
 /**
@@ -59,35 +56,23 @@ public class RecordItertorUtils {
     private static Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone(Constants.TIMEZONE_UTC));
 
     public static Object nextResult(ObjectValue recordIterator) {
-        ResultSet resultSet = (ResultSet) recordIterator.getNativeData(Constants.RESULT_SET_NATIVE_DATA_FIELD);
-        try {
-            if (resultSet.next()) {
-                BStructureType streamConstraint = (BStructureType) recordIterator.
-                        getNativeData(Constants.RECORD_TYPE_DATA_FIELD);
-                MapValue<String, Object> bStruct = new MapValueImpl<>(streamConstraint);
-                List<ColumnDefinition> columnDefinitions = (List<ColumnDefinition>) recordIterator
-                        .getNativeData(Constants.COLUMN_DEFINITIONS_DATA_FIELD);
-                for (int i = 0; i < columnDefinitions.size(); i++) {
-                    ColumnDefinition columnDefinition = columnDefinitions.get(i);
-                    bStruct.put(columnDefinition.getBallerinaFieldName(), getResult(resultSet, i + 1,
-                            columnDefinition));
-                }
-                return bStruct;
-            } else {
-                return null;
-            }
-        } catch (SQLException e) {
-            return ErrorGenerator.getSQLDatabaseError(e, "Error when iterating the SQL result");
-        } catch (IOException | ApplicationError e) {
+        RecordMaterializer materializer = (RecordMaterializer) recordIterator.getNativeData(
+                Constants.RECORD_MATERIALIZER_DATA_FIELD);
+        return materializer.next();
+    }
+
+    static ErrorValue getIterationError(Throwable throwable) {
+        if (throwable instanceof SQLException) {
+            return ErrorGenerator.getSQLDatabaseError((SQLException) throwable, "Error when iterating the SQL result");
+        } else if (throwable instanceof IOException || throwable instanceof ApplicationError) {
             return ErrorGenerator.getSQLApplicationError("Error when iterating the SQL result. "
-                    + e.getMessage());
-        } catch (Throwable throwable) {
-            return ErrorGenerator.getSQLApplicationError("Error when iterating through the " +
-                    "SQL result. " + throwable.getMessage());
+                    + throwable.getMessage());
         }
+        return ErrorGenerator.getSQLApplicationError("Error when iterating through the " +
+                "SQL result. " + throwable.getMessage());
     }
 
-    private static Object getResult(ResultSet resultSet, int columnIndex, ColumnDefinition columnDefinition)
+    static Object getResult(ResultSet resultSet, int columnIndex, ColumnDefinition columnDefinition)
             throws SQLException, ApplicationError, IOException {
         int sqlType = columnDefinition.getSqlType();
         BType ballerinaType = columnDefinition.getBallerinaType();
@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.sql.utils;
+
+import org.ballerinalang.jvm.types.BStructureType;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+
+import java.sql.ResultSet;
+import java.util.ArrayDeque;
+import java.util.List;
+
+/**
+ * This class converts the rows of a sql result set to records in batches.
+ * <p>
+ * The mapping of the columns to the record fields is resolved once per query, and the rows are read from the result
+ * set in batches so that the per row overhead of the stream iteration is amortized. At most a batch of records is
+ * held in memory at a time.
+ *
+ * @since 2.0.0
+ */
+public class RecordMaterializer {
+
+    private static final int DEFAULT_BATCH_SIZE = 64;
+    private static final int MAX_BATCH_SIZE = 1024;
+
+    private final ResultSet resultSet;
+    private final BStructureType recordType;
+    private final ColumnDefinition[] columns;
+    private final String[] fieldNames;
+    private final int batchSize;
+    private final ArrayDeque<MapValue<String, Object>> batch;
+    private boolean exhausted = false;
+    private ErrorValue pendingError = null;
+
+    RecordMaterializer(ResultSet resultSet, List<ColumnDefinition> columnDefinitions, BStructureType recordType,
+                       int fetchSize) {
+        this.resultSet = resultSet;
+        this.recordType = recordType;
+        this.columns = columnDefinitions.toArray(new ColumnDefinition[0]);
+        this.fieldNames = new String[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            fieldNames[i] = columns[i].getBallerinaFieldName();
+        }
+        this.batchSize = fetchSize > 0 ? Math.min(fetchSize, MAX_BATCH_SIZE) : DEFAULT_BATCH_SIZE;
+        this.batch = new ArrayDeque<>(batchSize);
+    }
+
+    /**
+     * Returns the next record of the result.
+     *
+     * @return next record, an error if reading the result failed, or null once the result is exhausted
+     */
+    Object next() {
+        if (batch.isEmpty()) {
+            if (pendingError != null) {
+                ErrorValue error = pendingError;
+                pendingError = null;
+                return error;
+            }
+            if (!exhausted) {
+                ErrorValue error = fill();
+                if (batch.isEmpty()) {
+                    return error;
+                }
+                pendingError = error;
+            }
+        }
+        return batch.poll();
+    }
+
+    private ErrorValue fill() {
+        try {
+            while (batch.size() < batchSize) {
+                if (!resultSet.next()) {
+                    exhausted = true;
+                    break;
+                }
+                MapValue<String, Object> record = new MapValueImpl<>(recordType);
+                for (int i = 0; i < columns.length; i++) {
+                    record.put(fieldNames[i], RecordItertorUtils.getResult(resultSet, i + 1, columns[i]));
+                }
+                batch.add(record);
+            }
+            return null;
+        } catch (Throwable throwable) {
+            exhausted = true;
+            return RecordItertorUtils.getIterationError(throwable);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.sql.execute;
+
+import org.ballerinalang.model.values.BByte;
+import org.ballerinalang.model.values.BError;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.model.values.BValueArray;
+import org.ballerinalang.sql.Constants;
+import org.ballerinalang.sql.utils.SQLDBUtils;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+
+/**
+ * This test class verifies the behaviour of the batch execute operation of sql client.
+ *
+ * @since 2.0.0
+ */
+public class BatchExecuteTest {
+    private CompileResult result;
+    private static final String DB_NAME = "TEST_SQL_BATCH_EXECUTE";
+    private static final String URL = SQLDBUtils.URL_PREFIX + DB_NAME;
+    private BValue[] args = {new BString(URL), new BString(SQLDBUtils.DB_USER), new BString(SQLDBUtils.DB_PASSWORD)};
+
+    @BeforeClass
+    public void setup() throws SQLException {
+        result = BCompileUtil.compile(SQLDBUtils.getMockModuleDir(), "execute");
+        SQLDBUtils.initHsqlDatabase(DB_NAME, SQLDBUtils.getSQLResourceDir("execute",
+                "batch-execute-test-data.sql"));
+    }
+
+    @Test
+    public void testBatchInsertIntoDataTable() {
+        BValue[] returns = BRunUtil.invokeFunction(result, "batchInsertIntoDataTable", args);
+        SQLDBUtils.assertNotError(returns[0]);
+        BValueArray executeResults = (BValueArray) returns[0];
+        Assert.assertEquals(executeResults.size(), 3);
+        for (int i = 0; i < executeResults.size(); i++) {
+            LinkedHashMap executeResult = ((BMap) executeResults.getRefValue(i)).getMap();
+            Assert.assertEquals(((BByte) executeResult.get(Constants.AFFECTED_ROW_COUNT_FIELD)).intValue(), 1);
+        }
+    }
+
+    @Test
+    public void testBatchInsertIntoDataTableFailure() {
+        BValue[] returns = BRunUtil.invokeFunction(result, "batchInsertIntoDataTableFailure", args);
+        Assert.assertTrue(returns[0] instanceof BError);
+        Assert.assertTrue(((BMap) ((BError) returns[0]).getDetails()).get(SQLDBUtils.SQL_ERROR_MESSAGE)
+                .stringValue().contains("Error while executing batch command starting with"));
+    }
+
+    @Test
+    public void testBatchExecuteDifferentQueries() {
+        BValue[] returns = BRunUtil.invokeFunction(result, "batchExecuteDifferentQueries", args);
+        Assert.assertTrue(returns[0] instanceof BError);
+        Assert.assertTrue(((BMap) ((BError) returns[0]).getDetails()).get(SQLDBUtils.SQL_ERROR_MESSAGE)
+                .stringValue().contains("Batch execute cannot execute different queries"));
+    }
+}
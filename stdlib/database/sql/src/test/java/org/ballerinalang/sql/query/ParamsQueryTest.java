@@ -87,6 +87,12 @@ public class ParamsQueryTest {
         validateDataTableResult(returns);
     }
 
+    @Test
+    public void testQueryWithFetchSize() {
+        BValue[] returns = BRunUtil.invokeFunction(result, "queryWithFetchSize", args);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 6);
+    }
+
     @Test
     public void testQueryDoubleParam() {
         BValue[] returns = BRunUtil.invokeFunction(result, "queryDoubleParam", args);
@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS DataTable(
+  id          INT IDENTITY,
+  int_type    INTEGER,
+  long_type   BIGINT,
+  string_type VARCHAR(50),
+  PRIMARY KEY (id)
+);
+/
+INSERT INTO DataTable (int_type, long_type, string_type) VALUES(1, 9223372036854774807, 'Hello');
+/
@@ -0,0 +1,68 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import mockclient;
+import ballerina/sql;
+
+function batchInsertIntoDataTable(string url, string user, string password) returns sql:ExecuteResult[]|sql:Error {
+    int[] intValues = [2, 3, 4];
+    sql:ParameterizedString[] sqlQueries = [];
+    foreach var intValue in intValues {
+        sql:ParameterizedString sqlQuery = {
+            parts: ["INSERT INTO DataTable (int_type, long_type, string_type) VALUES(", ", ", ", ", ")"],
+            insertions: [intValue, 9223372036854774807, "Ballerina"]
+        };
+        sqlQueries.push(sqlQuery);
+    }
+    return batchExecuteQueryMockClient(url, user, password, sqlQueries);
+}
+
+function batchInsertIntoDataTableFailure(string url, string user, string password)
+returns sql:ExecuteResult[]|sql:Error {
+    int[] idValues = [10, 11, 10];
+    sql:ParameterizedString[] sqlQueries = [];
+    foreach var idValue in idValues {
+        sql:ParameterizedString sqlQuery = {
+            parts: ["INSERT INTO DataTable (id, int_type) VALUES(", ", ", ")"],
+            insertions: [idValue, 5]
+        };
+        sqlQueries.push(sqlQuery);
+    }
+    return batchExecuteQueryMockClient(url, user, password, sqlQueries);
+}
+
+function batchExecuteDifferentQueries(string url, string user, string password)
+returns sql:ExecuteResult[]|sql:Error {
+    sql:ParameterizedString[] sqlQueries = [
+        {
+            parts: ["INSERT INTO DataTable (int_type) VALUES(", ")"],
+            insertions: [6]
+        },
+        {
+            parts: ["DELETE FROM DataTable WHERE int_type = ", ""],
+            insertions: [6]
+        }
+    ];
+    return batchExecuteQueryMockClient(url, user, password, sqlQueries);
+}
+
+function batchExecuteQueryMockClient(string url, string user, string password,
+    sql:ParameterizedString[] sqlQueries) returns sql:ExecuteResult[]|sql:Error {
+    mockclient:Client dbClient = check new (url = url, user = user, password = password);
+    sql:ExecuteResult[]|sql:Error result = dbClient->batchExecute(sqlQueries);
+    check dbClient.close();
+    return result;
+}
@@ -829,6 +829,21 @@ function getClobColumnChannel() returns @untainted io:ReadableCharacterChannel|e
     return sourceChannel;
 }
 
+function queryWithFetchSize(string url, string user, string password) returns @tainted int|error {
+    mockclient:Client dbClient = check new (url = url, user = user, password = password);
+    stream<record{}, error> streamData = dbClient->query("SELECT row_id FROM DataTable ORDER BY row_id", (),
+        {fetchSize: 2});
+    int rowIdSum = 0;
+    error? e = streamData.forEach(function(record {} data) {
+        rowIdSum = rowIdSum + <int>data["ROW_ID"];
+    });
+    check dbClient.close();
+    if (e is error) {
+        return e;
+    }
+    return rowIdSum;
+}
+
 function queryMockClient(string url, string user, string password,@untainted string|sql:ParameterizedString sqlQuery)
 returns @tainted record {}|error? {
     mockclient:Client dbClient = check new (url = url, user = user, password = password);
@@ -35,6 +35,8 @@ import org.ballerinalang.jvm.values.api.BValueCreator;
 import org.ballerinalang.jvm.values.utils.StringUtils;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -45,9 +47,10 @@ import java.util.Map;
  */
 public class Message {
 
-    private static final String GOOGLE_PROTOBUF_ANY = "google.protobuf.Any";
-    private static final String GOOGLE_PROTOBUF_ANY_VALUE = "google.protobuf.Any.value";
     private static final String GOOGLE_PROTOBUF_ANY_TYPE_URL = "google.protobuf.Any.type_url";
+    private static final int FIXED_64_SIZE = 8;
+    private static final int FIXED_32_SIZE = 4;
+    private static final int BOOL_SIZE = 1;
 
     private String messageName;
     private int memoizedSize = -1;
@@ -63,6 +66,11 @@ public class Message {
     private boolean isError = false;
     private Throwable error;
 
+    /**
+     * Nested messages created while computing the serialized size, in the order they are written.
+     */
+    private List<Message> nestedMessages = null;
+
     public Message(String messageName, Object bMessage) {
         this.messageName = messageName;
         this.bMessage = bMessage;
@@ -193,12 +201,7 @@ public class Message {
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE: {
                         if (bMapValue != null) {
                             if (fieldDescriptor.isRepeated()) {
-                                ArrayValue floatArray = (ArrayValue) BValueCreator.createArrayValue(floatArrayType);
-                                if (bMapValue.containsKey(name)) {
-                                    floatArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, floatArray);
-                                }
+                                ArrayValue floatArray = getArrayValue(bMapValue, name, floatArrayType);
                                 floatArray.add(floatArray.size(), input.readDouble());
                             } else if (fieldDescriptor.getContainingOneof() != null) {
                                 updateBMapValue(bMapValue, fieldDescriptor, input.readDouble());
@@ -213,12 +216,7 @@ public class Message {
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE: {
                         if (bMapValue != null) {
                             if (fieldDescriptor.isRepeated()) {
-                                ArrayValue floatArray = (ArrayValue) BValueCreator.createArrayValue(floatArrayType);
-                                if (bMapValue.containsKey(name)) {
-                                    floatArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, floatArray);
-                                }
+                                ArrayValue floatArray = getArrayValue(bMapValue, name, floatArrayType);
                                 floatArray.add(floatArray.size(),
                                         Double.parseDouble(String.valueOf(input.readFloat())));
                             } else if (fieldDescriptor.getContainingOneof() != null) {
@@ -235,12 +233,7 @@ public class Message {
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64_VALUE: {
                         if (bMapValue != null) {
                             if (fieldDescriptor.isRepeated()) {
-                                ArrayValue intArray = (ArrayValue) BValueCreator.createArrayValue(intArrayType);
-                                if (bMapValue.containsKey(name)) {
-                                    intArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, intArray);
-                                }
+                                ArrayValue intArray = getArrayValue(bMapValue, name, intArrayType);
                                 intArray.add(intArray.size(), input.readInt64());
                             } else if (fieldDescriptor.getContainingOneof() != null) {
                                 updateBMapValue(bMapValue, fieldDescriptor, input.readInt64());
@@ -255,12 +248,7 @@ public class Message {
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_UINT64_VALUE: {
                         if (bMapValue != null) {
                             if (fieldDescriptor.isRepeated()) {
-                                ArrayValue intArray = (ArrayValue) BValueCreator.createArrayValue(intArrayType);
-                                if (bMapValue.containsKey(name)) {
-                                    intArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, intArray);
-                                }
+                                ArrayValue intArray = getArrayValue(bMapValue, name, intArrayType);
                                 intArray.add(intArray.size(), input.readUInt64());
                             } else if (fieldDescriptor.getContainingOneof() != null) {
                                 updateBMapValue(bMapValue, fieldDescriptor, input.readUInt64());
@@ -275,12 +263,7 @@ public class Message {
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32_VALUE: {
                         if (bMapValue != null) {
                             if (fieldDescriptor.isRepeated()) {
-                                ArrayValue intArray = (ArrayValue) BValueCreator.createArrayValue(intArrayType);
-                                if (bMapValue.containsKey(name)) {
-                                    intArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, intArray);
-                                }
+                                ArrayValue intArray = getArrayValue(bMapValue, name, intArrayType);
                                 intArray.add(intArray.size(), input.readInt32());
                             } else if (fieldDescriptor.getContainingOneof() != null) {
                                 updateBMapValue(bMapValue, fieldDescriptor, input.readInt32());
@@ -295,12 +278,7 @@ public class Message {
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED64_VALUE: {
                         if (bMapValue != null) {
                             if (fieldDescriptor.isRepeated()) {
-                                ArrayValue intArray = (ArrayValue) BValueCreator.createArrayValue(intArrayType);
-                                if (bMapValue.containsKey(name)) {
-                                    intArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, intArray);
-                                }
+                                ArrayValue intArray = getArrayValue(bMapValue, name, intArrayType);
                                 intArray.add(intArray.size(), input.readFixed64());
                             } else if (fieldDescriptor.getContainingOneof() != null) {
                                 updateBMapValue(bMapValue, fieldDescriptor, input.readFixed64());
@@ -315,12 +293,7 @@ public class Message {
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED32_VALUE: {
                         if (bMapValue != null) {
                             if (fieldDescriptor.isRepeated()) {
-                                ArrayValue intArray = (ArrayValue) BValueCreator.createArrayValue(intArrayType);
-                                if (bMapValue.containsKey(name)) {
-                                    intArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, intArray);
-                                }
+                                ArrayValue intArray = getArrayValue(bMapValue, name, intArrayType);
                                 intArray.add(intArray.size(), input.readFixed32());
                             } else if (fieldDescriptor.getContainingOneof() != null) {
                                 updateBMapValue(bMapValue, fieldDescriptor, input.readFixed32());
@@ -335,12 +308,7 @@ public class Message {
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL_VALUE: {
                         if (bMapValue != null) {
                             if (fieldDescriptor.isRepeated()) {
-                                ArrayValue booleanArray = (ArrayValue) BValueCreator.createArrayValue(booleanArrayType);
-                                if (bMapValue.containsKey(name)) {
-                                    booleanArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, booleanArray);
-                                }
+                                ArrayValue booleanArray = getArrayValue(bMapValue, name, booleanArrayType);
                                 booleanArray.add(booleanArray.size(), input.readBool());
                             } else if (fieldDescriptor.getContainingOneof() != null) {
                                 updateBMapValue(bMapValue, fieldDescriptor, input.readBool());
@@ -355,14 +323,8 @@ public class Message {
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING_VALUE: {
                         if (bMapValue != null) {
                             if (fieldDescriptor.isRepeated()) {
-                                ArrayValue stringArray = (ArrayValue) BValueCreator.createArrayValue(stringArrayType);
-                                if (bMapValue.containsKey(name)) {
-                                    stringArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, stringArray);
-                                }
+                                ArrayValue stringArray = getArrayValue(bMapValue, name, stringArrayType);
                                 stringArray.add(stringArray.size(), input.readStringRequireUtf8());
-                                bMapValue.put(name, stringArray);
                             } else if (fieldDescriptor.getContainingOneof() != null) {
                                 updateBMapValue(bMapValue, fieldDescriptor, input.readStringRequireUtf8());
                             } else {
@@ -376,15 +338,9 @@ public class Message {
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE: {
                         if (bMapValue != null) {
                             if (fieldDescriptor.isRepeated()) {
-                                ArrayValue stringArray = (ArrayValue) BValueCreator.createArrayValue(stringArrayType);
-                                if (bMapValue.containsKey(name)) {
-                                    stringArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, stringArray);
-                                }
+                                ArrayValue stringArray = getArrayValue(bMapValue, name, stringArrayType);
                                 stringArray.add(stringArray.size(), fieldDescriptor.getEnumType().findValueByNumber
                                         (input.readEnum()).toString());
-                                bMapValue.put(name, stringArray);
                             } else if (fieldDescriptor.getContainingOneof() != null) {
                                 Object bValue = fieldDescriptor.getEnumType().findValueByNumber(input
                                         .readEnum()).toString();
@@ -454,6 +410,15 @@ public class Message {
         }
     }
 
+    private static ArrayValue getArrayValue(BMap<String, Object> bMapValue, String name, BArrayType arrayType) {
+        ArrayValue arrayValue = (ArrayValue) bMapValue.get(name);
+        if (arrayValue == null) {
+            arrayValue = (ArrayValue) BValueCreator.createArrayValue(arrayType);
+            bMapValue.put(name, arrayValue);
+        }
+        return arrayValue;
+    }
+
     private void updateBMapValue(BMap<String, Object> bMapValue,
                                  Descriptors.FieldDescriptor fieldDescriptor, Object bValue) {
         bMapValue.put(fieldDescriptor.getName(), bValue);
@@ -466,227 +431,227 @@ public class Message {
         return MessageRegistry.getInstance().getMessageDescriptor(messageName);
     }
 
-    @SuppressWarnings("unchecked")
     void writeTo(com.google.protobuf.CodedOutputStream output)
             throws java.io.IOException {
         if (bMessage == null) {
             return;
         }
-        Descriptors.Descriptor messageDescriptor = getDescriptor();
-        if (messageDescriptor == null) {
-            throw Status.Code.INTERNAL.toStatus()
-                    .withDescription("Error while processing the message, Couldn't find message descriptor for " +
-                            "message name: " + messageName)
-                    .asRuntimeException();
+        // Computing the size creates the nested messages in the order they are written, if the size has not been
+        // computed already.
+        getSerializedSize();
+        MapValue<String, Object> bMapValue = getMapValue();
+        Iterator<Message> nestedMessageIterator = nestedMessages != null ? nestedMessages.iterator() : null;
+        for (MessageCodec.FieldCodec field : getCodec().getFields()) {
+            if (bMapValue == null) {
+                writeScalarField(output, field);
+            } else if (bMapValue.containsKey(field.name)) {
+                writeRecordField(output, field, bMapValue.get(field.name), nestedMessageIterator);
+            }
         }
+    }
 
-        MapValue<String, Object> bMapValue = null;
-        if (bMessage instanceof MapValue) {
-            bMapValue = (MapValue) bMessage;
-        }
-        for (Descriptors.FieldDescriptor fieldDescriptor : messageDescriptor.getFields()) {
-            switch (fieldDescriptor.getType().toProto().getNumber()) {
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(fieldDescriptor.getName())) {
-                        Object bValue = bMapValue.get(fieldDescriptor.getName());
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeDouble(fieldDescriptor.getNumber(), valueArray.getFloat(i));
-                            }
-                        } else {
-                            output.writeDouble(fieldDescriptor.getNumber(), (Double) bValue);
-                        }
-                    } else if (bMessage instanceof Double) {
-                        output.writeDouble(fieldDescriptor.getNumber(), (Double) bMessage);
-                    }
-                    break;
+    private void writeRecordField(CodedOutputStream output, MessageCodec.FieldCodec field, Object bValue,
+                                  Iterator<Message> nestedMessageIterator) throws IOException {
+        switch (field.type) {
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE: {
+                if (bValue instanceof ArrayValue) {
+                    ArrayValue valueArray = (ArrayValue) bValue;
+                    for (int i = 0; i < valueArray.size(); i++) {
+                        output.writeDouble(field.number, valueArray.getFloat(i));
+                    }
+                } else {
+                    output.writeDouble(field.number, (Double) bValue);
                 }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(fieldDescriptor.getName())) {
-                        Object bValue = bMapValue.get(fieldDescriptor.getName());
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeFloat(fieldDescriptor.getNumber(), Float.parseFloat(String.valueOf
-                                        (valueArray.getFloat(i))));
-                            }
-                        } else {
-                            output.writeFloat(fieldDescriptor.getNumber(), Float.parseFloat(String.valueOf(bValue)));
-                        }
-                    } else if (bMessage instanceof Double) {
-                        output.writeFloat(fieldDescriptor.getNumber(), Float.parseFloat(String.valueOf
-                                (bMessage)));
-                    }
-                    break;
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE: {
+                if (bValue instanceof ArrayValue) {
+                    ArrayValue valueArray = (ArrayValue) bValue;
+                    for (int i = 0; i < valueArray.size(); i++) {
+                        output.writeFloat(field.number, getFloatValue(valueArray.getFloat(i)));
+                    }
+                } else {
+                    output.writeFloat(field.number, getFloatValue(bValue));
                 }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(fieldDescriptor.getName())) {
-                        Object bValue = bMapValue.get(fieldDescriptor.getName());
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeInt64(fieldDescriptor.getNumber(), valueArray.getInt(i));
-                            }
-                        } else {
-                            output.writeInt64(fieldDescriptor.getNumber(), (long) bValue);
-                        }
-                    } else if (bMessage instanceof Long) {
-                        output.writeInt64(fieldDescriptor.getNumber(), (long) bMessage);
-                    }
-                    break;
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64_VALUE: {
+                if (bValue instanceof ArrayValue) {
+                    ArrayValue valueArray = (ArrayValue) bValue;
+                    for (int i = 0; i < valueArray.size(); i++) {
+                        output.writeInt64(field.number, valueArray.getInt(i));
+                    }
+                } else {
+                    output.writeInt64(field.number, (long) bValue);
                 }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_UINT64_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(fieldDescriptor.getName())) {
-                        Object bValue = bMapValue.get(fieldDescriptor.getName());
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeUInt64(fieldDescriptor.getNumber(), valueArray.getInt(i));
-                            }
-                        } else {
-                            output.writeUInt64(fieldDescriptor.getNumber(), (long) bValue);
-                        }
-                    } else if (bMessage instanceof Long) {
-                        output.writeUInt64(fieldDescriptor.getNumber(), (long) bMessage);
-                    }
-                    break;
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_UINT64_VALUE: {
+                if (bValue instanceof ArrayValue) {
+                    ArrayValue valueArray = (ArrayValue) bValue;
+                    for (int i = 0; i < valueArray.size(); i++) {
+                        output.writeUInt64(field.number, valueArray.getInt(i));
+                    }
+                } else {
+                    output.writeUInt64(field.number, (long) bValue);
                 }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(fieldDescriptor.getName())) {
-                        Object bValue = bMapValue.get(fieldDescriptor.getName());
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeInt32(fieldDescriptor.getNumber(),
-                                        getIntValue(valueArray.getInt(i)));
-                            }
-                        } else {
-                            output.writeInt32(fieldDescriptor.getNumber(), getIntValue(bValue));
-                        }
-                    } else if (bMessage instanceof Long) {
-                        output.writeInt32(fieldDescriptor.getNumber(), getIntValue(bMessage));
-                    }
-                    break;
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32_VALUE: {
+                if (bValue instanceof ArrayValue) {
+                    ArrayValue valueArray = (ArrayValue) bValue;
+                    for (int i = 0; i < valueArray.size(); i++) {
+                        output.writeInt32(field.number, getIntValue(valueArray.getInt(i)));
+                    }
+                } else {
+                    output.writeInt32(field.number, getIntValue(bValue));
                 }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED64_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(fieldDescriptor.getName())) {
-                        Object bValue = bMapValue.get(fieldDescriptor.getName());
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeFixed64(fieldDescriptor.getNumber(), valueArray.getInt(i));
-                            }
-                        } else {
-                            output.writeFixed64(fieldDescriptor.getNumber(), (long) bValue);
-                        }
-                    } else if (bMessage instanceof Long) {
-                        output.writeFixed64(fieldDescriptor.getNumber(), (long) bMessage);
-                    }
-                    break;
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED64_VALUE: {
+                if (bValue instanceof ArrayValue) {
+                    ArrayValue valueArray = (ArrayValue) bValue;
+                    for (int i = 0; i < valueArray.size(); i++) {
+                        output.writeFixed64(field.number, valueArray.getInt(i));
+                    }
+                } else {
+                    output.writeFixed64(field.number, (long) bValue);
                 }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED32_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(fieldDescriptor.getName())) {
-                        Object bValue = bMapValue.get(fieldDescriptor.getName());
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeFixed32(fieldDescriptor.getNumber(),
-                                        getIntValue(valueArray.getInt(i)));
-                            }
-                        } else {
-                            output.writeFixed32(fieldDescriptor.getNumber(), getIntValue(bValue));
-                        }
-                    } else if (bMessage instanceof Long) {
-                        output.writeFixed32(fieldDescriptor.getNumber(), getIntValue(bMessage));
-                    }
-                    break;
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED32_VALUE: {
+                if (bValue instanceof ArrayValue) {
+                    ArrayValue valueArray = (ArrayValue) bValue;
+                    for (int i = 0; i < valueArray.size(); i++) {
+                        output.writeFixed32(field.number, getIntValue(valueArray.getInt(i)));
+                    }
+                } else {
+                    output.writeFixed32(field.number, getIntValue(bValue));
                 }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(fieldDescriptor.getName())) {
-                        Object bValue = bMapValue.get(fieldDescriptor.getName());
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeBool(fieldDescriptor.getNumber(), valueArray.getBoolean(i));
-                            }
-                        } else {
-                            output.writeBool(fieldDescriptor.getNumber(), ((boolean) bValue));
-                        }
-                    } else if (bMessage instanceof Boolean) {
-                        output.writeBool(fieldDescriptor.getNumber(), (boolean) bMessage);
-                    }
-                    break;
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL_VALUE: {
+                if (bValue instanceof ArrayValue) {
+                    ArrayValue valueArray = (ArrayValue) bValue;
+                    for (int i = 0; i < valueArray.size(); i++) {
+                        output.writeBool(field.number, valueArray.getBoolean(i));
+                    }
+                } else {
+                    output.writeBool(field.number, (boolean) bValue);
                 }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(fieldDescriptor.getName())) {
-                        Object bValue = bMapValue.get(fieldDescriptor.getName());
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                output.writeString(fieldDescriptor.getNumber(), valueArray.getString(i));
-                            }
-                        } else {
-                            output.writeString(fieldDescriptor.getNumber(), (String) bValue);
-                        }
-                    } else if (bMessage instanceof String &&
-                            !fieldDescriptor.getFullName().equals(GOOGLE_PROTOBUF_ANY_TYPE_URL)) {
-                        output.writeString(fieldDescriptor.getNumber(), (String) bMessage);
-                    }
-                    break;
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING_VALUE: {
+                if (bValue instanceof ArrayValue) {
+                    ArrayValue valueArray = (ArrayValue) bValue;
+                    for (int i = 0; i < valueArray.size(); i++) {
+                        output.writeString(field.number, valueArray.getString(i));
+                    }
+                } else {
+                    output.writeString(field.number, (String) bValue);
                 }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(fieldDescriptor.getName())) {
-                        Object bValue = bMapValue.get(fieldDescriptor.getName());
-                        if (bValue instanceof ArrayValue
-                                && !fieldDescriptor.getMessageType().getFullName().equals(GOOGLE_PROTOBUF_ANY_VALUE)) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                Message message = new Message(fieldDescriptor.getMessageType(),
-                                        valueArray.getRefValue(i));
-                                output.writeTag(fieldDescriptor.getNumber(), WireFormat.WIRETYPE_LENGTH_DELIMITED);
-                                output.writeUInt32NoTag(message.getSerializedSize());
-                                message.writeTo(output);
-                            }
-                        } else {
-                            Message message = new Message(fieldDescriptor.getMessageType(), bValue);
-                            output.writeTag(fieldDescriptor.getNumber(), WireFormat.WIRETYPE_LENGTH_DELIMITED);
-                            output.writeUInt32NoTag(message.getSerializedSize());
-                            message.writeTo(output);
-                        }
-                    }
-                    break;
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE_VALUE: {
+                int count = bValue instanceof ArrayValue ? ((ArrayValue) bValue).size() : 1;
+                for (int i = 0; i < count; i++) {
+                    Message message = nestedMessageIterator.next();
+                    output.writeTag(field.number, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                    output.writeUInt32NoTag(message.getSerializedSize());
+                    message.writeTo(output);
                 }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(fieldDescriptor.getName())) {
-                        Object bValue = bMapValue.get(fieldDescriptor.getName());
-                        output.writeEnum(fieldDescriptor.getNumber(), fieldDescriptor.getEnumType().findValueByName
-                                ((String) bValue).getNumber());
-                    }
-                    break;
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE: {
+                output.writeEnum(field.number, field.descriptor.getEnumType().findValueByName((String) bValue)
+                        .getNumber());
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BYTES_VALUE: {
+                if (bValue instanceof ArrayValue) {
+                    output.writeByteArray(field.number, ((ArrayValue) bValue).getBytes());
                 }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BYTES_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(fieldDescriptor.getName())) {
-                        Object bValue = bMapValue.get(fieldDescriptor.getName());
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            output.writeByteArray(fieldDescriptor.getNumber(), valueArray.getBytes());
-                        }
-                    } else if (bMessage instanceof ArrayValue) {
-                        ArrayValue valueArray = (ArrayValue) bMessage;
-                        output.writeByteArray(fieldDescriptor.getNumber(), valueArray.getBytes());
-                    }
-                    break;
+                break;
+            }
+            default: {
+                throw Status.Code.INTERNAL.toStatus().withDescription("Error while writing output stream. " +
+                        "Field type is not supported : " + field.descriptor.getType()).asRuntimeException();
+            }
+        }
+    }
+
+    private void writeScalarField(CodedOutputStream output, MessageCodec.FieldCodec field) throws IOException {
+        switch (field.type) {
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE: {
+                if (bMessage instanceof Double) {
+                    output.writeDouble(field.number, (Double) bMessage);
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE: {
+                if (bMessage instanceof Double) {
+                    output.writeFloat(field.number, getFloatValue(bMessage));
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64_VALUE: {
+                if (bMessage instanceof Long) {
+                    output.writeInt64(field.number, (long) bMessage);
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_UINT64_VALUE: {
+                if (bMessage instanceof Long) {
+                    output.writeUInt64(field.number, (long) bMessage);
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32_VALUE: {
+                if (bMessage instanceof Long) {
+                    output.writeInt32(field.number, getIntValue(bMessage));
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED64_VALUE: {
+                if (bMessage instanceof Long) {
+                    output.writeFixed64(field.number, (long) bMessage);
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED32_VALUE: {
+                if (bMessage instanceof Long) {
+                    output.writeFixed32(field.number, getIntValue(bMessage));
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL_VALUE: {
+                if (bMessage instanceof Boolean) {
+                    output.writeBool(field.number, (boolean) bMessage);
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING_VALUE: {
+                if (bMessage instanceof String && !field.anyTypeUrl) {
+                    output.writeString(field.number, (String) bMessage);
                 }
-                default: {
-                    throw Status.Code.INTERNAL.toStatus().withDescription("Error while writing output stream. " +
-                            "Field type is not supported : " + fieldDescriptor.getType()).asRuntimeException();
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BYTES_VALUE: {
+                if (bMessage instanceof ArrayValue) {
+                    output.writeByteArray(field.number, ((ArrayValue) bMessage).getBytes());
                 }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE_VALUE:
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE:
+                break;
+            default: {
+                throw Status.Code.INTERNAL.toStatus().withDescription("Error while writing output stream. " +
+                        "Field type is not supported : " + field.descriptor.getType()).asRuntimeException();
             }
         }
     }
 
-    @SuppressWarnings("unchecked")
     public int getSerializedSize() {
         int size = memoizedSize;
         if (size != -1) {
@@ -697,248 +662,176 @@ public class Message {
             memoizedSize = size;
             return size;
         }
-        Descriptors.Descriptor messageDescriptor = getDescriptor();
-        if (messageDescriptor == null) {
-            throw Status.Code.INTERNAL.toStatus()
-                    .withDescription("Error while processing the message, Couldn't find message descriptor for " +
-                            "message name: " + messageName)
-                    .asRuntimeException();
-        }
-        MapValue<String, Object> bMapValue = null;
-        if (bMessage instanceof MapValue) {
-            bMapValue = (MapValue<String, Object>) bMessage;
+        MapValue<String, Object> bMapValue = getMapValue();
+        for (MessageCodec.FieldCodec field : getCodec().getFields()) {
+            if (bMapValue == null) {
+                size += computeScalarFieldSize(field);
+            } else if (bMapValue.containsKey(field.name)) {
+                size += computeRecordFieldSize(field, bMapValue.get(field.name));
+            }
         }
+        memoizedSize = size;
+        return size;
+    }
 
-        for (Descriptors.FieldDescriptor fieldDescriptor : messageDescriptor.getFields()) {
-            switch (fieldDescriptor.getType().toProto().getNumber()) {
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(fieldDescriptor.getName())) {
-                        Object bValue = bMapValue.get(fieldDescriptor.getName());
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                size += com.google.protobuf.CodedOutputStream.computeDoubleSize(fieldDescriptor
-                                        .getNumber(), valueArray.getFloat(i));
-                            }
-                        } else {
-                            size += com.google.protobuf.CodedOutputStream.computeDoubleSize(fieldDescriptor.getNumber(),
-                                    (double) bValue);
-                        }
-                    } else if (bMessage instanceof Double) {
-                        size += com.google.protobuf.CodedOutputStream.computeDoubleSize(fieldDescriptor.getNumber(),
-                                ((double) bMessage));
-                    }
-                    break;
-                }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(fieldDescriptor.getName())) {
-                        Object bValue = bMapValue.get(fieldDescriptor.getName());
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                size += com.google.protobuf.CodedOutputStream.computeFloatSize(fieldDescriptor
-                                        .getNumber(), Float.parseFloat(String.valueOf(valueArray.getFloat(i))));
-                            }
-                        } else {
-                            size += com.google.protobuf.CodedOutputStream.computeFloatSize(fieldDescriptor
-                                    .getNumber(), Float.parseFloat(String.valueOf(bValue)));
-                        }
-                    } else if (bMessage instanceof Double) {
-                        size += com.google.protobuf.CodedOutputStream.computeFloatSize(fieldDescriptor
-                                .getNumber(), Float.parseFloat(String.valueOf(bMessage)));
-                    }
-                    break;
-                }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(fieldDescriptor.getName())) {
-                        Object bValue = bMapValue.get(fieldDescriptor.getName());
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                size += com.google.protobuf.CodedOutputStream.computeInt64Size(fieldDescriptor
-                                        .getNumber(), valueArray.getInt(i));
-                            }
-                        } else {
-                            size += com.google.protobuf.CodedOutputStream.computeInt64Size(fieldDescriptor
-                                    .getNumber(), (long) bValue);
-                        }
-                    } else if (bMessage instanceof Long) {
-                        size += com.google.protobuf.CodedOutputStream.computeInt64Size(fieldDescriptor
-                                .getNumber(), (long) bMessage);
-                    }
-                    break;
-                }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_UINT64_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(fieldDescriptor.getName())) {
-                        Object bValue = bMapValue.get(fieldDescriptor.getName());
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                size += com.google.protobuf.CodedOutputStream.computeUInt64Size(fieldDescriptor
-                                        .getNumber(), valueArray.getInt(i));
-                            }
-                        } else {
-                            size += com.google.protobuf.CodedOutputStream.computeUInt64Size(fieldDescriptor
-                                    .getNumber(), (long) bValue);
-                        }
-                    } else if (bMessage instanceof Long) {
-                        size += com.google.protobuf.CodedOutputStream.computeUInt64Size(fieldDescriptor
-                                .getNumber(), (long) bMessage);
-                    }
-                    break;
-                }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(fieldDescriptor.getName())) {
-                        Object bValue = bMapValue.get(fieldDescriptor.getName());
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                size += com.google.protobuf.CodedOutputStream.computeInt32Size(fieldDescriptor
-                                        .getNumber(), getIntValue(valueArray.getInt(i)));
-                            }
-                        } else {
-                            size += com.google.protobuf.CodedOutputStream.computeInt32Size(fieldDescriptor
-                                    .getNumber(), getIntValue(bValue));
-                        }
-                    } else if (bMessage instanceof Long) {
-                        size += com.google.protobuf.CodedOutputStream.computeInt32Size(fieldDescriptor
-                                .getNumber(), getIntValue(bMessage));
-                    }
-                    break;
-                }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED64_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(fieldDescriptor.getName())) {
-                        Object bValue = bMapValue.get(fieldDescriptor.getName());
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                size += com.google.protobuf.CodedOutputStream.computeFixed64Size(fieldDescriptor
-                                        .getNumber(), valueArray.getInt(i));
-                            }
-                        } else {
-                            size += com.google.protobuf.CodedOutputStream.computeFixed64Size(fieldDescriptor
-                                    .getNumber(), (long) bValue);
-                        }
-                    } else if (bMessage instanceof Long) {
-                        size += com.google.protobuf.CodedOutputStream.computeFixed64Size(fieldDescriptor
-                                .getNumber(), (long) bMessage);
-                    }
-                    break;
-                }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED32_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(fieldDescriptor.getName())) {
-                        Object bValue = bMapValue.get(fieldDescriptor.getName());
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                size += com.google.protobuf.CodedOutputStream.computeFixed32Size(fieldDescriptor
-                                        .getNumber(), getIntValue(valueArray.getInt(i)));
-                            }
-                        } else {
-                            size += com.google.protobuf.CodedOutputStream.computeFixed32Size(fieldDescriptor
-                                    .getNumber(), getIntValue(bValue));
-                        }
-                    } else if (bMessage instanceof Long) {
-                        size += com.google.protobuf.CodedOutputStream.computeFixed32Size(fieldDescriptor
-                                .getNumber(), getIntValue(bMessage));
-                    }
-                    break;
+    private int computeRecordFieldSize(MessageCodec.FieldCodec field, Object bValue) {
+        int size = 0;
+        switch (field.type) {
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE: {
+                int count = bValue instanceof ArrayValue ? ((ArrayValue) bValue).size() : 1;
+                size += count * (field.tagSize + FIXED_64_SIZE);
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE: {
+                int count = bValue instanceof ArrayValue ? ((ArrayValue) bValue).size() : 1;
+                size += count * (field.tagSize + FIXED_32_SIZE);
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64_VALUE:
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_UINT64_VALUE: {
+                if (bValue instanceof ArrayValue) {
+                    ArrayValue valueArray = (ArrayValue) bValue;
+                    for (int i = 0; i < valueArray.size(); i++) {
+                        size += field.tagSize + CodedOutputStream.computeUInt64SizeNoTag(valueArray.getInt(i));
+                    }
+                } else {
+                    size += field.tagSize + CodedOutputStream.computeUInt64SizeNoTag((long) bValue);
                 }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(fieldDescriptor.getName())) {
-                        Object bValue = bMapValue.get(fieldDescriptor.getName());
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                size += com.google.protobuf.CodedOutputStream.computeBoolSize(fieldDescriptor
-                                        .getNumber(), valueArray.getBoolean(i));
-                            }
-                        } else {
-                            size += com.google.protobuf.CodedOutputStream.computeBoolSize(fieldDescriptor
-                                    .getNumber(), (boolean) bValue);
-                        }
-                    } else if (bMessage instanceof Boolean) {
-                        size += com.google.protobuf.CodedOutputStream.computeBoolSize(fieldDescriptor
-                                .getNumber(), (boolean) bMessage);
-                    }
-                    break;
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32_VALUE: {
+                if (bValue instanceof ArrayValue) {
+                    ArrayValue valueArray = (ArrayValue) bValue;
+                    for (int i = 0; i < valueArray.size(); i++) {
+                        size += field.tagSize + CodedOutputStream.computeInt32SizeNoTag(
+                                getIntValue(valueArray.getInt(i)));
+                    }
+                } else {
+                    size += field.tagSize + CodedOutputStream.computeInt32SizeNoTag(getIntValue(bValue));
                 }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(fieldDescriptor.getName())) {
-                        Object bValue = bMapValue.get(fieldDescriptor.getName());
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                size += CodedOutputStream.computeStringSize(fieldDescriptor.getNumber(), valueArray
-                                        .getString(i));
-                            }
-                        } else {
-                            size += CodedOutputStream.computeStringSize(fieldDescriptor.getNumber(), (String) bValue);
-                        }
-                    } else if (bMessage instanceof String) {
-                        size += CodedOutputStream.computeStringSize(fieldDescriptor.getNumber(), (String) bMessage);
-                    }
-                    break;
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED64_VALUE: {
+                int count = bValue instanceof ArrayValue ? ((ArrayValue) bValue).size() : 1;
+                size += count * (field.tagSize + FIXED_64_SIZE);
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED32_VALUE: {
+                int count = bValue instanceof ArrayValue ? ((ArrayValue) bValue).size() : 1;
+                size += count * (field.tagSize + FIXED_32_SIZE);
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL_VALUE: {
+                int count = bValue instanceof ArrayValue ? ((ArrayValue) bValue).size() : 1;
+                size += count * (field.tagSize + BOOL_SIZE);
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING_VALUE: {
+                if (bValue instanceof ArrayValue) {
+                    ArrayValue valueArray = (ArrayValue) bValue;
+                    for (int i = 0; i < valueArray.size(); i++) {
+                        size += field.tagSize + CodedOutputStream.computeStringSizeNoTag(valueArray.getString(i));
+                    }
+                } else {
+                    size += field.tagSize + CodedOutputStream.computeStringSizeNoTag((String) bValue);
                 }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(fieldDescriptor.getName())) {
-                        Object bValue = bMapValue.get(fieldDescriptor.getName());
-                        if (bValue instanceof ArrayValue
-                                && !fieldDescriptor.getMessageType().getFullName().equals(GOOGLE_PROTOBUF_ANY)) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            for (int i = 0; i < valueArray.size(); i++) {
-                                MapValue<String, Object> value = (MapValue) valueArray.getRefValue(i);
-                                Message message = new Message(fieldDescriptor.getMessageType(), value);
-                                size += computeMessageSize(fieldDescriptor, message);
-                            }
-                        } else {
-                            Message message = new Message(fieldDescriptor.getMessageType(),
-                                    bValue);
-                            size += computeMessageSize(fieldDescriptor, message);
-                        }
-                    }
-                    break;
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE_VALUE: {
+                if (nestedMessages == null) {
+                    nestedMessages = new ArrayList<>();
                 }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(fieldDescriptor.getName())) {
-                        Object bValue = bMapValue.get(fieldDescriptor.getName());
-
-                        size += com.google.protobuf.CodedOutputStream.computeEnumSize(fieldDescriptor
-                                .getNumber(), fieldDescriptor.getEnumType().findValueByName
-                                ((String) bValue).getNumber());
-                    }
-                    break;
+                if (bValue instanceof ArrayValue) {
+                    ArrayValue valueArray = (ArrayValue) bValue;
+                    for (int i = 0; i < valueArray.size(); i++) {
+                        size += computeMessageSize(field, new Message(field.descriptor.getMessageType(),
+                                valueArray.getRefValue(i)));
+                    }
+                } else {
+                    size += computeMessageSize(field, new Message(field.descriptor.getMessageType(), bValue));
                 }
-                case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BYTES_VALUE: {
-                    if (bMapValue != null && bMapValue.containsKey(fieldDescriptor.getName())) {
-                        Object bValue = bMapValue.get(fieldDescriptor.getName());
-                        if (bValue instanceof ArrayValue) {
-                            ArrayValue valueArray = (ArrayValue) bValue;
-                            size += com.google.protobuf.CodedOutputStream
-                                    .computeByteArraySize(fieldDescriptor.getNumber(), valueArray.getBytes());
-                        }
-                    } else if (bMessage instanceof ArrayValue) {
-                        ArrayValue valueArray = (ArrayValue) bMessage;
-                        size += com.google.protobuf.CodedOutputStream
-                                .computeByteArraySize(fieldDescriptor.getNumber(), valueArray.getBytes());
-                    }
-                    break;
-                }
-                default: {
-                    throw Status.Code.INTERNAL.toStatus().withDescription(
-                            "Error while calculating the serialized type. Field type is not supported : "
-                                    + fieldDescriptor.getType()).asRuntimeException();
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE: {
+                size += field.tagSize + CodedOutputStream.computeEnumSizeNoTag(field.descriptor.getEnumType()
+                        .findValueByName((String) bValue).getNumber());
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BYTES_VALUE: {
+                if (bValue instanceof ArrayValue) {
+                    size += field.tagSize + CodedOutputStream.computeByteArraySizeNoTag(((ArrayValue) bValue)
+                            .getBytes());
                 }
+                break;
+            }
+            default: {
+                throw Status.Code.INTERNAL.toStatus().withDescription(
+                        "Error while calculating the serialized type. Field type is not supported : "
+                                + field.descriptor.getType()).asRuntimeException();
             }
         }
-        memoizedSize = size;
         return size;
     }
 
-    private int computeMessageSize(Descriptors.FieldDescriptor fieldDescriptor, Message message) {
-        return CodedOutputStream.computeTagSize(fieldDescriptor
-                .getNumber()) + CodedOutputStream.computeUInt32SizeNoTag
-                (message.getSerializedSize()) + message.getSerializedSize();
+    private int computeScalarFieldSize(MessageCodec.FieldCodec field) {
+        switch (field.type) {
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE:
+                return bMessage instanceof Double ? field.tagSize + FIXED_64_SIZE : 0;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE:
+                return bMessage instanceof Double ? field.tagSize + FIXED_32_SIZE : 0;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64_VALUE:
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_UINT64_VALUE:
+                return bMessage instanceof Long ?
+                        field.tagSize + CodedOutputStream.computeUInt64SizeNoTag((long) bMessage) : 0;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32_VALUE:
+                return bMessage instanceof Long ?
+                        field.tagSize + CodedOutputStream.computeInt32SizeNoTag(getIntValue(bMessage)) : 0;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED64_VALUE:
+                return bMessage instanceof Long ? field.tagSize + FIXED_64_SIZE : 0;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED32_VALUE:
+                return bMessage instanceof Long ? field.tagSize + FIXED_32_SIZE : 0;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL_VALUE:
+                return bMessage instanceof Boolean ? field.tagSize + BOOL_SIZE : 0;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING_VALUE:
+                return bMessage instanceof String && !field.anyTypeUrl ?
+                        field.tagSize + CodedOutputStream.computeStringSizeNoTag((String) bMessage) : 0;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BYTES_VALUE:
+                return bMessage instanceof ArrayValue ? field.tagSize +
+                        CodedOutputStream.computeByteArraySizeNoTag(((ArrayValue) bMessage).getBytes()) : 0;
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE_VALUE:
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE:
+                return 0;
+            default: {
+                throw Status.Code.INTERNAL.toStatus().withDescription(
+                        "Error while calculating the serialized type. Field type is not supported : "
+                                + field.descriptor.getType()).asRuntimeException();
+            }
+        }
+    }
+
+    private int computeMessageSize(MessageCodec.FieldCodec field, Message message) {
+        nestedMessages.add(message);
+        int messageSize = message.getSerializedSize();
+        return field.tagSize + CodedOutputStream.computeUInt32SizeNoTag(messageSize) + messageSize;
+    }
+
+    @SuppressWarnings("unchecked")
+    private MapValue<String, Object> getMapValue() {
+        if (bMessage instanceof MapValue) {
+            return (MapValue<String, Object>) bMessage;
+        }
+        return null;
+    }
+
+    private MessageCodec getCodec() {
+        Descriptors.Descriptor messageDescriptor = getDescriptor();
+        if (messageDescriptor == null) {
+            throw Status.Code.INTERNAL.toStatus()
+                    .withDescription("Error while processing the message, Couldn't find message descriptor for " +
+                            "message name: " + messageName)
+                    .asRuntimeException();
+        }
+        return MessageCodec.getCodec(messageDescriptor);
     }
 
     public byte[] toByteArray() {
@@ -964,6 +857,10 @@ public class Message {
         return result;
     }
 
+    private float getFloatValue(Object value) {
+        return Float.parseFloat(String.valueOf(value));
+    }
+
     private int getIntValue(Object value) {
         if (value instanceof Long) {
             return ((Long) value).intValue();
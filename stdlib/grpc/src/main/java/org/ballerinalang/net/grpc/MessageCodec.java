@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.ballerinalang.net.grpc;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Descriptors;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serialization plan of a proto message type.
+ * <p>
+ * The plan is computed from the message descriptor on first use and cached, so the properties of the fields
+ * are not looked up from the descriptors for every message which is serialized or parsed.
+ *
+ * @since 2.0.0
+ */
+public class MessageCodec {
+
+    private static final String GOOGLE_PROTOBUF_ANY_TYPE_URL = "google.protobuf.Any.type_url";
+
+    private static final Map<Descriptors.Descriptor, MessageCodec> CODECS = new ConcurrentHashMap<>();
+
+    private final FieldCodec[] fields;
+    private final Map<Integer, Descriptors.FieldDescriptor> fieldDescriptors;
+
+    private MessageCodec(Descriptors.Descriptor descriptor) {
+        List<Descriptors.FieldDescriptor> fieldList = descriptor.getFields();
+        Map<Integer, Descriptors.FieldDescriptor> fieldsByTag = new HashMap<>();
+        this.fields = new FieldCodec[fieldList.size()];
+        for (int i = 0; i < fields.length; i++) {
+            Descriptors.FieldDescriptor fieldDescriptor = fieldList.get(i);
+            fields[i] = new FieldCodec(fieldDescriptor);
+            int tag = (fieldDescriptor.getNumber() << 3) + MessageUtils.getFieldWireType(fieldDescriptor.getType());
+            fieldsByTag.put(tag, fieldDescriptor);
+        }
+        this.fieldDescriptors = Collections.unmodifiableMap(fieldsByTag);
+    }
+
+    /**
+     * Returns the codec of the given message type.
+     *
+     * @param descriptor message descriptor.
+     * @return cached codec of the message type.
+     */
+    static MessageCodec getCodec(Descriptors.Descriptor descriptor) {
+        MessageCodec codec = CODECS.get(descriptor);
+        if (codec == null) {
+            codec = CODECS.computeIfAbsent(descriptor, MessageCodec::new);
+        }
+        return codec;
+    }
+
+    /**
+     * Returns the fields of the message in the declared order.
+     *
+     * @return fields of the message.
+     */
+    FieldCodec[] getFields() {
+        return fields;
+    }
+
+    /**
+     * Returns the field descriptors of the message against the wire tag of the field.
+     *
+     * @return field descriptors by tag.
+     */
+    Map<Integer, Descriptors.FieldDescriptor> getFieldDescriptors() {
+        return fieldDescriptors;
+    }
+
+    /**
+     * Properties of a message field which are required to serialize the field.
+     */
+    static final class FieldCodec {
+
+        final Descriptors.FieldDescriptor descriptor;
+        final String name;
+        final int number;
+        final int type;
+        final int tagSize;
+        final boolean anyTypeUrl;
+
+        private FieldCodec(Descriptors.FieldDescriptor descriptor) {
+            this.descriptor = descriptor;
+            this.name = descriptor.getName();
+            this.number = descriptor.getNumber();
+            this.type = descriptor.getType().toProto().getNumber();
+            this.tagSize = CodedOutputStream.computeTagSize(number);
+            this.anyTypeUrl = GOOGLE_PROTOBUF_ANY_TYPE_URL.equals(descriptor.getFullName());
+        }
+    }
+}
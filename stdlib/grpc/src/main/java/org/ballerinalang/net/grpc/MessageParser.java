@@ -21,7 +21,6 @@ import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.net.grpc.exception.StatusRuntimeException;
 
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -71,13 +70,6 @@ public class MessageParser {
                     .fromCode(Status.Code.INTERNAL).withDescription("Couldn't find message descriptor for the " +
                             "message name: " + messageName)));
         }
-        Map<Integer, Descriptors.FieldDescriptor> fieldDescriptors = new HashMap<>();
-        for (Descriptors.FieldDescriptor fieldDescriptor : messageDescriptor.getFields()) {
-            Descriptors.FieldDescriptor.Type fieldType = fieldDescriptor.getType();
-            int number = fieldDescriptor.getNumber();
-            int byteCode = ((number << 3) + MessageUtils.getFieldWireType(fieldType));
-            fieldDescriptors.put(byteCode, fieldDescriptor);
-        }
-        return fieldDescriptors;
+        return MessageCodec.getCodec(messageDescriptor).getFieldDescriptors();
     }
 }
@@ -0,0 +1,309 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.net.grpc;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.AnyProto;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumDescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumValueDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.MessageOptions;
+import com.google.protobuf.DescriptorProtos.OneofDescriptorProto;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.api.BValueCreator;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Test class for the serialization of messages, against the encoding of protobuf-java.
+ */
+public class MessageSerializationTest {
+
+    private Descriptors.Descriptor outerDescriptor;
+    private Descriptors.Descriptor innerDescriptor;
+    private Descriptors.Descriptor countsEntryDescriptor;
+
+    @BeforeClass
+    public void setup() throws Descriptors.DescriptorValidationException {
+        DescriptorProto inner = DescriptorProto.newBuilder().setName("Inner")
+                .addField(field("name", 1, FieldDescriptorProto.Type.TYPE_STRING))
+                .addField(field("id", 2, FieldDescriptorProto.Type.TYPE_INT64))
+                .build();
+        DescriptorProto countsEntry = DescriptorProto.newBuilder().setName("CountsEntry")
+                .addField(field("key", 1, FieldDescriptorProto.Type.TYPE_STRING))
+                .addField(field("value", 2, FieldDescriptorProto.Type.TYPE_INT64))
+                .setOptions(MessageOptions.newBuilder().setMapEntry(true))
+                .build();
+        DescriptorProto outer = DescriptorProto.newBuilder().setName("Outer")
+                .addNestedType(countsEntry)
+                .addEnumType(EnumDescriptorProto.newBuilder().setName("Color")
+                        .addValue(EnumValueDescriptorProto.newBuilder().setName("RED").setNumber(0))
+                        .addValue(EnumValueDescriptorProto.newBuilder().setName("GREEN").setNumber(1)))
+                .addField(field("d", 1, FieldDescriptorProto.Type.TYPE_DOUBLE))
+                .addField(field("f", 2, FieldDescriptorProto.Type.TYPE_FLOAT))
+                .addField(field("i64", 3, FieldDescriptorProto.Type.TYPE_INT64))
+                .addField(field("u64", 4, FieldDescriptorProto.Type.TYPE_UINT64))
+                .addField(field("i32", 5, FieldDescriptorProto.Type.TYPE_INT32))
+                .addField(field("fx64", 6, FieldDescriptorProto.Type.TYPE_FIXED64))
+                .addField(field("fx32", 7, FieldDescriptorProto.Type.TYPE_FIXED32))
+                .addField(field("b", 8, FieldDescriptorProto.Type.TYPE_BOOL))
+                .addField(field("s", 9, FieldDescriptorProto.Type.TYPE_STRING))
+                .addField(field("by", 10, FieldDescriptorProto.Type.TYPE_BYTES))
+                .addField(field("inner", 11, FieldDescriptorProto.Type.TYPE_MESSAGE).setTypeName(".grpctest.Inner"))
+                .addField(repeated("inners", 12, FieldDescriptorProto.Type.TYPE_MESSAGE)
+                        .setTypeName(".grpctest.Inner"))
+                .addField(repeated("packed_ints", 13, FieldDescriptorProto.Type.TYPE_INT64))
+                .addField(repeated("names", 14, FieldDescriptorProto.Type.TYPE_STRING))
+                .addField(repeated("counts", 15, FieldDescriptorProto.Type.TYPE_MESSAGE)
+                        .setTypeName(".grpctest.Outer.CountsEntry"))
+                .addField(field("detail", 16, FieldDescriptorProto.Type.TYPE_MESSAGE)
+                        .setTypeName(".google.protobuf.Any"))
+                .addField(repeated("details", 17, FieldDescriptorProto.Type.TYPE_MESSAGE)
+                        .setTypeName(".google.protobuf.Any"))
+                .addOneofDecl(OneofDescriptorProto.newBuilder().setName("choice"))
+                .addField(field("text", 18, FieldDescriptorProto.Type.TYPE_STRING).setOneofIndex(0))
+                .addField(field("item", 19, FieldDescriptorProto.Type.TYPE_MESSAGE).setTypeName(".grpctest.Inner")
+                        .setOneofIndex(0))
+                .addField(field("color", 20, FieldDescriptorProto.Type.TYPE_ENUM)
+                        .setTypeName(".grpctest.Outer.Color"))
+                .build();
+        FileDescriptorProto file = FileDescriptorProto.newBuilder().setName("message_serialization_test.proto")
+                .setPackage("grpctest").setSyntax("proto3").addDependency("google/protobuf/any.proto")
+                .addMessageType(inner).addMessageType(outer).build();
+        Descriptors.FileDescriptor fileDescriptor = Descriptors.FileDescriptor.buildFrom(file,
+                new Descriptors.FileDescriptor[]{AnyProto.getDescriptor()});
+        innerDescriptor = fileDescriptor.findMessageTypeByName("Inner");
+        outerDescriptor = fileDescriptor.findMessageTypeByName("Outer");
+        countsEntryDescriptor = outerDescriptor.findNestedTypeByName("CountsEntry");
+    }
+
+    @Test(description = "Test serializing scalar, enum and nested message fields")
+    public void testScalarAndNestedFields() throws IOException {
+        MapValueImpl<String, Object> value = new MapValueImpl<>();
+        value.put("d", 1.25);
+        value.put("f", 2.5);
+        value.put("i64", -300L);
+        value.put("u64", 400L);
+        value.put("i32", -7L);
+        value.put("fx64", 123456789L);
+        value.put("fx32", 42L);
+        value.put("b", true);
+        value.put("s", "ballerina");
+        value.put("by", BValueCreator.createArrayValue(new byte[]{1, 2, 3}));
+        value.put("inner", innerValue("nested", 9));
+        value.put("color", "GREEN");
+
+        DynamicMessage expected = DynamicMessage.newBuilder(outerDescriptor)
+                .setField(outerField("d"), 1.25)
+                .setField(outerField("f"), 2.5f)
+                .setField(outerField("i64"), -300L)
+                .setField(outerField("u64"), 400L)
+                .setField(outerField("i32"), -7)
+                .setField(outerField("fx64"), 123456789L)
+                .setField(outerField("fx32"), 42)
+                .setField(outerField("b"), true)
+                .setField(outerField("s"), "ballerina")
+                .setField(outerField("by"), ByteString.copyFrom(new byte[]{1, 2, 3}))
+                .setField(outerField("inner"), innerMessage("nested", 9))
+                .setField(outerField("color"), outerDescriptor.findEnumTypeByName("Color").findValueByName("GREEN"))
+                .build();
+        assertSameEncoding(value, expected);
+    }
+
+    @Test(description = "Test serializing repeated message and string fields")
+    public void testRepeatedFields() throws IOException {
+        MapValueImpl<String, Object> value = new MapValueImpl<>();
+        value.put("inners", BValueCreator.createArrayValue(new Object[]{innerValue("a", 1), innerValue("b", 2)},
+                new BArrayType(BTypes.typeMap)));
+        value.put("names", BValueCreator.createArrayValue(new String[]{"x", "y", "z"}));
+
+        DynamicMessage expected = DynamicMessage.newBuilder(outerDescriptor)
+                .addRepeatedField(outerField("inners"), innerMessage("a", 1))
+                .addRepeatedField(outerField("inners"), innerMessage("b", 2))
+                .addRepeatedField(outerField("names"), "x")
+                .addRepeatedField(outerField("names"), "y")
+                .addRepeatedField(outerField("names"), "z")
+                .build();
+        assertSameEncoding(value, expected);
+    }
+
+    @Test(description = "Test a repeated scalar field, which protobuf-java packs, is read back as the same values")
+    public void testPackedField() throws IOException {
+        MapValueImpl<String, Object> value = new MapValueImpl<>();
+        value.put("packed_ints", BValueCreator.createArrayValue(new long[]{1, 300, -5}));
+
+        DynamicMessage expected = DynamicMessage.newBuilder(outerDescriptor)
+                .addRepeatedField(outerField("packed_ints"), 1L)
+                .addRepeatedField(outerField("packed_ints"), 300L)
+                .addRepeatedField(outerField("packed_ints"), -5L)
+                .build();
+        // Repeated scalars are written unpacked, which protobuf parsers accept for packed fields as well.
+        byte[] bytes = serialize(new Message(outerDescriptor, value));
+        Assert.assertEquals(DynamicMessage.parseFrom(outerDescriptor, bytes), expected);
+    }
+
+    @Test(description = "Test serializing a map field as repeated entries")
+    public void testMapField() throws IOException {
+        MapValueImpl<String, Object> first = new MapValueImpl<>();
+        first.put("key", "one");
+        first.put("value", 1L);
+        MapValueImpl<String, Object> second = new MapValueImpl<>();
+        second.put("key", "two");
+        second.put("value", 2L);
+        MapValueImpl<String, Object> value = new MapValueImpl<>();
+        value.put("counts", BValueCreator.createArrayValue(new Object[]{first, second},
+                new BArrayType(BTypes.typeMap)));
+
+        DynamicMessage expected = DynamicMessage.newBuilder(outerDescriptor)
+                .addRepeatedField(outerField("counts"), countsEntry("one", 1))
+                .addRepeatedField(outerField("counts"), countsEntry("two", 2))
+                .build();
+        assertSameEncoding(value, expected);
+    }
+
+    @Test(description = "Test serializing singular and repeated google.protobuf.Any fields")
+    public void testAnyFields() throws IOException {
+        byte[] payload = innerMessage("packed", 5).toByteArray();
+        MapValueImpl<String, Object> value = new MapValueImpl<>();
+        value.put("detail", anyValue("type.googleapis.com/grpctest.Inner", payload));
+        value.put("details", BValueCreator.createArrayValue(new Object[]{
+                anyValue("type.googleapis.com/grpctest.Inner", payload),
+                anyValue("type.googleapis.com/grpctest.Other", new byte[]{8, 1})}, new BArrayType(BTypes.typeMap)));
+
+        DynamicMessage expected = DynamicMessage.newBuilder(outerDescriptor)
+                .setField(outerField("detail"), anyMessage("type.googleapis.com/grpctest.Inner", payload))
+                .addRepeatedField(outerField("details"), anyMessage("type.googleapis.com/grpctest.Inner", payload))
+                .addRepeatedField(outerField("details"), anyMessage("type.googleapis.com/grpctest.Other",
+                        new byte[]{8, 1}))
+                .build();
+        assertSameEncoding(value, expected);
+    }
+
+    @Test(description = "Test serializing a oneof field")
+    public void testOneofField() throws IOException {
+        MapValueImpl<String, Object> value = new MapValueImpl<>();
+        value.put("item", innerValue("chosen", 3));
+
+        DynamicMessage expected = DynamicMessage.newBuilder(outerDescriptor)
+                .setField(outerField("item"), innerMessage("chosen", 3))
+                .build();
+        assertSameEncoding(value, expected);
+        DynamicMessage parsed = DynamicMessage.parseFrom(outerDescriptor,
+                serialize(new Message(outerDescriptor, value)));
+        Assert.assertEquals(parsed.getOneofFieldDescriptor(outerDescriptor.getOneofs().get(0)), outerField("item"));
+    }
+
+    @Test(description = "Test writing a message without computing its size first, and writing it more than once")
+    public void testWriteWithoutComputingSize() throws IOException {
+        MapValueImpl<String, Object> value = new MapValueImpl<>();
+        value.put("inner", innerValue("nested", 1));
+        value.put("inners", BValueCreator.createArrayValue(new Object[]{innerValue("a", 1), innerValue("b", 2)},
+                new BArrayType(BTypes.typeMap)));
+        byte[] expected = DynamicMessage.newBuilder(outerDescriptor)
+                .setField(outerField("inner"), innerMessage("nested", 1))
+                .addRepeatedField(outerField("inners"), innerMessage("a", 1))
+                .addRepeatedField(outerField("inners"), innerMessage("b", 2))
+                .build().toByteArray();
+
+        Message message = new Message(outerDescriptor, value);
+        Assert.assertEquals(writeToStream(message), expected);
+        Assert.assertEquals(writeToStream(message), expected);
+    }
+
+    private void assertSameEncoding(MapValueImpl<String, Object> value, DynamicMessage expected) throws IOException {
+        Message message = new Message(outerDescriptor, value);
+        Assert.assertEquals(message.getSerializedSize(), expected.getSerializedSize());
+        byte[] bytes = serialize(message);
+        Assert.assertEquals(bytes, expected.toByteArray());
+        Assert.assertEquals(DynamicMessage.parseFrom(outerDescriptor, bytes),
+                DynamicMessage.parseFrom(outerDescriptor, expected.toByteArray()));
+    }
+
+    private static byte[] serialize(Message message) throws IOException {
+        byte[] bytes = new byte[message.getSerializedSize()];
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        message.writeTo(output);
+        output.checkNoSpaceLeft();
+        return bytes;
+    }
+
+    private static byte[] writeToStream(Message message) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        CodedOutputStream output = CodedOutputStream.newInstance(stream);
+        message.writeTo(output);
+        output.flush();
+        return stream.toByteArray();
+    }
+
+    private Descriptors.FieldDescriptor outerField(String name) {
+        return outerDescriptor.findFieldByName(name);
+    }
+
+    private static MapValueImpl<String, Object> innerValue(String name, long id) {
+        MapValueImpl<String, Object> value = new MapValueImpl<>();
+        value.put("name", name);
+        value.put("id", id);
+        return value;
+    }
+
+    private DynamicMessage innerMessage(String name, long id) {
+        return DynamicMessage.newBuilder(innerDescriptor)
+                .setField(innerDescriptor.findFieldByName("name"), name)
+                .setField(innerDescriptor.findFieldByName("id"), id)
+                .build();
+    }
+
+    private DynamicMessage countsEntry(String key, long count) {
+        return DynamicMessage.newBuilder(countsEntryDescriptor)
+                .setField(countsEntryDescriptor.findFieldByName("key"), key)
+                .setField(countsEntryDescriptor.findFieldByName("value"), count)
+                .build();
+    }
+
+    private static MapValueImpl<String, Object> anyValue(String typeUrl, byte[] payload) {
+        MapValueImpl<String, Object> value = new MapValueImpl<>();
+        value.put("type_url", typeUrl);
+        value.put("value", BValueCreator.createArrayValue(payload));
+        return value;
+    }
+
+    private static Any anyMessage(String typeUrl, byte[] payload) {
+        return Any.newBuilder().setTypeUrl(typeUrl).setValue(ByteString.copyFrom(payload)).build();
+    }
+
+    private static FieldDescriptorProto.Builder field(String name, int number, FieldDescriptorProto.Type type) {
+        return FieldDescriptorProto.newBuilder().setName(name).setNumber(number).setType(type)
+                .setLabel(FieldDescriptorProto.Label.LABEL_OPTIONAL);
+    }
+
+    private static FieldDescriptorProto.Builder repeated(String name, int number, FieldDescriptorProto.Type type) {
+        return field(name, number, type).setLabel(FieldDescriptorProto.Label.LABEL_REPEATED);
+    }
+}
@@ -63,6 +63,10 @@ public const string PROXY_REVALIDATE = "proxy-revalidate";
 # In shared caches, `s-maxage` overrides the `max-age` or `expires` header field.
 public const string S_MAX_AGE = "s-maxage";
 
+# Indicates that a cache may serve the response for the specified number of seconds after it becomes stale, while
+# the response is validated with the origin server in the background.
+public const string STALE_WHILE_REVALIDATE = "stale-while-revalidate";
+
 // Other constants
 # Setting this as the `max-stale` directives indicates that the `max-stale` directive does not specify a limit.
 public const int MAX_STALE_ANY_AGE = 9223372036854775807;
@@ -145,6 +149,7 @@ public type RequestCacheControl object {
 # + proxyRevalidate - Sets the `proxy-revalidate` directive
 # + maxAge - Sets the `max-age` directive
 # + sMaxAge - Sets the `s-maxage` directive
+# + staleWhileRevalidate - Sets the `stale-while-revalidate` directive
 # + noCacheFields - Optional fields for the `no-cache` directive. Before sending a listed field in a response, it
 #                   must be validated with the origin server.
 # + privateFields - Optional fields for the `private` directive. A cache can omit the fields specified and store
@@ -159,6 +164,7 @@ public type ResponseCacheControl object {
     public boolean proxyRevalidate = false;
     public int maxAge = -1;
     public int sMaxAge = -1;
+    public int staleWhileRevalidate = -1;
     public string[] noCacheFields = [];
     public string[] privateFields = [];
 
@@ -211,6 +217,11 @@ public type ResponseCacheControl object {
             i = i + 1;
         }
 
+        if (self.staleWhileRevalidate >= 0) {
+            directives[i] = STALE_WHILE_REVALIDATE + "=" + self.staleWhileRevalidate.toString();
+            i = i + 1;
+        }
+
         return buildCommaSeparatedString(directives);
     }
 };
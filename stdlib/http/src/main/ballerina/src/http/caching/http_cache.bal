@@ -25,11 +25,14 @@ import ballerina/log;
 #            `CACHE_CONTROL_AND_VALIDATORS`. The default behaviour is to allow caching only when the `cache-control`
 #            header and either the `etag` or `last-modified` header are present.
 # + isShared - Specifies whether the HTTP caching layer should behave as a public cache or a private cache
+# + maxEntityBodySize - The maximum size of a response payload in bytes, which can be cached
 public type HttpCache object {
 
     public cache:Cache cache;
     public CachingPolicy policy = CACHE_CONTROL_AND_VALIDATORS;
     public boolean isShared = false;
+    public int maxEntityBodySize = -1;
+    private map<boolean> revalidationsInProgress = {};
 
     # Creates the HTTP cache.
     #
@@ -42,6 +45,7 @@ public type HttpCache object {
         self.cache = new cache:Cache(config);
         self.policy = cacheConfig.policy;
         self.isShared = cacheConfig.isShared;
+        self.maxEntityBodySize = cacheConfig.maxEntityBodySize;
     }
 
     function isAllowedToCache(Response response) returns boolean {
@@ -61,6 +65,13 @@ public type HttpCache object {
             // IMPT: The call to getBinaryPayload() builds the payload from the stream. If this is not done, the stream
             // will be read by the client and the response will be after the first cache hit.
             var binaryPayload = inboundResponse.getBinaryPayload();
+            if (binaryPayload is byte[] && self.maxEntityBodySize >= 0 &&
+                    binaryPayload.length() > self.maxEntityBodySize) {
+                log:printDebug(function() returns string {
+                    return "Payload of the response for: " + key + " is too large to be cached";
+                });
+                return;
+            }
             log:printDebug(function() returns string {
                 return "Adding new cache entry for: " + key;
             });
@@ -151,6 +162,37 @@ public type HttpCache object {
         return matchingResponses;
     }
 
+    // Replaces a stored response with its refreshed copy, leaving the other responses stored for the key as they are.
+    function replace(string key, Response storedResponse, Response refreshedResponse) {
+        var cacheEntry = self.cache.get(key);
+        if (cacheEntry is Response[]) {
+            foreach var [i, response] in cacheEntry.enumerate() {
+                if (response === storedResponse) {
+                    cacheEntry[i] = refreshedResponse;
+                    return;
+                }
+            }
+        }
+    }
+
+    // Marks the response of the given key as being revalidated, so that concurrent requests for a stale response
+    // trigger a single revalidation with the origin server.
+    function tryStartRevalidation(string key) returns boolean {
+        lock {
+            if (self.revalidationsInProgress.hasKey(key)) {
+                return false;
+            }
+            self.revalidationsInProgress[key] = true;
+            return true;
+        }
+    }
+
+    function endRevalidation(string key) {
+        lock {
+            _ = self.revalidationsInProgress.remove(key);
+        }
+    }
+
     function remove(string key) {
         cache:Error? result = self.cache.invalidate(key);
         if (result is cache:Error) {
@@ -161,6 +203,22 @@ public type HttpCache object {
     }
 };
 
+map<HttpCache> sharedHttpCaches = {};
+
+// Returns the process-wide HTTP cache registered with the given name. The cache is created with the configurations of
+// the first client which asks for it.
+function getSharedHttpCache(string name, CacheConfig cacheConfig) returns HttpCache {
+    lock {
+        HttpCache? sharedCache = sharedHttpCaches[name];
+        if (sharedCache is HttpCache) {
+            return sharedCache;
+        }
+        HttpCache httpCache = new(cacheConfig);
+        sharedHttpCaches[name] = httpCache;
+        return httpCache;
+    }
+}
+
 function isCacheableStatusCode(int statusCode) returns boolean {
     return statusCode == STATUS_OK || statusCode == STATUS_NON_AUTHORITATIVE_INFORMATION ||
            statusCode == STATUS_NO_CONTENT || statusCode == STATUS_PARTIAL_CONTENT ||
@@ -59,12 +59,19 @@ public const RFC_7234 = "RFC_7234";
 # + policy - Gives the user some control over the caching behaviour. By default, this is set to
 #            `CACHE_CONTROL_AND_VALIDATORS`. The default behaviour is to allow caching only when the `cache-control`
 #            header and either the `etag` or `last-modified` header are present.
+# + sharedCacheName - The name of a process-wide HTTP cache to be shared between caching clients. The clients
+#                     configured with the same name use a single cache, which is created with the configurations of
+#                     the first client. By default, each client has its own cache.
+# + maxEntityBodySize - The maximum size of a response payload in bytes, which can be cached. Responses with larger
+#                       payloads are not cached. A negative value indicates that there is no limit.
 public type CacheConfig record {|
     boolean enabled = false;
     boolean isShared = false;
     int capacity = 8388608; // 8MB
     float evictionFactor = 0.2;
     CachingPolicy policy = CACHE_CONTROL_AND_VALIDATORS;
+    string? sharedCacheName = ();
+    int maxEntityBodySize = -1;
 |};
 
 # An HTTP caching client implementation which takes an `HttpActions` instance and wraps it with an HTTP caching layer.
@@ -97,7 +104,13 @@ public type HttpCachingClient client object {
             error clientError = httpSecureClient;
             panic <error> httpSecureClient;
         }
-        self.cache = new HttpCache(cacheConfig);
+        self.url = url;
+        string? sharedCacheName = cacheConfig.sharedCacheName;
+        if (sharedCacheName is string) {
+            self.cache = getSharedHttpCache(sharedCacheName, cacheConfig);
+        } else {
+            self.cache = new HttpCache(cacheConfig);
+        }
     }
 
     # Responses returned for POST requests are not cacheable. Therefore, the requests are simply directed to the
@@ -113,7 +126,7 @@ public type HttpCachingClient client object {
 
         var inboundResponse = self.httpClient->post(path, req);
         if (inboundResponse is Response) {
-            invalidateResponses(self.cache, inboundResponse, path);
+            invalidateResponses(self.cache, inboundResponse, self.url + path);
         }
         return inboundResponse;
     }
@@ -128,7 +141,8 @@ public type HttpCachingClient client object {
     public remote function head(string path, public RequestMessage message = ()) returns @tainted Response|ClientError {
         Request req = <Request>message;
         setRequestCacheControlHeader(req);
-        return getCachedResponse(self.cache, self.httpClient, req, HEAD, path, self.cacheConfig.isShared, false);
+        return getCachedResponse(self.cache, self.httpClient, req, HEAD, self.url, path, self.cacheConfig.isShared,
+                                 false);
     }
 
     # Responses returned for PUT requests are not cacheable. Therefore, the requests are simply directed to the
@@ -144,7 +158,7 @@ public type HttpCachingClient client object {
 
         var inboundResponse = self.httpClient->put(path, req);
         if (inboundResponse is Response) {
-            invalidateResponses(self.cache, inboundResponse, path);
+            invalidateResponses(self.cache, inboundResponse, self.url + path);
         }
         return inboundResponse;
     }
@@ -163,13 +177,13 @@ public type HttpCachingClient client object {
         setRequestCacheControlHeader(request);
 
         if (httpMethod == GET || httpMethod == HEAD) {
-            return getCachedResponse(self.cache, self.httpClient, request, httpMethod, path,
+            return getCachedResponse(self.cache, self.httpClient, request, httpMethod, self.url, path,
                                      self.cacheConfig.isShared, false);
         }
 
         var inboundResponse = self.httpClient->execute(httpMethod, path, request);
         if (inboundResponse is Response) {
-            invalidateResponses(self.cache, inboundResponse, path);
+            invalidateResponses(self.cache, inboundResponse, self.url + path);
         }
         return inboundResponse;
     }
@@ -187,7 +201,7 @@ public type HttpCachingClient client object {
 
         var inboundResponse = self.httpClient->patch(path, req);
         if (inboundResponse is Response) {
-            invalidateResponses(self.cache, inboundResponse, path);
+            invalidateResponses(self.cache, inboundResponse, self.url + path);
         }
         return inboundResponse;
     }
@@ -205,7 +219,7 @@ public type HttpCachingClient client object {
 
         var inboundResponse = self.httpClient->delete(path, req);
         if (inboundResponse is Response) {
-            invalidateResponses(self.cache, inboundResponse, path);
+            invalidateResponses(self.cache, inboundResponse, self.url + path);
         }
         return inboundResponse;
     }
@@ -220,7 +234,8 @@ public type HttpCachingClient client object {
     public remote function get(string path, public RequestMessage message = ()) returns @tainted Response|ClientError {
         Request req = <Request>message;
         setRequestCacheControlHeader(req);
-        return getCachedResponse(self.cache, self.httpClient, req, GET, path, self.cacheConfig.isShared, false);
+        return getCachedResponse(self.cache, self.httpClient, req, GET, self.url, path, self.cacheConfig.isShared,
+                                 false);
     }
 
     # Responses returned for OPTIONS requests are not cacheable. Therefore, the requests are simply directed to the
@@ -236,7 +251,7 @@ public type HttpCachingClient client object {
 
         var inboundResponse = self.httpClient->options(path, message = req);
         if (inboundResponse is Response) {
-            invalidateResponses(self.cache, inboundResponse, path);
+            invalidateResponses(self.cache, inboundResponse, self.url + path);
         }
         return inboundResponse;
     }
@@ -249,13 +264,13 @@ public type HttpCachingClient client object {
     # + return - The response for the request or an `http:ClientError` if failed to establish communication with the upstream server
     public remote function forward(string path, @tainted Request request) returns @tainted Response|ClientError {
         if (request.method == GET || request.method == HEAD) {
-            return getCachedResponse(self.cache, self.httpClient, request, request.method, path,
+            return getCachedResponse(self.cache, self.httpClient, request, request.method, self.url, path,
                                      self.cacheConfig.isShared, true);
         }
 
         var inboundResponse = self.httpClient->forward(path, request);
         if (inboundResponse is Response) {
-            invalidateResponses(self.cache, inboundResponse, path);
+            invalidateResponses(self.cache, inboundResponse, self.url + path);
         }
         return inboundResponse;
     }
@@ -328,13 +343,16 @@ public function createHttpCachingClient(string url, ClientConfiguration config,
     return httpCachingClient;
 }
 
-function getCachedResponse(HttpCache cache, HttpClient httpClient, @tainted Request req, string httpMethod, string path,
-                           boolean isShared, boolean forwardRequest) returns @tainted Response|ClientError {
+function getCachedResponse(HttpCache cache, HttpClient httpClient, @tainted Request req, string httpMethod, string url,
+                           string path, boolean isShared, boolean forwardRequest)
+                                                                                returns @tainted Response|ClientError {
     time:Time currentT = time:currentTime();
     req.parseCacheControlHeader();
+    // The cache keys are built from the full URL, since the cache may be shared between clients of different hosts.
+    string cacheKey = getCacheKey(httpMethod, url + path);
 
-    if (cache.hasKey(getCacheKey(httpMethod, path))) {
-        Response cachedResponse = cache.get(getCacheKey(httpMethod, path));
+    if (cache.hasKey(cacheKey)) {
+        Response cachedResponse = cache.get(cacheKey);
         // Based on https://tools.ietf.org/html/rfc7234#section-4
         log:printDebug(function() returns string {
             return "Cached response found for: '" + httpMethod + " " + path + "'";
@@ -355,7 +373,20 @@ function getCachedResponse(HttpCache cache, HttpClient httpClient, @tainted Requ
             }
 
             log:printDebug("Serving a cached fresh response after validating with the origin server");
-            return getValidationResponse(httpClient, req, cachedResponse, cache, currentT, path, httpMethod, true);
+            return getValidationResponse(httpClient, req, cachedResponse, cache, currentT, path, cacheKey, true);
+        }
+
+        // Based on https://tools.ietf.org/html/rfc5861#section-3
+        // A stale response within its stale-while-revalidate window is served straight away while a single request
+        // validates it with the origin server in the background, so that concurrent requests do not all hit the
+        // origin server.
+        if (isAllowedToRevalidateInBackground(reqCache, cachedResponse, isShared) && !req.hasHeader(PRAGMA)) {
+            if (cache.tryStartRevalidation(cacheKey)) {
+                _ = start revalidateInBackground(httpClient, req.cacheControl, cachedResponse, cache, path, cacheKey);
+            }
+            log:printDebug("Serving a cached stale response while validating it with the origin server");
+            cachedResponse.setHeader(WARNING, WARNING_110_RESPONSE_IS_STALE);
+            return cachedResponse;
         }
 
         // If a fresh response is not available, serve a stale response, provided that it is not prohibited by
@@ -375,7 +406,7 @@ function getCachedResponse(HttpCache cache, HttpClient httpClient, @tainted Requ
             return "Validating a stale response for '" + path + "' with the origin server.";
         });
         var validatedResponse = getValidationResponse(httpClient, req, cachedResponse, cache, currentT, path,
-                                                            httpMethod, false);
+                                                            cacheKey, false);
         if (validatedResponse is Response) {
             updateResponseTimestamps(validatedResponse, currentT.time, time:currentTime().time);
             setAgeHeader(validatedResponse);
@@ -395,7 +426,7 @@ function getCachedResponse(HttpCache cache, HttpClient httpClient, @tainted Requ
         if (cache.isAllowedToCache(response)) {
             response.requestTime = currentT.time;
             response.receivedTime = time:currentTime().time;
-            cache.put(<@untainted> getCacheKey(httpMethod, path), <@untainted> req.cacheControl, <@untainted> response);
+            cache.put(<@untainted> cacheKey, <@untainted> req.cacheControl, <@untainted> response);
         }
     }
     return response;
@@ -414,7 +445,7 @@ function isNoCacheSet(RequestCacheControl? reqCC, ResponseCacheControl? resCC) r
 }
 
 function getValidationResponse(HttpClient httpClient, Request req, Response cachedResponse, HttpCache cache,
-                               time:Time currentT, string path, string httpMethod, boolean isFreshResponse)
+                               time:Time currentT, string path, string cacheKey, boolean isFreshResponse)
                                                                                 returns @tainted Response|ClientError {
     // If the no-cache directive is set, always validate the response before serving
     Response validationResponse = new; // TODO: May have to make this Response?
@@ -450,7 +481,7 @@ function getValidationResponse(HttpClient httpClient, Request req, Response cach
     log:printDebug("Response for validation request received");
     // Based on https://tools.ietf.org/html/rfc7234#section-4.3.3
     if (validationResponse.statusCode == STATUS_NOT_MODIFIED) {
-        return handle304Response(validationResponse, cachedResponse, cache, path, httpMethod);
+        return handle304Response(validationResponse, cachedResponse, cache, cacheKey);
     } else if (validationResponse.statusCode >= 500 && validationResponse.statusCode < 600) {
         // May forward the response or act as if the origin server failed to respond and serve a
         // stored response
@@ -460,7 +491,7 @@ function getValidationResponse(HttpClient httpClient, Request req, Response cach
         // Forward the received response and replace the stored responses
         validationResponse.requestTime = currentT.time;
         if (req.cacheControl is RequestCacheControl) {
-            cache.put(getCacheKey(httpMethod, path), req.cacheControl, validationResponse);
+            cache.put(cacheKey, req.cacheControl, validationResponse);
         }
         log:printDebug("Received a full response. Storing it in cache and forwarding to the client");
         return validationResponse;
@@ -468,14 +499,14 @@ function getValidationResponse(HttpClient httpClient, Request req, Response cach
 }
 
 // Based on https://tools.ietf.org/html/rfc7234#section-4.3.4
-function handle304Response(Response validationResponse, Response cachedResponse, HttpCache cache, string path,
-                           string httpMethod) returns @tainted Response|ClientError {
+function handle304Response(Response validationResponse, Response cachedResponse, HttpCache cache, string cacheKey)
+                                                                                returns @tainted Response|ClientError {
     if (validationResponse.hasHeader(ETAG)) {
         string etag = validationResponse.getHeader(ETAG);
 
         if (isAStrongValidator(etag)) {
             // Assuming ETags are the only strong validators
-            Response[] matchingCachedResponses = cache.getAllByETag(getCacheKey(httpMethod, path), etag);
+            Response[] matchingCachedResponses = cache.getAllByETag(cacheKey, etag);
 
             foreach var resp in matchingCachedResponses {
                 updateResponse(resp, <@untainted> validationResponse);
@@ -484,7 +515,7 @@ function handle304Response(Response validationResponse, Response cachedResponse,
             return cachedResponse;
         } else if (hasAWeakValidator(validationResponse, etag)) {
             // The weak validator should be either an ETag or a last modified date. Precedence given to ETag
-            Response[] matchingCachedResponses = cache.getAllByWeakETag(getCacheKey(httpMethod, path), etag);
+            Response[] matchingCachedResponses = cache.getAllByWeakETag(cacheKey, etag);
 
             foreach var resp in matchingCachedResponses {
                 updateResponse(resp, validationResponse);
@@ -508,20 +539,20 @@ function handle304Response(Response validationResponse, Response cachedResponse,
 }
 
 // Based on https://tools.ietf.org/html/rfc7234#section-4.4
-function invalidateResponses(HttpCache httpCache, Response inboundResponse, string path) {
+function invalidateResponses(HttpCache httpCache, Response inboundResponse, string url) {
     // TODO: Improve this logic in accordance with the spec
     if (isCacheableStatusCode(inboundResponse.statusCode) &&
         inboundResponse.statusCode >= 200 && inboundResponse.statusCode < 400) {
-        cache:Error? result = httpCache.cache.invalidate(getCacheKey(GET, path));
+        cache:Error? result = httpCache.cache.invalidate(getCacheKey(GET, url));
         if (result is cache:Error) {
             log:printDebug(function() returns string {
-                return "Failed to remove the key: " + getCacheKey(GET, path) + " from the cache.";
+                return "Failed to remove the key: " + getCacheKey(GET, url) + " from the cache.";
             });
         }
-        result = httpCache.cache.invalidate(getCacheKey(HEAD, path));
+        result = httpCache.cache.invalidate(getCacheKey(HEAD, url));
         if (result is cache:Error) {
             log:printDebug(function() returns string {
-                return "Failed to remove the key: " + getCacheKey(GET, path) + " from the cache.";
+                return "Failed to remove the key: " + getCacheKey(HEAD, url) + " from the cache.";
             });
         }
     }
@@ -588,6 +619,74 @@ function isAllowedToBeServedStale(RequestCacheControl? requestCacheControl, Resp
     return isStaleResponseAccepted(requestCacheControl, cachedResponse, isSharedCache);
 }
 
+// Based on https://tools.ietf.org/html/rfc5861#section-3
+function isAllowedToRevalidateInBackground(RequestCacheControl? requestCacheControl, Response cachedResponse,
+                                           boolean isSharedCache) returns @tainted boolean {
+    var responseCacheControl = cachedResponse.cacheControl;
+    if (responseCacheControl is ResponseCacheControl) {
+        if (responseCacheControl.staleWhileRevalidate < 0 || responseCacheControl.noCache ||
+                isServingStaleProhibited(requestCacheControl, responseCacheControl)) {
+            return false;
+        }
+        int staleness = getResponseAge(cachedResponse) - getFreshnessLifetime(cachedResponse, isSharedCache);
+        return staleness <= responseCacheControl.staleWhileRevalidate;
+    }
+    return false;
+}
+
+// The cached response has already been served to the caller when this runs, hence it is only read here. A refreshed
+// copy of it replaces the stored response once the origin server confirms that it is still valid.
+function revalidateInBackground(HttpClient httpClient, RequestCacheControl? requestCacheControl,
+                                Response cachedResponse, HttpCache cache, string path, string cacheKey) {
+    int requestedTime = time:currentTime().time;
+    var validationResponse = sendValidationRequest(httpClient, path, cachedResponse);
+    if (validationResponse is ClientError) {
+        log:printDebug(function() returns string {
+            return "Failed to validate the stale response for: " + cacheKey + " in the background";
+        });
+    } else if (validationResponse.statusCode == STATUS_NOT_MODIFIED) {
+        Response refreshedResponse = copyCachedResponse(cachedResponse);
+        updateResponse(refreshedResponse, validationResponse);
+        // The age of the refreshed response is calculated from the validation response.
+        refreshedResponse.removeHeader(AGE);
+        if (!validationResponse.hasHeader(DATE)) {
+            refreshedResponse.removeHeader(DATE);
+        }
+        updateResponseTimestamps(refreshedResponse, requestedTime, time:currentTime().time);
+        setAgeHeader(<@untainted> refreshedResponse);
+        cache.replace(cacheKey, cachedResponse, refreshedResponse);
+        log:printDebug("304 response received for a background validation. Stored response refreshed");
+    } else if (validationResponse.statusCode < 500) {
+        // A full response replaces the stored response, as in the validations done while serving a request.
+        updateResponseTimestamps(validationResponse, requestedTime, time:currentTime().time);
+        cache.put(cacheKey, requestCacheControl, validationResponse);
+    }
+    cache.endRevalidation(cacheKey);
+}
+
+function copyCachedResponse(Response cachedResponse) returns @tainted Response {
+    Response copy = new;
+    copy.statusCode = cachedResponse.statusCode;
+    copy.reasonPhrase = cachedResponse.reasonPhrase;
+    copy.server = cachedResponse.server;
+    copy.resolvedRequestedURI = cachedResponse.resolvedRequestedURI;
+    copy.cacheControl = cachedResponse.cacheControl;
+    // The payload of a cached response has already been built when it was stored.
+    var payload = cachedResponse.getBinaryPayload();
+    if (payload is byte[]) {
+        copy.setBinaryPayload(<@untainted> payload);
+    }
+    string[] headerNames = <@untainted> cachedResponse.getHeaderNames();
+    foreach var headerName in headerNames {
+        copy.removeHeader(headerName);
+        string[] headerValues = <@untainted> cachedResponse.getHeaders(headerName);
+        foreach var headerValue in headerValues {
+            copy.addHeader(headerName, headerValue);
+        }
+    }
+    return copy;
+}
+
 // Based on https://tools.ietf.org/html/rfc7234#section-4.2.4
 function isServingStaleProhibited(RequestCacheControl? reqCC, ResponseCacheControl? resCC) returns boolean {
     // A cache MUST NOT generate a stale response if it is prohibited by an explicit in-protocol directive
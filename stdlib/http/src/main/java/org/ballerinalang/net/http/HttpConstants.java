@@ -274,6 +274,7 @@ public class HttpConstants {
     public static final String RES_CACHE_CONTROL_PROXY_REVALIDATE_FIELD = "proxyRevalidate";
     public static final String RES_CACHE_CONTROL_MAX_AGE_FIELD = "maxAge";
     public static final String RES_CACHE_CONTROL_S_MAXAGE_FIELD = "sMaxAge";
+    public static final String RES_CACHE_CONTROL_STALE_WHILE_REVALIDATE_FIELD = "staleWhileRevalidate";
     public static final String RES_CACHE_CONTROL_NO_CACHE_FIELDS_FIELD = "noCacheFields";
     public static final String RES_CACHE_CONTROL_PRIVATE_FIELDS_FIELD = "privateFields";
 
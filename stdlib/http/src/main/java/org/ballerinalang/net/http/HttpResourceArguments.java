@@ -28,7 +28,7 @@ import java.util.Map;
  */
 public class HttpResourceArguments {
 
-    private Map<String, String> resourceArgumentValues = new HashMap<>();
+    private Map<String, String> resourceArgumentValues;
 
     public HttpResourceArguments() {
         resourceArgumentValues = new HashMap<>();
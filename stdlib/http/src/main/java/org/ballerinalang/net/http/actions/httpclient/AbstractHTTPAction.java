@@ -321,8 +321,6 @@ public abstract class AbstractHTTPAction {
                 new ObservableHttpClientConnectorListener(dataContext) :
                 new HTTPClientConnectorListener(dataContext);
 
-        final HttpMessageDataStreamer outboundMsgDataStreamer = getHttpMessageDataStreamer(outboundRequestMsg);
-        final OutputStream messageOutputStream = outboundMsgDataStreamer.getOutputStream();
         ObjectValue requestObj = dataContext.getRequestObj();
         ObjectValue entityObj = null;
         if (requestObj != null) {
@@ -335,6 +333,12 @@ public abstract class AbstractHTTPAction {
                 outboundRequestMsg.setPassthrough(true);
             }
         }
+        // The content chunks of a passthrough request are written straight to the connection by the transport, hence
+        // a data streamer is only needed when the entity body has to be serialized.
+        OutputStream messageOutputStream = null;
+        if (entityObj != null) {
+            messageOutputStream = getHttpMessageDataStreamer(outboundRequestMsg).getOutputStream();
+        }
 
         HttpResponseFuture future = clientConnector.send(outboundRequestMsg);
         if (async) {
@@ -52,14 +52,16 @@ public class Forward extends AbstractHTTPAction {
 
     protected static HttpCarbonMessage createOutboundRequestMsg(Strand strand, String serviceUri, String path,
                                                                 ObjectValue requestObj) {
-        if (requestObj.getNativeData(HttpConstants.REQUEST) == null &&
-                !HttpUtil.isEntityDataSourceAvailable(requestObj)) {
+        boolean entityDataSourceAvailable = HttpUtil.isEntityDataSourceAvailable(requestObj);
+        if (requestObj.getNativeData(HttpConstants.REQUEST) == null && !entityDataSourceAvailable) {
             throw new BallerinaException("invalid inbound request parameter");
         }
+        // The carbon message of an inbound request is reused, so that its content is relayed to the backend without
+        // being built into an entity body.
         HttpCarbonMessage outboundRequestMsg = HttpUtil
                 .getCarbonMsg(requestObj, HttpUtil.createHttpCarbonMessage(true));
 
-        if (HttpUtil.isEntityDataSourceAvailable(requestObj)) {
+        if (entityDataSourceAvailable) {
             HttpUtil.enrichOutboundMessage(outboundRequestMsg, requestObj);
             prepareOutboundRequest(strand, serviceUri, path, outboundRequestMsg,
                                    !checkRequestBodySizeHeadersAvailability(outboundRequestMsg));
@@ -36,6 +36,7 @@ import static org.ballerinalang.net.http.HttpConstants.RES_CACHE_CONTROL_NO_STOR
 import static org.ballerinalang.net.http.HttpConstants.RES_CACHE_CONTROL_NO_TRANSFORM_FIELD;
 import static org.ballerinalang.net.http.HttpConstants.RES_CACHE_CONTROL_PRIVATE_FIELDS_FIELD;
 import static org.ballerinalang.net.http.HttpConstants.RES_CACHE_CONTROL_PROXY_REVALIDATE_FIELD;
+import static org.ballerinalang.net.http.HttpConstants.RES_CACHE_CONTROL_STALE_WHILE_REVALIDATE_FIELD;
 import static org.ballerinalang.net.http.HttpConstants.RES_CACHE_CONTROL_S_MAXAGE_FIELD;
 import static org.ballerinalang.net.http.HttpUtil.FALSE;
 import static org.ballerinalang.net.http.HttpUtil.TRUE;
@@ -72,6 +73,7 @@ public class ResponseCacheControlObj {
         responseCacheControl.set(RES_CACHE_CONTROL_NO_TRANSFORM_FIELD, TRUE);
         responseCacheControl.set(RES_CACHE_CONTROL_MAX_AGE_FIELD, -1);
         responseCacheControl.set(RES_CACHE_CONTROL_S_MAXAGE_FIELD, -1);
+        responseCacheControl.set(RES_CACHE_CONTROL_STALE_WHILE_REVALIDATE_FIELD, -1);
     }
 
     public ResponseCacheControlObj setMustRevalidate(boolean mustRevalidate) {
@@ -126,6 +128,11 @@ public class ResponseCacheControlObj {
         return this;
     }
 
+    public ResponseCacheControlObj setStaleWhileRevalidate(long staleWhileRevalidate) {
+        responseCacheControl.set(RES_CACHE_CONTROL_STALE_WHILE_REVALIDATE_FIELD, staleWhileRevalidate);
+        return this;
+    }
+
     public void populateStruct(String cacheControlHeaderVal) {
         Map<CacheControlDirective, String> controlDirectives = CacheControlParser.parse(cacheControlHeaderVal);
 
@@ -179,6 +186,15 @@ public class ResponseCacheControlObj {
                         responseCacheControl.set(RES_CACHE_CONTROL_S_MAXAGE_FIELD, 0);
                     }
                     break;
+                case STALE_WHILE_REVALIDATE:
+                    try {
+                        responseCacheControl.set(RES_CACHE_CONTROL_STALE_WHILE_REVALIDATE_FIELD,
+                                                 Long.parseLong(value));
+                    } catch (NumberFormatException e) {
+                        // Ignore the exception and set 0 so that a stale response is always validated before serving.
+                        responseCacheControl.set(RES_CACHE_CONTROL_STALE_WHILE_REVALIDATE_FIELD, 0);
+                    }
+                    break;
                 default:
                     break;
             }
@@ -224,6 +240,11 @@ public class ResponseCacheControlObj {
             directivesBuilder.add("s-maxage=" + responseCacheControl.get(RES_CACHE_CONTROL_S_MAXAGE_FIELD));
         }
 
+        if (getIntValue(responseCacheControl, RES_CACHE_CONTROL_STALE_WHILE_REVALIDATE_FIELD) >= 0) {
+            directivesBuilder.add("stale-while-revalidate=" +
+                                          responseCacheControl.get(RES_CACHE_CONTROL_STALE_WHILE_REVALIDATE_FIELD));
+        }
+
         return directivesBuilder.toString();
     }
 
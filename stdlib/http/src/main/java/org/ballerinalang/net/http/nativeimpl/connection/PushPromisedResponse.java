@@ -68,7 +68,7 @@ public class PushPromisedResponse extends ConnectionAction {
                 HttpUtil.pushResponse(requestMessage, responseMessage, http2PushPromise);
         HttpMessageDataStreamer outboundMsgDataStreamer = getMessageDataStreamer(responseMessage);
         HttpConnectorListener outboundResStatusConnectorListener =
-                new ResponseWriter.HttpResponseConnectorListener(dataContext, outboundMsgDataStreamer);
+                new ResponseWriter.HttpResponseConnectorListener(dataContext, true);
         outboundRespStatusFuture.setHttpConnectorListener(outboundResStatusConnectorListener);
         OutputStream messageOutputStream = outboundMsgDataStreamer.getOutputStream();
 
@@ -63,23 +63,29 @@ public class ResponseWriter {
         if (HeaderUtil.isMultipart(contentType)) {
             boundaryString = HttpUtil.addBoundaryIfNotExist(responseMessage, contentType);
         }
-        HttpMessageDataStreamer outboundMsgDataStreamer = getResponseDataStreamer(responseMessage);
         ObjectValue entityObj = extractEntity(outboundResponse);
         if (entityObj == null) {
+            // The body has not been built, hence the content chunks of the carbon message are written straight to
+            // the connection by the transport, without a data streamer to serialize them. As there is no body
+            // serializer to be interrupted, a send failure need not be recorded as an IO exception.
             responseMessage.setPassthrough(true);
+            HttpResponseFuture outboundRespStatusFuture = HttpUtil.sendOutboundResponse(requestMessage,
+                                                                                        responseMessage);
+            outboundRespStatusFuture.setHttpConnectorListener(
+                    new ResponseWriter.HttpResponseConnectorListener(dataContext, false));
+            return;
         }
+        HttpMessageDataStreamer outboundMsgDataStreamer = getResponseDataStreamer(responseMessage);
         HttpResponseFuture outboundRespStatusFuture = HttpUtil.sendOutboundResponse(requestMessage, responseMessage);
         HttpConnectorListener outboundResStatusConnectorListener =
-                new ResponseWriter.HttpResponseConnectorListener(dataContext, outboundMsgDataStreamer);
+                new ResponseWriter.HttpResponseConnectorListener(dataContext, true);
         outboundRespStatusFuture.setHttpConnectorListener(outboundResStatusConnectorListener);
         OutputStream messageOutputStream = outboundMsgDataStreamer.getOutputStream();
-        if (entityObj != null) {
-            if (boundaryString != null) {
-                serializeMultiparts(boundaryString, entityObj, messageOutputStream);
-            } else {
-                Object outboundMessageSource = EntityBodyHandler.getMessageDataSource(entityObj);
-                serializeDataSource(outboundMessageSource, entityObj, messageOutputStream);
-            }
+        if (boundaryString != null) {
+            serializeMultiparts(boundaryString, entityObj, messageOutputStream);
+        } else {
+            Object outboundMessageSource = EntityBodyHandler.getMessageDataSource(entityObj);
+            serializeDataSource(outboundMessageSource, entityObj, messageOutputStream);
         }
     }
 
@@ -156,15 +162,15 @@ public class ResponseWriter {
     static class HttpResponseConnectorListener implements HttpConnectorListener {
 
         private final DataContext dataContext;
-        private HttpMessageDataStreamer outboundMsgDataStreamer;
+        private boolean hasOutboundMessageBody;
 
         HttpResponseConnectorListener(DataContext dataContext) {
             this.dataContext = dataContext;
         }
 
-        HttpResponseConnectorListener(DataContext dataContext, HttpMessageDataStreamer outboundMsgDataStreamer) {
+        HttpResponseConnectorListener(DataContext dataContext, boolean hasOutboundMessageBody) {
             this.dataContext = dataContext;
-            this.outboundMsgDataStreamer = outboundMsgDataStreamer;
+            this.hasOutboundMessageBody = hasOutboundMessageBody;
         }
 
         @Override
@@ -176,7 +182,7 @@ public class ResponseWriter {
         public void onError(Throwable throwable) {
             ErrorValue httpConnectorError = HttpUtil.createHttpError(throwable.getMessage(),
                     HttpErrorType.GENERIC_LISTENER_ERROR);
-            if (outboundMsgDataStreamer != null) {
+            if (hasOutboundMessageBody) {
                 // Relevant transport state should set the IO Exception. Following code snippet is for other exceptions
                 if (!(throwable instanceof IOException)) {
                     this.dataContext.getOutboundRequest()
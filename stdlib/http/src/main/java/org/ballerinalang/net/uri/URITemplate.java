@@ -26,6 +26,8 @@ import org.ballerinalang.net.uri.parser.Node;
 import org.ballerinalang.net.uri.parser.URITemplateParser;
 
 import java.io.UnsupportedEncodingException;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Basic URI Template implementation.
@@ -36,6 +38,9 @@ import java.io.UnsupportedEncodingException;
 public class URITemplate<DataType, InboundMsgType> {
 
     private Node<DataType, InboundMsgType> syntaxTree;
+    // Data elements of the templates which consist only of literal segments, keyed by their paths. A request path
+    // which exactly matches such a template is dispatched with a single lookup instead of walking the syntax tree.
+    private Map<String, DataElement<DataType, InboundMsgType>> literalPaths = new HashMap<>();
 
     public URITemplate(Node<DataType, InboundMsgType> syntaxTree) {
         this.syntaxTree = syntaxTree;
@@ -43,6 +48,12 @@ public class URITemplate<DataType, InboundMsgType> {
 
     public DataType matches(String uri, HttpResourceArguments variables, InboundMsgType inboundMsg) {
         DataReturnAgent<DataType> dataReturnAgent = new DataReturnAgent<>();
+        // The syntax tree tries the literal nodes first, hence it would find the same data element for an exact
+        // literal match. It is walked only if the data element rejects the inbound message.
+        DataElement<DataType, InboundMsgType> literalPathElement = literalPaths.get(uri);
+        if (literalPathElement != null && literalPathElement.getData(inboundMsg, dataReturnAgent)) {
+            return dataReturnAgent.getData();
+        }
         boolean isFound = syntaxTree.matchAll(uri, variables, 0, inboundMsg, dataReturnAgent);
         if (isFound) {
             return dataReturnAgent.getData();
@@ -59,7 +70,27 @@ public class URITemplate<DataType, InboundMsgType> {
         uriTemplate = removeTheFirstAndLastBackSlash(uriTemplate);
 
         URITemplateParser<DataType, InboundMsgType> parser = new URITemplateParser<>(syntaxTree, elementCreator);
-        parser.parse(uriTemplate, resource);
+        Node<DataType, InboundMsgType> resourceNode = parser.parse(uriTemplate, resource);
+        if (isLiteralPath(uriTemplate)) {
+            String path = "/".equals(uriTemplate) ? uriTemplate : "/" + uriTemplate;
+            literalPaths.put(path, resourceNode.getDataElement());
+        }
+    }
+
+    private boolean isLiteralPath(String template) {
+        if ("/".equals(template)) {
+            return true;
+        }
+        if (template.isEmpty() || template.endsWith("/") || template.contains("//")) {
+            return false;
+        }
+        for (int i = 0; i < template.length(); i++) {
+            char ch = template.charAt(i);
+            if (ch == '{' || ch == '}' || ch == '*') {
+                return false;
+            }
+        }
+        return true;
     }
 
     private String removeTheFirstAndLastBackSlash(String template) throws URITemplateException {
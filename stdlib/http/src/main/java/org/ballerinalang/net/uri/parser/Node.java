@@ -43,7 +43,7 @@ public abstract class Node<DataType, InboundMsgType> {
         this.token = token;
     }
 
-    DataElement<DataType, InboundMsgType> getDataElement() {
+    public DataElement<DataType, InboundMsgType> getDataElement() {
         return dataElement;
     }
 
@@ -113,7 +113,7 @@ public class URITemplateParser<DataType, InboundMgsType> {
         }
         this.currentNode.getDataElement().setData(resource);
 
-        return syntaxTree;
+        return currentNode;
     }
 
     private void addNode(Node<DataType, InboundMgsType> node) throws URITemplateException {
@@ -22,12 +22,14 @@ import ballerina/java;
 #```
 #
 # + path - Relative/absolute path string to locate the file
+# + memoryMapped - Whether the file should be read through a memory mapping, which suits reading large files
 # + return - The `ByteChannel` representation of the file resource or else an `io:Error` if any error occurred
-public function openReadableFile(@untainted string path) returns @tainted ReadableByteChannel|Error {
-    return openReadableFileExtern(java:fromString(path));
+public function openReadableFile(@untainted string path, boolean memoryMapped = false)
+                                 returns @tainted ReadableByteChannel|Error {
+    return openReadableFileExtern(java:fromString(path), memoryMapped);
 }
 
-function openReadableFileExtern(@untainted handle path) returns @tainted ReadableByteChannel|Error = @java:Method {
+function openReadableFileExtern(@untainted handle path, boolean memoryMapped) returns @tainted ReadableByteChannel|Error = @java:Method {
     name: "openReadableFile",
     class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
 } external;
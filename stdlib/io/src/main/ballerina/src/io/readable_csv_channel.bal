@@ -14,6 +14,8 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/java;
+
 # Represents a ReadableCSVChannel which could be used to read records from CSV file.
 public type ReadableCSVChannel object {
     private ReadableTextRecordChannel? dc;
@@ -80,6 +82,23 @@ public type ReadableCSVChannel object {
         return ();
     }
 
+# Returns a stream of records, which corresponds to the CSV records. The records are read from the channel as the
+# stream is iterated, hence the CSV content is not loaded into memory at once.
+# ```ballerina
+# stream<record {}, io:Error>|io:Error employees = readableCSVChannel.getStream(Employee);
+# ```
+#
+# + recordType - The record type to which the CSV records should be mapped, fields are mapped in the declared order
+# + return - Stream of records, which represents the CSV records or else an `io:Error` if the channel is closed
+    public function getStream(typedesc<record {}> recordType) returns @tainted stream<record {}, Error>|Error {
+        var recordChannel = self.dc;
+        if (recordChannel is ReadableTextRecordChannel) {
+            return getStreamExtern(recordChannel, recordType);
+        }
+        GenericError e = error(GENERIC_ERROR, message = "channel not initialized");
+        return e;
+    }
+
 # Closes a given `CSVChannel`.
 # ```ballerina
 # io:Error? err = readableCSVChannel.close();
@@ -94,6 +113,40 @@ public type ReadableCSVChannel object {
         return ();
     }
 
+# The iterator, which is used to read the records in the stream returned by `ReadableCSVChannel.getStream()`.
+type CSVRecordIterator object {
+    private ReadableTextRecordChannel recordChannel;
+    private typedesc<record {}> recordType;
+
+    public function __init(ReadableTextRecordChannel recordChannel, typedesc<record {}> recordType) {
+        self.recordChannel = recordChannel;
+        self.recordType = recordType;
+    }
+
+    public function next() returns @tainted record {|record {} value;|}|Error? {
+        record {}|Error? result = getNextRecordExtern(self.recordChannel, self.recordType);
+        if (result is record {}) {
+            record {|
+                record {} value;
+            |} streamRecord = {value: result};
+            return streamRecord;
+        }
+        return result;
+    }
+};
+
+function getStreamExtern(ReadableTextRecordChannel recordChannel, typedesc<record {}> recordType)
+            returns @tainted stream<record {}, Error>|Error = @java:Method {
+    name: "getStream",
+    class: "org.ballerinalang.stdlib.io.nativeimpl.RecordChannelUtils"
+} external;
+
+function getNextRecordExtern(ReadableTextRecordChannel recordChannel, typedesc<record {}> recordType)
+            returns @tainted record {}|Error? = @java:Method {
+    name: "getNextRecord",
+    class: "org.ballerinalang.stdlib.io.nativeimpl.RecordChannelUtils"
+} external;
+
 //TODO Table remove - Fix
 //# Returns a table, which corresponds to the CSV records.
 //# ```ballerina
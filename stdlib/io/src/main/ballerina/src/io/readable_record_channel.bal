@@ -59,7 +59,9 @@ public type ReadableTextRecordChannel object {
         } else {
             string[] records = [];
             foreach handle v in result {
-                records.push(<string>java:toString(v));
+                // blank fields of formats which ignore blanks are read as empty strings
+                string? fieldValue = java:toString(v);
+                records.push(fieldValue is string ? fieldValue : "");
             }
             return records;
         }
@@ -21,6 +21,8 @@ import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.utils.IOUtils;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.WritableByteChannel;
 
@@ -36,9 +38,76 @@ public class FileIOChannel extends Channel {
      */
     private FileChannel channel;
 
+    /**
+     * Maximum size of the file region which is mapped to memory at a time.
+     */
+    private static final long MAPPED_REGION_SIZE = 64L * 1024 * 1024;
+
+    /**
+     * Specifies whether reads are served from a memory mapped region of the file.
+     */
+    private boolean memoryMapped;
+
+    /**
+     * Region of the file which is currently mapped, starting at mappedRegionPosition.
+     */
+    private MappedByteBuffer mappedRegion;
+
+    private long mappedRegionPosition;
+
     public FileIOChannel(FileChannel channel) {
+        this(channel, false);
+    }
+
+    public FileIOChannel(FileChannel channel, boolean memoryMapped) {
         super(channel);
         this.channel = channel;
+        this.memoryMapped = memoryMapped;
+    }
+
+    /**
+     * Reads file content to the given buffer.
+     * <p>
+     * When the channel is memory mapped the content is copied from a mapped region of the file, which avoids a
+     * system call per read. The region is re-mapped once the file position moves out of it.
+     *
+     * @param buffer the buffer which will hold the content
+     * @return number of bytes read
+     * @throws IOException errors which occur while reading from the file
+     */
+    @Override
+    public int read(ByteBuffer buffer) throws IOException {
+        if (!memoryMapped) {
+            return super.read(buffer);
+        }
+        long position = channel.position();
+        long size = channel.size();
+        if (position >= size) {
+            // Let the underlying channel signal the end of the file
+            return super.read(buffer);
+        }
+        if (mappedRegion == null || position < mappedRegionPosition ||
+                position >= mappedRegionPosition + mappedRegion.capacity()) {
+            mappedRegion = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                    Math.min(MAPPED_REGION_SIZE, size - position));
+            mappedRegionPosition = position;
+        }
+        int offset = (int) (position - mappedRegionPosition);
+        int count = Math.min(buffer.remaining(), mappedRegion.capacity() - offset);
+        mappedRegion.limit(offset + count).position(offset);
+        buffer.put(mappedRegion);
+        mappedRegion.limit(mappedRegion.capacity());
+        channel.position(position + count);
+        return count;
+    }
+
+    /**
+     * Specifies whether reads are served from a memory mapped region of the file.
+     *
+     * @return true if the channel is memory mapped
+     */
+    public boolean isMemoryMapped() {
+        return memoryMapped;
     }
 
     /**
@@ -161,29 +161,13 @@ public class Buffer {
         }
     }
 
-    /**
-     * <p>
-     * Deep copies a byte buffer with it's underlying array.
-     * </p>
-     *
-     * @param srcBuffer the source buffer which should be copied.
-     * @return the buffer which is duplicated.
-     */
-    private ByteBuffer deepCopy(ByteBuffer srcBuffer) {
-        ByteBuffer dstBuffer = ByteBuffer.allocate(srcBuffer.capacity());
-        srcBuffer.rewind();
-        dstBuffer.put(srcBuffer);
-        srcBuffer.rewind();
-        dstBuffer.flip();
-        return dstBuffer;
-    }
-
     /**
      * <p>
      * Retrieves the required content from the existing buffer.
      * </p>
      * <p>
-     * In this case it will not be required to do another channel call.
+     * In this case it will not be required to do another channel call. The returned buffer shares the content of
+     * the existing buffer, hence it is only valid until the next read through the buffer.
      * </p>
      *
      * @param numberOfBytesRequested number of bytes required.
@@ -192,13 +176,10 @@ public class Buffer {
      */
     private ByteBuffer copyRemainingContent(int numberOfBytesRequested, ByteBuffer content) {
         //If there is excess bytes we need only a sub-set of them
-        int capacity;
         content.limit(numberOfBytesRequested);
         ByteBuffer slicedBuffer = content.slice();
-        capacity = slicedBuffer.capacity();
-        int offset = slicedBuffer.arrayOffset();
-        byteBuffer.position(offset + capacity);
-        return deepCopy(slicedBuffer);
+        byteBuffer.position(byteBuffer.position() + slicedBuffer.capacity());
+        return slicedBuffer;
     }
 
     /**
@@ -230,18 +211,15 @@ public class Buffer {
         if (null != remainingContent && remainingContent.capacity() >= numberOfBytesRequested) {
             return copyRemainingContent(numberOfBytesRequested, remainingContent);
         } else {
-            if (null != remainingContent && remainingContent.hasRemaining()) {
-                remainingContent = deepCopy(remainingContent);
-            }
             if (byteBuffer != null && byteBuffer.capacity() >= numberOfBytesRequested) {
-                //If the required amount of bytes > than the current buffer size we enlarge the buffer
-                byteBuffer.clear();
+                //The remaining bytes are moved to the beginning of the buffer instead of copying them elsewhere
+                byteBuffer.compact();
             } else {
                 //In this case we re-allocate
                 byteBuffer = allocate(numberOfBytesRequested);
-            }
-            if (null != remainingContent && remainingContent.hasRemaining()) {
-                byteBuffer.put(remainingContent);
+                if (null != remainingContent && remainingContent.hasRemaining()) {
+                    byteBuffer.put(remainingContent);
+                }
             }
             channel.read(byteBuffer);
             return resize(byteBuffer, numberOfBytesRequested);
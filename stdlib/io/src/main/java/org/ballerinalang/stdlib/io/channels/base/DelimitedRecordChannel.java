@@ -23,7 +23,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.channels.ByteChannel;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.regex.Pattern;
 
 /**
@@ -92,7 +95,51 @@ public class DelimitedRecordChannel implements IOChannel {
      */
     private Format format;
 
-    private static final String DOUBLE_QUOTE_REGEX = "\"([^\"]*)\"";
+    /**
+     * Compiled record separator used when records are separated through a regex.
+     */
+    private Pattern recordSeparatorPattern;
+
+    /**
+     * Compiled field separator used when fields are separated through a regex.
+     */
+    private Pattern fieldSeparatorPattern;
+
+    /**
+     * <p>
+     * Position in persistentCharSequence where the next record of a format starts.
+     * </p>
+     * <p>
+     * Characters before this position have already being processed, they are discarded lazily so that the remaining
+     * characters are not shifted for each record.
+     * </p>
+     */
+    private int recordStart = 0;
+
+    /**
+     * Holds the content of the field which is being read, this is reused across records.
+     */
+    private StringBuilder fieldContent = new StringBuilder();
+
+    /**
+     * Holds the fields of the record which is being read, this is reused across records.
+     */
+    private List<String> recordFields = new ArrayList<>();
+
+    /**
+     * Holds the record which is being composed for writing, this is reused across records.
+     */
+    private StringBuilder recordContent = new StringBuilder();
+
+    /**
+     * Minimum number of characters read from the channel at a time when reading records of a format.
+     */
+    private static final int FORMAT_READ_CHUNK_SIZE = 8192;
+
+    private static final char QUOTE = '"';
+    private static final char LINE_FEED = '\n';
+    private static final char CARRIAGE_RETURN = '\r';
+    private static final int NO_CHARACTER = -1;
 
     private static final Logger log = LoggerFactory.getLogger(DelimitedRecordChannel.class);
 
@@ -107,6 +154,8 @@ public class DelimitedRecordChannel implements IOChannel {
         this.fieldSeparator = fieldSeparator;
         this.channel = channel;
         this.persistentCharSequence = new StringBuilder();
+        this.recordSeparatorPattern = Pattern.compile(recordSeparator);
+        this.fieldSeparatorPattern = Pattern.compile(fieldSeparator);
     }
 
     @Override
@@ -118,30 +167,6 @@ public class DelimitedRecordChannel implements IOChannel {
         return channel.getChannel();
     }
 
-    /**
-     * Retrieves the record separator for reading records.
-     *
-     * @return the record separator.
-     */
-    private String getRecordSeparatorForReading() {
-        if (null == format) {
-            return recordSeparator;
-        }
-        return format.getReadRecSeparator();
-    }
-
-    /**
-     * Retrieves field separator for reading.
-     *
-     * @return the field separator.
-     */
-    private String getFieldSeparatorForReading() {
-        if (null == format) {
-            return fieldSeparator;
-        }
-        return format.getReadFieldSeparator();
-    }
-
     /**
      * Retrieves record separator for writing.
      *
@@ -183,8 +208,7 @@ public class DelimitedRecordChannel implements IOChannel {
                 log.trace(String.format("char[] remaining in memory %s", persistentCharSequence));
             }
             //We need to split the string into 2
-            String[] delimitedRecord = persistentCharSequence.toString().
-                    split(getRecordSeparatorForReading(), numberOfSplits);
+            String[] delimitedRecord = recordSeparatorPattern.split(persistentCharSequence, numberOfSplits);
             if (delimitedRecord.length > minimumRecordCount) {
                 record = processIdentifiedRecord(delimitedRecord);
                 int recordCharacterLength = record.length();
@@ -194,8 +218,7 @@ public class DelimitedRecordChannel implements IOChannel {
             } else {
                 readRecordFromChannel();
                 if (channel.hasReachedEnd()) {
-                    delimitedRecord = persistentCharSequence.toString().
-                            split(getRecordSeparatorForReading(), numberOfSplits);
+                    delimitedRecord = recordSeparatorPattern.split(persistentCharSequence, numberOfSplits);
                     record = (delimitedRecord.length == numberOfSplits) ?
                             processIdentifiedRecord(delimitedRecord) :
                             readFinalRecord();
@@ -251,7 +274,9 @@ public class DelimitedRecordChannel implements IOChannel {
      */
     private String readRecordFromChannel() throws BallerinaIOException {
         String readCharacters;
-        readCharacters = channel.read(recordCharacterCount);
+        int numberOfCharacters = null == format ? recordCharacterCount :
+                Math.max(recordCharacterCount, FORMAT_READ_CHUNK_SIZE);
+        readCharacters = channel.read(numberOfCharacters);
         if (log.isTraceEnabled()) {
             log.trace(String.format("char [] get from channel,%d=%s", channel.hashCode(), readCharacters));
         }
@@ -289,47 +314,128 @@ public class DelimitedRecordChannel implements IOChannel {
         return record;
     }
 
+    /**
+     * Get the fields identified through the record.
+     *
+     * @param record the record which contains all the fields.
+     * @return fields which are separated as records.
+     */
+    private String[] getFields(String record) {
+        return fieldSeparatorPattern.split(record);
+    }
+
     /**
      * <p>
-     * Split based on given regEx.
-     * </p>
-     * <p>
-     * This operation will produce null for blanks.
+     * Reads characters from the channel until at least one character is appended to persistentCharSequence.
      * </p>
      *
-     * @param record record which should be separated.
-     * @param regex  condition which should be used to split.
-     * @return the list of fields
-     */
-    private String[] splitIgnoreBlanks(String record, String regex) {
-        Pattern reg = Pattern.compile(regex);
-        String[] split = reg.split(record);
-        for (int i = 0; i < split.length; i++) {
-            String field = split[i];
-            if (field.isEmpty()) {
-                split[i] = null;
-                continue;
-            }
-            if (field.matches(DOUBLE_QUOTE_REGEX)) {
-                split[i] = field.substring(field.indexOf('\"') + 1, field.lastIndexOf('\"'));
+     * @return false if the channel has reached its end.
+     * @throws BallerinaIOException during I/O error.
+     */
+    private boolean fill() throws BallerinaIOException {
+        while (!channel.hasReachedEnd()) {
+            if (!readRecordFromChannel().isEmpty()) {
+                return true;
             }
         }
-        return split;
+        return false;
     }
 
     /**
-     * Get the fields identified through the record.
+     * Retrieves the character at the given position, reading from the channel if it's not yet available.
      *
-     * @param record the record which contains all the fields.
-     * @return fields which are separated as records.
+     * @param index position of the character in persistentCharSequence.
+     * @return the character or NO_CHARACTER if the channel has reached its end.
+     * @throws BallerinaIOException during I/O error.
      */
-    private String[] getFields(String record) {
-        String fieldSeparatorForReading = getFieldSeparatorForReading();
-        if (null != format && format.shouldIgnoreBlanks()) {
-            return splitIgnoreBlanks(record, fieldSeparatorForReading);
-        } else {
-            return record.split(fieldSeparatorForReading);
+    private int peek(int index) throws BallerinaIOException {
+        if (index < persistentCharSequence.length() || fill()) {
+            return persistentCharSequence.charAt(index);
         }
+        return NO_CHARACTER;
+    }
+
+    /**
+     * Completes the field which is being read and clears its content for the next field.
+     *
+     * @param enclosed whether the field was enclosed in quotes.
+     * @return the value of the field.
+     */
+    private String completeField(boolean enclosed) {
+        String field = null;
+        if (enclosed || fieldContent.length() > 0 || !format.shouldIgnoreBlanks()) {
+            field = fieldContent.toString();
+        }
+        fieldContent.setLength(0);
+        return field;
+    }
+
+    /**
+     * <p>
+     * Reads the next record of the specified format.
+     * </p>
+     * <p>
+     * The record is parsed in a single pass over the characters, hence the content is not split through regular
+     * expressions. When the format allows quoting, separators which appear within a quoted field are treated as
+     * part of the field and a pair of double quotes represents a single double quote as defined in RFC4180.
+     * </p>
+     *
+     * @return the list of fields, an empty list if there're no more records.
+     * @throws BallerinaIOException during I/O error.
+     */
+    private String[] readFormattedRecord() throws BallerinaIOException {
+        final char fieldSeparatorCharacter = getFieldSeparatorForWriting().charAt(0);
+        final boolean quotingAllowed = format.isQuoted();
+        if (recordStart >= FORMAT_READ_CHUNK_SIZE || recordStart == persistentCharSequence.length()) {
+            //Discard the characters which have already being processed
+            persistentCharSequence.delete(0, recordStart);
+            recordStart = 0;
+        }
+        boolean inQuotes = false;
+        boolean enclosed = false;
+        int index = recordStart;
+        recordFields.clear();
+        while (true) {
+            if (index == persistentCharSequence.length() && !fill()) {
+                //This means the remaining characters are the final record
+                remaining = false;
+                if (index == recordStart) {
+                    return new String[0];
+                }
+                break;
+            }
+            char character = persistentCharSequence.charAt(index++);
+            if (inQuotes) {
+                if (character != QUOTE) {
+                    fieldContent.append(character);
+                } else if (peek(index) == QUOTE) {
+                    fieldContent.append(QUOTE);
+                    index++;
+                } else {
+                    inQuotes = false;
+                }
+            } else if (character == fieldSeparatorCharacter) {
+                recordFields.add(completeField(enclosed));
+                enclosed = false;
+            } else if (character == LINE_FEED) {
+                break;
+            } else if (character == CARRIAGE_RETURN && peek(index) == LINE_FEED) {
+                index++;
+                break;
+            } else if (character == QUOTE && quotingAllowed && !enclosed && fieldContent.length() == 0) {
+                inQuotes = true;
+                enclosed = true;
+            } else {
+                fieldContent.append(character);
+            }
+        }
+        recordFields.add(completeField(enclosed));
+        int recordCharacterLength = index - recordStart;
+        if (recordCharacterLength > recordCharacterCount) {
+            recordCharacterCount = recordCharacterLength;
+        }
+        recordStart = index;
+        return recordFields.toArray(new String[0]);
     }
 
     /**
@@ -352,6 +458,13 @@ public class DelimitedRecordChannel implements IOChannel {
                 log.debug(String.format("Reading record %d from %d", numberOfRecordsReadThroughChannel,
                         channel.hashCode()));
             }
+            if (null != format) {
+                fields = readFormattedRecord();
+                if (fields.length > 0) {
+                    numberOfRecordsReadThroughChannel++;
+                }
+                return fields;
+            }
             String record = readRecord();
             if (!record.isEmpty() || remaining) {
                 fields = getFields(record);
@@ -377,44 +490,73 @@ public class DelimitedRecordChannel implements IOChannel {
         return fields;
     }
 
+    /**
+     * Checks whether a field should be enclosed in quotes when it's written.
+     *
+     * @param field          field which should be written.
+     * @param fieldSeparator separator between the fields.
+     * @return true if the field should be enclosed.
+     */
+    private boolean requiresEnclosing(String field, String fieldSeparator) {
+        if (field.contains(fieldSeparator)) {
+            return true;
+        }
+        return null != format && format.isQuoted() && (field.indexOf(QUOTE) >= 0 ||
+                field.indexOf(LINE_FEED) >= 0 || field.indexOf(CARRIAGE_RETURN) >= 0);
+    }
+
     /**
      * Enclose a given field with quotes.
+     * <p>
+     * If the format allows quoting, any double quote within the field is escaped with another double quote.
      *
      * @param field field which should be enclosed.
-     * @return Enclosed field.
      */
-    private String encloseField(String field) {
-        return "\"" + field + "\"";
+    private void appendEnclosedField(String field) {
+        recordContent.append(QUOTE);
+        if (null != format && format.isQuoted()) {
+            for (int i = 0; i < field.length(); i++) {
+                char character = field.charAt(i);
+                if (character == QUOTE) {
+                    recordContent.append(QUOTE);
+                }
+                recordContent.append(character);
+            }
+        } else {
+            recordContent.append(field);
+        }
+        recordContent.append(QUOTE);
     }
 
     /**
      * Will place the relevant fields together to/form a record.
      *
      * @param fields the list of fields in the record.
-     * @return the record constructed through the fields.
+     * @return the record constructed through the fields, including the record separator.
      */
     private String composeRecord(String[] fields) {
-        StringBuilder recordConsolidator = new StringBuilder();
-        String finalizedRecord;
+        String fieldSeparatorForWriting = getFieldSeparatorForWriting();
         long numberOfFields = fields.length;
         final int fieldStartIndex = 0;
         final long secondLastFieldIndex = numberOfFields - 1;
         if (log.isDebugEnabled()) {
             log.debug(String.format("Number of fields to be composed %d", numberOfFields));
         }
+        recordContent.setLength(0);
         for (int fieldCount = fieldStartIndex; fieldCount < numberOfFields; fieldCount++) {
             String currentFieldString = fields[fieldCount];
-            if (currentFieldString.contains(getFieldSeparatorForWriting())) {
-                currentFieldString = encloseField(currentFieldString);
+            if (requiresEnclosing(currentFieldString, fieldSeparatorForWriting)) {
+                appendEnclosedField(currentFieldString);
+            } else {
+                recordContent.append(currentFieldString);
             }
-            recordConsolidator.append(currentFieldString);
             if (fieldCount < secondLastFieldIndex) {
                 //The idea here is to omit appending the field separator after the final field
-                recordConsolidator.append(getFieldSeparatorForWriting());
+                recordContent.append(fieldSeparatorForWriting);
             }
         }
-        finalizedRecord = recordConsolidator.toString();
-        return finalizedRecord;
+        recordContent.append(getRecordSeparatorForWriting());
+        return recordContent.toString();
     }
 
     /**
@@ -426,7 +568,6 @@ public class DelimitedRecordChannel implements IOChannel {
     public void write(String[] fields) throws IOException {
         final int writeOffset = 0;
         String record = composeRecord(fields);
-        record = record + getRecordSeparatorForWriting();
         if (log.isTraceEnabled()) {
             log.trace(String.format("The record %d composed for writing, %s", numberOfRecordsWrittenToChannel, record));
         }
@@ -458,9 +599,19 @@ public class DelimitedRecordChannel implements IOChannel {
         channel.close();
     }
 
+    /**
+     * Checks whether the channel is open for reading or writing records.
+     *
+     * @return true if the underlying byte channel is open.
+     */
+    public boolean isOpen() {
+        ByteChannel byteChannel = channel.getChannel().getByteChannel();
+        return null != byteChannel && byteChannel.isOpen();
+    }
+
     @Override
     public boolean remaining() {
-        return persistentCharSequence.length() > 0;
+        return persistentCharSequence.length() > recordStart;
     }
 
     /**
@@ -470,7 +621,7 @@ public class DelimitedRecordChannel implements IOChannel {
      * @throws BallerinaIOException if encoding error or channel reading error happens
      */
     public boolean hasNext() throws BallerinaIOException {
-        if (remaining && persistentCharSequence.length() == 0) {
+        if (remaining && persistentCharSequence.length() == recordStart) {
             //If this is the case we need to further verify whether there will be more bytes left to be read
             //Remaining can become false in the next iteration
             String readChars = readRecordFromChannel();
@@ -25,15 +25,15 @@ public enum Format {
     /**
      * The format would default, however empty lines will be allowed.
      */
-    DEFAULT(",", "\\r?\\n", ",", "\n", false),
+    DEFAULT(",", "\\r?\\n", ",", "\n", false, false),
     /**
      * CSV should conform with RFC4180 specification.
      */
-    CSV(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)", "\\r?\\n", ",", "\n", true),
+    CSV(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)", "\\r?\\n", ",", "\n", true, true),
     /**
      * Tab delimited records.
      */
-    TDF("\\t", "\\r?\\n", "\t", "\n", false);
+    TDF("\\t", "\\r?\\n", "\t", "\n", false, false);
 
     /**
      * Defines the record separator for the format.
@@ -55,13 +55,18 @@ public enum Format {
      * Specifies whether to ignore blanks.
      */
     private boolean ignoreBlanks;
+    /**
+     * Specifies whether fields could be enclosed in double quotes as defined in RFC4180.
+     */
+    private boolean quoted;
 
-    Format(String rfs, String rrs, String wfs, String wrs, boolean ignoreBlank) {
+    Format(String rfs, String rrs, String wfs, String wrs, boolean ignoreBlank, boolean quoted) {
         this.readFieldSeparator = rfs;
         this.readRecSeparator = rrs;
         this.writeFieldSeparator = wfs;
         this.writeRecSeparator = wrs;
         this.ignoreBlanks = ignoreBlank;
+        this.quoted = quoted;
     }
 
     public String getReadRecSeparator() {
@@ -83,4 +88,8 @@ public enum Format {
     public boolean shouldIgnoreBlanks() {
         return ignoreBlanks;
     }
+
+    public boolean isQuoted() {
+        return quoted;
+    }
 }
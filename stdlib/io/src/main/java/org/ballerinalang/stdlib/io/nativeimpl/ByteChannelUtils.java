@@ -38,6 +38,7 @@ import org.slf4j.LoggerFactory;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
 import java.nio.channels.Channels;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.FileChannel;
@@ -59,6 +60,7 @@ public class ByteChannelUtils extends AbstractNativeChannel {
     private static final String READ_ACCESS_MODE = "r";
     private static final String WRITE_ACCESS_MODE = "w";
     private static final String APPEND_ACCESS_MODE = "a";
+    private static final long TRANSFER_CHUNK_SIZE = 8L * 1024 * 1024;
 
     private ByteChannelUtils() {
     }
@@ -124,10 +126,10 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         }
     }
 
-    public static Object openReadableFile(String pathUrl) {
+    public static Object openReadableFile(String pathUrl, boolean memoryMapped) {
         Object channel;
         try {
-            channel = createChannel(inFlow(pathUrl));
+            channel = createChannel(readableInFlow(pathUrl, memoryMapped));
         } catch (BallerinaIOException e) {
             channel = IOUtils.createError(e);
         } catch (ErrorValue e) {
@@ -155,10 +157,73 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         }
     }
 
-    private static Channel inFlow(String pathUrl) throws BallerinaIOException {
+    public static Object transferTo(ObjectValue channel, ObjectValue destinationChannel) {
+        Channel source = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
+        Channel destination = (Channel) destinationChannel.getNativeData(BYTE_CHANNEL_NAME);
+        try {
+            return transfer(source, destination);
+        } catch (IOException e) {
+            log.error("Error occurred while transferring content between channels.", e);
+            return IOUtils.createError(e);
+        }
+    }
+
+    /**
+     * Transfers the remaining content of the source channel to the destination channel.
+     * <p>
+     * When either end is a file the transfer is delegated to {@link FileChannel#transferTo} or
+     * {@link FileChannel#transferFrom}, which lets the operating system move the bytes without copying them through
+     * the heap. Otherwise the content is pumped through a single buffer.
+     *
+     * @param source      channel to read the content from
+     * @param destination channel to write the content to
+     * @return number of bytes transferred
+     * @throws IOException errors which occur while transferring the content
+     */
+    private static long transfer(Channel source, Channel destination) throws IOException {
+        ByteChannel sourceChannel = source.getByteChannel();
+        ByteChannel destinationChannel = destination.getByteChannel();
+        long transferred = 0;
+        if (sourceChannel instanceof FileChannel) {
+            FileChannel file = (FileChannel) sourceChannel;
+            long position = file.position();
+            long size = file.size();
+            while (position < size) {
+                long count = file.transferTo(position, size - position, destinationChannel);
+                if (count <= 0) {
+                    break;
+                }
+                position += count;
+                transferred += count;
+            }
+            file.position(position);
+        } else if (destinationChannel instanceof FileChannel) {
+            FileChannel file = (FileChannel) destinationChannel;
+            long position = file.position();
+            long count;
+            while ((count = file.transferFrom(sourceChannel, position, TRANSFER_CHUNK_SIZE)) > 0) {
+                position += count;
+                transferred += count;
+            }
+            file.position(position);
+        } else {
+            ByteBuffer buffer = ByteBuffer.allocate(IOConstants.CHANNEL_BUFFER_SIZE);
+            while (!source.hasReachedEnd()) {
+                buffer.clear();
+                source.read(buffer);
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    transferred += destination.write(buffer);
+                }
+            }
+        }
+        return transferred;
+    }
+
+    private static Channel readableInFlow(String pathUrl, boolean memoryMapped) throws BallerinaIOException {
         Path path = Paths.get(pathUrl);
         FileChannel fileChannel = IOUtils.openFileChannelExtended(path, READ_ACCESS_MODE);
-        Channel channel = new FileIOChannel(fileChannel);
+        Channel channel = new FileIOChannel(fileChannel, memoryMapped);
         channel.setReadable(true);
         return channel;
     }
@@ -18,11 +18,24 @@
 
 package org.ballerinalang.stdlib.io.nativeimpl;
 
+import org.ballerinalang.jvm.BallerinaValues;
 import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BStreamType;
+import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.ballerinalang.jvm.values.ErrorValue;
 import org.ballerinalang.jvm.values.HandleValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
 import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.StreamValue;
+import org.ballerinalang.jvm.values.TypedescValue;
 import org.ballerinalang.jvm.values.api.BValueCreator;
 import org.ballerinalang.stdlib.io.channels.base.CharacterChannel;
 import org.ballerinalang.stdlib.io.channels.base.DelimitedRecordChannel;
@@ -36,6 +49,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.nio.channels.ClosedChannelException;
 
+import static org.ballerinalang.stdlib.io.utils.IOConstants.IO_PACKAGE_ID;
 import static org.ballerinalang.stdlib.io.utils.IOConstants.TXT_RECORD_CHANNEL_NAME;
 
 //import org.ballerinalang.jvm.values.ArrayValue;
@@ -49,6 +63,8 @@ public class RecordChannelUtils {
 
     private static final Logger log = LoggerFactory.getLogger(RecordChannelUtils.class);
     private static final String DEFAULT = "default";
+    private static final String CSV_RECORD_ITERATOR = "CSVRecordIterator";
+    private static final String CHANNEL_CLOSED_MESSAGE = "channel already closed.";
 
     private RecordChannelUtils() {
     }
@@ -112,6 +128,110 @@ public class RecordChannelUtils {
         }
     }
 
+    public static Object getStream(ObjectValue channel, TypedescValue recordType) {
+        DelimitedRecordChannel textRecordChannel = (DelimitedRecordChannel) channel
+                .getNativeData(TXT_RECORD_CHANNEL_NAME);
+        if (textRecordChannel == null || !textRecordChannel.isOpen()) {
+            return IOUtils.createError(CHANNEL_CLOSED_MESSAGE);
+        }
+        ObjectValue recordIterator = BallerinaValues.createObjectValue(IO_PACKAGE_ID, CSV_RECORD_ITERATOR, channel,
+                recordType);
+        return new StreamValue(new BStreamType(recordType.getDescribingType()), recordIterator);
+    }
+
+    public static Object getNextRecord(ObjectValue channel, TypedescValue recordType) {
+        DelimitedRecordChannel textRecordChannel = (DelimitedRecordChannel) channel
+                .getNativeData(TXT_RECORD_CHANNEL_NAME);
+        if (!textRecordChannel.isOpen()) {
+            return IOUtils.createError(CHANNEL_CLOSED_MESSAGE);
+        }
+        try {
+            if (textRecordChannel.hasReachedEnd() || !textRecordChannel.hasNext()) {
+                return null;
+            }
+            String[] fields = textRecordChannel.read();
+            if (fields.length == 0) {
+                return null;
+            }
+            return createRecord(fields, (BRecordType) recordType.getDescribingType());
+        } catch (BallerinaIOException e) {
+            log.error("error occurred while reading next record from ReadableCSVChannel", e);
+            return IOUtils.createError(e);
+        } catch (ErrorValue e) {
+            return e;
+        }
+    }
+
+    /**
+     * Maps the fields of a record read from the channel to a value of the given record type.
+     * <p>
+     * The fields are assigned in the order in which they are declared in the record type.
+     *
+     * @param fields     fields of the record read from the channel.
+     * @param recordType type of the record.
+     * @return the record value.
+     */
+    private static MapValue<String, Object> createRecord(String[] fields, BRecordType recordType) {
+        MapValue<String, Object> record = new MapValueImpl<>(recordType);
+        int index = 0;
+        for (BField field : recordType.getFields().values()) {
+            String value = index < fields.length ? fields[index] : null;
+            record.put(field.getFieldName(), getFieldValue(value, field));
+            index++;
+        }
+        return record;
+    }
+
+    private static Object getFieldValue(String value, BField field) {
+        BType fieldType = field.getFieldType();
+        if (fieldType.getTag() == TypeTags.UNION_TAG) {
+            BType memberType = getNonNilMemberType((BUnionType) fieldType);
+            if (memberType == null) {
+                throw IOUtils.createError("unsupported union type for the field '" + field.getFieldName() + "'");
+            }
+            if (value == null) {
+                return null;
+            }
+            fieldType = memberType;
+        } else if (value == null) {
+            throw IOUtils.createError("value not available for the non nillable field '" + field.getFieldName()
+                    + "'");
+        }
+        try {
+            switch (fieldType.getTag()) {
+                case TypeTags.STRING_TAG:
+                    return value;
+                case TypeTags.INT_TAG:
+                    return Long.parseLong(value.trim());
+                case TypeTags.FLOAT_TAG:
+                    return Double.parseDouble(value.trim());
+                case TypeTags.DECIMAL_TAG:
+                    return new DecimalValue(value.trim());
+                case TypeTags.BOOLEAN_TAG:
+                    return Boolean.parseBoolean(value.trim());
+                default:
+                    throw IOUtils.createError("type casting support only for int, float, decimal, boolean and " +
+                            "string. Invalid type for the field '" + field.getFieldName() + "'");
+            }
+        } catch (NumberFormatException e) {
+            throw IOUtils.createError("invalid value '" + value + "' for the field '" + field.getFieldName() + "'");
+        }
+    }
+
+    private static BType getNonNilMemberType(BUnionType unionType) {
+        BType nonNilMemberType = null;
+        for (BType memberType : unionType.getMemberTypes()) {
+            if (memberType.getTag() == TypeTags.NULL_TAG) {
+                continue;
+            }
+            if (nonNilMemberType != null) {
+                return null;
+            }
+            nonNilMemberType = memberType;
+        }
+        return nonNilMemberType;
+    }
+
     public static Object write(ObjectValue channel, ArrayValue content) {
         DelimitedRecordChannel delimitedRecordChannel = (DelimitedRecordChannel) channel
                 .getNativeData(TXT_RECORD_CHANNEL_NAME);
@@ -134,7 +254,7 @@ public class RecordChannelUtils {
         try {
             recordChannel.close();
         } catch (ClosedChannelException e) {
-            return IOUtils.createError("channel already closed.");
+            return IOUtils.createError(CHANNEL_CLOSED_MESSAGE);
         } catch (IOException e) {
             return IOUtils.createError(e);
         }
@@ -102,6 +102,23 @@ public class IOTest {
         BRunUtil.invoke(bytesInputOutputProgramFile, "closeReadableChannel");
     }
 
+    @Test(description = "Test 'transferTo' function in ballerina/io package")
+    public void testTransferBytes() throws URISyntaxException, IOException {
+        String resourceToRead = getAbsoluteFilePath("datafiles/io/images/ballerina.png");
+        String sourceToWrite = currentDirectoryPath + "/transferredFile.png";
+        byte[] expectedBytes = Files.readAllBytes(Paths.get(resourceToRead));
+
+        BValue[] args = { new BString(resourceToRead), new BString(sourceToWrite), new BBoolean(true) };
+        BValue[] returns = BRunUtil.invoke(bytesInputOutputProgramFile, "transferFile", args);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), expectedBytes.length);
+        Assert.assertEquals(Files.readAllBytes(Paths.get(sourceToWrite)), expectedBytes);
+
+        args = new BValue[] { new BString(resourceToRead), new BString(sourceToWrite), new BBoolean(false) };
+        returns = BRunUtil.invoke(bytesInputOutputProgramFile, "transferFile", args);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), expectedBytes.length);
+        Assert.assertEquals(Files.readAllBytes(Paths.get(sourceToWrite)), expectedBytes);
+    }
+
     @Test(description = "Test 'readCharacters' function in ballerina/io package")
     public void testReadCharacters() throws URISyntaxException {
         String resourceToRead = "datafiles/io/text/utf8file.txt";
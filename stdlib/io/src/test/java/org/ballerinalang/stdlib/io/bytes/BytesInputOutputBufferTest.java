@@ -18,6 +18,7 @@
 package org.ballerinalang.stdlib.io.bytes;
 
 import org.ballerinalang.stdlib.io.MockByteChannel;
+import org.ballerinalang.stdlib.io.channels.FileIOChannel;
 import org.ballerinalang.stdlib.io.channels.base.Buffer;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.util.TestUtil;
@@ -27,12 +28,16 @@ import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Test;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URISyntaxException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.stream.Collectors;
 
 /**
@@ -241,6 +246,24 @@ public class BytesInputOutputBufferTest {
         Assert.assertEquals(numberOfBytes, expectedLimit);
     }
 
+    @Test(description = "Reads a file through a memory mapped channel")
+    public void readMemoryMappedFile() throws IOException, URISyntaxException {
+        String filePath = "datafiles/io/text/fileThatExceeds2MB.txt";
+        byte[] expectedContent = Files.readAllBytes(Paths.get(getClass().getClassLoader().getResource(filePath)
+                .toURI()));
+        FileChannel fileChannel = (FileChannel) TestUtil.openForReading(filePath);
+        Channel channel = new FileIOChannel(fileChannel, true);
+        ByteArrayOutputStream readContent = new ByteArrayOutputStream();
+        ReadByteResult result;
+        do {
+            result = read(10000, channel);
+            readContent.write(result.getContent(), 0, result.getNumberOfBytesRead());
+        } while (result.getNumberOfBytesRead() > 0);
+        Assert.assertTrue(channel.hasReachedEnd());
+        Assert.assertEquals(readContent.toByteArray(), expectedContent);
+        channel.close();
+    }
+
     @Test(description = "Write bytes to file")
     public void writeBytesToFile() throws IOException {
         //Number of characters in this file would be 6
@@ -20,6 +20,7 @@ package org.ballerinalang.stdlib.io.records;
 
 import org.ballerinalang.model.values.BBoolean;
 import org.ballerinalang.model.values.BError;
+import org.ballerinalang.model.values.BFloat;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
@@ -34,6 +35,7 @@ import org.testng.annotations.Test;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -437,6 +439,83 @@ public class CsvChannelTest {
 //        }
 //    }
 
+    @Test(description = "Test reading CSV records as a stream of records")
+    public void getStreamTest() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/records/sample5.csv";
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)) };
+        BValue[] result = BRunUtil.invoke(csvInputOutputProgramFile, "getStreamTotal", args);
+        Assert.assertEquals(((BFloat) result[0]).floatValue(), 60001.00);
+    }
+
+    @Test(description = "Test reading CSV records with nil values as a stream of records")
+    public void getStreamWithNilTest() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/records/sample6.csv";
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)) };
+        BValue[] result = BRunUtil.invoke(csvInputOutputProgramFile, "getStreamWithNil", args);
+        BValueArray values = (BValueArray) result[0];
+        Assert.assertEquals(values.getRefValue(0).stringValue(), "Person1Person2Person3");
+        Assert.assertEquals(values.getRefValue(1).stringValue(), "EngMrk-");
+    }
+
+    @Test(description = "Test reading a stream from a closed channel")
+    public void getStreamAfterCloseTest() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/records/sample5.csv";
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)) };
+        BValue[] result = BRunUtil.invoke(csvInputOutputProgramFile, "getStreamAfterClose", args);
+        Assert.assertTrue(((BBoolean) result[0]).booleanValue(), "Expecting an error for a closed channel");
+    }
+
+    @Test(description = "Test reading quoted fields with escaped quotes, separators and line breaks")
+    public void readQuotedFieldsTest() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/records/sampleQuoted.csv";
+        BValue[] args = {
+                new BString(getAbsoluteFilePath(resourceToRead)), new BString("UTF-8"), new BString(",")
+        };
+        BRunUtil.invoke(csvInputOutputProgramFile, "initReadableCsvChannel", args);
+
+        assertNextRecord("1", "Foo \"Bar\"", "Colombo, SL");
+        assertNextRecord("2", "line one\nline two", "plain");
+        // trailing empty fields are kept, whether or not they are quoted
+        assertNextRecord("3", "", "");
+        assertNextRecord("4", "", "");
+
+        BValue[] returns = BRunUtil.invoke(csvInputOutputProgramFile, "nextRecord");
+        BError error = (BError) returns[0];
+        Assert.assertEquals(error.getReason(), EoF.errorCode());
+
+        BRunUtil.invoke(csvInputOutputProgramFile, "close");
+    }
+
+    @Test(description = "Test escaping fields with quotes, separators and line breaks on write")
+    public void testWriteEscapedCsv() throws IOException {
+        String[] content1 = { "Foo \"Bar\"", "Colombo, SL", "line one\nline two" };
+        String[] content2 = { "plain", "", "" };
+        String sourceToWrite = currentDirectoryPath + "/recordsEscaped.csv";
+        BValue[] params = { new BString(sourceToWrite), new BString("UTF-8"), new BString(",") };
+
+        BRunUtil.invoke(csvInputOutputProgramFile, "initWritableCsvChannel", params);
+        BRunUtil.invoke(csvInputOutputProgramFile, "writeRecord", new BValue[] { new BValueArray(content1) });
+        BRunUtil.invoke(csvInputOutputProgramFile, "writeRecord", new BValue[] { new BValueArray(content2) });
+        BRunUtil.invoke(csvInputOutputProgramFile, "close");
+
+        String written = new String(Files.readAllBytes(Paths.get(sourceToWrite)), StandardCharsets.UTF_8);
+        Assert.assertEquals(written, "\"Foo \"\"Bar\"\"\",\"Colombo, SL\",\"line one\nline two\"\nplain,,\n");
+
+        BRunUtil.invoke(csvInputOutputProgramFile, "initReadableCsvChannel", params);
+        assertNextRecord(content1);
+        assertNextRecord(content2);
+        BRunUtil.invoke(csvInputOutputProgramFile, "close");
+    }
+
+    private void assertNextRecord(String... fields) {
+        BValue[] returns = BRunUtil.invoke(csvInputOutputProgramFile, "nextRecord");
+        BValueArray records = (BValueArray) returns[0];
+        Assert.assertEquals(records.size(), fields.length);
+        for (int i = 0; i < fields.length; i++) {
+            Assert.assertEquals(records.getString(i), fields[i]);
+        }
+    }
+
     private String getAbsoluteFilePath(String relativePath) throws URISyntaxException {
         URL fileResource = BCompileUtil.class.getClassLoader().getResource(relativePath);
         String pathValue = "";
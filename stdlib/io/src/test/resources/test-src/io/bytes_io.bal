@@ -58,6 +58,15 @@ function writeBytes(byte[] content, int startOffset) returns int|io:Error {
     }
 }
 
+function transferFile(string sourcePath, string destinationPath, boolean memoryMapped) returns @tainted int|io:Error {
+    io:ReadableByteChannel source = check io:openReadableFile(sourcePath, memoryMapped);
+    io:WritableByteChannel destination = check io:openWritableFile(destinationPath);
+    var result = source.transferTo(destination);
+    check source.close();
+    check destination.close();
+    return result;
+}
+
 function closeReadableChannel() {
     io:ReadableByteChannel? rChannel = rch;
     if rChannel is io:ReadableByteChannel {
@@ -121,6 +121,55 @@ function hasNextRecord() returns boolean? {
     }
 }
 
+function getStreamTotal(string filePath) returns @tainted float|error {
+    io:ReadableByteChannel byteChannel = check io:openReadableFile(filePath);
+    io:ReadableCharacterChannel charChannel = new io:ReadableCharacterChannel(<@untainted> byteChannel, "UTF-8");
+    io:ReadableCSVChannel csv = new io:ReadableCSVChannel(charChannel, io:COMMA);
+    stream<record {}, io:Error> employees = check csv.getStream(Employee);
+    float total = 0.0;
+    record {| record {} value; |}|io:Error? employee = employees.next();
+    while (employee is record {| record {} value; |}) {
+        total = total + (<Employee> employee.value).salary;
+        employee = employees.next();
+    }
+    check csv.close();
+    if (employee is io:Error) {
+        return employee;
+    }
+    return total;
+}
+
+function getStreamWithNil(string filePath) returns @tainted [string, string]|error {
+    io:ReadableByteChannel byteChannel = check io:openReadableFile(filePath);
+    io:ReadableCharacterChannel charChannel = new io:ReadableCharacterChannel(<@untainted> byteChannel, "UTF-8");
+    io:ReadableCSVChannel csv = new io:ReadableCSVChannel(charChannel, io:COMMA, 1);
+    stream<record {}, io:Error> perDiems = check csv.getStream(PerDiem);
+    string names = "";
+    string departments = "";
+    record {| record {} value; |}|io:Error? perDiem = perDiems.next();
+    while (perDiem is record {| record {} value; |}) {
+        PerDiem value = <PerDiem> perDiem.value;
+        names = names + value.name;
+        string? department = value.department;
+        departments = departments + (department is string ? department : "-");
+        perDiem = perDiems.next();
+    }
+    check csv.close();
+    if (perDiem is io:Error) {
+        return perDiem;
+    }
+    return [names, departments];
+}
+
+function getStreamAfterClose(string filePath) returns @tainted boolean|error {
+    io:ReadableByteChannel byteChannel = check io:openReadableFile(filePath);
+    io:ReadableCharacterChannel charChannel = new io:ReadableCharacterChannel(<@untainted> byteChannel, "UTF-8");
+    io:ReadableCSVChannel csv = new io:ReadableCSVChannel(charChannel, io:COMMA);
+    check csv.close();
+    stream<record {}, io:Error>|io:Error employees = csv.getStream(Employee);
+    return employees is io:Error;
+}
+
 //TODO Table remove - Fix
 //function getTable(string filePath, string encoding, io:Separator fieldSeparator) returns @tainted float | error {
 //    var byteChannel = io:openReadableFile(filePath);
@@ -61,12 +61,24 @@ import ballerina/java;
 # + pollingIntervalInMillis - Polling interval for the consumer
 # + concurrentConsumers - Number of concurrent consumers
 # + defaultApiTimeoutInMillis - Default API timeout value for APIs with duration
+# + partitionRetryCount - Number of times a failed batch of a partition is retried when `parallelPartitionProcessing`
+#                         is enabled, before the batch is skipped. Defaults to 3
+# + partitionRetryBackoffInMillis - Time to wait before retrying a failed batch of a partition when
+#                                   `parallelPartitionProcessing` is enabled, doubled for every further retry of the
+#                                   same batch. Defaults to 1000
 # + autoCommit - Enables auto committing offsets
 # + checkCRCS - Check the CRC32 of the records consumed. This ensures that no on-the-wire or on-disk corruption to
 #               the messages occurred. This may add some overhead, and might needed set to `false` if extreme
 #               performance is required
 # + excludeInternalTopics - Whether records from internal topics should be exposed to the consumer
 # + decoupleProcessing - Decouples processing
+# + parallelPartitionProcessing - Processes the records of each partition in order while processing the partitions in
+#                                 parallel. When `autoCommit` is `false`, offsets of the processed records are committed
+#                                 per partition by the listener, hence the service should not commit the offsets.
+#                                 When the service returns an error for a batch, the partition is paused and fetched
+#                                 again from the failed batch after `partitionRetryBackoffInMillis`. Once the batch has
+#                                 failed `partitionRetryCount` more times, the error is reported and the listener moves
+#                                 past the batch, committing its offsets when `autoCommit` is `false`
 # + secureSocket - Configurations related to SSL/TLS encryption
 # + authenticationConfiguration - Authentication-related configurations for the Kafka consumer
 public type ConsumerConfiguration record {|
@@ -112,11 +124,14 @@ public type ConsumerConfiguration record {|
     int pollingIntervalInMillis?;
     int concurrentConsumers?;
     int defaultApiTimeoutInMillis?;
+    int partitionRetryCount?;
+    int partitionRetryBackoffInMillis?;
 
     boolean autoCommit = true;
     boolean checkCRCS = true;
     boolean excludeInternalTopics = true;
     boolean decoupleProcessing = false;
+    boolean parallelPartitionProcessing = false;
 
     SecureSocket secureSocket?;
     AuthenticationConfiguration authenticationConfiguration?;
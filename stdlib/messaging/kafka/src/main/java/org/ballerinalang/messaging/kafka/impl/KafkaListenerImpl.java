@@ -18,8 +18,8 @@
 
 package org.ballerinalang.messaging.kafka.impl;
 
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
-import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.ballerinalang.jvm.observability.ObservabilityConstants;
 import org.ballerinalang.jvm.observability.ObserveUtils;
 import org.ballerinalang.jvm.scheduling.Scheduler;
@@ -66,7 +66,7 @@ public class KafkaListenerImpl implements KafkaListener {
      * {@inheritDoc}
      */
     @Override
-    public void onRecordsReceived(ConsumerRecords records, KafkaConsumer kafkaConsumer, String groupId) {
+    public void onRecordsReceived(ConsumerRecords records, Consumer kafkaConsumer, String groupId) {
         listener.addNativeData(NATIVE_CONSUMER, kafkaConsumer);
         executeResource(listener, records, groupId);
         KafkaMetricsUtil.reportConsume(listener, records);
@@ -76,8 +76,8 @@ public class KafkaListenerImpl implements KafkaListener {
      * {@inheritDoc}
      */
     @Override
-    public void onRecordsReceived(ConsumerRecords records, KafkaConsumer kafkaConsumer, String groupId,
-                                  KafkaPollCycleFutureListener consumer) {
+    public void onRecordsReceived(ConsumerRecords records, Consumer kafkaConsumer, String groupId,
+                                  CallableUnitCallback consumer) {
         listener.addNativeData(NATIVE_CONSUMER, kafkaConsumer);
         executeResource(listener, consumer, records, groupId);
         KafkaMetricsUtil.reportConsume(listener, records);
@@ -103,7 +103,7 @@ public class KafkaListenerImpl implements KafkaListener {
         }
     }
 
-    private void executeResource(ObjectValue listener, KafkaPollCycleFutureListener consumer, ConsumerRecords records,
+    private void executeResource(ObjectValue listener, CallableUnitCallback consumer, ConsumerRecords records,
                                  String groupId) {
         if (ObserveUtils.isTracingEnabled()) {
             Map<String, Object> properties = getNewObserverContextInProperties(listener);
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.messaging.kafka.impl;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
+import org.ballerinalang.messaging.kafka.api.KafkaListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * {@code KafkaPartitionLane} dispatches the records polled from a single topic partition to the Ballerina service.
+ * <p>
+ * Record batches of the partition are dispatched one at a time in the order they were polled, so the records of a
+ * partition are processed in order while the lanes of other partitions are processed in parallel. Once a batch is
+ * processed successfully, the offset following its last record is recorded so that the poll cycle can commit it.
+ * <p>
+ * When a batch fails, the lane drops the batches following it and stops accepting records, so that no offset past the
+ * failed batch is committed. Once the retry backoff has elapsed, the poll cycle seeks the partition back to the failed
+ * batch, which retries it. The backoff doubles for every retry of the same batch. Once the batch has been retried the
+ * configured number of times, the error is reported and the lane moves past the batch as if it was processed.
+ */
+public class KafkaPartitionLane {
+
+    private static final Logger logger = LoggerFactory.getLogger(KafkaPartitionLane.class);
+
+    // Limits the backoff of a batch to 2^10 times the configured backoff.
+    private static final int MAX_BACKOFF_SHIFT = 10;
+
+    private final TopicPartition partition;
+    private final KafkaListener kafkaListener;
+    private final Consumer kafkaConsumer;
+    private final String groupId;
+    private final String serviceId;
+    private final Map<TopicPartition, OffsetAndMetadata> processedOffsets;
+    private final int retryCount;
+    private final long retryBackoffMillis;
+
+    // Polled batches of the partition, including the batch which is being processed at the head.
+    private final Queue<ConsumerRecords> pendingBatches = new ArrayDeque<>();
+    // Offset of the first record of the failed batch, which the partition should be fetched again from.
+    private long retryOffset = -1;
+    // Time in milliseconds after which the failed batch is fetched again.
+    private long retryTime;
+    // Offset of the first record of the last failed batch, and the number of times it has failed in a row.
+    private long failedOffset = -1;
+    private int failedAttempts = 0;
+    private boolean revoked = false;
+
+    /**
+     * Creates a lane for the given partition.
+     *
+     * @param partition        topic partition of the lane
+     * @param kafkaListener    listener which dispatches the records to the Ballerina service
+     * @param kafkaConsumer    consumer from which the records are polled
+     * @param groupId          ID of the consumer group in which the consumer belongs
+     * @param serviceId        Service ID of the service handling the records
+     * @param processedOffsets offsets to be committed, updated by the lane once a batch is processed
+     * @param retryCount       number of times a failed batch is retried before it is skipped
+     * @param retryBackoffMillis time to wait before the first retry of a failed batch, in milliseconds
+     */
+    KafkaPartitionLane(TopicPartition partition, KafkaListener kafkaListener, Consumer kafkaConsumer, String groupId,
+                       String serviceId, Map<TopicPartition, OffsetAndMetadata> processedOffsets, int retryCount,
+                       long retryBackoffMillis) {
+        this.partition = partition;
+        this.kafkaListener = kafkaListener;
+        this.kafkaConsumer = kafkaConsumer;
+        this.groupId = groupId;
+        this.serviceId = serviceId;
+        this.processedOffsets = processedOffsets;
+        this.retryCount = retryCount;
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+
+    /**
+     * Adds the records polled from the partition to the lane, and dispatches them if the lane is idle.
+     *
+     * @param records records polled from the partition of the lane
+     * @return number of batches in the lane, including the batch which is being processed
+     */
+    synchronized int enqueue(List<ConsumerRecord> records) {
+        if (revoked || retryOffset >= 0) {
+            // These records are fetched again once the partition is sought back to the failed batch.
+            return pendingBatches.size();
+        }
+        pendingBatches.add(new ConsumerRecords(Collections.singletonMap(partition, records)));
+        if (pendingBatches.size() == 1) {
+            dispatch(pendingBatches.peek(), records);
+        }
+        return pendingBatches.size();
+    }
+
+    /**
+     * Returns the number of batches in the lane, including the batch which is being processed.
+     *
+     * @return number of pending batches
+     */
+    synchronized int getPendingBatches() {
+        return pendingBatches.size();
+    }
+
+    /**
+     * Returns whether a failed batch is waiting to be fetched again. The partition should not be resumed meanwhile.
+     *
+     * @return true if a failed batch is waiting for its retry
+     */
+    synchronized boolean isRetryPending() {
+        return retryOffset >= 0;
+    }
+
+    /**
+     * Returns the offset which the partition should be sought back to if a batch has failed and its retry backoff has
+     * elapsed, and makes the lane accept records again. The poll cycle has to seek the partition before its next poll.
+     *
+     * @param now current time in milliseconds
+     * @return offset of the first record of the failed batch, or -1 if no batch is due for a retry
+     */
+    synchronized long takeRetryOffset(long now) {
+        if (retryOffset < 0 || now < retryTime) {
+            return -1;
+        }
+        long offset = retryOffset;
+        retryOffset = -1;
+        return offset;
+    }
+
+    /**
+     * Discards the pending batches of a partition which is revoked from the consumer. The result of the batch which is
+     * being processed is ignored, as its records are fetched again by the consumer the partition is assigned to.
+     */
+    synchronized void revoke() {
+        revoked = true;
+        pendingBatches.clear();
+    }
+
+    private void dispatch(ConsumerRecords batch, List<ConsumerRecord> records) {
+        long firstOffset = records.get(0).offset();
+        long nextOffset = records.get(records.size() - 1).offset() + 1;
+        kafkaListener.onRecordsReceived(batch, kafkaConsumer, groupId, new BatchCallback(firstOffset, nextOffset));
+    }
+
+    private synchronized void onBatchProcessed(long firstOffset, long nextOffset, ErrorValue error) {
+        if (revoked) {
+            return;
+        }
+        if (error != null) {
+            failedAttempts = firstOffset == failedOffset ? failedAttempts + 1 : 1;
+            failedOffset = firstOffset;
+            if (failedAttempts <= retryCount) {
+                long backoff = retryBackoffMillis << Math.min(failedAttempts - 1, MAX_BACKOFF_SHIFT);
+                logger.error("Ballerina engine has completed resource invocation with exception for service " +
+                                     serviceId + " on partition " + partition + ". Retrying the partition from " +
+                                     "offset " + firstOffset + " in " + backoff + " ms (retry " + failedAttempts +
+                                     " of " + retryCount + "): " + error.stringValue());
+                pendingBatches.clear();
+                retryOffset = firstOffset;
+                retryTime = System.currentTimeMillis() + backoff;
+                return;
+            }
+            kafkaListener.onError(new KafkaException(
+                    "Skipping the records of partition " + partition + " from offset " + firstOffset + " to " +
+                            (nextOffset - 1) + " of service " + serviceId + ", which failed after " + retryCount +
+                            " retries: " + error.stringValue()));
+        }
+        failedOffset = -1;
+        failedAttempts = 0;
+        processedOffsets.put(partition, new OffsetAndMetadata(nextOffset));
+        pendingBatches.poll();
+        ConsumerRecords nextBatch = pendingBatches.peek();
+        if (nextBatch != null) {
+            dispatch(nextBatch, nextBatch.records(partition));
+        }
+    }
+
+    /**
+     * Callback which moves the lane to the next batch once the Ballerina engine has processed the current batch.
+     */
+    private class BatchCallback implements CallableUnitCallback {
+
+        private final long firstOffset;
+        private final long nextOffset;
+
+        BatchCallback(long firstOffset, long nextOffset) {
+            this.firstOffset = firstOffset;
+            this.nextOffset = nextOffset;
+        }
+
+        @Override
+        public void notifySuccess() {
+            onBatchProcessed(firstOffset, nextOffset, null);
+        }
+
+        @Override
+        public void notifyFailure(ErrorValue error) {
+            onBatchProcessed(firstOffset, nextOffset, error);
+        }
+    }
+}
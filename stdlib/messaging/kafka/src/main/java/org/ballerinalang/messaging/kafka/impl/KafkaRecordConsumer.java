@@ -18,10 +18,14 @@
 
 package org.ballerinalang.messaging.kafka.impl;
 
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.errors.WakeupException;
 import org.ballerinalang.messaging.kafka.api.KafkaListener;
 import org.ballerinalang.messaging.kafka.utils.KafkaConstants;
@@ -30,9 +34,17 @@ import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -50,19 +62,33 @@ public class KafkaRecordConsumer {
 
     private static final Logger logger = LoggerFactory.getLogger(KafkaRecordConsumer.class);
 
-    private KafkaConsumer kafkaConsumer;
+    // In parallel partition processing, a partition is paused once this many polled batches are waiting in its lane,
+    // and resumed once the lane drains down to the resume threshold.
+    private static final int PAUSE_PENDING_BATCHES = 4;
+    private static final int RESUME_PENDING_BATCHES = 1;
+    private static final int DEFAULT_PARTITION_RETRY_COUNT = 3;
+    private static final int DEFAULT_PARTITION_RETRY_BACKOFF = 1000;
+
+    private Consumer kafkaConsumer;
     private Duration pollingTimeout = Duration.ofMillis(1000);
     private int pollingInterval = 1000;
     private boolean decoupleProcessing = true;
+    private boolean parallelPartitionProcessing = false;
+    private int partitionRetryCount = DEFAULT_PARTITION_RETRY_COUNT;
+    private int partitionRetryBackoff = DEFAULT_PARTITION_RETRY_BACKOFF;
+    private boolean autoCommit = true;
     private String groupId;
     private KafkaListener kafkaListener;
     private String serviceId;
     private int consumerId;
     private ScheduledExecutorService executorService = Executors.newScheduledThreadPool(1);
     private ScheduledFuture pollTaskFuture;
+    private Map<TopicPartition, KafkaPartitionLane> partitionLanes = new HashMap<>();
+    private Set<TopicPartition> pausedPartitions = new HashSet<>();
+    private Map<TopicPartition, OffsetAndMetadata> processedOffsets = new ConcurrentHashMap<>();
 
     public KafkaRecordConsumer(KafkaListener kafkaListener, Properties configParams, String serviceId, int consumerId,
-                               KafkaConsumer kafkaConsumer) {
+                               Consumer kafkaConsumer) {
         this.serviceId = serviceId;
         this.consumerId = consumerId;
         // Initialize Kafka Consumer.
@@ -73,7 +99,7 @@ public class KafkaRecordConsumer {
         }
         List<String> topics = (ArrayList<String>) configParams.get(KafkaConstants.ALIAS_TOPICS);
         // Subscribe Kafka Consumer to given topics.
-        this.kafkaConsumer.subscribe(topics);
+        this.kafkaConsumer.subscribe(topics, new PartitionLaneRebalanceListener());
         this.kafkaListener = kafkaListener;
         if (configParams.get(KafkaConstants.ALIAS_POLLING_TIMEOUT) != null) {
             this.pollingTimeout = Duration.ofMillis((Integer) configParams.get(KafkaConstants.ALIAS_POLLING_TIMEOUT));
@@ -82,12 +108,23 @@ public class KafkaRecordConsumer {
             this.pollingInterval = (Integer) configParams.get(KafkaConstants.ALIAS_POLLING_INTERVAL);
         }
         if (configParams.get(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG) != null) {
-            this.decoupleProcessing = (Boolean) configParams.get(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG);
+            this.autoCommit = (Boolean) configParams.get(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG);
+            this.decoupleProcessing = this.autoCommit;
         }
         // This is to override default decouple processing setting if required.
         if (configParams.get(KafkaConstants.ALIAS_DECOUPLE_PROCESSING) != null) {
             this.decoupleProcessing = (Boolean) configParams.get(KafkaConstants.ALIAS_DECOUPLE_PROCESSING);
         }
+        if (configParams.get(KafkaConstants.ALIAS_PARALLEL_PARTITION_PROCESSING) != null) {
+            this.parallelPartitionProcessing =
+                    (Boolean) configParams.get(KafkaConstants.ALIAS_PARALLEL_PARTITION_PROCESSING);
+        }
+        if (configParams.get(KafkaConstants.ALIAS_PARTITION_RETRY_COUNT) != null) {
+            this.partitionRetryCount = (Integer) configParams.get(KafkaConstants.ALIAS_PARTITION_RETRY_COUNT);
+        }
+        if (configParams.get(KafkaConstants.ALIAS_PARTITION_RETRY_BACKOFF) != null) {
+            this.partitionRetryBackoff = (Integer) configParams.get(KafkaConstants.ALIAS_PARTITION_RETRY_BACKOFF);
+        }
         this.groupId = (String) configParams.get(ConsumerConfig.GROUP_ID_CONFIG);
     }
 
@@ -105,11 +142,15 @@ public class KafkaRecordConsumer {
                     throw e;
                 }
             }
-            if (logger.isDebugEnabled()) {
+            if (logger.isDebugEnabled() && Objects.nonNull(recordsRetrieved)) {
                 logger.debug("Kafka service " + this.serviceId + " attached to consumer "
                                      + this.consumerId + " has received " + recordsRetrieved.count() + " records.");
             }
-            processRetrievedRecords(recordsRetrieved);
+            if (this.parallelPartitionProcessing) {
+                processInPartitionLanes(recordsRetrieved);
+            } else {
+                processRetrievedRecords(recordsRetrieved);
+            }
         } catch (KafkaException | IllegalStateException | IllegalArgumentException e) {
             this.kafkaListener.onError(e);
             // When un-recoverable exception is thrown we stop scheduling task to the executor.
@@ -142,6 +183,123 @@ public class KafkaRecordConsumer {
         }
     }
 
+    /**
+     * Dispatches the retrieved records to the lanes of their partitions, where the records of each partition are
+     * processed in order while the partitions are processed in parallel. Partitions with backed up lanes are paused
+     * until their lanes drain, and the offsets of the processed records are committed per partition.
+     *
+     * @param consumerRecords records retrieved in the poll cycle
+     */
+    private void processInPartitionLanes(ConsumerRecords consumerRecords) {
+        if (closed.get()) {
+            return;
+        }
+        if (Objects.nonNull(consumerRecords) && !consumerRecords.isEmpty()) {
+            for (Object partitionObject : consumerRecords.partitions()) {
+                TopicPartition partition = (TopicPartition) partitionObject;
+                KafkaPartitionLane lane = this.partitionLanes.computeIfAbsent(partition, p -> new KafkaPartitionLane(
+                        p, this.kafkaListener, this.kafkaConsumer, this.groupId, this.serviceId,
+                        this.processedOffsets, this.partitionRetryCount, this.partitionRetryBackoff));
+                int pendingBatches = lane.enqueue(consumerRecords.records(partition));
+                if (pendingBatches >= PAUSE_PENDING_BATCHES && this.pausedPartitions.add(partition)) {
+                    this.kafkaConsumer.pause(Collections.singleton(partition));
+                }
+            }
+        }
+        Set<TopicPartition> assignment = this.kafkaConsumer.assignment();
+        seekFailedPartitions(assignment);
+        resumeDrainedPartitions(assignment);
+        if (!this.autoCommit) {
+            commitProcessedOffsets(assignment);
+        }
+    }
+
+    private void seekFailedPartitions(Set<TopicPartition> assignment) {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<TopicPartition, KafkaPartitionLane> entry : this.partitionLanes.entrySet()) {
+            TopicPartition partition = entry.getKey();
+            KafkaPartitionLane lane = entry.getValue();
+            if (!lane.isRetryPending() || !assignment.contains(partition)) {
+                continue;
+            }
+            long retryOffset = lane.takeRetryOffset(now);
+            if (retryOffset >= 0) {
+                this.kafkaConsumer.seek(partition, retryOffset);
+            } else if (this.pausedPartitions.add(partition)) {
+                // The partition is not fetched while the failed batch waits for its retry backoff.
+                this.kafkaConsumer.pause(Collections.singleton(partition));
+            }
+        }
+    }
+
+    private void resumeDrainedPartitions(Set<TopicPartition> assignment) {
+        List<TopicPartition> drainedPartitions = new ArrayList<>();
+        Iterator<TopicPartition> iterator = this.pausedPartitions.iterator();
+        while (iterator.hasNext()) {
+            TopicPartition partition = iterator.next();
+            if (!assignment.contains(partition)) {
+                // Partition has been revoked from this consumer.
+                iterator.remove();
+            } else if (isDrained(this.partitionLanes.get(partition))) {
+                iterator.remove();
+                drainedPartitions.add(partition);
+            }
+        }
+        if (!drainedPartitions.isEmpty()) {
+            this.kafkaConsumer.resume(drainedPartitions);
+        }
+    }
+
+    private static boolean isDrained(KafkaPartitionLane lane) {
+        return !lane.isRetryPending() && lane.getPendingBatches() <= RESUME_PENDING_BATCHES;
+    }
+
+    private void commitProcessedOffsets(Set<TopicPartition> assignment) {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (TopicPartition partition : new ArrayList<>(this.processedOffsets.keySet())) {
+            OffsetAndMetadata offset = this.processedOffsets.remove(partition);
+            if (Objects.nonNull(offset) && assignment.contains(partition)) {
+                offsets.put(partition, offset);
+            }
+        }
+        commitOffsets(offsets);
+    }
+
+    private void commitOffsets(Map<TopicPartition, OffsetAndMetadata> offsets) {
+        if (!offsets.isEmpty()) {
+            try {
+                this.kafkaConsumer.commitSync(offsets);
+            } catch (KafkaException e) {
+                // Offsets of the later batches will be committed in the following poll cycles.
+                this.kafkaListener.onError(e);
+            }
+        }
+    }
+
+    /**
+     * Discards the partition lanes of the revoked partitions, after committing the offsets processed in them. The
+     * partitions get fresh lanes if they are assigned to this consumer again.
+     *
+     * @param partitions partitions revoked from the consumer
+     */
+    private void revokePartitionLanes(Collection<TopicPartition> partitions) {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (TopicPartition partition : partitions) {
+            KafkaPartitionLane lane = this.partitionLanes.remove(partition);
+            if (Objects.nonNull(lane)) {
+                lane.revoke();
+            }
+            this.pausedPartitions.remove(partition);
+            OffsetAndMetadata offset = this.processedOffsets.remove(partition);
+            if (Objects.nonNull(offset)) {
+                offsets.put(partition, offset);
+            }
+        }
+        if (!this.autoCommit) {
+            commitOffsets(offsets);
+        }
+    }
+
     /**
      * Starts Kafka consumer polling cycles, schedules thread pool for given polling cycle.
      */
@@ -170,4 +328,21 @@ public class KafkaRecordConsumer {
         this.kafkaConsumer.close();
         this.executorService.shutdown();
     }
+
+    /**
+     * Rebalance listener which keeps the partition lanes in line with the partitions assigned to the consumer. It is
+     * invoked by the consumer within the poll cycle.
+     */
+    private class PartitionLaneRebalanceListener implements ConsumerRebalanceListener {
+
+        @Override
+        public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+            revokePartitionLanes(partitions);
+        }
+
+        @Override
+        public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+            // Lanes of the assigned partitions are created once their records are polled.
+        }
+    }
 }
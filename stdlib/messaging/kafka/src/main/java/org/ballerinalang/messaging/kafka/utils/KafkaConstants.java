@@ -91,6 +91,9 @@ public class KafkaConstants {
     public static final String ALIAS_POLLING_TIMEOUT = "pollingTimeoutInMillis";
     public static final String ALIAS_POLLING_INTERVAL = "pollingIntervalInMillis";
     public static final String ALIAS_DECOUPLE_PROCESSING = "decoupleProcessing";
+    public static final String ALIAS_PARALLEL_PARTITION_PROCESSING = "parallelPartitionProcessing";
+    public static final String ALIAS_PARTITION_RETRY_COUNT = "partitionRetryCount";
+    public static final String ALIAS_PARTITION_RETRY_BACKOFF = "partitionRetryBackoffInMillis";
     public static final String ALIAS_TOPIC = "topic";
     public static final String ALIAS_PARTITION = "partition";
     public static final String ALIAS_OFFSET = "offset";
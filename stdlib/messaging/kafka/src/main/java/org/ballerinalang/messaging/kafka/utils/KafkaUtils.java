@@ -54,7 +54,10 @@ import static org.ballerinalang.messaging.kafka.utils.AvroUtils.handleAvroConsum
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_CONCURRENT_CONSUMERS;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_DECOUPLE_PROCESSING;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_OFFSET;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_PARALLEL_PARTITION_PROCESSING;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_PARTITION;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_PARTITION_RETRY_BACKOFF;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_PARTITION_RETRY_COUNT;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_POLLING_INTERVAL;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_POLLING_TIMEOUT;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_TOPIC;
@@ -206,6 +209,9 @@ public class KafkaUtils {
         addIntParamIfPresent(ALIAS_POLLING_TIMEOUT, configurations, properties, ALIAS_POLLING_TIMEOUT);
         addIntParamIfPresent(ALIAS_POLLING_INTERVAL, configurations, properties, ALIAS_POLLING_INTERVAL);
         addIntParamIfPresent(ALIAS_CONCURRENT_CONSUMERS, configurations, properties, ALIAS_CONCURRENT_CONSUMERS);
+        addIntParamIfPresent(ALIAS_PARTITION_RETRY_COUNT, configurations, properties, ALIAS_PARTITION_RETRY_COUNT);
+        addIntParamIfPresent(ALIAS_PARTITION_RETRY_BACKOFF, configurations, properties,
+                             ALIAS_PARTITION_RETRY_BACKOFF);
 
         addBooleanParamIfPresent(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, configurations, properties,
                                  KafkaConstants.CONSUMER_ENABLE_AUTO_COMMIT_CONFIG, true);
@@ -216,6 +222,8 @@ public class KafkaUtils {
 
         addBooleanParamIfPresent(ALIAS_DECOUPLE_PROCESSING, configurations, properties,
                                  ALIAS_DECOUPLE_PROCESSING, false);
+        addBooleanParamIfPresent(ALIAS_PARALLEL_PARTITION_PROCESSING, configurations, properties,
+                                 ALIAS_PARALLEL_PARTITION_PROCESSING, false);
         if (Objects.nonNull(configurations.get(SECURE_SOCKET))) {
             processSslProperties(configurations, properties);
         }
@@ -0,0 +1,364 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.messaging.kafka.consumer;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.ballerinalang.jvm.BallerinaErrors;
+import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
+import org.ballerinalang.messaging.kafka.api.KafkaListener;
+import org.ballerinalang.messaging.kafka.impl.KafkaRecordConsumer;
+import org.ballerinalang.messaging.kafka.utils.KafkaConstants;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Test cases for the parallel partition processing of the Kafka listener.
+ */
+public class ParallelPartitionProcessingTest {
+
+    private static final String TOPIC = "test-parallel-partitions";
+    private static final TopicPartition PARTITION_0 = new TopicPartition(TOPIC, 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition(TOPIC, 1);
+
+    private RebalancingMockConsumer mockConsumer;
+    private RecordingListener listener;
+    private KafkaRecordConsumer recordConsumer;
+
+    @BeforeMethod
+    public void setup() {
+        mockConsumer = new RebalancingMockConsumer();
+        listener = new RecordingListener();
+        Properties properties = new Properties();
+        properties.put(KafkaConstants.ALIAS_TOPICS, new ArrayList<>(Collections.singletonList(TOPIC)));
+        properties.put(ConsumerConfig.GROUP_ID_CONFIG, "test-group");
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        properties.put(KafkaConstants.ALIAS_PARALLEL_PARTITION_PROCESSING, true);
+        properties.put(KafkaConstants.ALIAS_POLLING_INTERVAL, 10);
+        properties.put(KafkaConstants.ALIAS_POLLING_TIMEOUT, 10);
+        properties.put(KafkaConstants.ALIAS_PARTITION_RETRY_COUNT, 1);
+        properties.put(KafkaConstants.ALIAS_PARTITION_RETRY_BACKOFF, 500);
+        recordConsumer = new KafkaRecordConsumer(listener, properties, "test-service", 0, mockConsumer);
+        mockConsumer.rebalance(Arrays.asList(PARTITION_0, PARTITION_1));
+        Map<TopicPartition, Long> beginningOffsets = new HashMap<>();
+        beginningOffsets.put(PARTITION_0, 0L);
+        beginningOffsets.put(PARTITION_1, 0L);
+        mockConsumer.updateBeginningOffsets(beginningOffsets);
+    }
+
+    @Test(description = "Test partitions are processed in parallel while each partition is processed in order")
+    public void testPartitionsProcessedInParallel() {
+        addRecord(PARTITION_0, 0);
+        addRecord(PARTITION_1, 0);
+        try {
+            recordConsumer.consume();
+            // Both partitions are dispatched without waiting for each other.
+            await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> listener.dispatches.size() == 2);
+
+            addRecord(PARTITION_0, 1);
+            await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> mockConsumer.position(PARTITION_0) == 2);
+            // The next batch of a partition is not dispatched until the current batch is processed.
+            sleep();
+            Assert.assertEquals(listener.dispatches.size(), 2);
+
+            listener.complete(PARTITION_0);
+            await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> listener.dispatches.size() == 3);
+            Dispatch last = listener.last();
+            Assert.assertEquals(last.partition, PARTITION_0);
+            Assert.assertEquals(last.records.get(0).offset(), 1);
+
+            // Offsets of the processed batches are committed per partition.
+            listener.complete(PARTITION_0);
+            listener.complete(PARTITION_1);
+            await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> committedOffset(PARTITION_0) == 2 &&
+                    committedOffset(PARTITION_1) == 1);
+        } finally {
+            recordConsumer.stopConsume();
+        }
+    }
+
+    @Test(description = "Test a partition is paused while its batches are backed up and resumed once drained")
+    public void testBackPressurePausesPartition() {
+        addRecord(PARTITION_0, 0);
+        try {
+            recordConsumer.consume();
+            await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> listener.dispatches.size() == 1);
+            for (int offset = 1; offset < 4; offset++) {
+                addRecord(PARTITION_0, offset);
+                int expectedOffset = offset;
+                await().atMost(5000, TimeUnit.MILLISECONDS)
+                        .until(() -> mockConsumer.position(PARTITION_0) == expectedOffset + 1);
+            }
+            await().atMost(5000, TimeUnit.MILLISECONDS)
+                    .until(() -> mockConsumer.paused().contains(PARTITION_0));
+            Assert.assertFalse(mockConsumer.paused().contains(PARTITION_1));
+
+            listener.complete(PARTITION_0);
+            listener.complete(PARTITION_0);
+            Assert.assertTrue(mockConsumer.paused().contains(PARTITION_0));
+            listener.complete(PARTITION_0);
+            await().atMost(5000, TimeUnit.MILLISECONDS)
+                    .until(() -> !mockConsumer.paused().contains(PARTITION_0));
+            listener.complete(PARTITION_0);
+            await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> committedOffset(PARTITION_0) == 4);
+            Assert.assertEquals(listener.dispatches.size(), 4);
+        } finally {
+            recordConsumer.stopConsume();
+        }
+    }
+
+    @Test(description = "Test a failed batch is retried without committing the offsets of the batches following it")
+    public void testFailedBatchIsRetried() {
+        addRecord(PARTITION_0, 0);
+        try {
+            recordConsumer.consume();
+            await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> listener.dispatches.size() == 1);
+            addRecord(PARTITION_0, 1);
+            await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> mockConsumer.position(PARTITION_0) == 2);
+
+            listener.fail(PARTITION_0);
+            // The partition is paused until the retry backoff elapses.
+            await().atMost(5000, TimeUnit.MILLISECONDS)
+                    .until(() -> mockConsumer.paused().contains(PARTITION_0));
+            Assert.assertEquals(mockConsumer.position(PARTITION_0), 2);
+
+            // The partition is then sought back to the failed batch, and the batch following it is not dispatched.
+            await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> mockConsumer.position(PARTITION_0) == 0 &&
+                    !mockConsumer.paused().contains(PARTITION_0));
+            sleep();
+            Assert.assertEquals(listener.dispatches.size(), 1);
+            Assert.assertEquals(committedOffset(PARTITION_0), -1);
+
+            // The mock consumer does not keep polled records, hence the records are added again for the retry.
+            addRecord(PARTITION_0, 0);
+            addRecord(PARTITION_0, 1);
+            await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> listener.dispatches.size() == 2);
+            Dispatch retried = listener.last();
+            Assert.assertEquals(retried.partition, PARTITION_0);
+            Assert.assertEquals(retried.records.get(0).offset(), 0);
+            listener.complete(PARTITION_0);
+            await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> committedOffset(PARTITION_0) == 2);
+            Assert.assertTrue(listener.errors.isEmpty());
+        } finally {
+            recordConsumer.stopConsume();
+        }
+    }
+
+    @Test(description = "Test a batch which fails after its retries is reported and skipped")
+    public void testFailedBatchIsSkippedAfterRetries() {
+        addRecord(PARTITION_0, 0);
+        try {
+            recordConsumer.consume();
+            await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> listener.dispatches.size() == 1);
+            listener.fail(PARTITION_0);
+            await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> mockConsumer.position(PARTITION_0) == 0);
+
+            addRecord(PARTITION_0, 0);
+            await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> listener.dispatches.size() == 2);
+            Assert.assertTrue(listener.errors.isEmpty());
+
+            // The retries are used up, hence the error is reported and the offset of the batch is committed.
+            listener.fail(PARTITION_0);
+            await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> committedOffset(PARTITION_0) == 1);
+            Assert.assertEquals(listener.errors.size(), 1);
+            Assert.assertFalse(mockConsumer.paused().contains(PARTITION_0));
+
+            // The records following the skipped batch are processed.
+            addRecord(PARTITION_0, 1);
+            await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> listener.dispatches.size() == 3);
+            Assert.assertEquals(listener.last().records.get(0).offset(), 1);
+            listener.complete(PARTITION_0);
+            await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> committedOffset(PARTITION_0) == 2);
+            Assert.assertEquals(listener.errors.size(), 1);
+        } finally {
+            recordConsumer.stopConsume();
+        }
+    }
+
+    @Test(description = "Test the lanes of revoked partitions are discarded in a rebalance")
+    public void testRevokedPartitionLanesDiscarded() {
+        addRecord(PARTITION_0, 0);
+        try {
+            recordConsumer.consume();
+            await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> listener.dispatches.size() == 1);
+            addRecord(PARTITION_0, 1);
+            await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> mockConsumer.position(PARTITION_0) == 2);
+
+            // Revoke both partitions and assign them back to the consumer.
+            AtomicBoolean rebalanced = new AtomicBoolean(false);
+            mockConsumer.schedulePollTask(() -> {
+                mockConsumer.rebalance(Arrays.asList(PARTITION_0, PARTITION_1));
+                rebalanced.set(true);
+            });
+            await().atMost(5000, TimeUnit.MILLISECONDS).until(rebalanced::get);
+
+            // The batch which was being processed on the revoked lane is neither committed nor followed by the
+            // batch which was pending in it.
+            listener.complete(PARTITION_0);
+            sleep();
+            Assert.assertEquals(listener.dispatches.size(), 1);
+            Assert.assertEquals(committedOffset(PARTITION_0), -1);
+
+            // Records of the reassigned partition are processed on a fresh lane.
+            addRecord(PARTITION_0, 2);
+            await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> listener.dispatches.size() == 2);
+            Assert.assertEquals(listener.last().records.get(0).offset(), 2);
+            listener.complete(PARTITION_0);
+            await().atMost(5000, TimeUnit.MILLISECONDS).until(() -> committedOffset(PARTITION_0) == 3);
+        } finally {
+            recordConsumer.stopConsume();
+        }
+    }
+
+    private void addRecord(TopicPartition partition, long offset) {
+        mockConsumer.addRecord(new ConsumerRecord<>(partition.topic(), partition.partition(), offset,
+                                                    new byte[0], ("record-" + offset).getBytes()));
+    }
+
+    private long committedOffset(TopicPartition partition) {
+        OffsetAndMetadata offset = mockConsumer.committed(partition);
+        return offset == null ? -1 : offset.offset();
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(200);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class Dispatch {
+
+        private final TopicPartition partition;
+        private final List<ConsumerRecord> records;
+        private final CallableUnitCallback callback;
+
+        private Dispatch(TopicPartition partition, List<ConsumerRecord> records, CallableUnitCallback callback) {
+            this.partition = partition;
+            this.records = records;
+            this.callback = callback;
+        }
+    }
+
+    /**
+     * Listener which records the dispatched batches, so that the test decides when a batch is processed.
+     */
+    private static class RecordingListener implements KafkaListener {
+
+        private final List<Dispatch> dispatches = Collections.synchronizedList(new ArrayList<>());
+        private final ConcurrentLinkedQueue<Dispatch> inFlight = new ConcurrentLinkedQueue<>();
+        private final List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void onRecordsReceived(ConsumerRecords records, Consumer kafkaConsumer, String groupId) {
+            throw new AssertionError("Records of a partition lane should be dispatched with a callback");
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onRecordsReceived(ConsumerRecords records, Consumer kafkaConsumer, String groupID,
+                                      CallableUnitCallback callback) {
+            TopicPartition partition = (TopicPartition) records.partitions().iterator().next();
+            Assert.assertEquals(records.partitions().size(), 1);
+            Dispatch dispatch = new Dispatch(partition, records.records(partition), callback);
+            dispatches.add(dispatch);
+            inFlight.add(dispatch);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            errors.add(throwable);
+        }
+
+        private Dispatch last() {
+            synchronized (dispatches) {
+                return dispatches.get(dispatches.size() - 1);
+            }
+        }
+
+        private void complete(TopicPartition partition) {
+            take(partition).callback.notifySuccess();
+        }
+
+        private void fail(TopicPartition partition) {
+            take(partition).callback.notifyFailure(BallerinaErrors.createError("batch processing failed"));
+        }
+
+        private Dispatch take(TopicPartition partition) {
+            for (Dispatch dispatch : inFlight) {
+                if (dispatch.partition.equals(partition) && inFlight.remove(dispatch)) {
+                    return dispatch;
+                }
+            }
+            throw new AssertionError("No batch is being processed for partition " + partition);
+        }
+    }
+
+    /**
+     * Mock consumer which invokes the rebalance listener on a rebalance, as the Kafka consumer does within a poll.
+     */
+    private static class RebalancingMockConsumer extends MockConsumer<byte[], byte[]> {
+
+        private ConsumerRebalanceListener rebalanceListener;
+
+        private RebalancingMockConsumer() {
+            super(OffsetResetStrategy.EARLIEST);
+        }
+
+        @Override
+        public synchronized void subscribe(Collection<String> topics, ConsumerRebalanceListener listener) {
+            super.subscribe(topics, listener);
+            this.rebalanceListener = listener;
+        }
+
+        @Override
+        public synchronized void rebalance(Collection<TopicPartition> newAssignment) {
+            if (rebalanceListener != null) {
+                rebalanceListener.onPartitionsRevoked(assignment());
+            }
+            super.rebalance(newAssignment);
+            if (rebalanceListener != null) {
+                rebalanceListener.onPartitionsAssigned(newAssignment);
+            }
+        }
+    }
+}
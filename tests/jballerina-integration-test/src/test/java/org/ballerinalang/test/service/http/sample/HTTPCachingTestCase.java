@@ -25,6 +25,8 @@ import org.testng.annotations.Test;
 import java.io.IOException;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
 
 /**
  * Test cases for HTTP caching.
@@ -37,6 +39,7 @@ public class HTTPCachingTestCase extends HttpBaseTest {
     private final String serviceHitCount = "x-service-hit-count";
     private final String payload = "{\"message\":\"Hello, World!\"}";
     private final String proxyHitCount = "x-proxy-hit-count";
+    private final String warning = "warning";
 
     @Test(description = "Test basic caching behaviour")
     public void testPassthroughServiceByBasePath() throws IOException, InterruptedException {
@@ -110,4 +113,47 @@ public class HTTPCachingTestCase extends HttpBaseTest {
         assertEquals(response.getHeaders().get(serviceHitCount), "2");
         assertEquals(response.getHeaders().get(proxyHitCount), "3");
     }
+
+    @Test(description = "Test the cache shared between clients and stale-while-revalidate cache control")
+    public void testStaleWhileRevalidateWithSharedCache() throws IOException, InterruptedException {
+        HttpResponse response = HttpClientRequest.doGet(serverInstance.getServiceURLHttp(9259, "swr/first"));
+        assertEquals(response.getData(), payload);
+        assertEquals(response.getHeaders().get(serviceHitCount), "1");
+
+        // The response cached by the first client is served to the second client.
+        response = HttpClientRequest.doGet(serverInstance.getServiceURLHttp(9259, "swr/second"));
+        assertEquals(response.getData(), payload);
+        assertEquals(response.getHeaders().get(serviceHitCount), "1");
+
+        // Wait until the response is stale, but still within its stale-while-revalidate window.
+        Thread.sleep(5000);
+
+        response = HttpClientRequest.doGet(serverInstance.getServiceURLHttp(9259, "swr/first"));
+        assertEquals(response.getData(), payload);
+        assertEquals(response.getHeaders().get(serviceHitCount), "1");
+        assertTrue(response.getHeaders().get(warning).startsWith("110"));
+
+        // Wait for the background validation to complete.
+        Thread.sleep(1000);
+
+        // The 304 response of the background validation refreshes the stored response, hence it is served fresh
+        // and no further validation is done.
+        for (int i = 0; i < 2; i++) {
+            response = HttpClientRequest.doGet(serverInstance.getServiceURLHttp(9259, "swr/second"));
+            assertEquals(response.getData(), payload);
+            assertEquals(response.getHeaders().get(serviceHitCount), "2");
+            assertNull(response.getHeaders().get(warning));
+        }
+    }
+
+    @Test(description = "Test responses with payloads larger than the max entity body size are not cached")
+    public void testMaxEntityBodySize() throws IOException {
+        HttpResponse response = HttpClientRequest.doGet(serverInstance.getServiceURLHttp(9259, "swr/large"));
+        assertEquals(response.getData().length(), 2048);
+        assertEquals(response.getHeaders().get(serviceHitCount), "1");
+
+        response = HttpClientRequest.doGet(serverInstance.getServiceURLHttp(9259, "swr/large"));
+        assertEquals(response.getData().length(), 2048);
+        assertEquals(response.getHeaders().get(serviceHitCount), "2");
+    }
 }
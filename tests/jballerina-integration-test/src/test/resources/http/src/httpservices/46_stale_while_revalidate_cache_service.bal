@@ -0,0 +1,122 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/time;
+
+// Both clients use the same shared cache, which does not store payloads larger than 1024 bytes.
+http:Client swrCachingEP1 = new("http://localhost:9260", { cache: { enabled: true, isShared: true,
+                                sharedCacheName: "swrCache", maxEntityBodySize: 1024 } });
+http:Client swrCachingEP2 = new("http://localhost:9260", { cache: { enabled: true, isShared: true,
+                                sharedCacheName: "swrCache", maxEntityBodySize: 1024 } });
+
+@http:ServiceConfig {
+    basePath: "/swr"
+}
+service staleWhileRevalidateProxyService on new http:Listener(9259) {
+    @http:ResourceConfig {
+        methods: ["GET"],
+        path: "/first"
+    }
+    resource function firstClientResource(http:Caller caller, http:Request req) {
+        var response = swrCachingEP1->forward("/swrBE", req);
+        respondWithResult(caller, response);
+    }
+
+    @http:ResourceConfig {
+        methods: ["GET"],
+        path: "/second"
+    }
+    resource function secondClientResource(http:Caller caller, http:Request req) {
+        var response = swrCachingEP2->forward("/swrBE", req);
+        respondWithResult(caller, response);
+    }
+
+    @http:ResourceConfig {
+        methods: ["GET"],
+        path: "/large"
+    }
+    resource function largePayloadResource(http:Caller caller, http:Request req) {
+        var response = swrCachingEP1->forward("/swrBE/large", req);
+        respondWithResult(caller, response);
+    }
+}
+
+function respondWithResult(http:Caller caller, http:Response|http:ClientError response) {
+    if (response is http:Response) {
+        checkpanic caller->respond(response);
+    } else {
+        http:Response res = new;
+        res.statusCode = 500;
+        res.setPayload(response.reason());
+        checkpanic caller->respond(res);
+    }
+}
+
+int swrServiceHits = 0;
+int largePayloadServiceHits = 0;
+
+@http:ServiceConfig {
+    basePath: "/swrBE"
+}
+service staleWhileRevalidateBackend on new http:Listener(9260) {
+
+    @http:ResourceConfig { path: "/" }
+    resource function staleWhileRevalidate(http:Caller caller, http:Request req) {
+        json payload = {"message" : "Hello, World!"};
+        http:Response res = new;
+        http:ResponseCacheControl resCC = new;
+        resCC.maxAge = 3;
+        resCC.staleWhileRevalidate = 30;
+        res.cacheControl = resCC;
+        res.setETag(payload);
+        swrServiceHits += 1;
+        if (req.hasHeader(http:IF_NONE_MATCH) && req.getHeader(http:IF_NONE_MATCH) == res.getHeader(http:ETAG)) {
+            res.statusCode = http:STATUS_NOT_MODIFIED;
+        } else {
+            res.setPayload(payload);
+        }
+        setDateHeader(res);
+        res.setHeader("x-service-hit-count", swrServiceHits.toString());
+        checkpanic caller->respond(res);
+    }
+
+    @http:ResourceConfig { path: "/large" }
+    resource function largePayload(http:Caller caller, http:Request req) {
+        string payload = "";
+        int i = 0;
+        while (i < 2048) {
+            payload = payload + "x";
+            i += 1;
+        }
+        http:Response res = new;
+        http:ResponseCacheControl resCC = new;
+        resCC.maxAge = 60;
+        res.cacheControl = resCC;
+        largePayloadServiceHits += 1;
+        res.setPayload(payload);
+        setDateHeader(res);
+        res.setHeader("x-service-hit-count", largePayloadServiceHits.toString());
+        checkpanic caller->respond(res);
+    }
+}
+
+function setDateHeader(http:Response res) {
+    var date = time:format(time:currentTime(), time:TIME_FORMAT_RFC_1123);
+    if (date is string) {
+        res.setHeader(http:DATE, date);
+    }
+}
@@ -23,6 +23,7 @@ import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.model.values.BValueArray;
 import org.ballerinalang.test.util.BAssertUtil;
 import org.ballerinalang.test.util.BCompileUtil;
 import org.ballerinalang.test.util.BRunUtil;
@@ -343,4 +344,18 @@ public class ClosedRecordTest {
     public void removeIfHasKeyRest() {
         BRunUtil.invoke(compileResult, "removeIfHasKeyRest");
     }
+
+    @Test
+    public void testClosedRecordFieldReads() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testClosedRecordFieldReads");
+        BValueArray result = (BValueArray) returns[0];
+        Assert.assertEquals(((BInteger) result.getRefValue(0)).intValue(), 10);
+        Assert.assertEquals(((BFloat) result.getRefValue(1)).floatValue(), 2.5);
+        Assert.assertEquals(result.getRefValue(2).stringValue(), "A");
+        Assert.assertTrue(((BBoolean) result.getRefValue(3)).booleanValue());
+        Assert.assertEquals(((BInteger) result.getRefValue(4)).intValue(), 20);
+        Assert.assertEquals(((BFloat) result.getRefValue(5)).floatValue(), 5.5);
+        Assert.assertEquals(result.getRefValue(6).stringValue(), "B");
+        Assert.assertFalse(((BBoolean) result.getRefValue(7)).booleanValue());
+    }
 }
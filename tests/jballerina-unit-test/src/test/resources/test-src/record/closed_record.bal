@@ -380,3 +380,30 @@ function removeIfHasKeyRest() {
          panic error("Returned value should be nil.");
     }
 }
+
+type Point record {|
+    int x;
+    float y;
+    string label;
+    boolean visible;
+|};
+
+type LabeledPoint record {|
+    int x;
+    float y;
+    string label;
+    boolean visible;
+|};
+
+function readPointFields(Point p) returns [int, float, string, boolean] {
+    return [p.x, p.y, p.label, p.visible];
+}
+
+function testClosedRecordFieldReads() returns [int, float, string, boolean, int, float, string, boolean] {
+    Point p = {x: 10, y: 2.5, label: "A", visible: true};
+    LabeledPoint lp = {x: 20, y: 5.5, label: "B", visible: false};
+    var [x1, y1, label1, visible1] = readPointFields(p);
+    // value of a structurally equivalent record type, which is not an instance of the 'Point' class
+    var [x2, y2, label2, visible2] = readPointFields(lp);
+    return [x1, y1, label1, visible1, x2, y2, label2, visible2];
+}